@@ -0,0 +1,95 @@
+package com.example.demo.benchmark;
+
+import com.example.demo.DemoApplication;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.boot.SpringApplication;
+import org.springframework.boot.web.context.WebServerApplicationContext;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.util.Arrays;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Full request path: Tomcat, argument binding, use case, repository, mapping and JSON serialization,
+ * measured against a running application on a random port serving a synthetic catalog.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class PriceControllerBenchmark {
+
+  private static final int BRAND_ID = 1000;
+  private static final int FIRST_PRODUCT_ID = 1_000_000;
+  private static final int PRODUCTS = 10_000;
+  private static final int REQUEST_MASK = 4095;
+
+  @Param({"jpa", "jdbc", "memory", "timeline"})
+  String repositoryType;
+
+  ConfigurableApplicationContext context;
+  HttpClient client;
+  HttpRequest[] requests;
+  AtomicInteger next = new AtomicInteger();
+
+  @Setup
+  public void setUp() {
+    context = SpringApplication.run(DemoApplication.class,
+        "--server.port=0",
+        "--spring.jpa.show-sql=false",
+        "--logging.level.root=WARN",
+        "--prices.repository.type=" + repositoryType,
+        "--prices.dataset.synthetic.enabled=true",
+        "--prices.dataset.synthetic.first-brand-id=" + BRAND_ID,
+        "--prices.dataset.synthetic.first-product-id=" + FIRST_PRODUCT_ID,
+        "--prices.dataset.synthetic.products=" + PRODUCTS);
+    int port = ((WebServerApplicationContext) context).getWebServer().getPort();
+    client = HttpClient.newHttpClient();
+    // Keys spread over the catalog, so lookups are not all answered from the same cached entry
+    requests = Arrays.stream(SyntheticPrices.requests(BRAND_ID, FIRST_PRODUCT_ID, PRODUCTS, REQUEST_MASK + 1, 7))
+        .map(request -> HttpRequest.newBuilder(URI.create("http://localhost:" + port
+                + "/brand/" + request.brandId() + "/product/" + request.productId()
+                + "/prices?applicationDate=" + request.applicationDate()))
+            .GET()
+            .build())
+        .toArray(HttpRequest[]::new);
+  }
+
+  @TearDown
+  public void tearDown() {
+    context.close();
+  }
+
+  @Benchmark
+  public String getPriorityPrice() throws IOException, InterruptedException {
+    return client.send(requests[next.getAndIncrement() & REQUEST_MASK], HttpResponse.BodyHandlers.ofString()).body();
+  }
+
+  @Benchmark
+  @BenchmarkMode(Mode.Throughput)
+  @OutputTimeUnit(TimeUnit.SECONDS)
+  @Threads(16)
+  public String getPriorityPriceContended() throws IOException, InterruptedException {
+    return client.send(requests[next.getAndIncrement() & REQUEST_MASK], HttpResponse.BodyHandlers.ofString()).body();
+  }
+}
@@ -0,0 +1,81 @@
+package com.example.demo.benchmark;
+
+import com.example.demo.adapter.inbound.rest.EncodedPriceResponses;
+import com.example.demo.adapter.inbound.rest.dto.PriceResponseDTO;
+import com.example.demo.adapter.outbound.persistence.BrandsEntity;
+import com.example.demo.adapter.outbound.persistence.PriceMapper;
+import com.example.demo.adapter.outbound.persistence.PricesEntity;
+import com.example.demo.adapter.outbound.persistence.ProductsEntity;
+import com.example.demo.domain.model.Price;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class PriceMapperBenchmark {
+
+  PricesEntity entity;
+  Price price;
+  ObjectMapper objectMapper;
+  EncodedPriceResponses responses;
+
+  @Setup
+  public void setUp() {
+    entity = PricesEntity.builder()
+        .priceList(2)
+        .brand(BrandsEntity.builder().id(1).chainName("ZARA").build())
+        .productsEntity(ProductsEntity.builder().id(35455).productName("Product 35455").build())
+        .startDate(LocalDateTime.of(2020, 6, 14, 15, 0, 0))
+        .endDate(LocalDateTime.of(2020, 6, 14, 18, 30, 0))
+        .priority(1)
+        .price(new BigDecimal("25.45"))
+        .currency("EUR")
+        .build();
+    price = PriceMapper.toDomain(entity);
+    objectMapper = new ObjectMapper()
+        .registerModule(new JavaTimeModule())
+        .disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS);
+    responses = new EncodedPriceResponses(objectMapper, 1000, new SimpleMeterRegistry());
+  }
+
+  @Benchmark
+  public Price toDomain() {
+    return PriceMapper.toDomain(entity);
+  }
+
+  @Benchmark
+  public PriceResponseDTO toResponseDTO() {
+    return PriceMapper.toResponseDTO(price);
+  }
+
+  @Benchmark
+  public byte[] serializeResponse() throws JsonProcessingException {
+    return objectMapper.writeValueAsBytes(PriceMapper.toResponseDTO(price));
+  }
+
+  @Benchmark
+  public byte[] encodedResponse() {
+    return responses.get(price).body();
+  }
+}
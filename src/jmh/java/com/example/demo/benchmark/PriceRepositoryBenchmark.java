@@ -0,0 +1,96 @@
+package com.example.demo.benchmark;
+
+import com.example.demo.DemoApplication;
+import com.example.demo.adapter.inbound.rest.dto.PriceRequestDTO;
+import com.example.demo.domain.model.Price;
+import com.example.demo.domain.repository.PriceRepository;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.boot.SpringApplication;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * JPA and entity-free JDBC adapters side by side, against H2 loaded with a synthetic catalog.
+ * Run with {@code -prof gc} to compare allocation per lookup as well as latency.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class PriceRepositoryBenchmark {
+
+  private static final int BRAND_ID = 1000;
+  private static final int FIRST_PRODUCT_ID = 1_000_000;
+  private static final int REQUEST_MASK = 4095;
+
+  @Param({"jpa", "jdbc"})
+  String repositoryType;
+
+  @Param({"10000"})
+  int products;
+
+  @Param({"4", "16"})
+  int ratesPerProduct;
+
+  ConfigurableApplicationContext context;
+  PriceRepository repository;
+  PriceRequestDTO[] requests;
+  int next;
+
+  @Setup
+  public void setUp() {
+    SpringApplication application = new SpringApplication(DemoApplication.class);
+    application.setWebApplicationType(WebApplicationType.NONE);
+    context = application.run(
+        "--spring.jpa.show-sql=false",
+        "--logging.level.root=WARN",
+        "--prices.repository.type=" + repositoryType,
+        "--prices.dataset.synthetic.enabled=true",
+        "--prices.dataset.synthetic.first-brand-id=" + BRAND_ID,
+        "--prices.dataset.synthetic.first-product-id=" + FIRST_PRODUCT_ID,
+        "--prices.dataset.synthetic.products=" + products,
+        "--prices.dataset.synthetic.rates-per-product=" + ratesPerProduct);
+    repository = context.getBean(PriceRepository.class);
+    requests = SyntheticPrices.requests(BRAND_ID, FIRST_PRODUCT_ID, products, REQUEST_MASK + 1, 7);
+  }
+
+  @TearDown
+  public void tearDown() {
+    context.close();
+  }
+
+  @Benchmark
+  public Optional<Price> findPriorityPrice() {
+    PriceRequestDTO request = requests[next++ & REQUEST_MASK];
+    return repository.findPriorityPrice(request.brandId(), request.productId(), request.applicationDate());
+  }
+
+  @Benchmark
+  public List<Price> findPricesByBrandProductDate() {
+    PriceRequestDTO request = requests[next++ & REQUEST_MASK];
+    return repository.findPricesByBrandProductDate(request.brandId(), request.productId(), request.applicationDate());
+  }
+
+  @Benchmark
+  public List<Price> findPricesByBrandProduct() {
+    PriceRequestDTO request = requests[next++ & REQUEST_MASK];
+    return repository.findPricesByBrandProduct(request.brandId(), request.productId());
+  }
+}
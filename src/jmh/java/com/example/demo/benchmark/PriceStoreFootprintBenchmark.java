@@ -0,0 +1,78 @@
+package com.example.demo.benchmark;
+
+import com.example.demo.adapter.outbound.memory.InMemoryPriceAdapter;
+import com.example.demo.adapter.outbound.memory.PriceTimelineAdapter;
+import com.example.demo.adapter.outbound.memory.PrimitivePriceAdapter;
+import com.example.demo.domain.model.Price;
+import com.example.demo.domain.repository.PriceRepository;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.lang.management.ManagementFactory;
+import java.lang.management.MemoryMXBean;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Builds each in-memory adapter from a freshly generated catalog (so no {@link Price} is shared with the input)
+ * and prints the heap it retains per million rates once the input is garbage.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 1)
+@Measurement(iterations = 3)
+@Fork(value = 1, jvmArgsAppend = {"-Xmx4g"})
+public class PriceStoreFootprintBenchmark {
+
+  @Param({"memory", "primitive", "timeline"})
+  String adapter;
+
+  @Param({"250000"})
+  int products;
+
+  @Param({"4"})
+  int ratesPerProduct;
+
+  PriceRepository built;
+
+  @Benchmark
+  public PriceRepository build() {
+    List<Price> prices = SyntheticPrices.generate(products, ratesPerProduct, 42);
+    built = switch (adapter) {
+      case "memory" -> new InMemoryPriceAdapter(prices);
+      case "primitive" -> PrimitivePriceAdapter.of(prices);
+      case "timeline" -> new PriceTimelineAdapter(prices);
+      default -> throw new IllegalArgumentException("Unknown adapter: " + adapter);
+    };
+    return built;
+  }
+
+  @TearDown(Level.Iteration)
+  public void measureRetainedHeap() {
+    long withStore = usedHeapAfterGc();
+    built = null;
+    long withoutStore = usedHeapAfterGc();
+    double rates = (double) products * ratesPerProduct;
+    System.out.printf("%n[%s] retained %.1f MB per million rates%n",
+        adapter, (withStore - withoutStore) / rates * 1_000_000 / (1024 * 1024));
+  }
+
+  private static long usedHeapAfterGc() {
+    MemoryMXBean memory = ManagementFactory.getMemoryMXBean();
+    for (int i = 0; i < 3; i++) {
+      System.gc();
+    }
+    return memory.getHeapMemoryUsage().getUsed();
+  }
+}
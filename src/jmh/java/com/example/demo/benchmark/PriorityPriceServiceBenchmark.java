@@ -0,0 +1,98 @@
+package com.example.demo.benchmark;
+
+import com.example.demo.adapter.inbound.rest.dto.PriceRequestDTO;
+import com.example.demo.adapter.outbound.memory.InMemoryPriceAdapter;
+import com.example.demo.adapter.outbound.memory.PriceTimelineAdapter;
+import com.example.demo.adapter.outbound.memory.PrimitivePriceAdapter;
+import com.example.demo.adapter.outbound.snapshot.PriceSnapshotAdapter;
+import com.example.demo.adapter.outbound.snapshot.PriceSnapshotWriter;
+import com.example.demo.application.usecase.PriorityPriceUseCase;
+import com.example.demo.domain.model.Price;
+import com.example.demo.domain.model.PriceSegment;
+import com.example.demo.domain.repository.PriceRepository;
+import com.example.demo.domain.service.PriorityPriceService;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class PriorityPriceServiceBenchmark {
+
+  private static final int REQUEST_MASK = 4095;
+
+  @Param({"10000"})
+  int products;
+
+  @Param({"1", "4", "16", "64"})
+  int ratesPerProduct;
+
+  @Param({"memory", "primitive", "timeline", "snapshot"})
+  String adapter;
+
+  PriorityPriceUseCase useCase;
+  PriceRequestDTO[] requests;
+
+  @State(Scope.Thread)
+  public static class Cursor {
+    int next;
+  }
+
+  @Setup
+  public void setUp() throws IOException {
+    List<Price> prices = SyntheticPrices.generate(products, ratesPerProduct, 42);
+    PriceRepository repository = switch (adapter) {
+      case "memory" -> new InMemoryPriceAdapter(prices);
+      case "primitive" -> PrimitivePriceAdapter.of(prices);
+      case "timeline" -> new PriceTimelineAdapter(prices);
+      case "snapshot" -> snapshot(prices);
+      default -> throw new IllegalArgumentException("Unknown adapter: " + adapter);
+    };
+    useCase = new PriorityPriceService(repository);
+    requests = SyntheticPrices.requests(products, REQUEST_MASK + 1, 7);
+  }
+
+  private static PriceRepository snapshot(List<Price> prices) throws IOException {
+    Path file = Files.createTempFile("prices", ".snapshot");
+    file.toFile().deleteOnExit();
+    PriceSnapshotWriter.write(prices.iterator(), file);
+    return PriceSnapshotAdapter.open(file);
+  }
+
+  @Benchmark
+  public Price singleLookup(Cursor cursor) {
+    return useCase.getPriorityPrice(requests[cursor.next++ & REQUEST_MASK]);
+  }
+
+  @Benchmark
+  public PriceSegment segmentLookup(Cursor cursor) {
+    return useCase.getPriorityPriceSegment(requests[cursor.next++ & REQUEST_MASK]);
+  }
+
+  @Benchmark
+  @BenchmarkMode(Mode.Throughput)
+  @OutputTimeUnit(TimeUnit.MILLISECONDS)
+  @Threads(8)
+  public Price contendedLookup(Cursor cursor) {
+    return useCase.getPriorityPrice(requests[cursor.next++ & REQUEST_MASK]);
+  }
+}
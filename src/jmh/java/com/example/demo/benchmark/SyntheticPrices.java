@@ -0,0 +1,52 @@
+package com.example.demo.benchmark;
+
+import com.example.demo.adapter.inbound.rest.dto.PriceRequestDTO;
+import com.example.demo.domain.model.Price;
+import com.example.demo.infrastructure.dataset.SyntheticPriceGenerator;
+import com.example.demo.infrastructure.dataset.SyntheticPriceSpec;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.SplittableRandom;
+
+/**
+ * Benchmark datasets built on {@link SyntheticPriceGenerator}: a single brand whose products all have
+ * a base rate for the whole year, so every generated request resolves to a price.
+ */
+final class SyntheticPrices {
+
+  static final LocalDateTime YEAR_START = LocalDateTime.of(2020, 1, 1, 0, 0, 0);
+  static final LocalDateTime YEAR_END = LocalDateTime.of(2021, 1, 1, 0, 0, 0);
+  static final int BRAND_ID = 1;
+
+  private SyntheticPrices() {
+  }
+
+  static SyntheticPriceSpec spec(int products, int ratesPerProduct, long seed) {
+    return new SyntheticPriceSpec(1, products, ratesPerProduct, List.of(0.7, 0.2, 0.1),
+        YEAR_START, YEAR_END, BRAND_ID, 1, 1, seed);
+  }
+
+  static List<Price> generate(int products, int ratesPerProduct, long seed) {
+    return new SyntheticPriceGenerator(spec(products, ratesPerProduct, seed)).prices().toList();
+  }
+
+  static PriceRequestDTO[] requests(int products, int count, long seed) {
+    return requests(BRAND_ID, 1, products, count, seed);
+  }
+
+  static PriceRequestDTO[] requests(int brandId, int firstProductId, int products, int count, long seed) {
+    SplittableRandom random = new SplittableRandom(seed);
+    long windowSeconds = Duration.between(YEAR_START, YEAR_END).toSeconds();
+    PriceRequestDTO[] requests = new PriceRequestDTO[count];
+    for (int i = 0; i < count; i++) {
+      requests[i] = PriceRequestDTO.builder()
+          .brandId(brandId)
+          .productId(firstProductId + random.nextInt(products))
+          .applicationDate(YEAR_START.plusSeconds(random.nextLong(windowSeconds)))
+          .build();
+    }
+    return requests;
+  }
+}
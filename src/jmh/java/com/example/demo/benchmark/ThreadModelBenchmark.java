@@ -0,0 +1,132 @@
+package com.example.demo.benchmark;
+
+import com.example.demo.adapter.inbound.rest.dto.PriceRequestDTO;
+import com.example.demo.adapter.outbound.memory.InMemoryPriceAdapter;
+import com.example.demo.adapter.outbound.persistence.BoundedPriceRepository;
+import com.example.demo.application.usecase.PriorityPriceUseCase;
+import com.example.demo.domain.model.Price;
+import com.example.demo.domain.repository.PriceRepository;
+import com.example.demo.domain.service.PriorityPriceService;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.time.LocalDateTime;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * Compares the platform-thread request pool against virtual threads for the use case → repository chain.
+ * Each operation is a wave of {@code clients} concurrent requests whose repository call blocks for
+ * {@code dbLatencyMicros} behind a {@link BoundedPriceRepository} of {@code connections} permits, which is how
+ * the JPA adapter runs in virtual-thread mode. JMH reports waves per second; request-level p50/p99 are printed at tear down.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 2, time = 5)
+@Measurement(iterations = 3, time = 10)
+@Fork(1)
+public class ThreadModelBenchmark {
+
+  private static final int PLATFORM_POOL_SIZE = 200;
+
+  @Param({"platform", "virtual"})
+  String threads;
+
+  @Param({"1000", "10000"})
+  int clients;
+
+  @Param({"500", "5000"})
+  long dbLatencyMicros;
+
+  @Param({"20", "1000"})
+  int connections;
+
+  PriorityPriceUseCase useCase;
+  PriceRequestDTO[] requests;
+  ExecutorService executor;
+  long[] latencies;
+  long[] samples;
+  int sampleCount;
+  boolean wrapped;
+
+  @Setup(Level.Trial)
+  public void setUp() {
+    List<Price> prices = SyntheticPrices.generate(10_000, 4, 42);
+    long latencyNanos = TimeUnit.MICROSECONDS.toNanos(dbLatencyMicros);
+    PriceRepository slowRepository = new InMemoryPriceAdapter(prices) {
+      @Override
+      public List<Price> findPricesByBrandProductDate(Integer brandId, Integer productId, LocalDateTime applicationDate) {
+        LockSupport.parkNanos(latencyNanos);
+        return super.findPricesByBrandProductDate(brandId, productId, applicationDate);
+      }
+    };
+    useCase = new PriorityPriceService(new BoundedPriceRepository(slowRepository, connections));
+    requests = SyntheticPrices.requests(10_000, clients, 7);
+    executor = switch (threads) {
+      case "platform" -> Executors.newFixedThreadPool(PLATFORM_POOL_SIZE);
+      case "virtual" -> Executors.newVirtualThreadPerTaskExecutor();
+      default -> throw new IllegalArgumentException("Unknown thread model: " + threads);
+    };
+    latencies = new long[clients];
+    samples = new long[1 << 20];
+    sampleCount = 0;
+    wrapped = false;
+  }
+
+  @TearDown(Level.Trial)
+  public void tearDown() {
+    executor.shutdownNow();
+    // Once the buffer has wrapped every slot holds one of the latest samples
+    long[] sorted = wrapped ? samples.clone() : Arrays.copyOf(samples, sampleCount);
+    Arrays.sort(sorted);
+    System.out.printf("%n[%s, clients=%d, dbLatency=%dus, connections=%d] requests=%d p50=%.2fms p99=%.2fms%n",
+        threads, clients, dbLatencyMicros, connections, sorted.length, percentile(sorted, 0.50), percentile(sorted, 0.99));
+  }
+
+  @Benchmark
+  public void wave() throws InterruptedException {
+    CountDownLatch done = new CountDownLatch(clients);
+    long submitted = System.nanoTime();
+    for (int i = 0; i < clients; i++) {
+      int client = i;
+      executor.execute(() -> {
+        useCase.getPriorityPrice(requests[client]);
+        latencies[client] = System.nanoTime() - submitted;
+        done.countDown();
+      });
+    }
+    done.await();
+    for (long latency : latencies) {
+      if (sampleCount == samples.length) {
+        sampleCount = 0;
+        wrapped = true;
+      }
+      samples[sampleCount++] = latency;
+    }
+  }
+
+  private static double percentile(long[] sorted, double quantile) {
+    if (sorted.length == 0) {
+      return 0;
+    }
+    int index = (int) Math.ceil(quantile * sorted.length) - 1;
+    return sorted[Math.max(index, 0)] / 1_000_000.0;
+  }
+}
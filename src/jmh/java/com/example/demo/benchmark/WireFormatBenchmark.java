@@ -0,0 +1,109 @@
+package com.example.demo.benchmark;
+
+import com.example.demo.adapter.inbound.rest.dto.PriceBatchItemDTO;
+import com.example.demo.adapter.inbound.rest.dto.PriceBatchResponseDTO;
+import com.example.demo.adapter.inbound.rest.dto.PriceCompactBatchResponseDTO;
+import com.example.demo.adapter.inbound.rest.dto.PriceCompactDTO;
+import com.example.demo.adapter.inbound.rest.dto.PriceRequestDTO;
+import com.example.demo.adapter.inbound.rest.dto.PriceResponseDTO;
+import com.example.demo.adapter.outbound.persistence.PriceMapper;
+import com.example.demo.domain.model.Price;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.dataformat.cbor.databind.CBORMapper;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * JSON {@link PriceResponseDTO} versus the CBOR {@link PriceCompactDTO} served for {@code Accept: application/cbor}:
+ * encoding on the server and decoding on the caller, for one price and for a batch. Payload sizes are printed at
+ * setup.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class WireFormatBenchmark {
+
+  @Param({"json", "cbor"})
+  String format;
+
+  @Param({"100"})
+  int batchSize;
+
+  boolean json;
+  ObjectMapper mapper;
+  Price price;
+  List<Optional<Price>> prices;
+  PriceRequestDTO[] requests;
+  Class<?> singleType;
+  Class<?> batchType;
+  byte[] single;
+  byte[] batch;
+
+  @Setup
+  public void setUp() throws IOException {
+    List<Price> generated = SyntheticPrices.generate(batchSize, 1, 42);
+    price = generated.getFirst();
+    prices = generated.stream().map(Optional::of).toList();
+    requests = SyntheticPrices.requests(batchSize, batchSize, 42);
+    json = switch (format) {
+      case "json" -> true;
+      case "cbor" -> false;
+      default -> throw new IllegalArgumentException("Unknown format: " + format);
+    };
+    mapper = json
+        ? new ObjectMapper().registerModule(new JavaTimeModule()).disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS)
+        : new CBORMapper();
+    singleType = json ? PriceResponseDTO.class : PriceCompactDTO.class;
+    batchType = json ? PriceBatchResponseDTO.class : PriceCompactBatchResponseDTO.class;
+    single = encodeSingle();
+    batch = encodeBatch();
+    System.out.printf("%n[%s] %d bytes per price, %d bytes per batch of %d%n", format, single.length, batch.length, batchSize);
+  }
+
+  @Benchmark
+  public byte[] encodeSingle() throws IOException {
+    return mapper.writeValueAsBytes(json ? PriceMapper.toResponseDTO(price) : PriceMapper.toCompactDTO(price));
+  }
+
+  @Benchmark
+  public byte[] encodeBatch() throws IOException {
+    if (!json) {
+      return mapper.writeValueAsBytes(PriceMapper.toCompactBatchResponseDTO(prices));
+    }
+    List<PriceBatchItemDTO> items = new ArrayList<>(batchSize);
+    for (int i = 0; i < batchSize; i++) {
+      items.add(PriceMapper.toBatchItemDTO(requests[i], prices.get(i)));
+    }
+    return mapper.writeValueAsBytes(new PriceBatchResponseDTO(items));
+  }
+
+  @Benchmark
+  public Object decodeSingle() throws IOException {
+    return mapper.readValue(single, singleType);
+  }
+
+  @Benchmark
+  public Object decodeBatch() throws IOException {
+    return mapper.readValue(batch, batchType);
+  }
+}
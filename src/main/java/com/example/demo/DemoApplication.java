@@ -2,8 +2,10 @@ package com.example.demo;
 
 import org.springframework.boot.SpringApplication;
 import org.springframework.boot.autoconfigure.SpringBootApplication;
+import org.springframework.boot.autoconfigure.r2dbc.R2dbcAutoConfiguration;
 
-@SpringBootApplication
+// The reactive stack builds its own R2DBC client, an auto-configured ConnectionFactory would take over SQL initialisation
+@SpringBootApplication(exclude = R2dbcAutoConfiguration.class)
 public class DemoApplication {
 
   public static void main(String[] args) {
@@ -0,0 +1,76 @@
+package com.example.demo.adapter.inbound.rest;
+
+import com.example.demo.domain.model.Price;
+import com.example.demo.domain.model.Rate;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import lombok.experimental.FieldDefaults;
+
+import static lombok.AccessLevel.PRIVATE;
+
+/**
+ * Response bodies in one {@link WireFormat}, encoded once per winning rate and reused by every request that
+ * resolves to it. Entries are keyed by the rate's value, so a write yields
+ * a new key and the stale body simply ages out of the bounded cache.
+ */
+@FieldDefaults(level = PRIVATE, makeFinal = true)
+public class EncodedPriceResponses {
+
+  WireFormat format;
+  ObjectMapper objectMapper;
+  Cache<Price, EncodedPriceResponse> responses;
+
+  public EncodedPriceResponses(ObjectMapper objectMapper, long maximumSize, MeterRegistry meterRegistry) {
+    this(WireFormat.JSON, objectMapper, maximumSize, meterRegistry);
+  }
+
+  /**
+   * {@code objectMapper} must write the format, e.g. a {@code CBORMapper} for {@link WireFormat#CBOR}.
+   */
+  public EncodedPriceResponses(WireFormat format, ObjectMapper objectMapper, long maximumSize, MeterRegistry meterRegistry) {
+    this.format = format;
+    this.objectMapper = objectMapper;
+    this.responses = Caffeine.newBuilder()
+        .maximumSize(maximumSize)
+        .executor(Runnable::run)
+        .recordStats()
+        .build();
+    CaffeineCacheMetrics.monitor(meterRegistry, responses, format.cacheName);
+  }
+
+  public EncodedPriceResponse get(Price price) {
+    return responses.get(price, this::encode);
+  }
+
+  /**
+   * Identifies the winning rate by price list and a fingerprint of its contents, so any write that changes what
+   * the response shows also changes the tag. The fingerprint only uses values with a stable string form, so every
+   * instance and restart computes the same tag for the same rate.
+   */
+  static String entityTag(Price price) {
+    Rate rate = price.rate();
+    String contents = price.brandId() + "|" + price.productId() + "|" + rate.priceList()
+        + "|" + rate.startDate() + "|" + rate.endDate() + "|" + rate.priority() + "|" + rate.price();
+    return rate.priceList() + "-" + Integer.toHexString(contents.hashCode());
+  }
+
+  private EncodedPriceResponse encode(Price price) {
+    try {
+      // Each format has its own tag, a cache holding one representation must not answer for the other
+      return new EncodedPriceResponse(objectMapper.writeValueAsBytes(format.body.apply(price)),
+          entityTag(price) + format.tagSuffix);
+    } catch (JsonProcessingException ex) {
+      throw new IllegalStateException("Could not encode price list " + price.rate().priceList(), ex);
+    }
+  }
+
+  /**
+   * The body must not be modified, it is shared by every response for the same rate.
+   */
+  public record EncodedPriceResponse(byte[] body, String eTag) {
+  }
+}
@@ -1,44 +1,104 @@
 package com.example.demo.adapter.inbound.rest;
 
+import com.example.demo.adapter.inbound.rest.dto.ErrorResponse;
+import com.example.demo.adapter.inbound.rest.dto.PriceBatchRequestDTO;
+import com.example.demo.adapter.inbound.rest.dto.PriceBatchResponseDTO;
+import com.example.demo.adapter.inbound.rest.dto.PriceCompactBatchResponseDTO;
+import com.example.demo.adapter.inbound.rest.dto.PriceCompactDTO;
 import com.example.demo.adapter.inbound.rest.dto.PriceRequestDTO;
 import com.example.demo.adapter.inbound.rest.dto.PriceResponseDTO;
+import com.example.demo.adapter.inbound.rest.exception.GlobalExceptionHandler;
 import com.example.demo.adapter.outbound.persistence.PriceMapper;
 import com.example.demo.application.usecase.PriorityPriceUseCase;
+import com.example.demo.domain.model.PriceSegment;
+import com.example.demo.domain.service.PriorityPriceService;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.dataformat.cbor.databind.CBORMapper;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.media.Content;
+import io.swagger.v3.oas.annotations.media.Schema;
 import io.swagger.v3.oas.annotations.responses.ApiResponse;
 import io.swagger.v3.oas.annotations.responses.ApiResponses;
 import io.swagger.v3.oas.annotations.tags.Tag;
-import lombok.RequiredArgsConstructor;
+import jakarta.validation.Valid;
 import lombok.experimental.FieldDefaults;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestHeader;
 import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
 
+import java.time.Clock;
+import java.time.Duration;
 import java.time.LocalDateTime;
+import java.util.stream.IntStream;
 
 import static lombok.AccessLevel.PRIVATE;
 
 @RestController
-@RequiredArgsConstructor
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.SERVLET)
 @FieldDefaults(level = PRIVATE, makeFinal = true)
 @Tag(name = "Prices", description = "API for price queries")
 public class PriceController {
 
   PriorityPriceUseCase priorityPriceUseCase;
+  Timer mappings;
+  EncodedPriceResponses responses;
+  EncodedPriceResponses cborResponses;
+  ObjectMapper cborMapper;
+  long maxAgeSeconds;
+  Clock clock;
 
-  @Operation(summary = "Get priority price", description = "Gets the applicable price for a product and brand on a given date")
+  public PriceController(
+      PriorityPriceUseCase priorityPriceUseCase,
+      MeterRegistry meterRegistry,
+      ObjectMapper objectMapper,
+      Clock clock,
+      @Value("${prices.http.max-age:PT1H}") Duration maxAge,
+      @Value("${prices.http.encoded-responses.maximum-size:10000}") long encodedResponsesMaximumSize) {
+    this.priorityPriceUseCase = priorityPriceUseCase;
+    this.responses = new EncodedPriceResponses(objectMapper, encodedResponsesMaximumSize, meterRegistry);
+    this.cborMapper = new CBORMapper();
+    this.cborResponses = new EncodedPriceResponses(WireFormat.CBOR, cborMapper, encodedResponsesMaximumSize, meterRegistry);
+    this.maxAgeSeconds = maxAge.toSeconds();
+    this.clock = clock;
+    this.mappings = Timer.builder("prices.mapping")
+        .description("Response body lookup, encoding the body on first use of a rate")
+        .publishPercentileHistogram()
+        .register(meterRegistry);
+  }
+
+  @Operation(summary = "Get priority price", description = "Gets the applicable price for a product and brand on a given date. "
+      + "The response carries an ETag of the winning rate and may be cached until the next priority boundary of the product. "
+      + "Accept: application/cbor selects the compact binary form")
   @ApiResponses(value = {
-      @ApiResponse(responseCode = "200", description = "Price found"),
-      @ApiResponse(responseCode = "404", description = "Price not found")
+      @ApiResponse(responseCode = "200", description = "Price found", content = {
+          @Content(mediaType = MediaType.APPLICATION_JSON_VALUE, schema = @Schema(implementation = PriceResponseDTO.class)),
+          @Content(mediaType = MediaType.APPLICATION_CBOR_VALUE, schema = @Schema(implementation = PriceCompactDTO.class))}),
+      @ApiResponse(responseCode = "304", description = "Price unchanged since the ETag sent in If-None-Match"),
+      @ApiResponse(responseCode = "404", description = "Price not found",
+          content = @Content(mediaType = MediaType.APPLICATION_JSON_VALUE, schema = @Schema(implementation = ErrorResponse.class)))
   })
   @GetMapping("/brand/{brandId}/product/{productId}/prices")
-  public ResponseEntity<PriceResponseDTO> getPriorityPrice(
+  public ResponseEntity<?> getPriorityPrice(
       @Parameter(description = "Brand ID") @PathVariable Integer brandId,
       @Parameter(description = "Product ID") @PathVariable Integer productId,
-      @Parameter(description = "Application date (format: yyyy-MM-ddTHH:mm:ss)") @RequestParam LocalDateTime applicationDate) {
+      @Parameter(description = "Application date (format: yyyy-MM-ddTHH:mm:ss)") @RequestParam LocalDateTime applicationDate,
+      @RequestHeader(value = HttpHeaders.ACCEPT, required = false) String accept) {
+
+    var format = WireFormat.negotiate(accept);
 
     var request = PriceRequestDTO.builder()
         .applicationDate(applicationDate)
@@ -46,8 +106,65 @@ public class PriceController {
         .brandId(brandId)
         .build();
 
-    var price = priorityPriceUseCase.getPriorityPrice(request);
+    // A miss is an ordinary result here: no exception is built, filled in and unwound for every unknown product
+    var found = priorityPriceUseCase.findPriorityPriceSegment(request);
+    if (found.isEmpty()) {
+      return GlobalExceptionHandler.notFound(PriorityPriceService.notFoundMessage(request));
+    }
+    var segment = found.get();
+
+    // The body was serialized when this rate first won a lookup, hits only copy bytes to the response
+    var encoded = format == WireFormat.CBOR ? cborResponses : responses;
+    var response = mappings.record(() -> encoded.get(segment.price()));
+
+    // A matching If-None-Match turns this into a 304 without a body, still carrying both headers
+    return ResponseEntity.ok()
+        .contentType(format.mediaType)
+        .varyBy(HttpHeaders.ACCEPT)
+        .eTag(response.eTag())
+        .cacheControl(cacheControl(segment))
+        .body(response.body());
+  }
+
+  @Operation(summary = "Get priority prices in batch", description = "Gets the applicable price for each (brand, product, date) lookup in a single call. "
+      + "Accept: application/cbor selects the compact binary form")
+  @ApiResponses(value = {
+      @ApiResponse(responseCode = "200", description = "Lookups resolved, each item reports whether its price was found", content = {
+          @Content(mediaType = MediaType.APPLICATION_JSON_VALUE, schema = @Schema(implementation = PriceBatchResponseDTO.class)),
+          @Content(mediaType = MediaType.APPLICATION_CBOR_VALUE, schema = @Schema(implementation = PriceCompactBatchResponseDTO.class))}),
+      @ApiResponse(responseCode = "400", description = "Invalid batch request")
+  })
+  @PostMapping("/prices/batch")
+  public ResponseEntity<?> getPriorityPrices(
+      @Valid @RequestBody PriceBatchRequestDTO batchRequest,
+      @RequestHeader(value = HttpHeaders.ACCEPT, required = false) String accept) throws JsonProcessingException {
+    var format = WireFormat.negotiate(accept);
+    var requests = batchRequest.items();
+    var prices = priorityPriceUseCase.getPriorityPrices(requests);
+
+    if (format == WireFormat.CBOR) {
+      return ResponseEntity.ok()
+          .contentType(format.mediaType)
+          .body(cborMapper.writeValueAsBytes(PriceMapper.toCompactBatchResponseDTO(prices)));
+    }
+
+    var items = IntStream.range(0, requests.size())
+        .mapToObj(i -> PriceMapper.toBatchItemDTO(requests.get(i), prices.get(i)))
+        .toList();
+
+    return ResponseEntity.ok(new PriceBatchResponseDTO(items));
+  }
 
-    return ResponseEntity.ok(PriceMapper.toResponseDTO(price));
+  /**
+   * A client or CDN tracking the current price can reuse the answer until the segment ends on the server clock, the
+   * moment the current price changes by itself. Answers from any other segment, past or still to come, only change
+   * through writes, which the ETag revalidates and the cap bounds, so they get the cap.
+   */
+  private CacheControl cacheControl(PriceSegment segment) {
+    LocalDateTime now = LocalDateTime.now(clock);
+    long seconds = segment.contains(now)
+        ? Math.min(Duration.between(now, segment.validUntil()).toSeconds(), maxAgeSeconds)
+        : maxAgeSeconds;
+    return CacheControl.maxAge(Duration.ofSeconds(seconds)).cachePublic();
   }
 }
@@ -0,0 +1,136 @@
+package com.example.demo.adapter.inbound.rest;
+
+import com.example.demo.adapter.inbound.rest.dto.PriceResponseDTO;
+import com.example.demo.adapter.outbound.persistence.PriceMapper;
+import com.example.demo.application.usecase.PriceExportUseCase;
+import com.example.demo.domain.model.Price;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Meter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.media.Content;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import lombok.experimental.FieldDefaults;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.http.ContentDisposition;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import java.io.BufferedOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.time.LocalDateTime;
+import java.util.Iterator;
+import java.util.Locale;
+import java.util.stream.Stream;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static java.time.format.DateTimeFormatter.ISO_LOCAL_DATE_TIME;
+import static lombok.AccessLevel.PRIVATE;
+
+@RestController
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.SERVLET)
+@FieldDefaults(level = PRIVATE, makeFinal = true)
+@Tag(name = "Price export", description = "API for bulk exports of effective prices")
+public class PriceExportController {
+
+  private static final String NDJSON_VALUE = "application/x-ndjson";
+  private static final String CSV_VALUE = "text/csv";
+  private static final String CSV_HEADER = "productId,brandId,priceList,startDate,endDate,finalPrice\n";
+  private static final int BUFFER_SIZE = 64 * 1024;
+
+  PriceExportUseCase priceExportUseCase;
+  ObjectMapper objectMapper;
+  Meter.MeterProvider<Counter> rows;
+  int flushRows;
+
+  public PriceExportController(
+      PriceExportUseCase priceExportUseCase,
+      ObjectMapper objectMapper,
+      MeterRegistry meterRegistry,
+      @Value("${prices.export.flush-rows:1000}") int flushRows) {
+    this.priceExportUseCase = priceExportUseCase;
+    this.objectMapper = objectMapper;
+    this.flushRows = flushRows;
+    this.rows = Counter.builder("prices.export.rows")
+        .description("Effective prices written by exports")
+        .withRegistry(meterRegistry);
+  }
+
+  @Operation(summary = "Export effective prices of a brand", description = "Streams the applicable price on a given date of every product "
+      + "of the brand, one record per product ordered by product id, as NDJSON (default) or CSV")
+  @ApiResponses(value = {
+      @ApiResponse(responseCode = "200", description = "Export streamed",
+          content = {@Content(mediaType = NDJSON_VALUE), @Content(mediaType = CSV_VALUE)}),
+      @ApiResponse(responseCode = "400", description = "Invalid date or format")
+  })
+  @GetMapping("/brand/{brandId}/prices/export")
+  public ResponseEntity<StreamingResponseBody> exportPrices(
+      @Parameter(description = "Brand ID") @PathVariable Integer brandId,
+      @Parameter(description = "Application date (format: yyyy-MM-ddTHH:mm:ss)") @RequestParam LocalDateTime applicationDate,
+      @Parameter(description = "ndjson or csv") @RequestParam(defaultValue = "ndjson") String format) {
+    boolean csv = switch (format.toLowerCase(Locale.ROOT)) {
+      case "ndjson" -> false;
+      case "csv" -> true;
+      default -> throw new IllegalArgumentException("Unsupported format '" + format + "', expected ndjson or csv");
+    };
+    String fileName = "prices-brand-" + brandId + (csv ? ".csv" : ".ndjson");
+
+    // Written after the handler returns, on the async request thread; the cursor is opened and closed there
+    StreamingResponseBody body = out -> write(brandId, applicationDate, csv, out);
+
+    return ResponseEntity.ok()
+        .contentType(MediaType.parseMediaType(csv ? CSV_VALUE : NDJSON_VALUE))
+        .header(HttpHeaders.CONTENT_DISPOSITION, ContentDisposition.attachment().filename(fileName).build().toString())
+        .body(body);
+  }
+
+  private void write(Integer brandId, LocalDateTime applicationDate, boolean csv, OutputStream out) throws IOException {
+    Counter exported = rows.withTags("format", csv ? "csv" : "ndjson");
+    OutputStream buffered = new BufferedOutputStream(out, BUFFER_SIZE);
+    try (Stream<Price> prices = priceExportUseCase.exportEffectivePrices(brandId, applicationDate)) {
+      if (csv) {
+        buffered.write(CSV_HEADER.getBytes(UTF_8));
+      }
+      int unflushed = 0;
+      for (Iterator<Price> it = prices.iterator(); it.hasNext(); ) {
+        PriceResponseDTO price = PriceMapper.toResponseDTO(it.next());
+        buffered.write(csv ? csvLine(price) : jsonLine(price));
+        // Each flush sends a chunk, so the client sees progress and nothing accumulates beyond the buffer
+        if (++unflushed == flushRows) {
+          buffered.flush();
+          exported.increment(unflushed);
+          unflushed = 0;
+        }
+      }
+      buffered.flush();
+      exported.increment(unflushed);
+    }
+  }
+
+  private byte[] jsonLine(PriceResponseDTO price) throws IOException {
+    byte[] json = objectMapper.writeValueAsBytes(price);
+    byte[] line = new byte[json.length + 1];
+    System.arraycopy(json, 0, line, 0, json.length);
+    line[json.length] = '\n';
+    return line;
+  }
+
+  private static byte[] csvLine(PriceResponseDTO price) {
+    // Dates formatted as in the JSON lines. Ids, ISO dates and "amount CUR" never contain separators or quotes,
+    // so no field needs escaping
+    return (price.productId() + "," + price.brandId() + "," + price.priceList() + "," + ISO_LOCAL_DATE_TIME.format(price.startDate())
+        + "," + ISO_LOCAL_DATE_TIME.format(price.endDate()) + "," + price.finalPrice() + "\n").getBytes(UTF_8);
+  }
+}
@@ -0,0 +1,66 @@
+package com.example.demo.adapter.inbound.rest;
+
+import com.example.demo.adapter.inbound.rest.dto.ErrorResponse;
+import com.example.demo.adapter.inbound.rest.dto.PriceRequestDTO;
+import com.example.demo.adapter.inbound.rest.dto.PriceResponseDTO;
+import com.example.demo.adapter.inbound.rest.exception.GlobalExceptionHandler;
+import com.example.demo.adapter.outbound.persistence.PriceMapper;
+import com.example.demo.application.usecase.PriceHistoryUseCase;
+import com.example.demo.domain.service.PriorityPriceService;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.media.Content;
+import io.swagger.v3.oas.annotations.media.Schema;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import lombok.RequiredArgsConstructor;
+import lombok.experimental.FieldDefaults;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.time.LocalDateTime;
+
+import static lombok.AccessLevel.PRIVATE;
+
+@RestController
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.SERVLET)
+@RequiredArgsConstructor
+@FieldDefaults(level = PRIVATE, makeFinal = true)
+@Tag(name = "Price history", description = "API for price queries over past states of the data")
+public class PriceHistoryController {
+
+  PriceHistoryUseCase priceHistoryUseCase;
+
+  @Operation(summary = "Get priority price as of a past time", description = "Gets the price the lookup for a product and brand "
+      + "on a given date would have returned with the rates as they were stored at asOf. Bypasses every cache")
+  @ApiResponses(value = {
+      @ApiResponse(responseCode = "200", description = "Price found",
+          content = @Content(mediaType = MediaType.APPLICATION_JSON_VALUE, schema = @Schema(implementation = PriceResponseDTO.class))),
+      @ApiResponse(responseCode = "404", description = "No price applied with the data as of that time",
+          content = @Content(mediaType = MediaType.APPLICATION_JSON_VALUE, schema = @Schema(implementation = ErrorResponse.class)))
+  })
+  // Selected over the current-price mapping whenever asOf is present
+  @GetMapping(value = "/brand/{brandId}/product/{productId}/prices", params = "asOf")
+  public ResponseEntity<?> getPriorityPriceAsOf(
+      @Parameter(description = "Brand ID") @PathVariable Integer brandId,
+      @Parameter(description = "Product ID") @PathVariable Integer productId,
+      @Parameter(description = "Application date (format: yyyy-MM-ddTHH:mm:ss)") @RequestParam LocalDateTime applicationDate,
+      @Parameter(description = "Transaction time to read the data at, in UTC (format: yyyy-MM-ddTHH:mm:ss)") @RequestParam LocalDateTime asOf) {
+
+    var request = PriceRequestDTO.builder()
+        .applicationDate(applicationDate)
+        .productId(productId)
+        .brandId(brandId)
+        .build();
+
+    return priceHistoryUseCase.findPriorityPriceAsOf(request, asOf)
+        .<ResponseEntity<?>>map(price -> ResponseEntity.ok(PriceMapper.toResponseDTO(price)))
+        .orElseGet(() -> GlobalExceptionHandler.notFound(PriorityPriceService.notFoundMessage(request) + ", asOf=" + asOf));
+  }
+}
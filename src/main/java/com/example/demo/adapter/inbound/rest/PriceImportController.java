@@ -0,0 +1,148 @@
+package com.example.demo.adapter.inbound.rest;
+
+import com.example.demo.adapter.inbound.rest.dto.PriceImportResponseDTO;
+import com.example.demo.adapter.inbound.rest.dto.PriceWriteRequestDTO;
+import com.example.demo.adapter.outbound.persistence.PriceMapper;
+import com.example.demo.application.usecase.PriceImportUseCase;
+import com.example.demo.domain.model.Price;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validator;
+import lombok.experimental.FieldDefaults;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestHeader;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static lombok.AccessLevel.PRIVATE;
+
+@RestController
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.SERVLET)
+@FieldDefaults(level = PRIVATE, makeFinal = true)
+@Tag(name = "Price import", description = "API for bulk imports of rates")
+public class PriceImportController {
+
+  private static final String NDJSON_VALUE = "application/x-ndjson";
+  private static final String CSV_VALUE = "text/csv";
+  private static final String CSV_HEADER_PREFIX = "PRICE_LIST,";
+  private static final int CSV_FIELDS = 8;
+  private static final int BUFFER_SIZE = 64 * 1024;
+
+  PriceImportUseCase priceImportUseCase;
+  ObjectReader requestReader;
+  Validator validator;
+
+  public PriceImportController(PriceImportUseCase priceImportUseCase, ObjectMapper objectMapper, Validator validator) {
+    this.priceImportUseCase = priceImportUseCase;
+    this.requestReader = objectMapper.readerFor(PriceWriteRequestDTO.class);
+    this.validator = validator;
+  }
+
+  @Operation(summary = "Import rates", description = "Streams rates from the request body, as CSV in the synthetic dataset "
+      + "layout (PRICE_LIST,BRAND_ID,PRODUCT_ID,START_DATE,END_DATE,PRIORITY,PRICE,CURRENCY) or as NDJSON with one create "
+      + "request per line. Price lists are required. Invalid lines are rejected and reported, valid ones are committed in "
+      + "chunks; an import stops at the first chunk that cannot be stored")
+  @ApiResponses(value = {
+      @ApiResponse(responseCode = "200", description = "Import finished or stopped, see completed and failure"),
+      @ApiResponse(responseCode = "400", description = "Unsupported content type")
+  })
+  @PostMapping("/prices/import")
+  public ResponseEntity<PriceImportResponseDTO> importPrices(
+      @Parameter(description = "text/csv or application/x-ndjson") @RequestHeader(value = HttpHeaders.CONTENT_TYPE, required = false) String contentType,
+      InputStream body) throws IOException {
+    // Matched here rather than with consumes, so an unsupported type is a 400 like any other invalid input
+    MediaType mediaType = contentType == null ? MediaType.ALL : MediaType.parseMediaType(contentType);
+    Function<String, Price> parser;
+    if (MediaType.parseMediaType(CSV_VALUE).equalsTypeAndSubtype(mediaType)) {
+      parser = this::parseCsv;
+    } else if (MediaType.parseMediaType(NDJSON_VALUE).equalsTypeAndSubtype(mediaType)) {
+      parser = this::parseJson;
+    } else {
+      throw new IllegalArgumentException("Unsupported content type '" + contentType + "', expected " + CSV_VALUE + " or " + NDJSON_VALUE);
+    }
+    // Read line by line straight from the request, the body is never held in memory as a whole
+    try (BufferedReader source = new BufferedReader(new InputStreamReader(body, UTF_8), BUFFER_SIZE)) {
+      return ResponseEntity.ok(PriceMapper.toImportResponseDTO(priceImportUseCase.importPrices(source, parser)));
+    }
+  }
+
+  private Price parseCsv(String line) {
+    if (line.startsWith(CSV_HEADER_PREFIX)) {
+      return null;
+    }
+    String[] fields = line.split(",", -1);
+    if (fields.length != CSV_FIELDS) {
+      throw new IllegalArgumentException("expected " + CSV_FIELDS + " fields but found " + fields.length);
+    }
+    return toDomain(PriceWriteRequestDTO.builder()
+        .priceList(csvValue(fields[0], "priceList", Integer::valueOf))
+        .brandId(csvValue(fields[1], "brandId", Integer::valueOf))
+        .productId(csvValue(fields[2], "productId", Integer::valueOf))
+        .startDate(csvValue(fields[3], "startDate", PriceImportController::parseDate))
+        .endDate(csvValue(fields[4], "endDate", PriceImportController::parseDate))
+        .priority(csvValue(fields[5], "priority", Integer::valueOf))
+        .price(csvValue(fields[6], "price", BigDecimal::new))
+        .currency(fields[7].trim())
+        .build());
+  }
+
+  private Price parseJson(String line) {
+    try {
+      return toDomain(requestReader.readValue(line));
+    } catch (JsonProcessingException ex) {
+      throw new IllegalArgumentException("malformed JSON: " + ex.getOriginalMessage());
+    }
+  }
+
+  private Price toDomain(PriceWriteRequestDTO request) {
+    // The same constraints as the write API, then the Rate and Money invariants
+    String violations = validator.validate(request).stream()
+        .map(ConstraintViolation::getMessage)
+        .sorted()
+        .collect(Collectors.joining(", "));
+    if (!violations.isEmpty()) {
+      throw new IllegalArgumentException(violations);
+    }
+    if (request.priceList() == null) {
+      throw new IllegalArgumentException("priceList is required");
+    }
+    return PriceMapper.toDomain(request, request.priceList());
+  }
+
+  private static <T> T csvValue(String field, String name, Function<String, T> parser) {
+    String value = field.trim();
+    if (value.isEmpty()) {
+      return null;
+    }
+    try {
+      return parser.apply(value);
+    } catch (RuntimeException ex) {
+      throw new IllegalArgumentException("invalid " + name + " '" + value + "'");
+    }
+  }
+
+  private static LocalDateTime parseDate(String value) {
+    // The synthetic dataset separates date and time with a space, ISO with a 'T'
+    return LocalDateTime.parse(value.replace(' ', 'T'));
+  }
+}
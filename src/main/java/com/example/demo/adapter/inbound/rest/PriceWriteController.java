@@ -0,0 +1,118 @@
+package com.example.demo.adapter.inbound.rest;
+
+import com.example.demo.adapter.inbound.rest.dto.PriceRecordDTO;
+import com.example.demo.adapter.inbound.rest.dto.PriceUpsertRequestDTO;
+import com.example.demo.adapter.inbound.rest.dto.PriceUpsertResponseDTO;
+import com.example.demo.adapter.inbound.rest.dto.PriceWriteRequestDTO;
+import com.example.demo.adapter.outbound.persistence.PriceMapper;
+import com.example.demo.application.usecase.PriceWriteUseCase;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.validation.Valid;
+import lombok.RequiredArgsConstructor;
+import lombok.experimental.FieldDefaults;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.DeleteMapping;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.PutMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.net.URI;
+
+import static lombok.AccessLevel.PRIVATE;
+
+@RestController
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.SERVLET)
+@RequiredArgsConstructor
+@FieldDefaults(level = PRIVATE, makeFinal = true)
+@Tag(name = "Price writes", description = "API for creating, updating and deleting rates")
+public class PriceWriteController {
+
+  PriceWriteUseCase priceWriteUseCase;
+
+  @Operation(summary = "Get rate", description = "Gets a rate by price list, with the version required to update or delete it")
+  @ApiResponses(value = {
+      @ApiResponse(responseCode = "200", description = "Rate found"),
+      @ApiResponse(responseCode = "404", description = "Rate not found")
+  })
+  @GetMapping("/prices/{priceList}")
+  public ResponseEntity<PriceRecordDTO> getPrice(@Parameter(description = "Price list") @PathVariable Integer priceList) {
+    return ResponseEntity.ok(PriceMapper.toRecordDTO(priceWriteUseCase.getPrice(priceList)));
+  }
+
+  @Operation(summary = "Create rate", description = "Creates a rate, under a new price list unless one is given")
+  @ApiResponses(value = {
+      @ApiResponse(responseCode = "201", description = "Rate created"),
+      @ApiResponse(responseCode = "400", description = "Invalid rate"),
+      @ApiResponse(responseCode = "409", description = "Price list already exists")
+  })
+  @PostMapping("/prices")
+  public ResponseEntity<PriceRecordDTO> createPrice(@Valid @RequestBody PriceWriteRequestDTO request) {
+    var created = priceWriteUseCase.createPrice(PriceMapper.toDomain(request, request.priceList()));
+    var response = PriceMapper.toRecordDTO(created);
+    return ResponseEntity.created(URI.create("/prices/" + response.priceList())).body(response);
+  }
+
+  @Operation(summary = "Update rate", description = "Replaces dates, priority and price of a rate still at the given version")
+  @ApiResponses(value = {
+      @ApiResponse(responseCode = "200", description = "Rate updated"),
+      @ApiResponse(responseCode = "400", description = "Invalid rate"),
+      @ApiResponse(responseCode = "404", description = "Rate not found"),
+      @ApiResponse(responseCode = "409", description = "Rate changed since the given version")
+  })
+  @PutMapping("/prices/{priceList}")
+  public ResponseEntity<PriceRecordDTO> updatePrice(
+      @Parameter(description = "Price list") @PathVariable Integer priceList,
+      @Valid @RequestBody PriceWriteRequestDTO request) {
+    if (request.priceList() != null && !request.priceList().equals(priceList)) {
+      throw new IllegalArgumentException("priceList in the body does not match the path");
+    }
+    if (request.version() == null) {
+      throw new IllegalArgumentException("version is required");
+    }
+    var updated = priceWriteUseCase.updatePrice(PriceMapper.toDomain(request, priceList), request.version());
+    return ResponseEntity.ok(PriceMapper.toRecordDTO(updated));
+  }
+
+  @Operation(summary = "Delete rate", description = "Deletes a rate still at the given version")
+  @ApiResponses(value = {
+      @ApiResponse(responseCode = "204", description = "Rate deleted"),
+      @ApiResponse(responseCode = "404", description = "Rate not found"),
+      @ApiResponse(responseCode = "409", description = "Rate changed since the given version")
+  })
+  @DeleteMapping("/prices/{priceList}")
+  public ResponseEntity<Void> deletePrice(
+      @Parameter(description = "Price list") @PathVariable Integer priceList,
+      @Parameter(description = "Version of the rate last read") @RequestParam long version) {
+    priceWriteUseCase.deletePrice(priceList, version);
+    return ResponseEntity.noContent().build();
+  }
+
+  @Operation(summary = "Upsert rates in bulk", description = "Creates items without a version and updates items with one, all in one transaction")
+  @ApiResponses(value = {
+      @ApiResponse(responseCode = "200", description = "All rates stored"),
+      @ApiResponse(responseCode = "400", description = "Invalid upsert request, nothing stored"),
+      @ApiResponse(responseCode = "404", description = "A rate to update does not exist, nothing stored"),
+      @ApiResponse(responseCode = "409", description = "A rate changed since its version, nothing stored")
+  })
+  @PutMapping("/prices")
+  public ResponseEntity<PriceUpsertResponseDTO> upsertPrices(@Valid @RequestBody PriceUpsertRequestDTO upsertRequest) {
+    var upserts = upsertRequest.items().stream()
+        .map(PriceMapper::toUpsert)
+        .toList();
+
+    var items = priceWriteUseCase.upsertPrices(upserts).stream()
+        .map(PriceMapper::toRecordDTO)
+        .toList();
+
+    return ResponseEntity.ok(new PriceUpsertResponseDTO(items));
+  }
+}
@@ -0,0 +1,48 @@
+package com.example.demo.adapter.inbound.rest;
+
+import com.example.demo.adapter.inbound.rest.dto.PriceRequestDTO;
+import com.example.demo.adapter.inbound.rest.dto.PriceResponseDTO;
+import com.example.demo.adapter.outbound.persistence.PriceMapper;
+import com.example.demo.application.usecase.ReactivePriorityPriceUseCase;
+import lombok.RequiredArgsConstructor;
+import lombok.experimental.FieldDefaults;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+import reactor.core.publisher.Mono;
+
+import java.time.LocalDateTime;
+
+import static lombok.AccessLevel.PRIVATE;
+
+/**
+ * WebFlux counterpart of {@link PriceController}, active when the application runs as a reactive web
+ * application. Serves the same price lookup contract without blocking the event loop.
+ */
+@RestController
+@RequiredArgsConstructor
+@FieldDefaults(level = PRIVATE, makeFinal = true)
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.REACTIVE)
+public class ReactivePriceController {
+
+  ReactivePriorityPriceUseCase priorityPriceUseCase;
+
+  @GetMapping("/brand/{brandId}/product/{productId}/prices")
+  public Mono<ResponseEntity<PriceResponseDTO>> getPriorityPrice(
+      @PathVariable Integer brandId,
+      @PathVariable Integer productId,
+      @RequestParam LocalDateTime applicationDate) {
+
+    var request = PriceRequestDTO.builder()
+        .applicationDate(applicationDate)
+        .productId(productId)
+        .brandId(brandId)
+        .build();
+
+    return priorityPriceUseCase.getPriorityPrice(request)
+        .map(price -> ResponseEntity.ok(PriceMapper.toResponseDTO(price)));
+  }
+}
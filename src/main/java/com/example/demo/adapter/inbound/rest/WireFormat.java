@@ -0,0 +1,49 @@
+package com.example.demo.adapter.inbound.rest;
+
+import com.example.demo.adapter.outbound.persistence.PriceMapper;
+import com.example.demo.domain.model.Price;
+import org.springframework.http.MediaType;
+
+import java.util.function.Function;
+
+/**
+ * Encodings of the price lookup responses. JSON is the default; callers that list {@code application/cbor} in
+ * {@code Accept} at least as high as any JSON-compatible type get the compact CBOR form instead.
+ */
+public enum WireFormat {
+
+  JSON(MediaType.APPLICATION_JSON, PriceMapper::toResponseDTO, "prices.responses", ""),
+  CBOR(MediaType.APPLICATION_CBOR, PriceMapper::toCompactDTO, "prices.responses.cbor", ".cbor");
+
+  public final MediaType mediaType;
+  final Function<Price, Object> body;
+  final String cacheName;
+  final String tagSuffix;
+
+  WireFormat(MediaType mediaType, Function<Price, Object> body, String cacheName, String tagSuffix) {
+    this.mediaType = mediaType;
+    this.body = body;
+    this.cacheName = cacheName;
+    this.tagSuffix = tagSuffix;
+  }
+
+  /**
+   * Picks the format for an {@code Accept} header, honouring quality values. A malformed header is rejected
+   * with an {@link IllegalArgumentException}.
+   */
+  public static WireFormat negotiate(String accept) {
+    if (accept == null || accept.isBlank()) {
+      return JSON;
+    }
+    double cbor = 0;
+    double json = 0;
+    for (MediaType type : MediaType.parseMediaTypes(accept)) {
+      if (type.equalsTypeAndSubtype(MediaType.APPLICATION_CBOR)) {
+        cbor = Math.max(cbor, type.getQualityValue());
+      } else if (type.includes(MediaType.APPLICATION_JSON)) {
+        json = Math.max(json, type.getQualityValue());
+      }
+    }
+    return cbor > 0 && cbor >= json ? CBOR : JSON;
+  }
+}
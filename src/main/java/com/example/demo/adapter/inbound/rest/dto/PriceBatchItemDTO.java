@@ -0,0 +1,12 @@
+package com.example.demo.adapter.inbound.rest.dto;
+
+import java.time.LocalDateTime;
+
+public record PriceBatchItemDTO(
+    Integer brandId,
+    Integer productId,
+    LocalDateTime applicationDate,
+    boolean found,
+    PriceResponseDTO price
+) {
+}
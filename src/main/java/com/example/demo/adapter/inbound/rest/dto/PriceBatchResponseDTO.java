@@ -0,0 +1,8 @@
+package com.example.demo.adapter.inbound.rest.dto;
+
+import java.util.List;
+
+public record PriceBatchResponseDTO(
+    List<PriceBatchItemDTO> items
+) {
+}
@@ -0,0 +1,12 @@
+package com.example.demo.adapter.inbound.rest.dto;
+
+import java.util.List;
+
+/**
+ * Binary form of {@link PriceBatchResponseDTO}: one item per lookup in request order, {@code null} when no price
+ * applies.
+ */
+public record PriceCompactBatchResponseDTO(
+    List<PriceCompactDTO> items
+) {
+}
@@ -0,0 +1,22 @@
+package com.example.demo.adapter.inbound.rest.dto;
+
+import com.fasterxml.jackson.annotation.JsonFormat;
+import com.fasterxml.jackson.annotation.JsonPropertyOrder;
+
+/**
+ * Binary form of {@link PriceResponseDTO}, written as a positional array without field names. Dates are epoch
+ * milliseconds of the rate's local date-time read as UTC, the amount is in minor units of the currency
+ * ({@code 2545} for 25.45 EUR).
+ */
+@JsonFormat(shape = JsonFormat.Shape.ARRAY)
+@JsonPropertyOrder({"productId", "brandId", "priceList", "startDate", "endDate", "amount", "currency"})
+public record PriceCompactDTO(
+    int productId,
+    int brandId,
+    int priceList,
+    long startDate,
+    long endDate,
+    long amount,
+    String currency
+) {
+}
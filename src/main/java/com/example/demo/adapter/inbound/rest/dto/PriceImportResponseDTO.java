@@ -0,0 +1,16 @@
+package com.example.demo.adapter.inbound.rest.dto;
+
+import java.util.List;
+
+public record PriceImportResponseDTO(
+    boolean completed,
+    long read,
+    long imported,
+    long rejected,
+    long chunks,
+    double seconds,
+    long rowsPerSecond,
+    List<String> errors,
+    String failure
+) {
+}
@@ -0,0 +1,17 @@
+package com.example.demo.adapter.inbound.rest.dto;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+
+public record PriceRecordDTO(
+    Integer priceList,
+    Integer brandId,
+    Integer productId,
+    LocalDateTime startDate,
+    LocalDateTime endDate,
+    Integer priority,
+    BigDecimal price,
+    String currency,
+    long version
+) {
+}
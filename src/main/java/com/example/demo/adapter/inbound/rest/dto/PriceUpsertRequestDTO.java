@@ -0,0 +1,16 @@
+package com.example.demo.adapter.inbound.rest.dto;
+
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Size;
+
+import java.util.List;
+
+public record PriceUpsertRequestDTO(
+    @NotEmpty(message = "items must not be empty")
+    @Size(max = PriceUpsertRequestDTO.MAX_ITEMS, message = "items must contain at most " + PriceUpsertRequestDTO.MAX_ITEMS + " prices")
+    List<@Valid @NotNull PriceWriteRequestDTO> items
+) {
+  public static final int MAX_ITEMS = 1000;
+}
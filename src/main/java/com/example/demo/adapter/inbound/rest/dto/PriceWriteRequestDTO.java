@@ -0,0 +1,35 @@
+package com.example.demo.adapter.inbound.rest.dto;
+
+import jakarta.validation.constraints.DecimalMin;
+import jakarta.validation.constraints.Digits;
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.PositiveOrZero;
+import lombok.Builder;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+
+@Builder
+public record PriceWriteRequestDTO(
+    Integer priceList,
+    @NotNull(message = "brandId is required")
+    Integer brandId,
+    @NotNull(message = "productId is required")
+    Integer productId,
+    @NotNull(message = "startDate is required")
+    LocalDateTime startDate,
+    @NotNull(message = "endDate is required")
+    LocalDateTime endDate,
+    @NotNull(message = "priority is required")
+    Integer priority,
+    @NotNull(message = "price is required")
+    @DecimalMin(value = "0.00", message = "price must be >= 0")
+    @Digits(integer = 17, fraction = 2, message = "price must have at most 17 integer and 2 fraction digits")
+    BigDecimal price,
+    @NotBlank(message = "currency is required")
+    String currency,
+    @PositiveOrZero(message = "version must be >= 0")
+    Long version
+) {
+}
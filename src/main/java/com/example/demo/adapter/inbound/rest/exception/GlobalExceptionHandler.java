@@ -1,14 +1,22 @@
 package com.example.demo.adapter.inbound.rest.exception;
 
 import com.example.demo.adapter.inbound.rest.dto.ErrorResponse;
+import com.example.demo.domain.exception.PriceLookupRejectedException;
+import com.example.demo.domain.exception.PriceVersionConflictException;
 import com.example.demo.domain.exception.ResourceNotFoundException;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.support.DefaultMessageSourceResolvable;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
+import org.springframework.http.converter.HttpMessageNotReadableException;
+import org.springframework.web.bind.MethodArgumentNotValidException;
 import org.springframework.web.bind.MissingServletRequestParameterException;
 import org.springframework.web.bind.annotation.ExceptionHandler;
 import org.springframework.web.bind.annotation.RestControllerAdvice;
 import org.springframework.web.method.annotation.MethodArgumentTypeMismatchException;
+import org.springframework.web.server.MissingRequestValueException;
+import org.springframework.web.server.ServerWebInputException;
 
 @Slf4j
 @RestControllerAdvice(basePackages = "com.example.demo.adapter.inbound.rest")
@@ -16,14 +24,45 @@ public class GlobalExceptionHandler {
 
   @ExceptionHandler(ResourceNotFoundException.class)
   public ResponseEntity<ErrorResponse> handleResourceNotFound(ResourceNotFoundException ex) {
+    return notFound(ex.getMessage());
+  }
+
+  /**
+   * The 404 body for lookups that report a missing resource as a value rather than by throwing.
+   */
+  public static ResponseEntity<ErrorResponse> notFound(String message) {
     ErrorResponse error = new ErrorResponse(
         HttpStatus.NOT_FOUND.value(),
-        ex.getMessage(),
+        message,
         System.currentTimeMillis()
     );
     return new ResponseEntity<>(error, HttpStatus.NOT_FOUND);
   }
 
+  @ExceptionHandler(PriceVersionConflictException.class)
+  public ResponseEntity<ErrorResponse> handlePriceVersionConflict(PriceVersionConflictException ex) {
+    ErrorResponse error = new ErrorResponse(
+        HttpStatus.CONFLICT.value(),
+        ex.getMessage(),
+        System.currentTimeMillis()
+    );
+    return ResponseEntity.status(HttpStatus.CONFLICT).body(error);
+  }
+
+  @ExceptionHandler(PriceLookupRejectedException.class)
+  public ResponseEntity<ErrorResponse> handlePriceLookupRejected(PriceLookupRejectedException ex) {
+    ErrorResponse error = new ErrorResponse(
+        HttpStatus.SERVICE_UNAVAILABLE.value(),
+        ex.getMessage(),
+        System.currentTimeMillis()
+    );
+    // Retry-After takes whole seconds, rounding down could tell clients to retry immediately
+    long retryAfterSeconds = Math.max(1, (ex.getRetryAfter().toMillis() + 999) / 1000);
+    return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE)
+        .header(HttpHeaders.RETRY_AFTER, String.valueOf(retryAfterSeconds))
+        .body(error);
+  }
+
   @ExceptionHandler(IllegalArgumentException.class)
   public ResponseEntity<ErrorResponse> handleIllegalArgumentException(IllegalArgumentException ex) {
     ErrorResponse error = new ErrorResponse(
@@ -54,6 +93,50 @@ public class GlobalExceptionHandler {
     return ResponseEntity.status(HttpStatus.BAD_REQUEST).body(error);
   }
 
+  @ExceptionHandler(MissingRequestValueException.class)
+  public ResponseEntity<ErrorResponse> handleMissingRequestValue(MissingRequestValueException ex) {
+    ErrorResponse error = new ErrorResponse(
+        HttpStatus.BAD_REQUEST.value(),
+        String.format("Required parameter '%s' is missing", ex.getName()),
+        System.currentTimeMillis()
+    );
+    return ResponseEntity.status(HttpStatus.BAD_REQUEST).body(error);
+  }
+
+  @ExceptionHandler(ServerWebInputException.class)
+  public ResponseEntity<ErrorResponse> handleServerWebInput(ServerWebInputException ex) {
+    ErrorResponse error = new ErrorResponse(
+        HttpStatus.BAD_REQUEST.value(),
+        ex.getReason(),
+        System.currentTimeMillis()
+    );
+    return ResponseEntity.status(HttpStatus.BAD_REQUEST).body(error);
+  }
+
+  @ExceptionHandler(MethodArgumentNotValidException.class)
+  public ResponseEntity<ErrorResponse> handleMethodArgumentNotValid(MethodArgumentNotValidException ex) {
+    String message = ex.getBindingResult().getAllErrors().stream()
+        .findFirst()
+        .map(DefaultMessageSourceResolvable::getDefaultMessage)
+        .orElse("Invalid request");
+    ErrorResponse error = new ErrorResponse(
+        HttpStatus.BAD_REQUEST.value(),
+        message,
+        System.currentTimeMillis()
+    );
+    return ResponseEntity.status(HttpStatus.BAD_REQUEST).body(error);
+  }
+
+  @ExceptionHandler(HttpMessageNotReadableException.class)
+  public ResponseEntity<ErrorResponse> handleHttpMessageNotReadable(HttpMessageNotReadableException ex) {
+    ErrorResponse error = new ErrorResponse(
+        HttpStatus.BAD_REQUEST.value(),
+        "Malformed request body",
+        System.currentTimeMillis()
+    );
+    return ResponseEntity.status(HttpStatus.BAD_REQUEST).body(error);
+  }
+
   @ExceptionHandler(Exception.class)
   public ResponseEntity<ErrorResponse> handleGenericException(Exception ex) {
     log.error("Unexpected error: ", ex);
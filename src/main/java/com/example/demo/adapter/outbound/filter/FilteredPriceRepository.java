@@ -0,0 +1,84 @@
+package com.example.demo.adapter.outbound.filter;
+
+import com.example.demo.domain.model.Price;
+import com.example.demo.domain.model.PriceQuery;
+import com.example.demo.domain.model.PriceSegment;
+import com.example.demo.domain.repository.PriceRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.experimental.FieldDefaults;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+import static lombok.AccessLevel.PRIVATE;
+
+/**
+ * Answers lookups for brand/product pairs that {@link KnownPriceKeys} has never seen with an empty result,
+ * without reaching the wrapped repository. Rejections are counted as {@code prices.filter.rejections}.
+ */
+@FieldDefaults(level = PRIVATE, makeFinal = true)
+public class FilteredPriceRepository implements PriceRepository {
+
+  PriceRepository delegate;
+  KnownPriceKeys knownKeys;
+  Counter rejections;
+
+  public FilteredPriceRepository(PriceRepository delegate, KnownPriceKeys knownKeys, MeterRegistry meterRegistry) {
+    this.delegate = delegate;
+    this.knownKeys = knownKeys;
+    this.rejections = Counter.builder("prices.filter.rejections")
+        .description("Lookups answered as not found by the known-keys filter")
+        .register(meterRegistry);
+  }
+
+  @Override
+  public List<Price> findPricesByBrandProductDate(Integer brandId, Integer productId, LocalDateTime applicationDate) {
+    return known(brandId, productId) ? delegate.findPricesByBrandProductDate(brandId, productId, applicationDate) : List.of();
+  }
+
+  @Override
+  public Optional<Price> findPriorityPrice(Integer brandId, Integer productId, LocalDateTime applicationDate) {
+    return known(brandId, productId) ? delegate.findPriorityPrice(brandId, productId, applicationDate) : Optional.empty();
+  }
+
+  @Override
+  public List<Price> findPricesByBrandProduct(Integer brandId, Integer productId) {
+    return known(brandId, productId) ? delegate.findPricesByBrandProduct(brandId, productId) : List.of();
+  }
+
+  @Override
+  public Map<PriceQuery, List<Price>> findPricesByBrandProductDates(Collection<PriceQuery> queries) {
+    Map<PriceQuery, List<Price>> result = new HashMap<>();
+    List<PriceQuery> known = new ArrayList<>(queries.size());
+    for (PriceQuery query : queries) {
+      if (known(query.brandId(), query.productId())) {
+        known.add(query);
+      } else {
+        result.put(query, List.of());
+      }
+    }
+    if (!known.isEmpty()) {
+      result.putAll(delegate.findPricesByBrandProductDates(known));
+    }
+    return result;
+  }
+
+  @Override
+  public Optional<PriceSegment> findEffectivePrice(Integer brandId, Integer productId, LocalDateTime applicationDate) {
+    return known(brandId, productId) ? delegate.findEffectivePrice(brandId, productId, applicationDate) : Optional.empty();
+  }
+
+  private boolean known(Integer brandId, Integer productId) {
+    if (knownKeys.mightContain(brandId, productId)) {
+      return true;
+    }
+    rejections.increment();
+    return false;
+  }
+}
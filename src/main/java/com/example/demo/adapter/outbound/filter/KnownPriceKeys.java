@@ -0,0 +1,96 @@
+package com.example.demo.adapter.outbound.filter;
+
+import com.example.demo.domain.model.Price;
+import com.example.demo.domain.model.PriceKey;
+import com.example.demo.domain.repository.PriceChangeListener;
+import lombok.experimental.FieldDefaults;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.function.Supplier;
+import java.util.stream.Collectors;
+
+import static lombok.AccessLevel.PRIVATE;
+
+/**
+ * The brand/product pairs that have at least one rate, as a {@link PriceKeyBloomFilter} loaded from
+ * {@code keySource}. Saved rates are added as they commit. A Bloom filter cannot forget, so deleted keys linger
+ * until enough deletes or saves have accumulated to rebuild it from the source; until then they only cost the
+ * query the filter would otherwise have saved.
+ */
+@FieldDefaults(level = PRIVATE, makeFinal = true)
+public class KnownPriceKeys implements PriceChangeListener {
+
+  private static final double HEADROOM = 1.25;
+
+  Supplier<long[]> keySource;
+  double falsePositiveRate;
+  AtomicReference<PriceKeyBloomFilter> filter = new AtomicReference<>();
+  AtomicLong capacity = new AtomicLong();
+  AtomicLong changesSinceRebuild = new AtomicLong();
+  // Saves hold the read lock, a rebuild the write lock: a key committed after the source was read is never lost
+  ReadWriteLock rebuildLock = new ReentrantReadWriteLock();
+
+  public KnownPriceKeys(Supplier<long[]> keySource, double falsePositiveRate) {
+    this.keySource = keySource;
+    this.falsePositiveRate = falsePositiveRate;
+    rebuild();
+  }
+
+  public boolean mightContain(Integer brandId, Integer productId) {
+    return filter.get().mightContain(brandId, productId);
+  }
+
+  @Override
+  public void priceSaved(Price price) {
+    pricesSaved(List.of(price));
+  }
+
+  @Override
+  public void pricesSaved(Collection<Price> prices) {
+    Set<PriceKey> keys = prices.stream().map(PriceKey::of).collect(Collectors.toSet());
+    rebuildLock.readLock().lock();
+    try {
+      PriceKeyBloomFilter current = filter.get();
+      keys.forEach(key -> current.add(key.brandId(), key.productId()));
+    } finally {
+      rebuildLock.readLock().unlock();
+    }
+    // A brand/product counts once per batch, however many of its rates changed
+    rebuildIfStale(keys.size());
+  }
+
+  @Override
+  public void priceDeleted(Integer brandId, Integer productId, Integer priceList) {
+    rebuildIfStale(1);
+  }
+
+  public void rebuild() {
+    rebuildLock.writeLock().lock();
+    try {
+      long[] keys = keySource.get();
+      long sized = (long) Math.ceil(keys.length * HEADROOM);
+      PriceKeyBloomFilter rebuilt = PriceKeyBloomFilter.create(sized, falsePositiveRate);
+      for (long key : keys) {
+        rebuilt.add((int) (key >>> 32), (int) key);
+      }
+      filter.set(rebuilt);
+      capacity.set(sized);
+      changesSinceRebuild.set(0);
+    } finally {
+      rebuildLock.writeLock().unlock();
+    }
+  }
+
+  private void rebuildIfStale(int changes) {
+    // Past the headroom the false positive rate climbs, and every delete leaves a stale key behind
+    if (changesSinceRebuild.addAndGet(changes) > Math.max(1024, capacity.get() / 4)) {
+      rebuild();
+    }
+  }
+}
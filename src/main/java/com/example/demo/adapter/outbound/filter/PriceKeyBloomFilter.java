@@ -0,0 +1,79 @@
+package com.example.demo.adapter.outbound.filter;
+
+import com.example.demo.domain.model.PriceKey;
+
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * Bloom filter of packed brand/product keys. {@link #mightContain} never misses a key that was added and answers
+ * {@code true} for an absent key with roughly the configured probability. Adds and reads may run concurrently.
+ */
+public final class PriceKeyBloomFilter {
+
+  private static final int MAX_HASHES = 16;
+
+  private final AtomicLongArray words;
+  private final int bits;
+  private final int hashes;
+
+  private PriceKeyBloomFilter(int bits, int hashes) {
+    this.words = new AtomicLongArray((bits + 63) >>> 6);
+    this.bits = bits;
+    this.hashes = hashes;
+  }
+
+  public static PriceKeyBloomFilter create(long expectedKeys, double falsePositiveRate) {
+    if (falsePositiveRate <= 0 || falsePositiveRate >= 1) {
+      throw new IllegalArgumentException("falsePositiveRate must be between 0 and 1");
+    }
+    long keys = Math.max(1, expectedKeys);
+    long bits = (long) Math.ceil(-keys * Math.log(falsePositiveRate) / (Math.log(2) * Math.log(2)));
+    int cappedBits = (int) Math.min(Integer.MAX_VALUE - 63, Math.max(64, bits));
+    int hashes = (int) Math.min(MAX_HASHES, Math.max(1, Math.round((double) cappedBits / keys * Math.log(2))));
+    return new PriceKeyBloomFilter(cappedBits, hashes);
+  }
+
+  public void add(int brandId, int productId) {
+    add(PriceKey.pack(brandId, productId));
+  }
+
+  public boolean mightContain(int brandId, int productId) {
+    long hash = mix(PriceKey.pack(brandId, productId));
+    int h1 = (int) hash;
+    int h2 = (int) (hash >>> 32);
+    for (int i = 1; i <= hashes; i++) {
+      int bit = index(h1 + i * h2);
+      if ((words.get(bit >>> 6) & (1L << bit)) == 0) {
+        return false;
+      }
+    }
+    return true;
+  }
+
+  public int bitSize() {
+    return bits;
+  }
+
+  private void add(long packedKey) {
+    long hash = mix(packedKey);
+    int h1 = (int) hash;
+    int h2 = (int) (hash >>> 32);
+    for (int i = 1; i <= hashes; i++) {
+      int bit = index(h1 + i * h2);
+      long mask = 1L << bit;
+      words.getAndUpdate(bit >>> 6, word -> word | mask);
+    }
+  }
+
+  private int index(int combinedHash) {
+    return (combinedHash & Integer.MAX_VALUE) % bits;
+  }
+
+  private static long mix(long key) {
+    // SplitMix64 finalizer: consecutive product ids must not land on neighbouring bits
+    long z = key + 0x9E3779B97F4A7C15L;
+    z = (z ^ (z >>> 30)) * 0xBF58476D1CE4E5B9L;
+    z = (z ^ (z >>> 27)) * 0x94D049BB133111EBL;
+    return z ^ (z >>> 31);
+  }
+}
@@ -0,0 +1,87 @@
+package com.example.demo.adapter.outbound.memory;
+
+import com.example.demo.domain.model.Price;
+import com.example.demo.domain.model.PriceKey;
+import com.example.demo.domain.model.PriceSegment;
+import com.example.demo.domain.repository.PriceChangeListener;
+import com.example.demo.domain.repository.PriceRepository;
+import lombok.experimental.FieldDefaults;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.Collectors;
+
+import static lombok.AccessLevel.PRIVATE;
+
+@FieldDefaults(level = PRIVATE, makeFinal = true)
+public class InMemoryPriceAdapter implements PriceRepository, PriceChangeListener {
+
+  Map<PriceKey, PriceIntervalIndex> indexes = new ConcurrentHashMap<>();
+
+  public InMemoryPriceAdapter(Collection<Price> prices) {
+    prices.stream()
+        .collect(Collectors.groupingBy(PriceKey::of))
+        .forEach((key, group) -> indexes.put(key, PriceIntervalIndex.of(group)));
+  }
+
+  @Override
+  public List<Price> findPricesByBrandProductDate(Integer brandId, Integer productId, LocalDateTime applicationDate) {
+    PriceIntervalIndex index = indexes.get(new PriceKey(brandId, productId));
+    return index == null ? List.of() : index.findPricesAt(applicationDate);
+  }
+
+  @Override
+  public List<Price> findPricesByBrandProduct(Integer brandId, Integer productId) {
+    PriceIntervalIndex index = indexes.get(new PriceKey(brandId, productId));
+    return index == null ? List.of() : index.prices();
+  }
+
+  @Override
+  public Optional<PriceSegment> findEffectivePrice(Integer brandId, Integer productId, LocalDateTime applicationDate) {
+    PriceIntervalIndex index = indexes.get(new PriceKey(brandId, productId));
+    return index == null ? Optional.empty() : index.segmentAt(applicationDate);
+  }
+
+  @Override
+  public void priceSaved(Price price) {
+    pricesSaved(List.of(price));
+  }
+
+  @Override
+  public void pricesSaved(Collection<Price> prices) {
+    // One index rebuild per brand/product, however many of its rates changed
+    prices.stream()
+        .collect(Collectors.groupingBy(PriceKey::of, Collectors.toMap(price -> price.rate().priceList(), price -> price,
+            (first, last) -> last, LinkedHashMap::new)))
+        .forEach((key, changed) -> indexes.compute(key, (k, index) -> {
+          List<Price> merged = new ArrayList<>();
+          if (index != null) {
+            index.prices().stream()
+                .filter(existing -> !changed.containsKey(existing.rate().priceList()))
+                .forEach(merged::add);
+          }
+          merged.addAll(changed.values());
+          return PriceIntervalIndex.of(merged);
+        }));
+  }
+
+  @Override
+  public void priceDeleted(Integer brandId, Integer productId, Integer priceList) {
+    indexes.computeIfPresent(new PriceKey(brandId, productId), (key, index) -> {
+      List<Price> prices = index.prices().stream()
+          .filter(existing -> !existing.rate().priceList().equals(priceList))
+          .toList();
+      return prices.isEmpty() ? null : PriceIntervalIndex.of(prices);
+    });
+  }
+
+  public int size() {
+    return indexes.values().stream().mapToInt(PriceIntervalIndex::size).sum();
+  }
+}
@@ -0,0 +1,160 @@
+package com.example.demo.adapter.outbound.memory;
+
+import com.example.demo.domain.model.Price;
+import com.example.demo.domain.model.PriceKey;
+import com.example.demo.domain.model.PriceQuery;
+import com.example.demo.domain.model.PriceSegment;
+import com.example.demo.domain.model.PriceTimeline;
+import com.example.demo.domain.repository.PriceChangeListener;
+import com.example.demo.domain.repository.PriceRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.experimental.FieldDefaults;
+import lombok.extern.slf4j.Slf4j;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.UnaryOperator;
+import java.util.stream.Collectors;
+
+import static lombok.AccessLevel.PRIVATE;
+
+/**
+ * Makes an immutable store such as {@link PrimitivePriceAdapter} or a price snapshot follow writes: the first
+ * change to a brand/product copies its rates from the base store into a {@link PriceTimeline}, later changes
+ * replace that timeline, and lookups of changed keys are answered from it. Untouched keys cost one map probe.
+ * Deleted keys stay in the overlay with an empty timeline so the base store's stale rates are never served.
+ *
+ * <p>Timelines live on the heap until the base store is rebuilt, so at most {@code maxOverriddenKeys} brand/products
+ * are overlaid. Once a change does not fit, the base store can no longer be trusted for any key outside the overlay,
+ * and those lookups are answered from {@code source}, the database the writes went to, until the base store is
+ * rebuilt. Overlaid keys keep following their changes.
+ */
+@Slf4j
+@RequiredArgsConstructor
+@FieldDefaults(level = PRIVATE, makeFinal = true)
+public class OverlayPriceRepository implements PriceRepository, PriceChangeListener {
+
+  PriceRepository base;
+  PriceRepository source;
+  int maxOverriddenKeys;
+  Map<PriceKey, PriceTimeline> overrides = new ConcurrentHashMap<>();
+  AtomicBoolean overflowed = new AtomicBoolean();
+
+  @Override
+  public List<Price> findPricesByBrandProductDate(Integer brandId, Integer productId, LocalDateTime applicationDate) {
+    PriceTimeline timeline = overrides.get(new PriceKey(brandId, productId));
+    if (timeline == null) {
+      return fallback().findPricesByBrandProductDate(brandId, productId, applicationDate);
+    }
+    return ratesAt(timeline, new PriceQuery(brandId, productId, applicationDate));
+  }
+
+  @Override
+  public Optional<Price> findPriorityPrice(Integer brandId, Integer productId, LocalDateTime applicationDate) {
+    PriceTimeline timeline = overrides.get(new PriceKey(brandId, productId));
+    if (timeline == null) {
+      return fallback().findPriorityPrice(brandId, productId, applicationDate);
+    }
+    return timeline.segmentAt(applicationDate).map(PriceSegment::price);
+  }
+
+  @Override
+  public List<Price> findPricesByBrandProduct(Integer brandId, Integer productId) {
+    PriceTimeline timeline = overrides.get(new PriceKey(brandId, productId));
+    return timeline == null ? fallback().findPricesByBrandProduct(brandId, productId) : timeline.rates();
+  }
+
+  @Override
+  public Map<PriceQuery, List<Price>> findPricesByBrandProductDates(Collection<PriceQuery> queries) {
+    if (overrides.isEmpty()) {
+      return fallback().findPricesByBrandProductDates(queries);
+    }
+    Map<PriceQuery, List<Price>> result = new HashMap<>();
+    List<PriceQuery> unchanged = new ArrayList<>(queries.size());
+    for (PriceQuery query : queries) {
+      PriceTimeline timeline = overrides.get(new PriceKey(query.brandId(), query.productId()));
+      if (timeline == null) {
+        unchanged.add(query);
+      } else {
+        result.put(query, ratesAt(timeline, query));
+      }
+    }
+    if (!unchanged.isEmpty()) {
+      result.putAll(fallback().findPricesByBrandProductDates(unchanged));
+    }
+    return result;
+  }
+
+  @Override
+  public Optional<PriceSegment> findEffectivePrice(Integer brandId, Integer productId, LocalDateTime applicationDate) {
+    PriceTimeline timeline = overrides.get(new PriceKey(brandId, productId));
+    if (timeline == null) {
+      return fallback().findEffectivePrice(brandId, productId, applicationDate);
+    }
+    return timeline.segmentAt(applicationDate);
+  }
+
+  @Override
+  public void priceSaved(Price price) {
+    change(PriceKey.of(price), timeline -> timeline.withRate(price));
+  }
+
+  @Override
+  public void pricesSaved(Collection<Price> prices) {
+    prices.stream()
+        .collect(Collectors.groupingBy(PriceKey::of))
+        .forEach((key, group) -> change(key, timeline -> timeline.withRates(group)));
+  }
+
+  @Override
+  public void priceDeleted(Integer brandId, Integer productId, Integer priceList) {
+    change(new PriceKey(brandId, productId), timeline -> timeline.withoutRate(priceList));
+  }
+
+  public int overriddenKeys() {
+    return overrides.size();
+  }
+
+  public boolean overflowed() {
+    return overflowed.get();
+  }
+
+  /**
+   * Where keys outside the overlay are read: the base store, or the database once changes stopped fitting.
+   */
+  private PriceRepository fallback() {
+    return overflowed.get() ? source : base;
+  }
+
+  private void change(PriceKey key, UnaryOperator<PriceTimeline> change) {
+    overrides.compute(key, (k, timeline) -> {
+      if (timeline == null) {
+        if (overflowed.get()) {
+          return null;
+        }
+        if (overrides.size() >= maxOverriddenKeys) {
+          if (overflowed.compareAndSet(false, true)) {
+            log.warn("Price overlay is full ({} brand/products), brand/products outside it are read from the database "
+                + "until the price store is rebuilt", maxOverriddenKeys);
+          }
+          return null;
+        }
+        timeline = PriceTimeline.of(base.findPricesByBrandProduct(key.brandId(), key.productId()));
+      }
+      return change.apply(timeline);
+    });
+  }
+
+  private static List<Price> ratesAt(PriceTimeline timeline, PriceQuery query) {
+    return timeline.rates().stream()
+        .filter(query::matches)
+        .toList();
+  }
+}
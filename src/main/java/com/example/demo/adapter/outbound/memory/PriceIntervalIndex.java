@@ -0,0 +1,162 @@
+package com.example.demo.adapter.outbound.memory;
+
+import com.example.demo.domain.model.Price;
+import com.example.demo.domain.model.PriceSegment;
+import com.example.demo.domain.model.Rate;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * Immutable interval tree over the rates of a single brand/product.
+ * Prices are kept sorted by start date and the array is read as an implicit balanced tree
+ * (the middle of every range is its root), where each node stores the maximum end date of its subtree.
+ * A stabbing query visits O(log n + k) nodes.
+ */
+final class PriceIntervalIndex {
+
+  private static final Comparator<Price> BY_START_DATE = Comparator.comparing(price -> price.rate().startDate());
+
+  private final Price[] prices;
+  private final LocalDateTime[] maxEndDates;
+
+  private PriceIntervalIndex(Price[] prices) {
+    this.prices = prices;
+    this.maxEndDates = new LocalDateTime[prices.length];
+    buildMaxEndDates(0, prices.length - 1);
+  }
+
+  static PriceIntervalIndex of(Collection<Price> prices) {
+    Price[] sorted = prices.toArray(Price[]::new);
+    Arrays.sort(sorted, BY_START_DATE);
+    return new PriceIntervalIndex(sorted);
+  }
+
+  List<Price> findPricesAt(LocalDateTime applicationDate) {
+    List<Price> result = new ArrayList<>(2);
+    collect(0, prices.length - 1, applicationDate, result);
+    return result;
+  }
+
+  /**
+   * The segment of the effective-price timeline covering the date, from the rates overlapping its winner only: the
+   * winner holds from the later of its start and the end of the last rate beating it, until the earlier of its end
+   * and the start of the next rate beating it.
+   */
+  Optional<PriceSegment> segmentAt(LocalDateTime date) {
+    int winner = winnerAt(0, prices.length - 1, date, -1);
+    if (winner < 0) {
+      return Optional.empty();
+    }
+    Rate rate = prices[winner].rate();
+    LocalDateTime[] bounds = {rate.startDate(), exclusiveEnd(prices[winner])};
+    narrow(0, prices.length - 1, winner, date, bounds);
+    return Optional.of(new PriceSegment(prices[winner], bounds[0], bounds[1]));
+  }
+
+  List<Price> prices() {
+    return List.of(prices);
+  }
+
+  int size() {
+    return prices.length;
+  }
+
+  private LocalDateTime buildMaxEndDates(int low, int high) {
+    if (low > high) {
+      return null;
+    }
+    int mid = (low + high) >>> 1;
+    LocalDateTime maxEnd = prices[mid].rate().endDate();
+    maxEnd = max(maxEnd, buildMaxEndDates(low, mid - 1));
+    maxEnd = max(maxEnd, buildMaxEndDates(mid + 1, high));
+    maxEndDates[mid] = maxEnd;
+    return maxEnd;
+  }
+
+  private void collect(int low, int high, LocalDateTime date, List<Price> result) {
+    if (low > high) {
+      return;
+    }
+    int mid = (low + high) >>> 1;
+    if (maxEndDates[mid].isBefore(date)) {
+      return;
+    }
+    collect(low, mid - 1, date, result);
+    if (prices[mid].rate().startDate().isAfter(date)) {
+      return;
+    }
+    if (!prices[mid].rate().endDate().isBefore(date)) {
+      result.add(prices[mid]);
+    }
+    collect(mid + 1, high, date, result);
+  }
+
+  /**
+   * In-order walk of the rates covering the date, keeping the first with the highest precedence.
+   */
+  private int winnerAt(int low, int high, LocalDateTime date, int best) {
+    if (low > high) {
+      return best;
+    }
+    int mid = (low + high) >>> 1;
+    if (maxEndDates[mid].isBefore(date)) {
+      return best;
+    }
+    best = winnerAt(low, mid - 1, date, best);
+    if (prices[mid].rate().startDate().isAfter(date)) {
+      return best;
+    }
+    if (!prices[mid].rate().endDate().isBefore(date)
+        && (best < 0 || Price.BY_PRECEDENCE.compare(prices[mid], prices[best]) > 0)) {
+      best = mid;
+    }
+    return winnerAt(mid + 1, high, date, best);
+  }
+
+  /**
+   * Shrinks {@code bounds} to the rates overlapping the winner that beat it. None of them covers the date, so each
+   * either ended before it or starts after it.
+   */
+  private void narrow(int low, int high, int winner, LocalDateTime date, LocalDateTime[] bounds) {
+    if (low > high) {
+      return;
+    }
+    int mid = (low + high) >>> 1;
+    LocalDateTime winnerStart = prices[winner].rate().startDate();
+    if (maxEndDates[mid].isBefore(winnerStart)) {
+      return;
+    }
+    narrow(low, mid - 1, winner, date, bounds);
+    LocalDateTime start = prices[mid].rate().startDate();
+    if (start.isAfter(prices[winner].rate().endDate())) {
+      return;
+    }
+    if (beats(mid, winner)) {
+      if (start.isAfter(date)) {
+        bounds[1] = start.isBefore(bounds[1]) ? start : bounds[1];
+      } else {
+        bounds[0] = max(bounds[0], exclusiveEnd(prices[mid]));
+      }
+    }
+    narrow(mid + 1, high, winner, date, bounds);
+  }
+
+  private boolean beats(int rate, int winner) {
+    int precedence = Price.BY_PRECEDENCE.compare(prices[rate], prices[winner]);
+    return precedence > 0 || precedence == 0 && rate < winner;
+  }
+
+  private static LocalDateTime exclusiveEnd(Price price) {
+    return price.rate().endDate().plusNanos(1);
+  }
+
+  private static LocalDateTime max(LocalDateTime current, LocalDateTime candidate) {
+    return candidate != null && candidate.isAfter(current) ? candidate : current;
+  }
+}
@@ -0,0 +1,79 @@
+package com.example.demo.adapter.outbound.memory;
+
+import com.example.demo.domain.model.Price;
+import com.example.demo.domain.model.PriceKey;
+import com.example.demo.domain.model.PriceSegment;
+import com.example.demo.domain.model.PriceTimeline;
+import com.example.demo.domain.repository.PriceChangeListener;
+import com.example.demo.domain.repository.PriceRepository;
+import lombok.experimental.FieldDefaults;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.Collectors;
+
+import static lombok.AccessLevel.PRIVATE;
+
+@FieldDefaults(level = PRIVATE, makeFinal = true)
+public class PriceTimelineAdapter implements PriceRepository, PriceChangeListener {
+
+  Map<PriceKey, PriceTimeline> timelines = new ConcurrentHashMap<>();
+
+  public PriceTimelineAdapter(Collection<Price> prices) {
+    prices.stream()
+        .collect(Collectors.groupingBy(PriceKey::of))
+        .forEach((key, group) -> timelines.put(key, PriceTimeline.of(group)));
+  }
+
+  @Override
+  public List<Price> findPricesByBrandProductDate(Integer brandId, Integer productId, LocalDateTime applicationDate) {
+    return findEffectivePrice(brandId, productId, applicationDate)
+        .map(segment -> List.of(segment.price()))
+        .orElse(List.of());
+  }
+
+  @Override
+  public Optional<Price> findPriorityPrice(Integer brandId, Integer productId, LocalDateTime applicationDate) {
+    return findEffectivePrice(brandId, productId, applicationDate).map(PriceSegment::price);
+  }
+
+  @Override
+  public List<Price> findPricesByBrandProduct(Integer brandId, Integer productId) {
+    PriceTimeline timeline = timelines.get(new PriceKey(brandId, productId));
+    return timeline == null ? List.of() : timeline.rates();
+  }
+
+  @Override
+  public Optional<PriceSegment> findEffectivePrice(Integer brandId, Integer productId, LocalDateTime applicationDate) {
+    PriceTimeline timeline = timelines.get(new PriceKey(brandId, productId));
+    return timeline == null ? Optional.empty() : timeline.segmentAt(applicationDate);
+  }
+
+  @Override
+  public void priceSaved(Price price) {
+    timelines.compute(PriceKey.of(price), (key, timeline) -> timeline == null
+        ? PriceTimeline.of(List.of(price))
+        : timeline.withRate(price));
+  }
+
+  @Override
+  public void pricesSaved(Collection<Price> prices) {
+    prices.stream()
+        .collect(Collectors.groupingBy(PriceKey::of))
+        .forEach((key, group) -> timelines.compute(key, (k, timeline) -> timeline == null
+            ? PriceTimeline.of(group)
+            : timeline.withRates(group)));
+  }
+
+  @Override
+  public void priceDeleted(Integer brandId, Integer productId, Integer priceList) {
+    timelines.computeIfPresent(new PriceKey(brandId, productId), (key, timeline) -> {
+      PriceTimeline updated = timeline.withoutRate(priceList);
+      return updated.isEmpty() ? null : updated;
+    });
+  }
+}
@@ -0,0 +1,223 @@
+package com.example.demo.adapter.outbound.memory;
+
+import com.example.demo.domain.model.Currency;
+import com.example.demo.domain.model.Money;
+import com.example.demo.domain.model.Price;
+import com.example.demo.domain.model.PriceKey;
+import com.example.demo.domain.model.PriceSegment;
+import com.example.demo.domain.model.Rate;
+import com.example.demo.domain.repository.PriceRepository;
+import lombok.experimental.FieldDefaults;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Optional;
+
+import static lombok.AccessLevel.PRIVATE;
+
+/**
+ * Structure-of-arrays price store: one primitive array per field, rates grouped by (brand, product) and sorted
+ * by start date inside each group. A rate costs 33 bytes instead of the dozen objects behind a {@link Price},
+ * lookups compare primitives only, and a {@link Price} is built just for the rates returned.
+ * Dates are kept as UTC epoch microseconds and amounts as hundredths, the precision of the PRICES columns.
+ */
+@FieldDefaults(level = PRIVATE, makeFinal = true)
+public class PrimitivePriceAdapter implements PriceRepository {
+
+  private static final int AMOUNT_SCALE = 2;
+  private static final Currency[] CURRENCIES = Currency.values();
+  private static final Comparator<Price> KEY_ORDER = Comparator
+      .comparingLong((Price price) -> PriceKey.pack(price.brandId(), price.productId()))
+      .thenComparing(price -> price.rate().startDate())
+      .thenComparing(price -> price.rate().priceList());
+
+  long[] keys;
+  int[] blockStarts;
+  int[] priceLists;
+  long[] starts;
+  long[] ends;
+  int[] priorities;
+  long[] amounts;
+  byte[] currencies;
+
+  private PrimitivePriceAdapter(List<Price> sorted) {
+    int keyCount = 0;
+    long previousKey = 0;
+    for (int i = 0; i < sorted.size(); i++) {
+      long key = PriceKey.pack(sorted.get(i).brandId(), sorted.get(i).productId());
+      if (i == 0 || key != previousKey) {
+        keyCount++;
+        previousKey = key;
+      }
+    }
+    int rateCount = sorted.size();
+    this.keys = new long[keyCount];
+    this.blockStarts = new int[keyCount + 1];
+    this.priceLists = new int[rateCount];
+    this.starts = new long[rateCount];
+    this.ends = new long[rateCount];
+    this.priorities = new int[rateCount];
+    this.amounts = new long[rateCount];
+    this.currencies = new byte[rateCount];
+
+    int keyIndex = -1;
+    for (int i = 0; i < rateCount; i++) {
+      Price price = sorted.get(i);
+      long key = PriceKey.pack(price.brandId(), price.productId());
+      if (keyIndex < 0 || keys[keyIndex] != key) {
+        keys[++keyIndex] = key;
+        blockStarts[keyIndex] = i;
+      }
+      Rate rate = price.rate();
+      priceLists[i] = rate.priceList();
+      starts[i] = toMicros(rate.startDate());
+      ends[i] = toMicros(rate.endDate());
+      priorities[i] = rate.priority();
+      amounts[i] = rate.price().amount().setScale(AMOUNT_SCALE, RoundingMode.UNNECESSARY).unscaledValue().longValueExact();
+      currencies[i] = (byte) rate.price().currency().ordinal();
+    }
+    blockStarts[keyCount] = rateCount;
+  }
+
+  public static PrimitivePriceAdapter of(Collection<Price> prices) {
+    List<Price> sorted = new ArrayList<>(prices);
+    sorted.sort(KEY_ORDER);
+    return new PrimitivePriceAdapter(sorted);
+  }
+
+  @Override
+  public List<Price> findPricesByBrandProductDate(Integer brandId, Integer productId, LocalDateTime applicationDate) {
+    int key = Arrays.binarySearch(keys, PriceKey.pack(brandId, productId));
+    if (key < 0) {
+      return List.of();
+    }
+    long date = floorMicros(applicationDate);
+    boolean exact = applicationDate.getNano() % 1_000 == 0;
+    List<Price> result = new ArrayList<>(2);
+    for (int rate = blockStarts[key], end = blockStarts[key + 1]; rate < end && starts[rate] <= date; rate++) {
+      if (covers(rate, date, exact)) {
+        result.add(priceAt(brandId, productId, rate));
+      }
+    }
+    return result;
+  }
+
+  @Override
+  public Optional<Price> findPriorityPrice(Integer brandId, Integer productId, LocalDateTime applicationDate) {
+    int key = Arrays.binarySearch(keys, PriceKey.pack(brandId, productId));
+    if (key < 0) {
+      return Optional.empty();
+    }
+    int best = winnerAt(key, applicationDate);
+    return best < 0 ? Optional.empty() : Optional.of(priceAt(brandId, productId, best));
+  }
+
+  /**
+   * The winning rate at the date and how long it keeps winning, from the block of the brand/product: it wins from
+   * the later of its start and the end of the last rate beating it, until the earlier of its end and the start of
+   * the next rate beating it.
+   */
+  @Override
+  public Optional<PriceSegment> findEffectivePrice(Integer brandId, Integer productId, LocalDateTime applicationDate) {
+    int key = Arrays.binarySearch(keys, PriceKey.pack(brandId, productId));
+    if (key < 0) {
+      return Optional.empty();
+    }
+    int winner = winnerAt(key, applicationDate);
+    if (winner < 0) {
+      return Optional.empty();
+    }
+    long date = floorMicros(applicationDate);
+    int endedBefore = -1;
+    int startingAfter = -1;
+    for (int rate = blockStarts[key], end = blockStarts[key + 1]; rate < end && starts[rate] <= ends[winner]; rate++) {
+      if (!beats(rate, winner)) {
+        continue;
+      }
+      // A rate beating the winner does not cover the date, so it either ended before it or starts after it
+      if (starts[rate] > date) {
+        startingAfter = startingAfter < 0 || starts[rate] < starts[startingAfter] ? rate : startingAfter;
+      } else if (ends[rate] >= starts[winner] && (endedBefore < 0 || ends[rate] > ends[endedBefore])) {
+        endedBefore = rate;
+      }
+    }
+    return Optional.of(new PriceSegment(priceAt(brandId, productId, winner),
+        endedBefore < 0 ? fromMicros(starts[winner]) : fromMicros(ends[endedBefore]).plusNanos(1),
+        startingAfter < 0 ? fromMicros(ends[winner]).plusNanos(1) : fromMicros(starts[startingAfter])));
+  }
+
+  @Override
+  public List<Price> findPricesByBrandProduct(Integer brandId, Integer productId) {
+    int key = Arrays.binarySearch(keys, PriceKey.pack(brandId, productId));
+    if (key < 0) {
+      return List.of();
+    }
+    List<Price> result = new ArrayList<>(blockStarts[key + 1] - blockStarts[key]);
+    for (int rate = blockStarts[key]; rate < blockStarts[key + 1]; rate++) {
+      result.add(priceAt(brandId, productId, rate));
+    }
+    return result;
+  }
+
+  public int size() {
+    return priceLists.length;
+  }
+
+  /**
+   * The rate with precedence among those covering the date, -1 if none: the highest priority, then the earliest
+   * start, which comes first in the block.
+   */
+  private int winnerAt(int key, LocalDateTime applicationDate) {
+    long date = floorMicros(applicationDate);
+    boolean exact = applicationDate.getNano() % 1_000 == 0;
+    int best = -1;
+    for (int rate = blockStarts[key], end = blockStarts[key + 1]; rate < end && starts[rate] <= date; rate++) {
+      if (covers(rate, date, exact) && (best < 0 || priorities[rate] > priorities[best])) {
+        best = rate;
+      }
+    }
+    return best;
+  }
+
+  private boolean beats(int rate, int winner) {
+    return priorities[rate] > priorities[winner] || priorities[rate] == priorities[winner] && rate < winner;
+  }
+
+  private boolean covers(int rate, long date, boolean exact) {
+    // A date between two whole microseconds is still covered by a rate ending on the later one
+    return exact ? ends[rate] >= date : ends[rate] > date;
+  }
+
+  private Price priceAt(Integer brandId, Integer productId, int rate) {
+    Money money = new Money(BigDecimal.valueOf(amounts[rate], AMOUNT_SCALE), CURRENCIES[currencies[rate]]);
+    return new Price(brandId, productId, new Rate(
+        priceLists[rate],
+        fromMicros(starts[rate]),
+        fromMicros(ends[rate]),
+        priorities[rate],
+        money));
+  }
+
+  private static long toMicros(LocalDateTime dateTime) {
+    if (dateTime.getNano() % 1_000 != 0) {
+      throw new IllegalArgumentException("Primitive price store keeps microseconds: " + dateTime);
+    }
+    return floorMicros(dateTime);
+  }
+
+  private static long floorMicros(LocalDateTime dateTime) {
+    return Math.addExact(Math.multiplyExact(dateTime.toEpochSecond(ZoneOffset.UTC), 1_000_000L), dateTime.getNano() / 1_000);
+  }
+
+  private static LocalDateTime fromMicros(long micros) {
+    return LocalDateTime.ofEpochSecond(
+        Math.floorDiv(micros, 1_000_000L), (int) Math.floorMod(micros, 1_000_000L) * 1_000, ZoneOffset.UTC);
+  }
+}
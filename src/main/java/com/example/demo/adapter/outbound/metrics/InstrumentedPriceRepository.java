@@ -0,0 +1,95 @@
+package com.example.demo.adapter.outbound.metrics;
+
+import com.example.demo.domain.model.Price;
+import com.example.demo.domain.model.PriceQuery;
+import com.example.demo.domain.model.PriceSegment;
+import com.example.demo.domain.repository.PriceRepository;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.Meter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.experimental.FieldDefaults;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+import static lombok.AccessLevel.PRIVATE;
+
+/**
+ * Times every call to the wrapped repository as {@code prices.repository.query}, tagged by operation. Lookups that
+ * return the candidate rates also feed {@code prices.repository.candidates}, and effective-price lookups record the
+ * segments they found there, 0 or 1, so misses of the GET endpoint show up; top-1 lookups resolve the priority
+ * inside the adapter and only report latency. Both carry percentile histograms, so neither is tagged by brand.
+ */
+@FieldDefaults(level = PRIVATE, makeFinal = true)
+public class InstrumentedPriceRepository implements PriceRepository {
+
+  PriceRepository delegate;
+  Meter.MeterProvider<Timer> queries;
+  Meter.MeterProvider<DistributionSummary> candidates;
+
+  public InstrumentedPriceRepository(PriceRepository delegate, MeterRegistry meterRegistry) {
+    this.delegate = delegate;
+    this.queries = Timer.builder("prices.repository.query")
+        .description("Price repository calls")
+        .publishPercentileHistogram()
+        .withRegistry(meterRegistry);
+    this.candidates = DistributionSummary.builder("prices.repository.candidates")
+        .description("Candidate rates returned per lookup")
+        .publishPercentileHistogram()
+        .withRegistry(meterRegistry);
+  }
+
+  @Override
+  public List<Price> findPricesByBrandProductDate(Integer brandId, Integer productId, LocalDateTime applicationDate) {
+    List<Price> prices = timed("findPricesByBrandProductDate",
+        () -> delegate.findPricesByBrandProductDate(brandId, productId, applicationDate));
+    candidates.withTags("operation", "findPricesByBrandProductDate").record(prices.size());
+    return prices;
+  }
+
+  @Override
+  public Optional<Price> findPriorityPrice(Integer brandId, Integer productId, LocalDateTime applicationDate) {
+    return timed("findPriorityPrice", () -> delegate.findPriorityPrice(brandId, productId, applicationDate));
+  }
+
+  @Override
+  public List<Price> findPricesByBrandProduct(Integer brandId, Integer productId) {
+    List<Price> prices = timed("findPricesByBrandProduct", () -> delegate.findPricesByBrandProduct(brandId, productId));
+    candidates.withTags("operation", "findPricesByBrandProduct").record(prices.size());
+    return prices;
+  }
+
+  @Override
+  public Map<PriceQuery, List<Price>> findPricesByBrandProductDates(Collection<PriceQuery> queries) {
+    Map<PriceQuery, List<Price>> prices = timed("findPricesByBrandProductDates",
+        () -> delegate.findPricesByBrandProductDates(queries));
+    DistributionSummary batchCandidates = candidates.withTags("operation", "findPricesByBrandProductDates");
+    for (PriceQuery query : queries) {
+      batchCandidates.record(prices.getOrDefault(query, List.of()).size());
+    }
+    return prices;
+  }
+
+  @Override
+  public Optional<PriceSegment> findEffectivePrice(Integer brandId, Integer productId, LocalDateTime applicationDate) {
+    Optional<PriceSegment> segment = timed("findEffectivePrice",
+        () -> delegate.findEffectivePrice(brandId, productId, applicationDate));
+    candidates.withTags("operation", "findEffectivePrice").record(segment.isPresent() ? 1 : 0);
+    return segment;
+  }
+
+  private <T> T timed(String operation, Supplier<T> call) {
+    long start = System.nanoTime();
+    try {
+      return call.get();
+    } finally {
+      queries.withTags("operation", operation).record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+    }
+  }
+}
@@ -0,0 +1,90 @@
+package com.example.demo.adapter.outbound.persistence;
+
+import com.example.demo.domain.model.Price;
+import com.example.demo.domain.model.PriceKey;
+import com.example.demo.domain.model.PriceQuery;
+import com.example.demo.domain.model.PriceSegment;
+import com.example.demo.domain.repository.PriceRepository;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.experimental.FieldDefaults;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+import static lombok.AccessLevel.PRIVATE;
+
+/**
+ * Turns concurrent single-key lookups into multi-key statements of the wrapped repository: lookups arriving within
+ * {@code window} of each other, up to {@code maxSize} distinct keys, share one query and one connection. Each call
+ * still waits for at most the window plus its batch's query. Batch sizes are published as
+ * {@code prices.repository.batch.size}, tagged by operation.
+ */
+@FieldDefaults(level = PRIVATE, makeFinal = true)
+public class BatchingPriceRepository implements PriceRepository {
+
+  PriceRepository delegate;
+  MicroBatcher<PriceQuery, List<Price>> byDate;
+  MicroBatcher<PriceKey, List<Price>> byProduct;
+  MicroBatcher<PriceQuery, PriceSegment> effective;
+
+  public BatchingPriceRepository(PriceRepository delegate, Duration window, int maxSize, MeterRegistry meterRegistry) {
+    this.delegate = delegate;
+    this.byDate = new MicroBatcher<>(delegate::findPricesByBrandProductDates, List.of(), window, maxSize,
+        batchSizes("findPricesByBrandProductDate", meterRegistry));
+    this.byProduct = new MicroBatcher<>(delegate::findPricesByBrandProducts, List.of(), window, maxSize,
+        batchSizes("findPricesByBrandProduct", meterRegistry));
+    this.effective = new MicroBatcher<>(delegate::findEffectivePrices, null, window, maxSize,
+        batchSizes("findEffectivePrice", meterRegistry));
+  }
+
+  @Override
+  public List<Price> findPricesByBrandProductDate(Integer brandId, Integer productId, LocalDateTime applicationDate) {
+    return byDate.load(new PriceQuery(brandId, productId, applicationDate));
+  }
+
+  @Override
+  public Optional<Price> findPriorityPrice(Integer brandId, Integer productId, LocalDateTime applicationDate) {
+    return findPricesByBrandProductDate(brandId, productId, applicationDate).stream().max(Price.BY_PRECEDENCE);
+  }
+
+  @Override
+  public List<Price> findPricesByBrandProduct(Integer brandId, Integer productId) {
+    return byProduct.load(new PriceKey(brandId, productId));
+  }
+
+  @Override
+  public Map<PriceQuery, List<Price>> findPricesByBrandProductDates(Collection<PriceQuery> queries) {
+    return delegate.findPricesByBrandProductDates(queries);
+  }
+
+  @Override
+  public Map<PriceKey, List<Price>> findPricesByBrandProducts(Collection<PriceKey> keys) {
+    return delegate.findPricesByBrandProducts(keys);
+  }
+
+  /**
+   * Batched like the other lookups: concurrent callers share one EFFECTIVE_PRICES statement, each reading only the
+   * segment covering its date.
+   */
+  @Override
+  public Optional<PriceSegment> findEffectivePrice(Integer brandId, Integer productId, LocalDateTime applicationDate) {
+    return Optional.ofNullable(effective.load(new PriceQuery(brandId, productId, applicationDate)));
+  }
+
+  @Override
+  public Map<PriceQuery, PriceSegment> findEffectivePrices(Collection<PriceQuery> queries) {
+    return delegate.findEffectivePrices(queries);
+  }
+
+  private static DistributionSummary batchSizes(String operation, MeterRegistry meterRegistry) {
+    return DistributionSummary.builder("prices.repository.batch.size")
+        .description("Distinct keys loaded by one batched statement")
+        .tag("operation", operation)
+        .register(meterRegistry);
+  }
+}
@@ -0,0 +1,91 @@
+package com.example.demo.adapter.outbound.persistence;
+
+import com.example.demo.domain.model.Price;
+import com.example.demo.domain.model.PriceKey;
+import com.example.demo.domain.model.PriceQuery;
+import com.example.demo.domain.model.PriceSegment;
+import com.example.demo.domain.repository.PriceRepository;
+import lombok.experimental.FieldDefaults;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.Semaphore;
+import java.util.function.Supplier;
+
+import static lombok.AccessLevel.PRIVATE;
+
+/**
+ * Caps the number of callers inside the JDBC driver to the connection pool size. Excess callers park on a
+ * {@link Semaphore}, which never pins a virtual thread to its carrier, instead of queueing inside the pool or
+ * blocking in driver code that may still synchronize on monitors.
+ */
+@FieldDefaults(level = PRIVATE, makeFinal = true)
+public class BoundedPriceRepository implements PriceRepository {
+
+  PriceRepository delegate;
+  Semaphore permits;
+
+  public BoundedPriceRepository(PriceRepository delegate, int maxConcurrency) {
+    if (maxConcurrency < 1) {
+      throw new IllegalArgumentException("maxConcurrency must be >= 1");
+    }
+    this.delegate = delegate;
+    this.permits = new Semaphore(maxConcurrency, true);
+  }
+
+  @Override
+  public List<Price> findPricesByBrandProductDate(Integer brandId, Integer productId, LocalDateTime applicationDate) {
+    return bounded(() -> delegate.findPricesByBrandProductDate(brandId, productId, applicationDate));
+  }
+
+  @Override
+  public Optional<Price> findPriorityPrice(Integer brandId, Integer productId, LocalDateTime applicationDate) {
+    return bounded(() -> delegate.findPriorityPrice(brandId, productId, applicationDate));
+  }
+
+  @Override
+  public List<Price> findPricesByBrandProduct(Integer brandId, Integer productId) {
+    return bounded(() -> delegate.findPricesByBrandProduct(brandId, productId));
+  }
+
+  @Override
+  public Map<PriceQuery, List<Price>> findPricesByBrandProductDates(Collection<PriceQuery> queries) {
+    return bounded(() -> delegate.findPricesByBrandProductDates(queries));
+  }
+
+  @Override
+  public Map<PriceKey, List<Price>> findPricesByBrandProducts(Collection<PriceKey> keys) {
+    return bounded(() -> delegate.findPricesByBrandProducts(keys));
+  }
+
+  @Override
+  public Optional<PriceSegment> findEffectivePrice(Integer brandId, Integer productId, LocalDateTime applicationDate) {
+    return bounded(() -> delegate.findEffectivePrice(brandId, productId, applicationDate));
+  }
+
+  @Override
+  public Map<PriceQuery, PriceSegment> findEffectivePrices(Collection<PriceQuery> queries) {
+    return bounded(() -> delegate.findEffectivePrices(queries));
+  }
+
+  public int availablePermits() {
+    return permits.availablePermits();
+  }
+
+  private <T> T bounded(Supplier<T> call) {
+    try {
+      permits.acquire();
+    } catch (InterruptedException ex) {
+      Thread.currentThread().interrupt();
+      throw new IllegalStateException("Interrupted while waiting for a database permit", ex);
+    }
+    try {
+      return call.get();
+    } finally {
+      permits.release();
+    }
+  }
+}
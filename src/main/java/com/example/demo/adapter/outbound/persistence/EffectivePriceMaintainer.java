@@ -0,0 +1,122 @@
+package com.example.demo.adapter.outbound.persistence;
+
+import com.example.demo.domain.model.Price;
+import com.example.demo.domain.model.PriceKey;
+import com.example.demo.domain.model.PriceSegment;
+import com.example.demo.domain.model.PriceTimeline;
+import lombok.experimental.FieldDefaults;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.simple.JdbcClient;
+
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Stream;
+
+import static lombok.AccessLevel.PRIVATE;
+
+/**
+ * Keeps EFFECTIVE_PRICES in line with PRICES: the rates of a brand/product are resolved with {@link PriceTimeline}
+ * and its segments replace the stored ones. Writers call {@link #refresh} in the transaction that changed the rates,
+ * so readers never see rates and segments from different commits.
+ */
+@FieldDefaults(level = PRIVATE, makeFinal = true)
+public class EffectivePriceMaintainer {
+
+  private static final int BATCH_SIZE = 1000;
+
+  private static final String LOCK_PRODUCT = "SELECT id FROM PRODUCTS WHERE id = ? FOR UPDATE";
+
+  private static final String DELETE_OF_PRODUCT = "DELETE FROM EFFECTIVE_PRICES WHERE brand_id = ? AND product_id = ?";
+
+  private static final String DELETE_ALL = "DELETE FROM EFFECTIVE_PRICES";
+
+  private static final String INSERT = "INSERT INTO EFFECTIVE_PRICES (brand_id, product_id, valid_from, valid_until, price_list) "
+      + "VALUES (?, ?, ?, ?, ?)";
+
+  JdbcTemplate jdbcTemplate;
+  JdbcPriceAdapter prices;
+
+  public EffectivePriceMaintainer(JdbcTemplate jdbcTemplate) {
+    this.jdbcTemplate = jdbcTemplate;
+    this.prices = new JdbcPriceAdapter(JdbcClient.create(jdbcTemplate));
+  }
+
+  /**
+   * Recomputes the segments of the given brand/products from their current rates.
+   */
+  public void refresh(Set<PriceKey> keys) {
+    lockProducts(keys);
+    List<PriceKey> pending = new ArrayList<>(BATCH_SIZE);
+    for (Iterator<PriceKey> it = keys.iterator(); it.hasNext(); ) {
+      pending.add(it.next());
+      if (pending.size() == BATCH_SIZE || !it.hasNext()) {
+        jdbcTemplate.batchUpdate(DELETE_OF_PRODUCT, pending, pending.size(),
+            (statement, key) -> {
+              statement.setInt(1, key.brandId());
+              statement.setInt(2, key.productId());
+            });
+        Map<PriceKey, List<Price>> rates = prices.findPricesByBrandProducts(pending);
+        insert(pending.stream()
+            .flatMap(key -> PriceTimeline.of(rates.get(key)).segments().stream())
+            .toList());
+        pending.clear();
+      }
+    }
+  }
+
+  /**
+   * Recomputes every segment from PRICES, one brand/product at a time. Returns the number of segments stored.
+   */
+  public long rebuild() {
+    jdbcTemplate.update(DELETE_ALL);
+    long stored = 0;
+    List<PriceSegment> batch = new ArrayList<>(BATCH_SIZE);
+    List<Price> product = new ArrayList<>();
+    try (Stream<Price> all = prices.streamAllByKey()) {
+      for (Iterator<Price> it = all.iterator(); it.hasNext(); ) {
+        Price price = it.next();
+        if (!product.isEmpty() && !PriceKey.of(product.getFirst()).equals(PriceKey.of(price))) {
+          batch.addAll(PriceTimeline.of(product).segments());
+          product.clear();
+        }
+        product.add(price);
+        if (batch.size() >= BATCH_SIZE) {
+          stored += insert(batch);
+          batch.clear();
+        }
+      }
+    }
+    batch.addAll(PriceTimeline.of(product).segments());
+    return stored + insert(batch);
+  }
+
+  /**
+   * Locks the PRODUCTS rows of the keys until commit, in id order so that writers sharing products cannot deadlock.
+   * Concurrent refreshes of a product then read its rates one after the other, each seeing the rates committed by
+   * the previous one, even when the product has no segment yet to lock.
+   */
+  private void lockProducts(Set<PriceKey> keys) {
+    keys.stream()
+        .map(PriceKey::productId)
+        .distinct()
+        .sorted()
+        .forEach(productId -> jdbcTemplate.queryForList(LOCK_PRODUCT, Integer.class, productId));
+  }
+
+  private int insert(List<PriceSegment> segments) {
+    if (segments.isEmpty()) {
+      return 0;
+    }
+    jdbcTemplate.batchUpdate(INSERT, segments, BATCH_SIZE, (statement, segment) -> {
+      statement.setInt(1, segment.price().brandId());
+      statement.setInt(2, segment.price().productId());
+      statement.setObject(3, segment.validFrom());
+      statement.setObject(4, segment.validUntil());
+      statement.setInt(5, segment.price().rate().priceList());
+    });
+    return segments.size();
+  }
+}
@@ -0,0 +1,57 @@
+package com.example.demo.adapter.outbound.persistence;
+
+import jakarta.persistence.Embeddable;
+import jakarta.persistence.EmbeddedId;
+import jakarta.persistence.Entity;
+import jakarta.persistence.FetchType;
+import jakarta.persistence.JoinColumn;
+import jakarta.persistence.ManyToOne;
+import jakarta.persistence.Table;
+import jakarta.validation.constraints.NotNull;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+import org.hibernate.annotations.Immutable;
+
+import java.io.Serializable;
+import java.time.LocalDateTime;
+
+/**
+* A row of EFFECTIVE_PRICES, maintained by {@link EffectivePriceMaintainer} and only read through JPA.
+*/
+@Entity
+@Immutable
+@Table(name = "EFFECTIVE_PRICES")
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class EffectivePricesEntity {
+
+  @EmbeddedId
+  private Key id;
+
+  @NotNull
+  private LocalDateTime validUntil;
+
+  @ManyToOne(fetch = FetchType.LAZY)
+  @JoinColumn(name = "price_list")
+  @NotNull
+  private PricesEntity price;
+
+  @Embeddable
+  @Getter
+  @Setter
+  @NoArgsConstructor
+  @AllArgsConstructor
+  @EqualsAndHashCode
+  public static class Key implements Serializable {
+    private Integer brandId;
+    private Integer productId;
+    private LocalDateTime validFrom;
+  }
+}
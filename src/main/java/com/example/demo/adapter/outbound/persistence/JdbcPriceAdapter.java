@@ -0,0 +1,244 @@
+package com.example.demo.adapter.outbound.persistence;
+
+import com.example.demo.adapter.outbound.snapshot.PriceSnapshotMark;
+import com.example.demo.domain.model.Currency;
+import com.example.demo.domain.model.Money;
+import com.example.demo.domain.model.Price;
+import com.example.demo.domain.model.PriceKey;
+import com.example.demo.domain.model.PriceQuery;
+import com.example.demo.domain.model.PriceSegment;
+import com.example.demo.domain.model.Rate;
+import com.example.demo.domain.repository.PriceRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.experimental.FieldDefaults;
+import org.springframework.jdbc.core.RowCallbackHandler;
+import org.springframework.jdbc.core.RowMapper;
+import org.springframework.jdbc.core.simple.JdbcClient;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.stream.Collectors;
+import java.util.stream.LongStream;
+import java.util.stream.Stream;
+
+import static lombok.AccessLevel.PRIVATE;
+
+/**
+ * {@link PriceRepository} on plain JDBC: the PRICES columns are read by index straight into the domain records,
+ * with no entities, persistence context or joins. Every statement is a constant string with positional
+ * parameters, so the driver's per-connection statement cache is hit on every call.
+ */
+@RequiredArgsConstructor
+@FieldDefaults(level = PRIVATE, makeFinal = true)
+public class JdbcPriceAdapter implements PriceRepository {
+
+  private static final String COLUMNS = "SELECT brand_id, product_id, price_list, start_date, end_date, priority, price, currency FROM PRICES ";
+
+  private static final String PRICES_AT_DATE = COLUMNS
+      + "WHERE brand_id = ? AND product_id = ? AND start_date <= ? AND end_date >= ?";
+
+  private static final String PRIORITY_PRICE_AT_DATE = PRICES_AT_DATE
+      + " ORDER BY priority DESC, start_date ASC FETCH FIRST 1 ROW ONLY";
+
+  private static final String PRICES_OF_PRODUCT = COLUMNS
+      + "WHERE brand_id = ? AND product_id = ?";
+
+  private static final String PRICES_OF_PRODUCTS = COLUMNS
+      + "WHERE brand_id IN (:brandIds) AND product_id IN (:productIds)";
+
+  // The lookups of a batch travel as three parallel arrays, each (brand, product, date) probing the PRICES index
+  private static final String PRICES_AT_DATES = "SELECT DISTINCT p.brand_id, p.product_id, p.price_list, p.start_date, p.end_date, "
+      + "p.priority, p.price, p.currency "
+      + "FROM UNNEST(CAST(? AS INTEGER ARRAY), CAST(? AS INTEGER ARRAY), CAST(? AS TIMESTAMP ARRAY)) AS q(brand_id, product_id, application_date) "
+      + "JOIN PRICES p ON p.brand_id = q.brand_id AND p.product_id = q.product_id "
+      + "AND p.start_date <= q.application_date AND p.end_date >= q.application_date";
+
+  // The segment starting last at or before the date, read from the top of the EFFECTIVE_PRICES primary key
+  private static final String EFFECTIVE_PRICE_STARTING_BY = "SELECT p.brand_id, p.product_id, p.price_list, p.start_date, "
+      + "p.end_date, p.priority, p.price, p.currency, e.valid_from, e.valid_until "
+      + "FROM EFFECTIVE_PRICES e JOIN PRICES p ON p.price_list = e.price_list "
+      + "WHERE e.brand_id = ? AND e.product_id = ? AND e.valid_from <= ? ORDER BY e.valid_from DESC FETCH FIRST 1 ROW ONLY";
+
+  // Each lookup of a batch joined to the segment covering its date; nanosecond dates since valid_until is end + 1ns
+  private static final String EFFECTIVE_PRICES_AT_DATES = "SELECT DISTINCT p.brand_id, p.product_id, p.price_list, "
+      + "p.start_date, p.end_date, p.priority, p.price, p.currency, e.valid_from, e.valid_until "
+      + "FROM UNNEST(CAST(? AS INTEGER ARRAY), CAST(? AS INTEGER ARRAY), CAST(? AS TIMESTAMP(9) ARRAY)) AS q(brand_id, product_id, application_date) "
+      + "JOIN EFFECTIVE_PRICES e ON e.brand_id = q.brand_id AND e.product_id = q.product_id "
+      + "AND e.valid_from <= q.application_date AND e.valid_until > q.application_date "
+      + "JOIN PRICES p ON p.price_list = e.price_list";
+
+  private static final String DISTINCT_KEYS = "SELECT DISTINCT brand_id, product_id FROM PRICES";
+
+  private static final String SNAPSHOT_MARK = "SELECT COUNT(*), COALESCE(MAX(price_list), 0), COALESCE(SUM(version), 0) FROM PRICES";
+
+  private static final String ALL_PRICES_BY_KEY = COLUMNS
+      + "ORDER BY brand_id, product_id, start_date, price_list";
+
+  static final RowMapper<Price> PRICE_ROW_MAPPER = (rs, rowNum) -> new Price(
+      rs.getInt(1),
+      rs.getInt(2),
+      new Rate(
+          rs.getInt(3),
+          rs.getObject(4, LocalDateTime.class),
+          rs.getObject(5, LocalDateTime.class),
+          rs.getInt(6),
+          new Money(rs.getBigDecimal(7), Currency.valueOf(rs.getString(8)))
+      )
+  );
+
+  private static final RowMapper<PriceSegment> SEGMENT_ROW_MAPPER = (rs, rowNum) -> new PriceSegment(
+      PRICE_ROW_MAPPER.mapRow(rs, rowNum),
+      rs.getObject(9, LocalDateTime.class),
+      rs.getObject(10, LocalDateTime.class)
+  );
+
+  JdbcClient jdbcClient;
+
+  @Override
+  public List<Price> findPricesByBrandProductDate(Integer brandId, Integer productId, LocalDateTime applicationDate) {
+    return jdbcClient.sql(PRICES_AT_DATE)
+        .params(brandId, productId, applicationDate, applicationDate)
+        .query(PRICE_ROW_MAPPER)
+        .list();
+  }
+
+  @Override
+  public Optional<Price> findPriorityPrice(Integer brandId, Integer productId, LocalDateTime applicationDate) {
+    return jdbcClient.sql(PRIORITY_PRICE_AT_DATE)
+        .params(brandId, productId, applicationDate, applicationDate)
+        .query(PRICE_ROW_MAPPER)
+        .optional();
+  }
+
+  @Override
+  public List<Price> findPricesByBrandProduct(Integer brandId, Integer productId) {
+    return jdbcClient.sql(PRICES_OF_PRODUCT)
+        .params(brandId, productId)
+        .query(PRICE_ROW_MAPPER)
+        .list();
+  }
+
+  @Override
+  public Optional<PriceSegment> findEffectivePrice(Integer brandId, Integer productId, LocalDateTime applicationDate) {
+    return jdbcClient.sql(EFFECTIVE_PRICE_STARTING_BY)
+        .params(brandId, productId, applicationDate)
+        .query(SEGMENT_ROW_MAPPER)
+        .optional()
+        .filter(segment -> segment.validUntil().isAfter(applicationDate));
+  }
+
+  /**
+   * Every price ordered by brand, product and start date, read lazily. The stream holds a connection until closed.
+   */
+  public Stream<Price> streamAllByKey() {
+    return jdbcClient.sql(ALL_PRICES_BY_KEY)
+        .query(PRICE_ROW_MAPPER)
+        .stream();
+  }
+
+  /**
+   * The current {@link PriceSnapshotMark} of PRICES, to tell whether a snapshot written earlier is still up to date.
+   */
+  public PriceSnapshotMark snapshotMark() {
+    return jdbcClient.sql(SNAPSHOT_MARK)
+        .query((rs, rowNum) -> new PriceSnapshotMark(rs.getLong(1), rs.getLong(2), rs.getLong(3)))
+        .single();
+  }
+
+  /**
+   * Every brand/product pair with at least one rate, packed with {@link PriceKey#pack}.
+   */
+  public long[] distinctKeys() {
+    LongStream.Builder keys = LongStream.builder();
+    jdbcClient.sql(DISTINCT_KEYS)
+        .query((RowCallbackHandler) rs -> keys.add(PriceKey.pack(rs.getInt(1), rs.getInt(2))));
+    return keys.build().toArray();
+  }
+
+  @Override
+  public Map<PriceKey, List<Price>> findPricesByBrandProducts(Collection<PriceKey> keys) {
+    if (keys.isEmpty()) {
+      return Map.of();
+    }
+    Set<Integer> brandIds = new HashSet<>();
+    Set<Integer> productIds = new HashSet<>();
+    for (PriceKey key : keys) {
+      brandIds.add(key.brandId());
+      productIds.add(key.productId());
+    }
+
+    Map<PriceKey, List<Price>> found = jdbcClient.sql(PRICES_OF_PRODUCTS)
+        .param("brandIds", brandIds)
+        .param("productIds", productIds)
+        .query(PRICE_ROW_MAPPER)
+        .list()
+        .stream()
+        .collect(Collectors.groupingBy(PriceKey::of));
+
+    Map<PriceKey, List<Price>> result = new HashMap<>();
+    for (PriceKey key : keys) {
+      result.put(key, found.getOrDefault(key, List.of()));
+    }
+    return result;
+  }
+
+  @Override
+  public Map<PriceQuery, List<Price>> findPricesByBrandProductDates(Collection<PriceQuery> queries) {
+    if (queries.isEmpty()) {
+      return Map.of();
+    }
+    PriceQueryArrays arrays = PriceQueryArrays.of(queries);
+
+    // A rate matching one lookup may match others of the same brand/product, each lookup keeps its own matches
+    Map<PriceKey, List<Price>> candidates = jdbcClient.sql(PRICES_AT_DATES)
+        .param(arrays.brandIds())
+        .param(arrays.productIds())
+        .param(arrays.applicationDates())
+        .query(PRICE_ROW_MAPPER)
+        .list()
+        .stream()
+        .collect(Collectors.groupingBy(PriceKey::of));
+
+    Map<PriceQuery, List<Price>> result = new HashMap<>();
+    for (PriceQuery query : queries) {
+      result.computeIfAbsent(query, key -> candidates.getOrDefault(new PriceKey(key.brandId(), key.productId()), List.of())
+          .stream()
+          .filter(key::matches)
+          .toList());
+    }
+    return result;
+  }
+
+  @Override
+  public Map<PriceQuery, PriceSegment> findEffectivePrices(Collection<PriceQuery> queries) {
+    if (queries.isEmpty()) {
+      return Map.of();
+    }
+    PriceQueryArrays arrays = PriceQueryArrays.of(queries);
+
+    // Lookups of the same brand/product may fall in different segments, each lookup keeps the one covering its date
+    Map<PriceKey, List<PriceSegment>> candidates = jdbcClient.sql(EFFECTIVE_PRICES_AT_DATES)
+        .param(arrays.brandIds())
+        .param(arrays.productIds())
+        .param(arrays.applicationDates())
+        .query(SEGMENT_ROW_MAPPER)
+        .list()
+        .stream()
+        .collect(Collectors.groupingBy(segment -> PriceKey.of(segment.price())));
+
+    Map<PriceQuery, PriceSegment> result = new HashMap<>();
+    for (PriceQuery query : queries) {
+      candidates.getOrDefault(new PriceKey(query.brandId(), query.productId()), List.of()).stream()
+          .filter(segment -> segment.contains(query.applicationDate()))
+          .findFirst()
+          .ifPresent(segment -> result.put(query, segment));
+    }
+    return result;
+  }
+}
@@ -0,0 +1,36 @@
+package com.example.demo.adapter.outbound.persistence;
+
+import com.example.demo.domain.model.Price;
+import com.example.demo.domain.repository.PriceExportRepository;
+import lombok.experimental.FieldDefaults;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import javax.sql.DataSource;
+import java.time.LocalDateTime;
+import java.util.stream.Stream;
+
+import static lombok.AccessLevel.PRIVATE;
+
+/**
+ * Reads export rows through a forward-only cursor that fetches {@code fetchSize} rows per round trip, instead of
+ * materializing the brand's rates in a list. Each stream holds its connection until it is closed.
+ */
+@FieldDefaults(level = PRIVATE, makeFinal = true)
+public class JdbcPriceExportAdapter implements PriceExportRepository {
+
+  private static final String PRICES_OF_BRAND_AT_DATE = "SELECT brand_id, product_id, price_list, start_date, end_date, priority, price, currency "
+      + "FROM PRICES WHERE brand_id = ? AND start_date <= ? AND end_date >= ? ORDER BY product_id";
+
+  JdbcTemplate jdbcTemplate;
+
+  public JdbcPriceExportAdapter(DataSource dataSource, int fetchSize) {
+    this.jdbcTemplate = new JdbcTemplate(dataSource);
+    this.jdbcTemplate.setFetchSize(fetchSize);
+  }
+
+  @Override
+  public Stream<Price> streamPricesByBrandDate(Integer brandId, LocalDateTime applicationDate) {
+    return jdbcTemplate.queryForStream(PRICES_OF_BRAND_AT_DATE, JdbcPriceAdapter.PRICE_ROW_MAPPER,
+        brandId, applicationDate, applicationDate);
+  }
+}
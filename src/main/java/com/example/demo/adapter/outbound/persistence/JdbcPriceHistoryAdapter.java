@@ -0,0 +1,36 @@
+package com.example.demo.adapter.outbound.persistence;
+
+import com.example.demo.domain.model.Price;
+import com.example.demo.domain.repository.PriceHistoryRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.experimental.FieldDefaults;
+import org.springframework.jdbc.core.simple.JdbcClient;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static lombok.AccessLevel.PRIVATE;
+
+/**
+ * {@link PriceHistoryRepository} on the PRICES_HISTORY versions written by {@link PriceHistoryRecorder}. The lookup
+ * is answered from the as-of index alone, without reading table rows.
+ */
+@RequiredArgsConstructor
+@FieldDefaults(level = PRIVATE, makeFinal = true)
+public class JdbcPriceHistoryAdapter implements PriceHistoryRepository {
+
+  private static final String PRICES_AT_DATE_AS_OF = "SELECT brand_id, product_id, price_list, start_date, end_date, priority, price, currency "
+      + "FROM PRICES_HISTORY WHERE brand_id = ? AND product_id = ? AND start_date <= ? AND end_date >= ? "
+      + "AND recorded_from <= ? AND recorded_until > ?";
+
+  JdbcClient jdbcClient;
+
+  @Override
+  public List<Price> findPricesByBrandProductDate(Integer brandId, Integer productId, LocalDateTime applicationDate,
+                                                  LocalDateTime asOf) {
+    return jdbcClient.sql(PRICES_AT_DATE_AS_OF)
+        .params(brandId, productId, applicationDate, applicationDate, asOf, asOf)
+        .query(JdbcPriceAdapter.PRICE_ROW_MAPPER)
+        .list();
+  }
+}
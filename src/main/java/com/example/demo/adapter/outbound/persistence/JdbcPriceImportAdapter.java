@@ -0,0 +1,53 @@
+package com.example.demo.adapter.outbound.persistence;
+
+import com.example.demo.domain.model.Price;
+import com.example.demo.domain.model.PriceKey;
+import com.example.demo.domain.repository.PriceImportRepository;
+import lombok.experimental.FieldDefaults;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.List;
+import java.util.stream.Collectors;
+
+import static lombok.AccessLevel.PRIVATE;
+
+/**
+ * {@link PriceImportRepository} on JDBC batches of {@code batchSize} statements, bypassing JPA. Each call is one
+ * transaction, so an import chunk is committed or rolled back as a whole, together with its PRICES_HISTORY versions
+ * and the EFFECTIVE_PRICES segments of the brand/products it touched. Imported rates carry their price list, so the
+ * PRICES identity is moved past them once a chunk commits.
+ */
+@FieldDefaults(level = PRIVATE, makeFinal = true)
+public class JdbcPriceImportAdapter implements PriceImportRepository {
+
+  PriceBulkLoader bulkLoader;
+  TransactionTemplate transactionTemplate;
+  EffectivePriceMaintainer effectivePrices;
+  PriceHistoryRecorder history;
+  PriceListIdentity identity;
+
+  public JdbcPriceImportAdapter(JdbcTemplate jdbcTemplate, TransactionTemplate transactionTemplate, int batchSize,
+                                EffectivePriceMaintainer effectivePrices, PriceHistoryRecorder history) {
+    this.bulkLoader = new PriceBulkLoader(jdbcTemplate, batchSize);
+    this.transactionTemplate = transactionTemplate;
+    this.effectivePrices = effectivePrices;
+    this.history = history;
+    this.identity = new PriceListIdentity(jdbcTemplate);
+  }
+
+  @Override
+  public void insertAll(List<Price> prices) {
+    try {
+      transactionTemplate.executeWithoutResult(status -> {
+        identity.advanceAfterCommit();
+        bulkLoader.insertPrices(prices.stream());
+        history.created(prices);
+        effectivePrices.refresh(prices.stream().map(PriceKey::of).collect(Collectors.toSet()));
+      });
+    } catch (DataIntegrityViolationException ex) {
+      throw new IllegalArgumentException("Rates reference an unknown brand/product or reuse an existing price list", ex);
+    }
+  }
+}
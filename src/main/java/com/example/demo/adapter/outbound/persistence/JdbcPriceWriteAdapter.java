@@ -0,0 +1,182 @@
+package com.example.demo.adapter.outbound.persistence;
+
+import com.example.demo.domain.exception.PriceVersionConflictException;
+import com.example.demo.domain.exception.ResourceNotFoundException;
+import com.example.demo.domain.model.Price;
+import com.example.demo.domain.model.PriceKey;
+import com.example.demo.domain.model.PriceUpsert;
+import com.example.demo.domain.model.Rate;
+import com.example.demo.domain.model.VersionedPrice;
+import com.example.demo.domain.repository.PriceWriteRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.experimental.FieldDefaults;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.jdbc.core.RowMapper;
+import org.springframework.jdbc.core.simple.JdbcClient;
+import org.springframework.jdbc.support.GeneratedKeyHolder;
+import org.springframework.jdbc.support.KeyHolder;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+import static lombok.AccessLevel.PRIVATE;
+
+/**
+ * {@link PriceWriteRepository} on plain JDBC. Optimistic concurrency is a single conditional statement per rate:
+ * an update or delete only matches the row while its version is still the one the caller read, and an update
+ * bumps it. When nothing matched, the row is read again to report whether it was missing or out of date.
+ * PRICES_HISTORY gets a version per change, and EFFECTIVE_PRICES is refreshed for the changed brand/products,
+ * before each transaction commits. New rates without a price list get one from the PRICES identity.
+ */
+@RequiredArgsConstructor
+@FieldDefaults(level = PRIVATE, makeFinal = true)
+public class JdbcPriceWriteAdapter implements PriceWriteRepository {
+
+  private static final String VERSIONED_PRICE = "SELECT brand_id, product_id, price_list, start_date, end_date, priority, price, currency, version "
+      + "FROM PRICES WHERE price_list = ?";
+
+  private static final String INSERT = "INSERT INTO PRICES (price_list, brand_id, product_id, start_date, end_date, priority, price, currency) "
+      + "VALUES (?, ?, ?, ?, ?, ?, ?, ?)";
+
+  private static final String INSERT_GENERATED = "INSERT INTO PRICES (brand_id, product_id, start_date, end_date, priority, price, currency) "
+      + "VALUES (?, ?, ?, ?, ?, ?, ?)";
+
+  private static final String UPDATE = "UPDATE PRICES SET start_date = ?, end_date = ?, priority = ?, price = ?, currency = ?, version = version + 1 "
+      + "WHERE price_list = ? AND brand_id = ? AND product_id = ? AND version = ?";
+
+  private static final String DELETE = "DELETE FROM PRICES WHERE price_list = ? AND brand_id = ? AND product_id = ? AND version = ?";
+
+  private static final RowMapper<VersionedPrice> VERSIONED_PRICE_ROW_MAPPER = (rs, rowNum) ->
+      new VersionedPrice(JdbcPriceAdapter.PRICE_ROW_MAPPER.mapRow(rs, rowNum), rs.getLong(9));
+
+  JdbcClient jdbcClient;
+  TransactionTemplate transactionTemplate;
+  EffectivePriceMaintainer effectivePrices;
+  PriceHistoryRecorder history;
+  PriceListIdentity identity;
+
+  @Override
+  public Optional<VersionedPrice> findByPriceList(Integer priceList) {
+    return jdbcClient.sql(VERSIONED_PRICE)
+        .param(priceList)
+        .query(VERSIONED_PRICE_ROW_MAPPER)
+        .optional();
+  }
+
+  @Override
+  public VersionedPrice create(Price price) {
+    return transactionTemplate.execute(status -> {
+      if (price.rate().priceList() != null) {
+        identity.advanceAfterCommit();
+      }
+      return refreshed(insert(price));
+    });
+  }
+
+  @Override
+  public VersionedPrice update(Price price, long expectedVersion) {
+    return transactionTemplate.execute(status -> refreshed(conditionalUpdate(price, expectedVersion)));
+  }
+
+  @Override
+  public Price delete(PriceKey key, Integer priceList, long expectedVersion) {
+    return transactionTemplate.execute(status -> {
+      VersionedPrice current = current(key, priceList, expectedVersion);
+      int deleted = jdbcClient.sql(DELETE)
+          .params(priceList, key.brandId(), key.productId(), expectedVersion)
+          .update();
+      if (deleted == 0) {
+        throw new PriceVersionConflictException(String.format("Price list %d changed while being deleted", priceList));
+      }
+      history.deleted(priceList);
+      effectivePrices.refresh(Set.of(key));
+      return current.price();
+    });
+  }
+
+  @Override
+  public List<VersionedPrice> upsertAll(List<PriceUpsert> upserts) {
+    return transactionTemplate.execute(status -> {
+      if (upserts.stream().anyMatch(upsert -> upsert.expectedVersion() == null && upsert.price().rate().priceList() != null)) {
+        identity.advanceAfterCommit();
+      }
+      List<VersionedPrice> saved = upserts.stream()
+          .map(upsert -> upsert.expectedVersion() == null
+              ? insert(upsert.price())
+              : conditionalUpdate(upsert.price(), upsert.expectedVersion()))
+          .toList();
+      effectivePrices.refresh(saved.stream()
+          .map(versioned -> PriceKey.of(versioned.price()))
+          .collect(Collectors.toSet()));
+      return saved;
+    });
+  }
+
+  private VersionedPrice refreshed(VersionedPrice saved) {
+    effectivePrices.refresh(Set.of(PriceKey.of(saved.price())));
+    return saved;
+  }
+
+  private VersionedPrice insert(Price price) {
+    Rate rate = price.rate();
+    Integer priceList = rate.priceList();
+    try {
+      if (priceList == null) {
+        KeyHolder keyHolder = new GeneratedKeyHolder();
+        jdbcClient.sql(INSERT_GENERATED)
+            .params(price.brandId(), price.productId(), rate.startDate(), rate.endDate(), rate.priority(),
+                rate.price().amount(), rate.price().currency().name())
+            .update(keyHolder, "price_list");
+        priceList = keyHolder.getKeyAs(Integer.class);
+      } else {
+        jdbcClient.sql(INSERT)
+            .params(priceList, price.brandId(), price.productId(), rate.startDate(), rate.endDate(), rate.priority(),
+                rate.price().amount(), rate.price().currency().name())
+            .update();
+      }
+    } catch (DuplicateKeyException ex) {
+      throw new PriceVersionConflictException(String.format("Price list %d already exists", priceList));
+    } catch (DataIntegrityViolationException ex) {
+      throw new IllegalArgumentException(String.format("brandId=%d or productId=%d does not exist",
+          price.brandId(), price.productId()), ex);
+    }
+    Price stored = new Price(price.brandId(), price.productId(),
+        new Rate(priceList, rate.startDate(), rate.endDate(), rate.priority(), rate.price()));
+    history.created(List.of(stored));
+    return new VersionedPrice(stored, 0);
+  }
+
+  private VersionedPrice conditionalUpdate(Price price, long expectedVersion) {
+    Rate rate = price.rate();
+    if (rate.priceList() == null) {
+      throw new IllegalArgumentException("priceList is required to update a price");
+    }
+    int updated = jdbcClient.sql(UPDATE)
+        .params(rate.startDate(), rate.endDate(), rate.priority(), rate.price().amount(), rate.price().currency().name(),
+            rate.priceList(), price.brandId(), price.productId(), expectedVersion)
+        .update();
+    if (updated == 0) {
+      current(PriceKey.of(price), rate.priceList(), expectedVersion);
+      throw new PriceVersionConflictException(String.format("Price list %d changed while being updated", rate.priceList()));
+    }
+    history.updated(List.of(price));
+    return new VersionedPrice(price, expectedVersion + 1);
+  }
+
+  private VersionedPrice current(PriceKey key, Integer priceList, long expectedVersion) {
+    VersionedPrice current = findByPriceList(priceList)
+        .orElseThrow(() -> new ResourceNotFoundException("Price", priceList));
+    if (!PriceKey.of(current.price()).equals(key)) {
+      throw new IllegalArgumentException(String.format("Price list %d belongs to brandId=%d, productId=%d",
+          priceList, current.price().brandId(), current.price().productId()));
+    }
+    if (current.version() != expectedVersion) {
+      throw new PriceVersionConflictException(priceList, expectedVersion, current.version());
+    }
+    return current;
+  }
+}
@@ -1,12 +1,15 @@
 package com.example.demo.adapter.outbound.persistence;
 
+import org.springframework.data.domain.Limit;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
+import java.util.Optional;
 
 @Repository
 public interface JpaPriceRepository extends JpaRepository<PricesEntity, Integer> {
@@ -22,4 +25,98 @@ public interface JpaPriceRepository extends JpaRepository<PricesEntity, Integer>
       @Param("productId") Integer productId,
       @Param("applicationDate") LocalDateTime applicationDate
   );
+
+  default Optional<PricesEntity> findTopPriorityPrice(Integer brandId, Integer productId, LocalDateTime applicationDate) {
+    return findFirstByBrandIdAndProductsEntityIdAndStartDateLessThanEqualAndEndDateGreaterThanEqualOrderByPriorityDescStartDateAsc(
+        brandId, productId, applicationDate, applicationDate);
+  }
+
+  Optional<PricesEntity> findFirstByBrandIdAndProductsEntityIdAndStartDateLessThanEqualAndEndDateGreaterThanEqualOrderByPriorityDescStartDateAsc(
+      Integer brandId,
+      Integer productId,
+      LocalDateTime startDateUpperBound,
+      LocalDateTime endDateLowerBound
+  );
+
+  /**
+   * The winning rate at {@code applicationDate} from EFFECTIVE_PRICES: the one segment starting last at or before
+   * the date, if it has not ended by then. Reads a single index entry however many rates overlap.
+   */
+  default Optional<EffectivePricesEntity> findEffectivePrice(Integer brandId, Integer productId, LocalDateTime applicationDate) {
+    return findEffectivePricesStartingBy(brandId, productId, applicationDate, Limit.of(1)).stream()
+        .filter(segment -> segment.getValidUntil().isAfter(applicationDate))
+        .findFirst();
+  }
+
+  @Query("""
+      SELECT e FROM EffectivePricesEntity e
+      JOIN FETCH e.price
+      WHERE e.id.brandId = :brandId
+      AND e.id.productId = :productId
+      AND e.id.validFrom <= :applicationDate
+      ORDER BY e.id.validFrom DESC
+      """)
+  List<EffectivePricesEntity> findEffectivePricesStartingBy(
+      @Param("brandId") Integer brandId,
+      @Param("productId") Integer productId,
+      @Param("applicationDate") LocalDateTime applicationDate,
+      Limit limit
+  );
+
+  /**
+   * The segments of a batch of brand/products that cover any date in {@code [fromDate, toDate]}, the earliest and
+   * latest date of its lookups, with their rates fetched in the same statement. Like
+   * {@link #findPricesByBrandsAndProducts} it may return pairs and dates nobody asked for, the caller keeps the
+   * segment covering each lookup.
+   */
+  @Query("""
+      SELECT e FROM EffectivePricesEntity e
+      JOIN FETCH e.price
+      WHERE e.id.brandId IN :brandIds
+      AND e.id.productId IN :productIds
+      AND e.id.validFrom <= :toDate
+      AND e.validUntil > :fromDate
+      """)
+  List<EffectivePricesEntity> findEffectivePricesBetween(
+      @Param("brandIds") Collection<Integer> brandIds,
+      @Param("productIds") Collection<Integer> productIds,
+      @Param("fromDate") LocalDateTime fromDate,
+      @Param("toDate") LocalDateTime toDate
+  );
+
+  @Query("""
+      SELECT p FROM PricesEntity p
+      WHERE p.brand.id = :brandId
+      AND p.productsEntity.id = :productId
+      """)
+  List<PricesEntity> findPricesByBrandAndProduct(
+      @Param("brandId") Integer brandId,
+      @Param("productId") Integer productId
+  );
+
+  @Query("""
+      SELECT p FROM PricesEntity p
+      WHERE p.brand.id IN :brandIds
+      AND p.productsEntity.id IN :productIds
+      """)
+  List<PricesEntity> findPricesByBrandsAndProducts(
+      @Param("brandIds") Collection<Integer> brandIds,
+      @Param("productIds") Collection<Integer> productIds
+  );
+
+  /**
+   * The rates of each (brand, product, date) lookup of a batch, passed as parallel arrays and joined back into rows,
+   * so a rate is read only when it matches a lookup rather than any brand, product and date of the batch.
+   */
+  @Query(value = """
+      SELECT DISTINCT p.* FROM UNNEST(CAST(:brandIds AS INTEGER ARRAY), CAST(:productIds AS INTEGER ARRAY),
+        CAST(:applicationDates AS TIMESTAMP ARRAY)) AS q(brand_id, product_id, application_date)
+      JOIN PRICES p ON p.brand_id = q.brand_id AND p.product_id = q.product_id
+      AND p.start_date <= q.application_date AND p.end_date >= q.application_date
+      """, nativeQuery = true)
+  List<PricesEntity> findPricesAtDates(
+      @Param("brandIds") Integer[] brandIds,
+      @Param("productIds") Integer[] productIds,
+      @Param("applicationDates") LocalDateTime[] applicationDates
+  );
 }
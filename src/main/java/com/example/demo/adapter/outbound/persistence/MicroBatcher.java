@@ -0,0 +1,117 @@
+package com.example.demo.adapter.outbound.persistence;
+
+import io.micrometer.core.instrument.DistributionSummary;
+import lombok.experimental.FieldDefaults;
+import lombok.experimental.NonFinal;
+
+import java.time.Duration;
+import java.util.LinkedHashSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Function;
+
+import static lombok.AccessLevel.PRIVATE;
+
+/**
+ * Collects keys requested by concurrent callers into one call of {@code loader}. The first caller of a batch leads
+ * it: it waits until the window has passed or {@code maxSize} distinct keys have joined, then loads the batch on
+ * its own thread and hands every caller its value. Callers park on a {@link ReentrantLock} condition or a
+ * {@link CompletableFuture}, never on a monitor, so virtual threads stay unpinned.
+ */
+@FieldDefaults(level = PRIVATE, makeFinal = true)
+final class MicroBatcher<K, V> {
+
+  Function<Set<K>, Map<K, V>> loader;
+  V absent;
+  long windowNanos;
+  int maxSize;
+  DistributionSummary batchSizes;
+  ReentrantLock lock = new ReentrantLock();
+  Condition closed = lock.newCondition();
+  // Guarded by lock
+  @NonFinal
+  Batch<K, V> open;
+
+  MicroBatcher(Function<Set<K>, Map<K, V>> loader, V absent, Duration window, int maxSize, DistributionSummary batchSizes) {
+    if (maxSize < 1) {
+      throw new IllegalArgumentException("maxSize must be >= 1");
+    }
+    this.loader = loader;
+    this.absent = absent;
+    this.windowNanos = window.toNanos();
+    this.maxSize = maxSize;
+    this.batchSizes = batchSizes;
+  }
+
+  V load(K key) {
+    Batch<K, V> batch;
+    boolean leader;
+    lock.lock();
+    try {
+      leader = open == null;
+      if (leader) {
+        open = new Batch<>();
+      }
+      batch = open;
+      batch.keys.add(key);
+      if (batch.keys.size() >= maxSize) {
+        open = null;
+        closed.signalAll();
+      }
+      if (leader) {
+        awaitClose(batch);
+      }
+    } finally {
+      lock.unlock();
+    }
+    if (leader) {
+      flush(batch);
+    }
+    return await(batch).getOrDefault(key, absent);
+  }
+
+  private void awaitClose(Batch<K, V> batch) {
+    long remaining = windowNanos;
+    try {
+      while (open == batch && remaining > 0) {
+        remaining = closed.awaitNanos(remaining);
+      }
+    } catch (InterruptedException ex) {
+      // Flush what has been collected, the interrupt is left for the caller's next blocking call
+      Thread.currentThread().interrupt();
+    }
+    if (open == batch) {
+      open = null;
+    }
+  }
+
+  private void flush(Batch<K, V> batch) {
+    batchSizes.record(batch.keys.size());
+    try {
+      batch.result.complete(loader.apply(batch.keys));
+    } catch (RuntimeException | Error ex) {
+      batch.result.completeExceptionally(ex);
+    }
+  }
+
+  private Map<K, V> await(Batch<K, V> batch) {
+    try {
+      return batch.result.join();
+    } catch (CompletionException ex) {
+      if (ex.getCause() instanceof RuntimeException cause) {
+        throw cause;
+      }
+      throw ex;
+    }
+  }
+
+  private static final class Batch<K, V> {
+    // Only touched under the batcher's lock until the batch is closed, then only read by the leader's loader
+    final Set<K> keys = new LinkedHashSet<>();
+    final CompletableFuture<Map<K, V>> result = new CompletableFuture<>();
+  }
+}
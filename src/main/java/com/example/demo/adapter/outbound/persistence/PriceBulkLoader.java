@@ -0,0 +1,104 @@
+package com.example.demo.adapter.outbound.persistence;
+
+import com.example.demo.domain.model.Price;
+import lombok.RequiredArgsConstructor;
+import lombok.experimental.FieldDefaults;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.nio.file.Path;
+import java.sql.Timestamp;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+
+import static lombok.AccessLevel.PRIVATE;
+
+/**
+ * Writes large PRICES datasets with JDBC batches, bypassing JPA, or with H2 {@code CSVREAD} in a single statement.
+ */
+@RequiredArgsConstructor
+@FieldDefaults(level = PRIVATE, makeFinal = true)
+public class PriceBulkLoader {
+
+  private static final String INSERT_PRICE = """
+      INSERT INTO PRICES (price_list, brand_id, product_id, start_date, end_date, priority, price, currency)
+      VALUES (?, ?, ?, ?, ?, ?, ?, ?)
+      """;
+
+  private static final String INSERT_PRICES_FROM_CSV = """
+      INSERT INTO PRICES (price_list, brand_id, product_id, start_date, end_date, priority, price, currency)
+      SELECT * FROM CSVREAD(?)
+      """;
+
+  JdbcTemplate jdbcTemplate;
+  int batchSize;
+
+  public void insertMissingBrands(IntStream brandIds) {
+    insertMissingIds("INSERT INTO BRANDS (id, chain_name) SELECT ?, ? WHERE NOT EXISTS (SELECT 1 FROM BRANDS WHERE id = ?)",
+        "Brand ", brandIds);
+  }
+
+  public void insertMissingProducts(IntStream productIds) {
+    insertMissingIds("INSERT INTO PRODUCTS (id, product_name) SELECT ?, ? WHERE NOT EXISTS (SELECT 1 FROM PRODUCTS WHERE id = ?)",
+        "Product ", productIds);
+  }
+
+  public long insertPrices(Stream<Price> prices) {
+    long rows = 0;
+    List<Price> batch = new ArrayList<>(batchSize);
+    Iterator<Price> iterator = prices.iterator();
+    while (iterator.hasNext()) {
+      batch.add(iterator.next());
+      if (batch.size() == batchSize) {
+        rows += flush(batch);
+      }
+    }
+    return rows + flush(batch);
+  }
+
+  public long insertPricesFromCsv(Path csv) {
+    return jdbcTemplate.update(INSERT_PRICES_FROM_CSV, csv.toAbsolutePath().toString());
+  }
+
+  public int nextPriceList() {
+    Integer max = jdbcTemplate.queryForObject("SELECT COALESCE(MAX(price_list), 0) FROM PRICES", Integer.class);
+    return max == null ? 1 : max + 1;
+  }
+
+  private long flush(List<Price> batch) {
+    if (batch.isEmpty()) {
+      return 0;
+    }
+    jdbcTemplate.batchUpdate(INSERT_PRICE, batch, batch.size(), (statement, price) -> {
+      statement.setInt(1, price.rate().priceList());
+      statement.setInt(2, price.brandId());
+      statement.setInt(3, price.productId());
+      statement.setTimestamp(4, Timestamp.valueOf(price.rate().startDate()));
+      statement.setTimestamp(5, Timestamp.valueOf(price.rate().endDate()));
+      statement.setInt(6, price.rate().priority());
+      statement.setBigDecimal(7, price.rate().price().amount());
+      statement.setString(8, price.rate().price().currency().name());
+    });
+    int rows = batch.size();
+    batch.clear();
+    return rows;
+  }
+
+  private void insertMissingIds(String sql, String namePrefix, IntStream ids) {
+    List<Integer> batch = new ArrayList<>(batchSize);
+    Iterator<Integer> iterator = ids.iterator();
+    while (iterator.hasNext()) {
+      batch.add(iterator.next());
+      if (batch.size() == batchSize || !iterator.hasNext()) {
+        jdbcTemplate.batchUpdate(sql, batch, batch.size(), (statement, id) -> {
+          statement.setInt(1, id);
+          statement.setString(2, namePrefix + id);
+          statement.setInt(3, id);
+        });
+        batch.clear();
+      }
+    }
+  }
+}
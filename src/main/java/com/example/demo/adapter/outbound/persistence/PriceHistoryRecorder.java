@@ -0,0 +1,99 @@
+package com.example.demo.adapter.outbound.persistence;
+
+import com.example.demo.domain.model.Price;
+import lombok.RequiredArgsConstructor;
+import lombok.experimental.FieldDefaults;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.sql.Timestamp;
+import java.time.Clock;
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+
+import static lombok.AccessLevel.PRIVATE;
+
+/**
+ * Appends versions to PRICES_HISTORY. A change closes the open version of the rate at the current time of
+ * {@code clock} and opens the new one from that time. Writers call it in the transaction that changed PRICES, so
+ * the history never disagrees with a committed state.
+ */
+@RequiredArgsConstructor
+@FieldDefaults(level = PRIVATE, makeFinal = true)
+public class PriceHistoryRecorder {
+
+  static final LocalDateTime OPEN = LocalDateTime.of(9999, 12, 31, 0, 0, 0);
+
+  private static final int BATCH_SIZE = 1000;
+
+  private static final String CLOSE = "UPDATE PRICES_HISTORY SET recorded_until = ? WHERE price_list = ? AND recorded_until = ?";
+
+  private static final String INSERT = "INSERT INTO PRICES_HISTORY (price_list, brand_id, product_id, start_date, end_date, "
+      + "priority, price, currency, recorded_from, recorded_until) VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?)";
+
+  private static final String BASELINE = "INSERT INTO PRICES_HISTORY (price_list, brand_id, product_id, start_date, end_date, "
+      + "priority, price, currency, recorded_from, recorded_until) "
+      + "SELECT price_list, brand_id, product_id, start_date, end_date, priority, price, currency, ?, ? FROM PRICES p "
+      + "WHERE NOT EXISTS (SELECT 1 FROM PRICES_HISTORY h WHERE h.price_list = p.price_list AND h.recorded_until = ?)";
+
+  JdbcTemplate jdbcTemplate;
+  Clock clock;
+
+  /**
+   * Records new rates.
+   */
+  public void created(Collection<Price> prices) {
+    insert(prices, now());
+  }
+
+  /**
+   * Records new versions of existing rates, closing their previous ones.
+   */
+  public void updated(Collection<Price> prices) {
+    LocalDateTime now = now();
+    close(prices.stream().map(price -> price.rate().priceList()).toList(), now);
+    insert(prices, now);
+  }
+
+  /**
+   * Records the removal of a rate, which is then absent from every later as-of lookup.
+   */
+  public void deleted(Integer priceList) {
+    close(List.of(priceList), now());
+  }
+
+  /**
+   * Opens a version for every rate of PRICES without one, such as rows loaded by data.sql or the synthetic dataset.
+   * Returns the number of versions recorded.
+   */
+  public int baseline() {
+    return jdbcTemplate.update(BASELINE, Timestamp.valueOf(now()), Timestamp.valueOf(OPEN), Timestamp.valueOf(OPEN));
+  }
+
+  private void close(List<Integer> priceLists, LocalDateTime now) {
+    jdbcTemplate.batchUpdate(CLOSE, priceLists, BATCH_SIZE, (statement, priceList) -> {
+      statement.setTimestamp(1, Timestamp.valueOf(now));
+      statement.setInt(2, priceList);
+      statement.setTimestamp(3, Timestamp.valueOf(OPEN));
+    });
+  }
+
+  private void insert(Collection<Price> prices, LocalDateTime now) {
+    jdbcTemplate.batchUpdate(INSERT, prices, BATCH_SIZE, (statement, price) -> {
+      statement.setInt(1, price.rate().priceList());
+      statement.setInt(2, price.brandId());
+      statement.setInt(3, price.productId());
+      statement.setTimestamp(4, Timestamp.valueOf(price.rate().startDate()));
+      statement.setTimestamp(5, Timestamp.valueOf(price.rate().endDate()));
+      statement.setInt(6, price.rate().priority());
+      statement.setBigDecimal(7, price.rate().price().amount());
+      statement.setString(8, price.rate().price().currency().name());
+      statement.setTimestamp(9, Timestamp.valueOf(now));
+      statement.setTimestamp(10, Timestamp.valueOf(OPEN));
+    });
+  }
+
+  private LocalDateTime now() {
+    return LocalDateTime.now(clock);
+  }
+}
@@ -0,0 +1,54 @@
+package com.example.demo.adapter.outbound.persistence;
+
+import lombok.RequiredArgsConstructor;
+import lombok.experimental.FieldDefaults;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import static lombok.AccessLevel.PRIVATE;
+
+/**
+ * Keeps the identity of PRICES.price_list ahead of the price lists written explicitly (data.sql, synthetic datasets,
+ * imports), which H2 does not count: without it, the next generated price list could be one that already exists.
+ */
+@RequiredArgsConstructor
+@FieldDefaults(level = PRIVATE, makeFinal = true)
+public class PriceListIdentity {
+
+  private static final String NEXT_PRICE_LIST = "SELECT COALESCE(MAX(price_list), 0) + 1 FROM PRICES";
+
+  private static final String IDENTITY_BASE = "SELECT IDENTITY_BASE FROM INFORMATION_SCHEMA.COLUMNS "
+      + "WHERE TABLE_SCHEMA = SCHEMA() AND TABLE_NAME = 'PRICES' AND COLUMN_NAME = 'PRICE_LIST'";
+
+  JdbcTemplate jdbcTemplate;
+
+  /**
+   * Restarts the identity after the highest price list, never moving it back. H2 commits on DDL, so this runs outside
+   * of any transaction.
+   */
+  public void advance() {
+    Long next = jdbcTemplate.queryForObject(NEXT_PRICE_LIST, Long.class);
+    Long base = jdbcTemplate.queryForObject(IDENTITY_BASE, Long.class);
+    if (next != null && (base == null || next > base)) {
+      jdbcTemplate.execute("ALTER TABLE PRICES ALTER COLUMN price_list RESTART WITH " + next);
+    }
+  }
+
+  /**
+   * {@link #advance() Advances} the identity once the current transaction commits, or right away without one. A
+   * transaction that rolls back wrote nothing to skip.
+   */
+  public void advanceAfterCommit() {
+    if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+      advance();
+      return;
+    }
+    TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+      @Override
+      public void afterCommit() {
+        advance();
+      }
+    });
+  }
+}
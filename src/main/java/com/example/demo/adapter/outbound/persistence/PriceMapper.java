@@ -1,10 +1,26 @@
 package com.example.demo.adapter.outbound.persistence;
 
+import com.example.demo.adapter.inbound.rest.dto.PriceBatchItemDTO;
+import com.example.demo.adapter.inbound.rest.dto.PriceCompactBatchResponseDTO;
+import com.example.demo.adapter.inbound.rest.dto.PriceCompactDTO;
+import com.example.demo.adapter.inbound.rest.dto.PriceImportResponseDTO;
+import com.example.demo.adapter.inbound.rest.dto.PriceRecordDTO;
+import com.example.demo.adapter.inbound.rest.dto.PriceRequestDTO;
 import com.example.demo.adapter.inbound.rest.dto.PriceResponseDTO;
+import com.example.demo.adapter.inbound.rest.dto.PriceWriteRequestDTO;
 import com.example.demo.domain.model.Currency;
 import com.example.demo.domain.model.Money;
 import com.example.demo.domain.model.Price;
+import com.example.demo.domain.model.PriceImportReport;
+import com.example.demo.domain.model.PriceSegment;
+import com.example.demo.domain.model.PriceUpsert;
 import com.example.demo.domain.model.Rate;
+import com.example.demo.domain.model.VersionedPrice;
+
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.List;
+import java.util.Optional;
 
 public class PriceMapper {
 
@@ -32,6 +48,14 @@ public class PriceMapper {
         );
     }
 
+    public static PriceSegment toSegment(EffectivePricesEntity entity) {
+        return new PriceSegment(
+                toDomain(entity.getPrice()),
+                entity.getId().getValidFrom(),
+                entity.getValidUntil()
+        );
+    }
+
     public static PriceResponseDTO toResponseDTO(Price price) {
         return new PriceResponseDTO(
                 price.productId(),
@@ -42,4 +66,95 @@ public class PriceMapper {
                 price.rate().price().toString()
         );
     }
+
+    public static PriceBatchItemDTO toBatchItemDTO(PriceRequestDTO request, Optional<Price> price) {
+        return new PriceBatchItemDTO(
+                request.brandId(),
+                request.productId(),
+                request.applicationDate(),
+                price.isPresent(),
+                price.map(PriceMapper::toResponseDTO).orElse(null)
+        );
+    }
+
+    public static PriceCompactDTO toCompactDTO(Price price) {
+        Money money = price.rate().price();
+        int fractionDigits = java.util.Currency.getInstance(money.currency().name()).getDefaultFractionDigits();
+        return new PriceCompactDTO(
+                price.productId(),
+                price.brandId(),
+                price.rate().priceList(),
+                toEpochMilli(price.rate().startDate()),
+                toEpochMilli(price.rate().endDate()),
+                money.amount().movePointRight(fractionDigits).longValueExact(),
+                money.currency().name()
+        );
+    }
+
+    public static PriceCompactBatchResponseDTO toCompactBatchResponseDTO(List<Optional<Price>> prices) {
+        return new PriceCompactBatchResponseDTO(prices.stream()
+                .map(price -> price.map(PriceMapper::toCompactDTO).orElse(null))
+                .toList());
+    }
+
+    public static Price toDomain(PriceWriteRequestDTO request, Integer priceList) {
+        Rate rate = new Rate(
+                priceList,
+                request.startDate(),
+                request.endDate(),
+                request.priority(),
+                new Money(request.price(), toCurrency(request.currency()))
+        );
+
+        return new Price(
+                request.brandId(),
+                request.productId(),
+                rate
+        );
+    }
+
+    public static PriceUpsert toUpsert(PriceWriteRequestDTO request) {
+        return new PriceUpsert(toDomain(request, request.priceList()), request.version());
+    }
+
+    public static PriceRecordDTO toRecordDTO(VersionedPrice versionedPrice) {
+        Price price = versionedPrice.price();
+        return new PriceRecordDTO(
+                price.rate().priceList(),
+                price.brandId(),
+                price.productId(),
+                price.rate().startDate(),
+                price.rate().endDate(),
+                price.rate().priority(),
+                price.rate().price().amount(),
+                price.rate().price().currency().name(),
+                versionedPrice.version()
+        );
+    }
+
+    public static PriceImportResponseDTO toImportResponseDTO(PriceImportReport report) {
+        return new PriceImportResponseDTO(
+                report.completed(),
+                report.read(),
+                report.imported(),
+                report.rejected(),
+                report.chunks(),
+                report.elapsed().toMillis() / 1000.0,
+                report.rowsPerSecond(),
+                report.errors(),
+                report.failure()
+        );
+    }
+
+    private static long toEpochMilli(LocalDateTime dateTime) {
+        return dateTime.toInstant(ZoneOffset.UTC).toEpochMilli();
+    }
+
+    private static Currency toCurrency(String currency) {
+        try {
+            return Currency.valueOf(currency);
+        } catch (IllegalArgumentException ex) {
+            throw new IllegalArgumentException(String.format("Unsupported currency '%s'", currency), ex);
+        }
+    }
 }
@@ -1,12 +1,22 @@
 package com.example.demo.adapter.outbound.persistence;
 
 import com.example.demo.domain.model.Price;
+import com.example.demo.domain.model.PriceKey;
+import com.example.demo.domain.model.PriceQuery;
+import com.example.demo.domain.model.PriceSegment;
 import com.example.demo.domain.repository.PriceRepository;
 import lombok.RequiredArgsConstructor;
 import lombok.experimental.FieldDefaults;
 
 import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.stream.Collectors;
 
 import static lombok.AccessLevel.PRIVATE;
 
@@ -23,4 +33,104 @@ public class PricePersistenceAdapter implements PriceRepository {
             .map(PriceMapper::toDomain)
             .toList();
   }
+
+  @Override
+  public Optional<Price> findPriorityPrice(Integer brandId, Integer productId, LocalDateTime applicationDate) {
+    return jpaRepo.findTopPriorityPrice(brandId, productId, applicationDate)
+            .map(PriceMapper::toDomain);
+  }
+
+  @Override
+  public List<Price> findPricesByBrandProduct(Integer brandId, Integer productId) {
+    return jpaRepo.findPricesByBrandAndProduct(brandId, productId)
+            .stream()
+            .map(PriceMapper::toDomain)
+            .toList();
+  }
+
+  @Override
+  public Optional<PriceSegment> findEffectivePrice(Integer brandId, Integer productId, LocalDateTime applicationDate) {
+    return jpaRepo.findEffectivePrice(brandId, productId, applicationDate)
+            .map(PriceMapper::toSegment);
+  }
+
+  @Override
+  public Map<PriceQuery, PriceSegment> findEffectivePrices(Collection<PriceQuery> queries) {
+    if (queries.isEmpty()) {
+      return Map.of();
+    }
+    Set<Integer> brandIds = new HashSet<>();
+    Set<Integer> productIds = new HashSet<>();
+    LocalDateTime fromDate = LocalDateTime.MAX;
+    LocalDateTime toDate = LocalDateTime.MIN;
+    for (PriceQuery query : queries) {
+      brandIds.add(query.brandId());
+      productIds.add(query.productId());
+      fromDate = query.applicationDate().isBefore(fromDate) ? query.applicationDate() : fromDate;
+      toDate = query.applicationDate().isAfter(toDate) ? query.applicationDate() : toDate;
+    }
+
+    // One round-trip for the whole batch, then each lookup keeps the segment of its own brand/product and date
+    Map<PriceKey, List<PriceSegment>> candidates = jpaRepo.findEffectivePricesBetween(brandIds, productIds, fromDate, toDate)
+            .stream()
+            .map(PriceMapper::toSegment)
+            .collect(Collectors.groupingBy(segment -> PriceKey.of(segment.price())));
+
+    Map<PriceQuery, PriceSegment> result = new HashMap<>();
+    for (PriceQuery query : queries) {
+      candidates.getOrDefault(new PriceKey(query.brandId(), query.productId()), List.of()).stream()
+              .filter(segment -> segment.contains(query.applicationDate()))
+              .findFirst()
+              .ifPresent(segment -> result.put(query, segment));
+    }
+    return result;
+  }
+
+  @Override
+  public Map<PriceKey, List<Price>> findPricesByBrandProducts(Collection<PriceKey> keys) {
+    if (keys.isEmpty()) {
+      return Map.of();
+    }
+    Set<Integer> brandIds = new HashSet<>();
+    Set<Integer> productIds = new HashSet<>();
+    for (PriceKey key : keys) {
+      brandIds.add(key.brandId());
+      productIds.add(key.productId());
+    }
+
+    // The cross product of brands and products may return pairs nobody asked for, they are dropped here
+    Map<PriceKey, List<Price>> found = jpaRepo.findPricesByBrandsAndProducts(brandIds, productIds)
+            .stream()
+            .map(PriceMapper::toDomain)
+            .collect(Collectors.groupingBy(PriceKey::of));
+
+    Map<PriceKey, List<Price>> result = new HashMap<>();
+    for (PriceKey key : keys) {
+      result.put(key, found.getOrDefault(key, List.of()));
+    }
+    return result;
+  }
+
+  @Override
+  public Map<PriceQuery, List<Price>> findPricesByBrandProductDates(Collection<PriceQuery> queries) {
+    if (queries.isEmpty()) {
+      return Map.of();
+    }
+    PriceQueryArrays arrays = PriceQueryArrays.of(queries);
+
+    // One round-trip matching each lookup exactly, then each query keeps its own matches
+    Map<PriceKey, List<Price>> candidates = jpaRepo.findPricesAtDates(arrays.brandIds(), arrays.productIds(), arrays.applicationDates())
+            .stream()
+            .map(PriceMapper::toDomain)
+            .collect(Collectors.groupingBy(PriceKey::of));
+
+    Map<PriceQuery, List<Price>> result = new HashMap<>();
+    for (PriceQuery query : queries) {
+      result.computeIfAbsent(query, key -> candidates.getOrDefault(new PriceKey(key.brandId(), key.productId()), List.of())
+              .stream()
+              .filter(key::matches)
+              .toList());
+    }
+    return result;
+  }
 }
@@ -0,0 +1,28 @@
+package com.example.demo.adapter.outbound.persistence;
+
+import com.example.demo.domain.model.PriceQuery;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.LinkedHashSet;
+import java.util.List;
+
+/**
+ * The distinct lookups of a batch as parallel arrays, bound as SQL arrays and joined back into rows with
+ * {@code UNNEST}, so one constant statement matches exact (brand, product, date) tuples whatever the batch size.
+ */
+record PriceQueryArrays(Integer[] brandIds, Integer[] productIds, LocalDateTime[] applicationDates) {
+
+  static PriceQueryArrays of(Collection<PriceQuery> queries) {
+    List<PriceQuery> distinct = List.copyOf(new LinkedHashSet<>(queries));
+    Integer[] brandIds = new Integer[distinct.size()];
+    Integer[] productIds = new Integer[distinct.size()];
+    LocalDateTime[] applicationDates = new LocalDateTime[distinct.size()];
+    for (int i = 0; i < distinct.size(); i++) {
+      brandIds[i] = distinct.get(i).brandId();
+      productIds[i] = distinct.get(i).productId();
+      applicationDates[i] = distinct.get(i).applicationDate();
+    }
+    return new PriceQueryArrays(brandIds, productIds, applicationDates);
+  }
+}
@@ -1,12 +1,14 @@
 package com.example.demo.adapter.outbound.persistence;
 
 import jakarta.persistence.Entity;
+import jakarta.persistence.FetchType;
 import jakarta.persistence.GeneratedValue;
 import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
 import jakarta.persistence.JoinColumn;
 import jakarta.persistence.ManyToOne;
 import jakarta.persistence.Table;
+import jakarta.persistence.Version;
 import jakarta.validation.constraints.NotNull;
 import jakarta.validation.constraints.Positive;
 import jakarta.validation.constraints.Size;
@@ -29,7 +31,7 @@ import java.time.LocalDateTime;
 @Builder
 public class PricesEntity {
 
-  @ManyToOne
+  @ManyToOne(fetch = FetchType.LAZY)
   @JoinColumn(name = "brand_id")
   @NotNull
   private BrandsEntity brand;
@@ -44,7 +46,7 @@ public class PricesEntity {
   @GeneratedValue(strategy = GenerationType.IDENTITY)
   private Integer priceList;
 
-  @ManyToOne
+  @ManyToOne(fetch = FetchType.LAZY)
   @JoinColumn(name = "product_id")
   @NotNull
   private ProductsEntity productsEntity;
@@ -56,4 +58,7 @@ public class PricesEntity {
   @NotNull
   @Size(min = 3, max = 3)
   private String currency;
+
+  @Version
+  private Long version;
 }
@@ -0,0 +1,75 @@
+package com.example.demo.adapter.outbound.r2dbc;
+
+import com.example.demo.domain.model.Currency;
+import com.example.demo.domain.model.Money;
+import com.example.demo.domain.model.Price;
+import com.example.demo.domain.model.Rate;
+import com.example.demo.domain.repository.ReactivePriceRepository;
+import io.r2dbc.spi.Readable;
+import lombok.RequiredArgsConstructor;
+import lombok.experimental.FieldDefaults;
+import org.springframework.r2dbc.core.DatabaseClient;
+import org.springframework.r2dbc.core.RowsFetchSpec;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+
+import static lombok.AccessLevel.PRIVATE;
+
+/**
+ * R2DBC implementation of {@link ReactivePriceRepository}. Rows are mapped straight to the domain model,
+ * the PRICES columns are all it needs.
+ */
+@RequiredArgsConstructor
+@FieldDefaults(level = PRIVATE, makeFinal = true)
+public class R2dbcPriceAdapter implements ReactivePriceRepository {
+
+  private static final String PRICES_AT_DATE = """
+      SELECT brand_id, product_id, price_list, start_date, end_date, priority, price, currency
+      FROM PRICES
+      WHERE brand_id = :brandId AND product_id = :productId
+        AND start_date <= :applicationDate AND end_date >= :applicationDate""";
+
+  private static final String PRIORITY_PRICE_AT_DATE = PRICES_AT_DATE + """
+
+      ORDER BY priority DESC, start_date ASC
+      FETCH FIRST 1 ROW ONLY""";
+
+  DatabaseClient databaseClient;
+
+  @Override
+  public Flux<Price> findPricesByBrandProductDate(Integer brandId, Integer productId, LocalDateTime applicationDate) {
+    return query(PRICES_AT_DATE, brandId, productId, applicationDate).all();
+  }
+
+  @Override
+  public Mono<Price> findPriorityPrice(Integer brandId, Integer productId, LocalDateTime applicationDate) {
+    return query(PRIORITY_PRICE_AT_DATE, brandId, productId, applicationDate).one();
+  }
+
+  private RowsFetchSpec<Price> query(
+      String sql, Integer brandId, Integer productId, LocalDateTime applicationDate) {
+    return databaseClient.sql(sql)
+        .bind("brandId", brandId)
+        .bind("productId", productId)
+        .bind("applicationDate", applicationDate)
+        .map(R2dbcPriceAdapter::toDomain);
+  }
+
+  private static Price toDomain(Readable row) {
+    Money money = new Money(
+        row.get("price", BigDecimal.class),
+        Currency.valueOf(row.get("currency", String.class))
+    );
+    Rate rate = new Rate(
+        row.get("price_list", Integer.class),
+        row.get("start_date", LocalDateTime.class),
+        row.get("end_date", LocalDateTime.class),
+        row.get("priority", Integer.class),
+        money
+    );
+    return new Price(row.get("brand_id", Integer.class), row.get("product_id", Integer.class), rate);
+  }
+}
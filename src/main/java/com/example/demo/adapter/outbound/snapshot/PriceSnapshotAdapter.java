@@ -0,0 +1,275 @@
+package com.example.demo.adapter.outbound.snapshot;
+
+import com.example.demo.adapter.outbound.snapshot.PriceSnapshotFormat.Column;
+import com.example.demo.domain.model.Currency;
+import com.example.demo.domain.model.Money;
+import com.example.demo.domain.model.Price;
+import com.example.demo.domain.model.PriceSegment;
+import com.example.demo.domain.model.Rate;
+import com.example.demo.domain.repository.PriceRepository;
+import lombok.experimental.FieldDefaults;
+
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+import static lombok.AccessLevel.PRIVATE;
+
+/**
+ * {@link PriceRepository} served from a memory-mapped {@link PriceSnapshotFormat} file. Opening maps each column
+ * without reading it, so startup cost and heap use are independent of the catalog size; the OS pages columns in
+ * on demand. A lookup binary-searches the key columns, scans the rate block comparing primitives and only
+ * builds {@link Price} records for the rates it returns.
+ */
+@FieldDefaults(level = PRIVATE, makeFinal = true)
+public class PriceSnapshotAdapter implements PriceRepository {
+
+  private static final Currency[] CURRENCIES = Currency.values();
+
+  int keyCount;
+  int rateCount;
+  ByteBuffer brandIds;
+  ByteBuffer productIds;
+  ByteBuffer blockStarts;
+  ByteBuffer priceLists;
+  ByteBuffer starts;
+  ByteBuffer ends;
+  ByteBuffer priorities;
+  ByteBuffer amounts;
+  ByteBuffer currencies;
+
+  private PriceSnapshotAdapter(int keyCount, int rateCount, Map<Column, ByteBuffer> columns) {
+    this.keyCount = keyCount;
+    this.rateCount = rateCount;
+    this.brandIds = columns.get(Column.BRAND_ID);
+    this.productIds = columns.get(Column.PRODUCT_ID);
+    this.blockStarts = columns.get(Column.BLOCK_START);
+    this.priceLists = columns.get(Column.PRICE_LIST);
+    this.starts = columns.get(Column.START);
+    this.ends = columns.get(Column.END);
+    this.priorities = columns.get(Column.PRIORITY);
+    this.amounts = columns.get(Column.AMOUNT);
+    this.currencies = columns.get(Column.CURRENCY);
+  }
+
+  public static PriceSnapshotAdapter open(Path path) throws IOException {
+    try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+      ByteBuffer header = channel.map(FileChannel.MapMode.READ_ONLY, 0, PriceSnapshotFormat.HEADER_BYTES);
+      if (!isCurrentVersion(header)) {
+        throw new IllegalStateException("Not a version " + PriceSnapshotFormat.VERSION + " price snapshot: " + path);
+      }
+      int keyCount = header.getInt(8);
+      int rateCount = header.getInt(12);
+      Map<Column, ByteBuffer> columns = new EnumMap<>(Column.class);
+      for (Column column : Column.values()) {
+        // One mapping per column keeps each below the 2 GB limit of a single MappedByteBuffer
+        columns.put(column, channel.map(FileChannel.MapMode.READ_ONLY,
+            column.offset(keyCount, rateCount), column.length(keyCount, rateCount)));
+      }
+      long expectedSize = Column.CURRENCY.offset(keyCount, rateCount) + Column.CURRENCY.length(keyCount, rateCount);
+      if (channel.size() != expectedSize) {
+        throw new IllegalStateException("Truncated price snapshot: " + path);
+      }
+      return new PriceSnapshotAdapter(keyCount, rateCount, columns);
+    }
+  }
+
+  /**
+   * The {@link PriceSnapshotMark} a snapshot was written at, empty when the file is missing, shorter than a header
+   * or not a current version snapshot, all cases in which it has to be rebuilt.
+   */
+  public static Optional<PriceSnapshotMark> markOf(Path path) throws IOException {
+    if (Files.notExists(path)) {
+      return Optional.empty();
+    }
+    try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+      if (channel.size() < PriceSnapshotFormat.HEADER_BYTES) {
+        return Optional.empty();
+      }
+      ByteBuffer header = channel.map(FileChannel.MapMode.READ_ONLY, 0, PriceSnapshotFormat.HEADER_BYTES);
+      if (!isCurrentVersion(header)) {
+        return Optional.empty();
+      }
+      return Optional.of(new PriceSnapshotMark(header.getLong(16), header.getLong(24), header.getLong(32)));
+    }
+  }
+
+  private static boolean isCurrentVersion(ByteBuffer header) {
+    return header.getInt(0) == PriceSnapshotFormat.MAGIC && header.getInt(4) == PriceSnapshotFormat.VERSION;
+  }
+
+  @Override
+  public List<Price> findPricesByBrandProductDate(Integer brandId, Integer productId, LocalDateTime applicationDate) {
+    int key = findKey(brandId, productId);
+    if (key < 0) {
+      return List.of();
+    }
+    long date = PriceSnapshotFormat.floorMicros(applicationDate);
+    boolean exact = applicationDate.getNano() % 1_000 == 0;
+    List<Price> result = new ArrayList<>(2);
+    for (int rate = blockStart(key), end = blockStart(key + 1); rate < end && startAt(rate) <= date; rate++) {
+      if (covers(rate, date, exact)) {
+        result.add(priceAt(brandId, productId, rate));
+      }
+    }
+    return result;
+  }
+
+  @Override
+  public Optional<Price> findPriorityPrice(Integer brandId, Integer productId, LocalDateTime applicationDate) {
+    int key = findKey(brandId, productId);
+    if (key < 0) {
+      return Optional.empty();
+    }
+    int best = winnerAt(key, applicationDate);
+    return best < 0 ? Optional.empty() : Optional.of(priceAt(brandId, productId, best));
+  }
+
+  /**
+   * The winning rate at the date and how long it keeps winning, from the mapped block of the brand/product: it wins
+   * from the later of its start and the end of the last rate beating it, until the earlier of its end and the start
+   * of the next rate beating it.
+   */
+  @Override
+  public Optional<PriceSegment> findEffectivePrice(Integer brandId, Integer productId, LocalDateTime applicationDate) {
+    int key = findKey(brandId, productId);
+    if (key < 0) {
+      return Optional.empty();
+    }
+    int winner = winnerAt(key, applicationDate);
+    if (winner < 0) {
+      return Optional.empty();
+    }
+    long date = PriceSnapshotFormat.floorMicros(applicationDate);
+    long winnerStart = startAt(winner);
+    long winnerEnd = endAt(winner);
+    int endedBefore = -1;
+    int startingAfter = -1;
+    for (int rate = blockStart(key), end = blockStart(key + 1); rate < end && startAt(rate) <= winnerEnd; rate++) {
+      if (!beats(rate, winner)) {
+        continue;
+      }
+      // A rate beating the winner does not cover the date, so it either ended before it or starts after it
+      if (startAt(rate) > date) {
+        startingAfter = startingAfter < 0 || startAt(rate) < startAt(startingAfter) ? rate : startingAfter;
+      } else if (endAt(rate) >= winnerStart && (endedBefore < 0 || endAt(rate) > endAt(endedBefore))) {
+        endedBefore = rate;
+      }
+    }
+    return Optional.of(new PriceSegment(priceAt(brandId, productId, winner),
+        endedBefore < 0
+            ? PriceSnapshotFormat.fromMicros(winnerStart)
+            : PriceSnapshotFormat.fromMicros(endAt(endedBefore)).plusNanos(1),
+        startingAfter < 0
+            ? PriceSnapshotFormat.fromMicros(winnerEnd).plusNanos(1)
+            : PriceSnapshotFormat.fromMicros(startAt(startingAfter))));
+  }
+
+  @Override
+  public List<Price> findPricesByBrandProduct(Integer brandId, Integer productId) {
+    int key = findKey(brandId, productId);
+    if (key < 0) {
+      return List.of();
+    }
+    int from = blockStart(key);
+    int to = blockStart(key + 1);
+    List<Price> result = new ArrayList<>(to - from);
+    for (int rate = from; rate < to; rate++) {
+      result.add(priceAt(brandId, productId, rate));
+    }
+    return result;
+  }
+
+  public int size() {
+    return rateCount;
+  }
+
+  public int keyCount() {
+    return keyCount;
+  }
+
+  private int findKey(int brandId, int productId) {
+    int low = 0;
+    int high = keyCount - 1;
+    while (low <= high) {
+      int mid = (low + high) >>> 1;
+      int brand = brandIds.getInt(mid * Integer.BYTES);
+      int cmp = brand != brandId ? Integer.compare(brand, brandId) : Integer.compare(productIds.getInt(mid * Integer.BYTES), productId);
+      if (cmp < 0) {
+        low = mid + 1;
+      } else if (cmp > 0) {
+        high = mid - 1;
+      } else {
+        return mid;
+      }
+    }
+    return -1;
+  }
+
+  /**
+   * The rate with precedence among those covering the date, -1 if none: the highest priority, then the earliest
+   * start, which comes first in the block.
+   */
+  private int winnerAt(int key, LocalDateTime applicationDate) {
+    long date = PriceSnapshotFormat.floorMicros(applicationDate);
+    boolean exact = applicationDate.getNano() % 1_000 == 0;
+    int best = -1;
+    for (int rate = blockStart(key), end = blockStart(key + 1); rate < end && startAt(rate) <= date; rate++) {
+      if (covers(rate, date, exact) && (best < 0 || priorityAt(rate) > priorityAt(best))) {
+        best = rate;
+      }
+    }
+    return best;
+  }
+
+  private boolean beats(int rate, int winner) {
+    return priorityAt(rate) > priorityAt(winner) || priorityAt(rate) == priorityAt(winner) && rate < winner;
+  }
+
+  private boolean covers(int rate, long date, boolean exact) {
+    long end = endAt(rate);
+    // A date between two whole microseconds is still covered by a rate ending on the later one
+    return exact ? end >= date : end > date;
+  }
+
+  private int blockStart(int key) {
+    return blockStarts.getInt(key * Integer.BYTES);
+  }
+
+  private long startAt(int rate) {
+    return starts.getLong(rate * Long.BYTES);
+  }
+
+  private long endAt(int rate) {
+    return ends.getLong(rate * Long.BYTES);
+  }
+
+  private int priorityAt(int rate) {
+    return priorities.getInt(rate * Integer.BYTES);
+  }
+
+  private Price priceAt(Integer brandId, Integer productId, int rate) {
+    Money money = new Money(
+        BigDecimal.valueOf(amounts.getLong(rate * Long.BYTES), PriceSnapshotFormat.AMOUNT_SCALE),
+        CURRENCIES[currencies.get(rate)]
+    );
+    Rate rateRecord = new Rate(
+        priceLists.getInt(rate * Integer.BYTES),
+        PriceSnapshotFormat.fromMicros(startAt(rate)),
+        PriceSnapshotFormat.fromMicros(endAt(rate)),
+        priorityAt(rate),
+        money
+    );
+    return new Price(brandId, productId, rateRecord);
+  }
+}
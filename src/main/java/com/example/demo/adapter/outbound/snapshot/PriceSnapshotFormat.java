@@ -0,0 +1,84 @@
+package com.example.demo.adapter.outbound.snapshot;
+
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+
+/**
+ * Layout of a price snapshot file. After a fixed header come the columns, each one a contiguous fixed-width
+ * array in big-endian order:
+ * <pre>
+ * header   magic:int version:int keyCount:int rateCount:int
+ *          markRateCount:long markMaxPriceList:long markVersionSum:long
+ * keys     brandId:int[keyCount] productId:int[keyCount] blockStart:int[keyCount + 1]
+ * rates    priceList:int[rateCount] startMicros:long[rateCount] endMicros:long[rateCount]
+ *          priority:int[rateCount] amountMinor:long[rateCount] currency:byte[rateCount]
+ * </pre>
+ * Keys are sorted by (brandId, productId); the rates of key {@code i} are the block
+ * {@code [blockStart[i], blockStart[i + 1])}, sorted by start date. Dates are UTC epoch microseconds,
+ * the precision of the PRICES timestamp columns, and amounts are hundredths, the scale of the price column.
+ * The header ends with the {@link PriceSnapshotMark} of PRICES the file was written from.
+ */
+final class PriceSnapshotFormat {
+
+  static final int MAGIC = 0x50525353;
+  static final int VERSION = 2;
+  static final int HEADER_BYTES = 4 * Integer.BYTES + 3 * Long.BYTES;
+  static final int AMOUNT_SCALE = 2;
+
+  enum Column {
+    BRAND_ID(Integer.BYTES, true),
+    PRODUCT_ID(Integer.BYTES, true),
+    BLOCK_START(Integer.BYTES, true),
+    PRICE_LIST(Integer.BYTES, false),
+    START(Long.BYTES, false),
+    END(Long.BYTES, false),
+    PRIORITY(Integer.BYTES, false),
+    AMOUNT(Long.BYTES, false),
+    CURRENCY(Byte.BYTES, false);
+
+    final int width;
+    final boolean perKey;
+
+    Column(int width, boolean perKey) {
+      this.width = width;
+      this.perKey = perKey;
+    }
+
+    long length(int keyCount, int rateCount) {
+      if (this == BLOCK_START) {
+        return (long) width * (keyCount + 1);
+      }
+      return (long) width * (perKey ? keyCount : rateCount);
+    }
+
+    long offset(int keyCount, int rateCount) {
+      long offset = HEADER_BYTES;
+      for (Column column : values()) {
+        if (column == this) {
+          return offset;
+        }
+        offset += column.length(keyCount, rateCount);
+      }
+      throw new IllegalStateException("Unreachable");
+    }
+  }
+
+  private PriceSnapshotFormat() {
+  }
+
+  static long toMicros(LocalDateTime dateTime) {
+    if (dateTime.getNano() % 1_000 != 0) {
+      throw new IllegalArgumentException("Snapshot dates have microsecond precision: " + dateTime);
+    }
+    return floorMicros(dateTime);
+  }
+
+  static long floorMicros(LocalDateTime dateTime) {
+    return Math.addExact(Math.multiplyExact(dateTime.toEpochSecond(ZoneOffset.UTC), 1_000_000L), dateTime.getNano() / 1_000);
+  }
+
+  static LocalDateTime fromMicros(long micros) {
+    return LocalDateTime.ofEpochSecond(
+        Math.floorDiv(micros, 1_000_000L), (int) Math.floorMod(micros, 1_000_000L) * 1_000, ZoneOffset.UTC);
+  }
+}
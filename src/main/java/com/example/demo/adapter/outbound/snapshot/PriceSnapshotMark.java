@@ -0,0 +1,14 @@
+package com.example.demo.adapter.outbound.snapshot;
+
+/**
+ * How far PRICES had got when a snapshot was written: its row count, highest price list and sum of row versions.
+ * Creating, updating or deleting a rate moves at least one of them, so a snapshot whose mark differs from the
+ * current one is missing writes and must be rebuilt. Rows replaced outside the application with the same count,
+ * price lists and versions are not detected; {@code prices.snapshot.rebuild=true} covers that case.
+ */
+public record PriceSnapshotMark(
+    long rateCount,
+    long maxPriceList,
+    long versionSum
+) {
+}
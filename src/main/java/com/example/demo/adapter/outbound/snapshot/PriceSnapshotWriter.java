@@ -0,0 +1,146 @@
+package com.example.demo.adapter.outbound.snapshot;
+
+import com.example.demo.adapter.outbound.snapshot.PriceSnapshotFormat.Column;
+import com.example.demo.domain.model.Price;
+
+import java.io.BufferedOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.math.RoundingMode;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.EnumMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Writes a {@link PriceSnapshotFormat} file from prices grouped by ascending (brand, product), such as a
+ * {@code ORDER BY brand_id, product_id} scan. Each column is spooled to its own temporary file, so memory use
+ * is bounded by the largest (brand, product) block, and the result is moved into place atomically.
+ */
+public final class PriceSnapshotWriter {
+
+  private static final Comparator<Price> BLOCK_ORDER = Comparator
+      .comparing((Price price) -> price.rate().startDate())
+      .thenComparing(price -> price.rate().priceList());
+
+  private PriceSnapshotWriter() {
+  }
+
+  /**
+   * @param mark the state of PRICES the prices were read from, taken before reading them
+   * @return the number of rates written
+   */
+  public static int write(Iterator<Price> prices, PriceSnapshotMark mark, Path target) throws IOException {
+    Path directory = target.toAbsolutePath().getParent();
+    Files.createDirectories(directory);
+    Path spool = Files.createTempDirectory(directory, "price-snapshot");
+    Map<Column, Path> columnFiles = new EnumMap<>(Column.class);
+    Map<Column, DataOutputStream> columns = new EnumMap<>(Column.class);
+    try {
+      for (Column column : Column.values()) {
+        Path file = spool.resolve(column.name());
+        columnFiles.put(column, file);
+        columns.put(column, new DataOutputStream(new BufferedOutputStream(Files.newOutputStream(file), 1 << 16)));
+      }
+
+      int keyCount = 0;
+      int rateCount = 0;
+      List<Price> block = new ArrayList<>();
+      while (prices.hasNext()) {
+        Price price = prices.next();
+        if (!block.isEmpty() && compareKeys(block.getFirst(), price) != 0) {
+          if (compareKeys(block.getFirst(), price) > 0) {
+            throw new IllegalArgumentException("Prices must be grouped by ascending brand and product");
+          }
+          rateCount = writeBlock(block, rateCount, columns);
+          keyCount++;
+          block.clear();
+        }
+        block.add(price);
+      }
+      if (!block.isEmpty()) {
+        rateCount = writeBlock(block, rateCount, columns);
+        keyCount++;
+      }
+      columns.get(Column.BLOCK_START).writeInt(rateCount);
+      for (DataOutputStream column : columns.values()) {
+        column.close();
+      }
+
+      Path assembled = spool.resolve("snapshot");
+      assemble(assembled, keyCount, rateCount, mark, columnFiles);
+      Files.move(assembled, target, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+      return rateCount;
+    } finally {
+      for (DataOutputStream column : columns.values()) {
+        column.close();
+      }
+      for (Path file : columnFiles.values()) {
+        Files.deleteIfExists(file);
+      }
+      Files.deleteIfExists(spool.resolve("snapshot"));
+      Files.deleteIfExists(spool);
+    }
+  }
+
+  private static int writeBlock(List<Price> block, int firstRate, Map<Column, DataOutputStream> columns) throws IOException {
+    block.sort(BLOCK_ORDER);
+    Price first = block.getFirst();
+    columns.get(Column.BRAND_ID).writeInt(first.brandId());
+    columns.get(Column.PRODUCT_ID).writeInt(first.productId());
+    columns.get(Column.BLOCK_START).writeInt(firstRate);
+    for (Price price : block) {
+      columns.get(Column.PRICE_LIST).writeInt(price.rate().priceList());
+      columns.get(Column.START).writeLong(PriceSnapshotFormat.toMicros(price.rate().startDate()));
+      columns.get(Column.END).writeLong(PriceSnapshotFormat.toMicros(price.rate().endDate()));
+      columns.get(Column.PRIORITY).writeInt(price.rate().priority());
+      columns.get(Column.AMOUNT).writeLong(price.rate().price().amount()
+          .setScale(PriceSnapshotFormat.AMOUNT_SCALE, RoundingMode.UNNECESSARY)
+          .unscaledValue()
+          .longValueExact());
+      columns.get(Column.CURRENCY).writeByte(price.rate().price().currency().ordinal());
+    }
+    return Math.addExact(firstRate, block.size());
+  }
+
+  private static void assemble(Path target, int keyCount, int rateCount, PriceSnapshotMark mark,
+                               Map<Column, Path> columnFiles) throws IOException {
+    try (FileChannel out = FileChannel.open(target, StandardOpenOption.CREATE_NEW, StandardOpenOption.WRITE)) {
+      ByteBuffer header = ByteBuffer.allocate(PriceSnapshotFormat.HEADER_BYTES)
+          .putInt(PriceSnapshotFormat.MAGIC)
+          .putInt(PriceSnapshotFormat.VERSION)
+          .putInt(keyCount)
+          .putInt(rateCount)
+          .putLong(mark.rateCount())
+          .putLong(mark.maxPriceList())
+          .putLong(mark.versionSum())
+          .flip();
+      while (header.hasRemaining()) {
+        out.write(header);
+      }
+      for (Column column : Column.values()) {
+        try (FileChannel in = FileChannel.open(columnFiles.get(column), StandardOpenOption.READ)) {
+          long size = in.size();
+          long transferred = 0;
+          while (transferred < size) {
+            transferred += in.transferTo(transferred, size - transferred, out);
+          }
+        }
+      }
+      out.force(true);
+    }
+  }
+
+  private static int compareKeys(Price a, Price b) {
+    int byBrand = Integer.compare(a.brandId(), b.brandId());
+    return byBrand != 0 ? byBrand : Integer.compare(a.productId(), b.productId());
+  }
+}
@@ -0,0 +1,212 @@
+package com.example.demo.application.usecase;
+
+import com.example.demo.adapter.inbound.rest.dto.PriceRequestDTO;
+import com.example.demo.domain.model.Price;
+import com.example.demo.domain.model.PriceKey;
+import com.example.demo.domain.model.PriceSegment;
+import com.example.demo.domain.repository.PriceChangeListener;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.RemovalCause;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.experimental.FieldDefaults;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentNavigableMap;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+import static lombok.AccessLevel.PRIVATE;
+
+/**
+ * Caches resolved price segments per brand/product. A request is a hit when its application date
+ * falls inside any cached segment of the product, regardless of the exact timestamp.
+ *
+ * <p>Writes invalidate the product. A miss that read the rates before such a write only stores its segment when no
+ * invalidation of the product happened while it was loading, and every entry expires after {@code expireAfterWrite}
+ * as a backstop.
+ */
+@FieldDefaults(level = PRIVATE, makeFinal = true)
+public class CachingPriorityPriceUseCase implements PriorityPriceUseCase, PriceChangeListener {
+
+  private static final int GENERATION_STRIPES = 1024;
+
+  PriorityPriceUseCase delegate;
+  int segmentsPerProduct;
+  Cache<PriceKey, ConcurrentNavigableMap<LocalDateTime, PriceSegment>> segments;
+  // Invalidations per stripe of keys; a collision only costs the colliding miss its cache entry
+  AtomicLongArray generations = new AtomicLongArray(GENERATION_STRIPES);
+  Counter hits;
+  Counter misses;
+  Counter evictions;
+
+  public CachingPriorityPriceUseCase(PriorityPriceUseCase delegate, long maximumProducts, int segmentsPerProduct,
+                                     Duration expireAfterWrite, MeterRegistry meterRegistry) {
+    if (segmentsPerProduct < 1) {
+      throw new IllegalArgumentException("segmentsPerProduct must be >= 1");
+    }
+    this.delegate = delegate;
+    this.segmentsPerProduct = segmentsPerProduct;
+    this.hits = meterRegistry.counter("prices.cache.requests", "result", "hit");
+    this.misses = meterRegistry.counter("prices.cache.requests", "result", "miss");
+    this.evictions = meterRegistry.counter("prices.cache.evictions");
+    this.segments = Caffeine.newBuilder()
+        .maximumSize(maximumProducts)
+        .expireAfterWrite(expireAfterWrite)
+        .executor(Runnable::run)
+        .removalListener((PriceKey key, ConcurrentNavigableMap<LocalDateTime, PriceSegment> cached, RemovalCause cause) -> {
+          if (cause.wasEvicted() && cached != null) {
+            evictions.increment(cached.size());
+          }
+        })
+        .build();
+    Gauge.builder("prices.cache.products", segments, Cache::estimatedSize).register(meterRegistry);
+  }
+
+  @Override
+  public Price getPriorityPrice(PriceRequestDTO request) {
+    return getPriorityPriceSegment(request).price();
+  }
+
+  @Override
+  public PriceSegment getPriorityPriceSegment(PriceRequestDTO request) {
+    PriceSegment cached = lookup(request);
+    if (cached != null) {
+      hits.increment();
+      return cached;
+    }
+    misses.increment();
+    PriceKey key = new PriceKey(request.brandId(), request.productId());
+    long generation = generation(key);
+    PriceSegment segment = delegate.getPriorityPriceSegment(request);
+    store(key, generation, segment);
+    return segment;
+  }
+
+  @Override
+  public Optional<PriceSegment> findPriorityPriceSegment(PriceRequestDTO request) {
+    PriceSegment cached = lookup(request);
+    if (cached != null) {
+      hits.increment();
+      return Optional.of(cached);
+    }
+    misses.increment();
+    PriceKey key = new PriceKey(request.brandId(), request.productId());
+    long generation = generation(key);
+    Optional<PriceSegment> segment = delegate.findPriorityPriceSegment(request);
+    segment.ifPresent(found -> store(key, generation, found));
+    return segment;
+  }
+
+  @Override
+  public List<Optional<Price>> getPriorityPrices(List<PriceRequestDTO> requests) {
+    List<Optional<Price>> result = new ArrayList<>(Collections.nCopies(requests.size(), Optional.empty()));
+    List<Integer> missIndexes = new ArrayList<>();
+    for (int i = 0; i < requests.size(); i++) {
+      PriceSegment segment = lookup(requests.get(i));
+      if (segment != null) {
+        hits.increment();
+        result.set(i, Optional.of(segment.price()));
+      } else {
+        misses.increment();
+        missIndexes.add(i);
+      }
+    }
+    if (!missIndexes.isEmpty()) {
+      List<Optional<Price>> loaded = delegate.getPriorityPrices(missIndexes.stream().map(requests::get).toList());
+      for (int i = 0; i < missIndexes.size(); i++) {
+        result.set(missIndexes.get(i), loaded.get(i));
+      }
+    }
+    return result;
+  }
+
+  @Override
+  public void priceSaved(Price price) {
+    // The layers below go first, a miss right after the invalidation must not be served from their old state
+    if (delegate instanceof PriceChangeListener listener) {
+      listener.priceSaved(price);
+    }
+    invalidate(price.brandId(), price.productId());
+  }
+
+  @Override
+  public void pricesSaved(Collection<Price> prices) {
+    if (delegate instanceof PriceChangeListener listener) {
+      listener.pricesSaved(prices);
+    }
+    prices.stream()
+        .map(PriceKey::of)
+        .distinct()
+        .forEach(key -> invalidate(key.brandId(), key.productId()));
+  }
+
+  @Override
+  public void priceDeleted(Integer brandId, Integer productId, Integer priceList) {
+    if (delegate instanceof PriceChangeListener listener) {
+      listener.priceDeleted(brandId, productId, priceList);
+    }
+    invalidate(brandId, productId);
+  }
+
+  public void invalidate(Integer brandId, Integer productId) {
+    PriceKey key = new PriceKey(brandId, productId);
+    // Counted before the entry goes, so a miss storing afterwards sees it
+    generations.incrementAndGet(stripe(key));
+    segments.invalidate(key);
+  }
+
+  private PriceSegment lookup(PriceRequestDTO request) {
+    ConcurrentNavigableMap<LocalDateTime, PriceSegment> cached = segments.getIfPresent(
+        new PriceKey(request.brandId(), request.productId()));
+    if (cached == null) {
+      return null;
+    }
+    Map.Entry<LocalDateTime, PriceSegment> entry = cached.floorEntry(request.applicationDate());
+    return entry != null && entry.getValue().contains(request.applicationDate()) ? entry.getValue() : null;
+  }
+
+  private long generation(PriceKey key) {
+    return generations.get(stripe(key));
+  }
+
+  private static int stripe(PriceKey key) {
+    return (key.hashCode() & 0x7fffffff) % GENERATION_STRIPES;
+  }
+
+  private void store(PriceKey key, long generation, PriceSegment segment) {
+    if (generation(key) != generation) {
+      return;
+    }
+    ConcurrentNavigableMap<LocalDateTime, PriceSegment> cached = segments.get(key, ignored -> new ConcurrentSkipListMap<>());
+    cached.put(segment.validFrom(), segment);
+    if (generation(key) != generation) {
+      // Invalidated between the check and the put, the segment may have been read before the write
+      segments.invalidate(key);
+      return;
+    }
+    while (cached.size() > segmentsPerProduct) {
+      // Keep the segments closest to the one just resolved, traffic clusters around "now"
+      Map.Entry<LocalDateTime, PriceSegment> first = cached.firstEntry();
+      Map.Entry<LocalDateTime, PriceSegment> last = cached.lastEntry();
+      if (first == null || last == null) {
+        break;
+      }
+      Duration toFirst = Duration.between(first.getKey(), segment.validFrom());
+      Duration toLast = Duration.between(segment.validFrom(), last.getKey());
+      LocalDateTime victim = toFirst.compareTo(toLast) >= 0 ? first.getKey() : last.getKey();
+      if (cached.remove(victim) != null) {
+        evictions.increment();
+      }
+    }
+  }
+}
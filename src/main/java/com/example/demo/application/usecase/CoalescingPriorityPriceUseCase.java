@@ -0,0 +1,148 @@
+package com.example.demo.application.usecase;
+
+import com.example.demo.adapter.inbound.rest.dto.PriceRequestDTO;
+import com.example.demo.domain.exception.ResourceNotFoundException;
+import com.example.demo.domain.model.Price;
+import com.example.demo.domain.model.PriceKey;
+import com.example.demo.domain.model.PriceSegment;
+import com.example.demo.domain.repository.PriceChangeListener;
+import com.example.demo.domain.service.PriorityPriceService;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.experimental.FieldDefaults;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+import static lombok.AccessLevel.PRIVATE;
+
+/**
+ * Collapses concurrent lookups of the same brand/product into one load of the wrapped use case. The first caller
+ * loads, callers arriving while that load is in flight wait for it and share the segment when it covers their
+ * application date; otherwise they load on their own. Waiting parks on a {@link CompletableFuture} and never holds
+ * a monitor, so it behaves the same on virtual and platform threads.
+ *
+ * <p>Requests are counted as {@code prices.coalescing.requests}, tagged {@code leader} (started a load),
+ * {@code joined} (waited for another caller's load) and {@code reloaded} (joined, but the shared segment did not
+ * cover their date).
+ */
+@FieldDefaults(level = PRIVATE, makeFinal = true)
+public class CoalescingPriorityPriceUseCase implements PriorityPriceUseCase, PriceChangeListener {
+
+  PriorityPriceUseCase delegate;
+  ConcurrentMap<PriceKey, Flight> inFlight = new ConcurrentHashMap<>();
+  Counter leaders;
+  Counter joined;
+  Counter reloaded;
+
+  public CoalescingPriorityPriceUseCase(PriorityPriceUseCase delegate, MeterRegistry meterRegistry) {
+    this.delegate = delegate;
+    this.leaders = meterRegistry.counter("prices.coalescing.requests", "result", "leader");
+    this.joined = meterRegistry.counter("prices.coalescing.requests", "result", "joined");
+    this.reloaded = meterRegistry.counter("prices.coalescing.requests", "result", "reloaded");
+    Gauge.builder("prices.coalescing.in_flight", inFlight, ConcurrentMap::size)
+        .description("Brand/products with a load in flight")
+        .register(meterRegistry);
+  }
+
+  @Override
+  public Price getPriorityPrice(PriceRequestDTO request) {
+    return getPriorityPriceSegment(request).price();
+  }
+
+  @Override
+  public PriceSegment getPriorityPriceSegment(PriceRequestDTO request) {
+    return findPriorityPriceSegment(request)
+        .orElseThrow(() -> new ResourceNotFoundException(PriorityPriceService.notFoundMessage(request)));
+  }
+
+  @Override
+  public Optional<PriceSegment> findPriorityPriceSegment(PriceRequestDTO request) {
+    PriceKey key = new PriceKey(request.brandId(), request.productId());
+    Flight own = new Flight(request.applicationDate(), new CompletableFuture<>());
+    // putIfAbsent rather than computeIfAbsent: the load must not run while the map holds a bin lock
+    Flight flight = inFlight.putIfAbsent(key, own);
+    if (flight == null) {
+      leaders.increment();
+      return lead(key, own, request);
+    }
+    joined.increment();
+    Optional<PriceSegment> shared = await(flight.result());
+    if (flight.covers(shared, request.applicationDate())) {
+      return shared;
+    }
+    // The shared load resolved another segment, loading directly keeps a waiter from queueing twice
+    reloaded.increment();
+    return delegate.findPriorityPriceSegment(request);
+  }
+
+  @Override
+  public List<Optional<Price>> getPriorityPrices(List<PriceRequestDTO> requests) {
+    return delegate.getPriorityPrices(requests);
+  }
+
+  @Override
+  public void priceSaved(Price price) {
+    forget(price.brandId(), price.productId());
+  }
+
+  @Override
+  public void pricesSaved(Collection<Price> prices) {
+    prices.stream()
+        .map(PriceKey::of)
+        .distinct()
+        .forEach(key -> forget(key.brandId(), key.productId()));
+  }
+
+  @Override
+  public void priceDeleted(Integer brandId, Integer productId, Integer priceList) {
+    forget(brandId, productId);
+  }
+
+  private Optional<PriceSegment> lead(PriceKey key, Flight flight, PriceRequestDTO request) {
+    try {
+      Optional<PriceSegment> segment = delegate.findPriorityPriceSegment(request);
+      inFlight.remove(key, flight);
+      flight.result().complete(segment);
+      return segment;
+    } catch (RuntimeException | Error ex) {
+      inFlight.remove(key, flight);
+      flight.result().completeExceptionally(ex);
+      throw ex;
+    }
+  }
+
+  private void forget(Integer brandId, Integer productId) {
+    // Callers arriving after a write start a new load instead of joining one that may have read the old rates
+    inFlight.remove(new PriceKey(brandId, productId));
+  }
+
+  private static Optional<PriceSegment> await(CompletableFuture<Optional<PriceSegment>> result) {
+    try {
+      return result.join();
+    } catch (CompletionException ex) {
+      if (ex.getCause() instanceof RuntimeException cause) {
+        throw cause;
+      }
+      throw ex;
+    }
+  }
+
+  private record Flight(LocalDateTime applicationDate, CompletableFuture<Optional<PriceSegment>> result) {
+
+    /**
+     * A found segment answers every date it contains. An empty result says nothing about other dates, so it is
+     * only shared with callers asking for the same instant.
+     */
+    boolean covers(Optional<PriceSegment> segment, LocalDateTime date) {
+      return segment.map(found -> found.contains(date)).orElseGet(() -> applicationDate.equals(date));
+    }
+  }
+}
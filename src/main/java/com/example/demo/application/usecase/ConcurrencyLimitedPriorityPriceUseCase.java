@@ -0,0 +1,188 @@
+package com.example.demo.application.usecase;
+
+import com.example.demo.adapter.inbound.rest.dto.PriceRequestDTO;
+import com.example.demo.domain.exception.PriceLookupRejectedException;
+import com.example.demo.domain.exception.ResourceNotFoundException;
+import com.example.demo.domain.model.Price;
+import com.example.demo.domain.model.PriceSegment;
+import com.example.demo.domain.repository.PriceChangeListener;
+import com.example.demo.domain.service.PriorityPriceService;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.experimental.FieldDefaults;
+
+import java.time.Duration;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.DoubleUnaryOperator;
+import java.util.function.LongSupplier;
+import java.util.function.Supplier;
+
+import static lombok.AccessLevel.PRIVATE;
+
+/**
+ * Bounds the lookups in flight through the wrapped use case with an AIMD limit driven by their latency. A lookup
+ * arriving while the limit is reached is rejected at once with {@link PriceLookupRejectedException} instead of
+ * queueing for threads and connections. A lookup slower than {@code latencyTarget} multiplies the limit by
+ * {@code backoffRatio}, at most once per round of lookups started under the previous limit; a faster one grows it
+ * by about one per round while at least half of it is in use.
+ *
+ * <p>Batches hold one slot while they run but, being much longer than single lookups, do not adjust the limit.
+ * Published as {@code prices.limiter.limit}, {@code prices.limiter.in_flight} and {@code prices.limiter.requests}
+ * tagged {@code accepted} or {@code rejected}.
+ */
+@FieldDefaults(level = PRIVATE, makeFinal = true)
+public class ConcurrencyLimitedPriorityPriceUseCase implements PriorityPriceUseCase, PriceChangeListener {
+
+  PriorityPriceUseCase delegate;
+  int minLimit;
+  int maxLimit;
+  long latencyTargetNanos;
+  double backoffRatio;
+  Duration retryAfter;
+  LongSupplier nanoTime;
+  AtomicInteger inFlight = new AtomicInteger();
+  // The limit is fractional so that growth can be spread over a round; kept as raw double bits for CAS
+  AtomicLong limit;
+  AtomicLong lastDecrease;
+  Counter accepted;
+  Counter rejected;
+
+  public ConcurrencyLimitedPriorityPriceUseCase(PriorityPriceUseCase delegate, int initialLimit, int minLimit, int maxLimit,
+                                                Duration latencyTarget, double backoffRatio, Duration retryAfter,
+                                                MeterRegistry meterRegistry) {
+    this(delegate, initialLimit, minLimit, maxLimit, latencyTarget, backoffRatio, retryAfter, meterRegistry, System::nanoTime);
+  }
+
+  ConcurrencyLimitedPriorityPriceUseCase(PriorityPriceUseCase delegate, int initialLimit, int minLimit, int maxLimit,
+                                         Duration latencyTarget, double backoffRatio, Duration retryAfter,
+                                         MeterRegistry meterRegistry, LongSupplier nanoTime) {
+    if (minLimit < 1 || minLimit > initialLimit || initialLimit > maxLimit) {
+      throw new IllegalArgumentException("Limits must satisfy 1 <= min-limit <= initial-limit <= max-limit");
+    }
+    if (backoffRatio <= 0 || backoffRatio >= 1) {
+      throw new IllegalArgumentException("backoff-ratio must be between 0 and 1");
+    }
+    this.delegate = delegate;
+    this.minLimit = minLimit;
+    this.maxLimit = maxLimit;
+    this.latencyTargetNanos = latencyTarget.toNanos();
+    this.backoffRatio = backoffRatio;
+    this.retryAfter = retryAfter;
+    this.nanoTime = nanoTime;
+    this.limit = new AtomicLong(Double.doubleToRawLongBits(initialLimit));
+    this.lastDecrease = new AtomicLong(nanoTime.getAsLong());
+    this.accepted = meterRegistry.counter("prices.limiter.requests", "result", "accepted");
+    this.rejected = meterRegistry.counter("prices.limiter.requests", "result", "rejected");
+    Gauge.builder("prices.limiter.limit", this, ConcurrencyLimitedPriorityPriceUseCase::limit)
+        .description("Lookups allowed in flight")
+        .register(meterRegistry);
+    Gauge.builder("prices.limiter.in_flight", inFlight, AtomicInteger::get)
+        .description("Lookups in flight")
+        .register(meterRegistry);
+  }
+
+  @Override
+  public Price getPriorityPrice(PriceRequestDTO request) {
+    return getPriorityPriceSegment(request).price();
+  }
+
+  @Override
+  public PriceSegment getPriorityPriceSegment(PriceRequestDTO request) {
+    return findPriorityPriceSegment(request)
+        .orElseThrow(() -> new ResourceNotFoundException(PriorityPriceService.notFoundMessage(request)));
+  }
+
+  @Override
+  public Optional<PriceSegment> findPriorityPriceSegment(PriceRequestDTO request) {
+    return limited(true, () -> delegate.findPriorityPriceSegment(request));
+  }
+
+  @Override
+  public List<Optional<Price>> getPriorityPrices(List<PriceRequestDTO> requests) {
+    return limited(false, () -> delegate.getPriorityPrices(requests));
+  }
+
+  @Override
+  public void priceSaved(Price price) {
+    if (delegate instanceof PriceChangeListener listener) {
+      listener.priceSaved(price);
+    }
+  }
+
+  @Override
+  public void pricesSaved(Collection<Price> prices) {
+    if (delegate instanceof PriceChangeListener listener) {
+      listener.pricesSaved(prices);
+    }
+  }
+
+  @Override
+  public void priceDeleted(Integer brandId, Integer productId, Integer priceList) {
+    if (delegate instanceof PriceChangeListener listener) {
+      listener.priceDeleted(brandId, productId, priceList);
+    }
+  }
+
+  double limit() {
+    return Double.longBitsToDouble(limit.get());
+  }
+
+  private <T> T limited(boolean sampled, Supplier<T> lookup) {
+    int current = acquire();
+    long start = nanoTime.getAsLong();
+    try {
+      return lookup.get();
+    } finally {
+      // Failures are sampled too: a lookup that timed out waiting for a connection is the clearest overload signal
+      inFlight.decrementAndGet();
+      if (sampled) {
+        adjust(start, nanoTime.getAsLong(), current);
+      }
+    }
+  }
+
+  /**
+   * Takes a slot, returning the number of lookups in flight including this one.
+   */
+  private int acquire() {
+    while (true) {
+      int current = inFlight.get();
+      int allowed = (int) limit();
+      if (current >= allowed) {
+        rejected.increment();
+        throw new PriceLookupRejectedException(allowed, retryAfter);
+      }
+      if (inFlight.compareAndSet(current, current + 1)) {
+        accepted.increment();
+        return current + 1;
+      }
+    }
+  }
+
+  private void adjust(long start, long end, int inFlightAtStart) {
+    if (end - start > latencyTargetNanos) {
+      // Lookups started before the last decrease saw the same congestion, counting them again would collapse the limit
+      long last = lastDecrease.get();
+      if (start - last >= 0 && lastDecrease.compareAndSet(last, end)) {
+        update(value -> Math.max(minLimit, value * backoffRatio));
+      }
+    } else {
+      // Only a limit that is actually being used has shown it can grow
+      update(value -> inFlightAtStart * 2 >= value ? Math.min(maxLimit, value + 1 / value) : value);
+    }
+  }
+
+  private void update(DoubleUnaryOperator change) {
+    long bits;
+    long updated;
+    do {
+      bits = limit.get();
+      updated = Double.doubleToRawLongBits(change.applyAsDouble(Double.longBitsToDouble(bits)));
+    } while (bits != updated && !limit.compareAndSet(bits, updated));
+  }
+}
@@ -0,0 +1,110 @@
+package com.example.demo.application.usecase;
+
+import com.example.demo.adapter.inbound.rest.dto.PriceRequestDTO;
+import com.example.demo.domain.exception.ResourceNotFoundException;
+import com.example.demo.domain.model.Price;
+import com.example.demo.domain.model.PriceSegment;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Meter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.experimental.FieldDefaults;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+
+import static lombok.AccessLevel.PRIVATE;
+
+/**
+ * Times every lookup of the wrapped use case as {@code prices.lookup}, tagged by operation and outcome
+ * ({@code found}, {@code not_found} or {@code error}), and counts not-found outcomes per brand as
+ * {@code prices.lookup.not_found}. The timer carries a percentile histogram per tag combination, so it is not
+ * tagged by brand, which only a plain counter can afford.
+ */
+@FieldDefaults(level = PRIVATE, makeFinal = true)
+public class InstrumentedPriorityPriceUseCase implements PriorityPriceUseCase {
+
+  PriorityPriceUseCase delegate;
+  Meter.MeterProvider<Timer> lookups;
+  Meter.MeterProvider<Counter> notFound;
+  Timer batches;
+
+  public InstrumentedPriorityPriceUseCase(PriorityPriceUseCase delegate, MeterRegistry meterRegistry) {
+    this.delegate = delegate;
+    this.lookups = Timer.builder("prices.lookup")
+        .description("Priority price lookups")
+        .publishPercentileHistogram()
+        .withRegistry(meterRegistry);
+    this.notFound = Counter.builder("prices.lookup.not_found")
+        .description("Lookups without an applicable price")
+        .withRegistry(meterRegistry);
+    this.batches = Timer.builder("prices.lookup.batch")
+        .description("Batch priority price lookups")
+        .publishPercentileHistogram()
+        .register(meterRegistry);
+  }
+
+  @Override
+  public Price getPriorityPrice(PriceRequestDTO request) {
+    return timed("price", request, delegate::getPriorityPrice);
+  }
+
+  @Override
+  public PriceSegment getPriorityPriceSegment(PriceRequestDTO request) {
+    return timed("segment", request, delegate::getPriorityPriceSegment);
+  }
+
+  @Override
+  public Optional<PriceSegment> findPriorityPriceSegment(PriceRequestDTO request) {
+    long start = System.nanoTime();
+    Optional<PriceSegment> segment;
+    try {
+      segment = delegate.findPriorityPriceSegment(request);
+    } catch (RuntimeException ex) {
+      record("segment", "error", start);
+      throw ex;
+    }
+    if (segment.isPresent()) {
+      record("segment", "found", start);
+    } else {
+      record("segment", "not_found", start);
+      notFound.withTags("brand", String.valueOf(request.brandId())).increment();
+    }
+    return segment;
+  }
+
+  @Override
+  public List<Optional<Price>> getPriorityPrices(List<PriceRequestDTO> requests) {
+    List<Optional<Price>> prices = batches.record(() -> delegate.getPriorityPrices(requests));
+    for (int i = 0; i < prices.size(); i++) {
+      if (prices.get(i).isEmpty()) {
+        notFound.withTags("brand", String.valueOf(requests.get(i).brandId())).increment();
+      }
+    }
+    return prices;
+  }
+
+  private <T> T timed(String operation, PriceRequestDTO request, Function<PriceRequestDTO, T> lookup) {
+    long start = System.nanoTime();
+    try {
+      T result = lookup.apply(request);
+      record(operation, "found", start);
+      return result;
+    } catch (ResourceNotFoundException ex) {
+      record(operation, "not_found", start);
+      notFound.withTags("brand", String.valueOf(request.brandId())).increment();
+      throw ex;
+    } catch (RuntimeException ex) {
+      // Timeouts and rejected lookups are the latencies an alert most needs to see
+      record(operation, "error", start);
+      throw ex;
+    }
+  }
+
+  private void record(String operation, String outcome, long start) {
+    lookups.withTags("operation", operation, "outcome", outcome)
+        .record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+  }
+}
@@ -0,0 +1,14 @@
+package com.example.demo.application.usecase;
+
+import com.example.demo.domain.model.Price;
+
+import java.time.LocalDateTime;
+import java.util.stream.Stream;
+
+public interface PriceExportUseCase {
+  /**
+   * The winning rate at {@code applicationDate} of every product of the brand that has one, ordered by product id.
+   * The stream must be closed.
+   */
+  Stream<Price> exportEffectivePrices(Integer brandId, LocalDateTime applicationDate);
+}
@@ -0,0 +1,14 @@
+package com.example.demo.application.usecase;
+
+import com.example.demo.adapter.inbound.rest.dto.PriceRequestDTO;
+import com.example.demo.domain.model.Price;
+
+import java.time.LocalDateTime;
+import java.util.Optional;
+
+public interface PriceHistoryUseCase {
+  /**
+   * The price a lookup for {@code request} would have returned with the data as stored at {@code asOf}.
+   */
+  Optional<Price> findPriorityPriceAsOf(PriceRequestDTO request, LocalDateTime asOf);
+}
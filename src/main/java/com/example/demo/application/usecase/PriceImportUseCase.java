@@ -0,0 +1,15 @@
+package com.example.demo.application.usecase;
+
+import com.example.demo.domain.model.Price;
+import com.example.demo.domain.model.PriceImportReport;
+
+import java.io.BufferedReader;
+import java.util.function.Function;
+
+public interface PriceImportUseCase {
+  /**
+   * Imports one rate per line of {@code source}. {@code parser} turns a line into a rate, returns {@code null} for
+   * lines to skip (headers, blank lines) and throws for invalid ones, which are rejected without stopping the import.
+   */
+  PriceImportReport importPrices(BufferedReader source, Function<String, Price> parser);
+}
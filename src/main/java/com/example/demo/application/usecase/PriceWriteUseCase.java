@@ -0,0 +1,19 @@
+package com.example.demo.application.usecase;
+
+import com.example.demo.domain.model.Price;
+import com.example.demo.domain.model.PriceUpsert;
+import com.example.demo.domain.model.VersionedPrice;
+
+import java.util.List;
+
+public interface PriceWriteUseCase {
+  VersionedPrice getPrice(Integer priceList);
+
+  VersionedPrice createPrice(Price price);
+
+  VersionedPrice updatePrice(Price price, long expectedVersion);
+
+  void deletePrice(Integer priceList, long expectedVersion);
+
+  List<VersionedPrice> upsertPrices(List<PriceUpsert> upserts);
+}
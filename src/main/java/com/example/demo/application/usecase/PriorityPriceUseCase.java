@@ -2,7 +2,20 @@ package com.example.demo.application.usecase;
 
 import com.example.demo.adapter.inbound.rest.dto.PriceRequestDTO;
 import com.example.demo.domain.model.Price;
+import com.example.demo.domain.model.PriceSegment;
+
+import java.util.List;
+import java.util.Optional;
 
 public interface PriorityPriceUseCase {
   Price getPriorityPrice(PriceRequestDTO request);
+
+  PriceSegment getPriorityPriceSegment(PriceRequestDTO request);
+
+  /**
+   * Like {@link #getPriorityPriceSegment} but reports a missing price as an empty result instead of an exception.
+   */
+  Optional<PriceSegment> findPriorityPriceSegment(PriceRequestDTO request);
+
+  List<Optional<Price>> getPriorityPrices(List<PriceRequestDTO> requests);
 }
@@ -0,0 +1,11 @@
+package com.example.demo.application.usecase;
+
+import com.example.demo.adapter.inbound.rest.dto.PriceRequestDTO;
+import com.example.demo.domain.model.Price;
+import reactor.core.publisher.Mono;
+
+public interface ReactivePriorityPriceUseCase {
+
+  Mono<Price> getPriorityPrice(PriceRequestDTO request);
+
+}
@@ -0,0 +1,18 @@
+package com.example.demo.domain.exception;
+
+import java.time.Duration;
+
+public class PriceLookupRejectedException extends RuntimeException {
+
+    private final Duration retryAfter;
+
+    public PriceLookupRejectedException(int limit, Duration retryAfter) {
+        // Thrown on every rejected request under overload, so no stack trace is captured
+        super(String.format("Too many price lookups in progress (limit %d), retry later", limit), null, false, false);
+        this.retryAfter = retryAfter;
+    }
+
+    public Duration getRetryAfter() {
+        return retryAfter;
+    }
+}
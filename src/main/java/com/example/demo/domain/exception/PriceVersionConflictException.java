@@ -0,0 +1,12 @@
+package com.example.demo.domain.exception;
+
+public class PriceVersionConflictException extends RuntimeException {
+
+    public PriceVersionConflictException(String message) {
+        super(message);
+    }
+
+    public PriceVersionConflictException(Integer priceList, long expectedVersion, long actualVersion) {
+        super(String.format("Price list %d is at version %d, not %d", priceList, actualVersion, expectedVersion));
+    }
+}
@@ -1,5 +1,6 @@
 package com.example.demo.domain.model;
 
+import java.util.Comparator;
 import java.util.Objects;
 
 public record Price(
@@ -7,6 +8,14 @@ public record Price(
     Integer productId,
     Rate rate
 ) {
+  public static final Comparator<Price> BY_PRIORITY = Comparator.comparingInt(price -> price.rate().priority());
+
+  /**
+   * Which of overlapping rates applies, as the greatest: highest priority, then the earliest start.
+   */
+  public static final Comparator<Price> BY_PRECEDENCE = BY_PRIORITY
+      .thenComparing(price -> price.rate().startDate(), Comparator.reverseOrder());
+
   public Price {
     Objects.requireNonNull(brandId);
     Objects.requireNonNull(productId);
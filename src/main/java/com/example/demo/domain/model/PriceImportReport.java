@@ -0,0 +1,30 @@
+package com.example.demo.domain.model;
+
+import java.time.Duration;
+import java.util.List;
+
+/**
+ * Outcome of a bulk import. {@code errors} holds the first rejected lines only; {@code failure} is set when a chunk
+ * could not be stored, in which case that chunk and everything after it was not imported.
+ */
+public record PriceImportReport(
+    long read,
+    long imported,
+    long rejected,
+    long chunks,
+    Duration elapsed,
+    List<String> errors,
+    String failure
+) {
+  public PriceImportReport {
+    errors = List.copyOf(errors);
+  }
+
+  public boolean completed() {
+    return failure == null;
+  }
+
+  public long rowsPerSecond() {
+    return Math.round(imported / Math.max(elapsed.toNanos() / 1e9, 1e-9));
+  }
+}
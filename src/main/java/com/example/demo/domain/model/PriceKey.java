@@ -0,0 +1,24 @@
+package com.example.demo.domain.model;
+
+import java.util.Objects;
+
+public record PriceKey(
+    Integer brandId,
+    Integer productId
+) {
+  public PriceKey {
+    Objects.requireNonNull(brandId);
+    Objects.requireNonNull(productId);
+  }
+
+  public static PriceKey of(Price price) {
+    return new PriceKey(price.brandId(), price.productId());
+  }
+
+  /**
+   * Both ids in one {@code long}, brand in the high half. Packed keys sort by brand, then product.
+   */
+  public static long pack(int brandId, int productId) {
+    return ((long) brandId << 32) | (productId & 0xFFFF_FFFFL);
+  }
+}
@@ -0,0 +1,23 @@
+package com.example.demo.domain.model;
+
+import java.time.LocalDateTime;
+import java.util.Objects;
+
+public record PriceQuery(
+    Integer brandId,
+    Integer productId,
+    LocalDateTime applicationDate
+) {
+  public PriceQuery {
+    Objects.requireNonNull(brandId);
+    Objects.requireNonNull(productId);
+    Objects.requireNonNull(applicationDate);
+  }
+
+  public boolean matches(Price price) {
+    return brandId.equals(price.brandId())
+        && productId.equals(price.productId())
+        && !applicationDate.isBefore(price.rate().startDate())
+        && !applicationDate.isAfter(price.rate().endDate());
+  }
+}
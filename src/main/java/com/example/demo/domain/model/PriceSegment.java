@@ -0,0 +1,27 @@
+package com.example.demo.domain.model;
+
+import java.time.LocalDateTime;
+import java.util.Objects;
+
+/**
+ * A window of time in which {@code price} is the winning rate for its brand/product.
+ * {@code validFrom} is inclusive and {@code validUntil} is exclusive.
+ */
+public record PriceSegment(
+    Price price,
+    LocalDateTime validFrom,
+    LocalDateTime validUntil
+) {
+  public PriceSegment {
+    Objects.requireNonNull(price);
+    Objects.requireNonNull(validFrom);
+    Objects.requireNonNull(validUntil);
+    if (!validFrom.isBefore(validUntil)) {
+      throw new IllegalArgumentException("validFrom must be before validUntil");
+    }
+  }
+
+  public boolean contains(LocalDateTime date) {
+    return !date.isBefore(validFrom) && date.isBefore(validUntil);
+  }
+}
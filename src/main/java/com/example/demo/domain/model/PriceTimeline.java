@@ -0,0 +1,126 @@
+package com.example.demo.domain.model;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.PriorityQueue;
+import java.util.TreeSet;
+
+/**
+ * Effective-price timeline of a single brand/product: the overlapping rates resolved by priority
+ * into non-overlapping segments, so a lookup is a single binary search.
+ */
+public final class PriceTimeline {
+
+  private final List<Price> rates;
+  private final PriceSegment[] segments;
+
+  private PriceTimeline(List<Price> rates, PriceSegment[] segments) {
+    this.rates = rates;
+    this.segments = segments;
+  }
+
+  public static PriceTimeline of(Collection<Price> rates) {
+    List<Price> sorted = rates.stream()
+        .sorted(Comparator.comparing(price -> price.rate().startDate()))
+        .toList();
+    return new PriceTimeline(sorted, resolve(sorted));
+  }
+
+  public Optional<PriceSegment> segmentAt(LocalDateTime date) {
+    int low = 0;
+    int high = segments.length - 1;
+    while (low <= high) {
+      int mid = (low + high) >>> 1;
+      PriceSegment segment = segments[mid];
+      if (date.isBefore(segment.validFrom())) {
+        high = mid - 1;
+      } else if (!date.isBefore(segment.validUntil())) {
+        low = mid + 1;
+      } else {
+        return Optional.of(segment);
+      }
+    }
+    return Optional.empty();
+  }
+
+  public PriceTimeline withRate(Price price) {
+    return withRates(List.of(price));
+  }
+
+  /**
+   * Adds or replaces several rates of this brand/product, resolving the segments once.
+   */
+  public PriceTimeline withRates(Collection<Price> prices) {
+    // The last change of a price list wins, like the statements that stored them
+    Map<Integer, Price> changed = new LinkedHashMap<>();
+    prices.forEach(price -> changed.put(price.rate().priceList(), price));
+    List<Price> updated = new ArrayList<>(rates.size() + changed.size());
+    rates.stream()
+        .filter(rate -> !changed.containsKey(rate.rate().priceList()))
+        .forEach(updated::add);
+    updated.addAll(changed.values());
+    return of(updated);
+  }
+
+  public PriceTimeline withoutRate(Integer priceList) {
+    return of(rates.stream()
+        .filter(rate -> !rate.rate().priceList().equals(priceList))
+        .toList());
+  }
+
+  public List<Price> rates() {
+    return rates;
+  }
+
+  public List<PriceSegment> segments() {
+    return List.of(segments);
+  }
+
+  public boolean isEmpty() {
+    return rates.isEmpty();
+  }
+
+  private static PriceSegment[] resolve(List<Price> sortedByStart) {
+    TreeSet<LocalDateTime> boundaries = new TreeSet<>();
+    for (Price price : sortedByStart) {
+      boundaries.add(price.rate().startDate());
+      boundaries.add(exclusiveEnd(price));
+    }
+
+    // The rate with precedence first; identical ones by input order
+    PriorityQueue<Integer> active = new PriorityQueue<>(
+        Comparator.comparing((Integer index) -> sortedByStart.get(index), Price.BY_PRECEDENCE.reversed())
+            .thenComparing(Comparator.naturalOrder()));
+    List<PriceSegment> segments = new ArrayList<>();
+    int next = 0;
+    LocalDateTime from = null;
+    Price winner = null;
+    for (LocalDateTime boundary : boundaries) {
+      while (next < sortedByStart.size() && !sortedByStart.get(next).rate().startDate().isAfter(boundary)) {
+        active.add(next++);
+      }
+      while (!active.isEmpty() && !exclusiveEnd(sortedByStart.get(active.peek())).isAfter(boundary)) {
+        active.poll();
+      }
+      Price current = active.isEmpty() ? null : sortedByStart.get(active.peek());
+      if (current != winner) {
+        if (winner != null) {
+          segments.add(new PriceSegment(winner, from, boundary));
+        }
+        winner = current;
+        from = boundary;
+      }
+    }
+    return segments.toArray(PriceSegment[]::new);
+  }
+
+  private static LocalDateTime exclusiveEnd(Price price) {
+    return price.rate().endDate().plusNanos(1);
+  }
+}
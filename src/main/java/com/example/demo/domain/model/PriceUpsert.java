@@ -0,0 +1,20 @@
+package com.example.demo.domain.model;
+
+import java.util.Objects;
+
+/**
+ * One item of a bulk upsert. Without a price list the rate is created under a new one. With a price list and no
+ * expected version it is created under that price list, which must not exist yet. With both, the stored rate is
+ * updated only if it is still at the expected version.
+ */
+public record PriceUpsert(
+    Price price,
+    Long expectedVersion
+) {
+  public PriceUpsert {
+    Objects.requireNonNull(price);
+    if (expectedVersion != null && price.rate().priceList() == null) {
+      throw new IllegalArgumentException("An expected version requires a price list");
+    }
+  }
+}
@@ -0,0 +1,13 @@
+package com.example.demo.domain.model;
+
+import java.util.Objects;
+
+public record VersionedPrice(
+    Price price,
+    long version
+) {
+  public VersionedPrice {
+    Objects.requireNonNull(price);
+    Objects.requireNonNull(price.rate().priceList());
+  }
+}
@@ -0,0 +1,19 @@
+package com.example.demo.domain.repository;
+
+import com.example.demo.domain.model.Price;
+
+import java.util.Collection;
+
+public interface PriceChangeListener {
+  void priceSaved(Price price);
+
+  void priceDeleted(Integer brandId, Integer productId, Integer priceList);
+
+  /**
+   * Rates committed together, such as an upsert or an import chunk. Listeners that rebuild state per brand/product
+   * override this to do it once per brand/product rather than once per rate.
+   */
+  default void pricesSaved(Collection<Price> prices) {
+    prices.forEach(this::priceSaved);
+  }
+}
@@ -0,0 +1,17 @@
+package com.example.demo.domain.repository;
+
+import com.example.demo.domain.model.Price;
+
+import java.time.LocalDateTime;
+import java.util.stream.Stream;
+
+/**
+ * Bulk read side for exports. Streams are read lazily and hold their resources until closed.
+ */
+public interface PriceExportRepository {
+  /**
+   * Every rate of the brand covering {@code applicationDate}, ordered by product id so the rates of a product are
+   * adjacent.
+   */
+  Stream<Price> streamPricesByBrandDate(Integer brandId, LocalDateTime applicationDate);
+}
@@ -0,0 +1,14 @@
+package com.example.demo.domain.repository;
+
+import com.example.demo.domain.model.Price;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+public interface PriceHistoryRepository {
+  /**
+   * The rates of the brand/product applicable on {@code applicationDate}, as they were stored at {@code asOf}:
+   * what {@link PriceRepository#findPricesByBrandProductDate} would have returned at that time.
+   */
+  List<Price> findPricesByBrandProductDate(Integer brandId, Integer productId, LocalDateTime applicationDate, LocalDateTime asOf);
+}
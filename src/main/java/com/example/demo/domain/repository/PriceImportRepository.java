@@ -0,0 +1,13 @@
+package com.example.demo.domain.repository;
+
+import com.example.demo.domain.model.Price;
+
+import java.util.List;
+
+public interface PriceImportRepository {
+  /**
+   * Inserts every rate in a single transaction: either all of them are stored or none is. Throws
+   * {@link IllegalArgumentException} when a rate references an unknown brand/product or reuses a price list.
+   */
+  void insertAll(List<Price> prices);
+}
@@ -1,10 +1,62 @@
 package com.example.demo.domain.repository;
 
 import com.example.demo.domain.model.Price;
+import com.example.demo.domain.model.PriceKey;
+import com.example.demo.domain.model.PriceQuery;
+import com.example.demo.domain.model.PriceSegment;
+import com.example.demo.domain.model.PriceTimeline;
 
 import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Optional;
 
 public interface PriceRepository {
   List<Price> findPricesByBrandProductDate(Integer brandId, Integer productId, LocalDateTime applicationDate);
+
+  default Optional<Price> findPriorityPrice(Integer brandId, Integer productId, LocalDateTime applicationDate) {
+    return findPricesByBrandProductDate(brandId, productId, applicationDate).stream()
+        .max(Price.BY_PRECEDENCE);
+  }
+
+  List<Price> findPricesByBrandProduct(Integer brandId, Integer productId);
+
+  default Map<PriceQuery, List<Price>> findPricesByBrandProductDates(Collection<PriceQuery> queries) {
+    Map<PriceQuery, List<Price>> result = new HashMap<>();
+    for (PriceQuery query : queries) {
+      result.computeIfAbsent(query, key -> findPricesByBrandProductDate(key.brandId(), key.productId(), key.applicationDate()));
+    }
+    return result;
+  }
+
+  default Map<PriceKey, List<Price>> findPricesByBrandProducts(Collection<PriceKey> keys) {
+    Map<PriceKey, List<Price>> result = new HashMap<>();
+    for (PriceKey key : keys) {
+      result.computeIfAbsent(key, k -> findPricesByBrandProduct(k.brandId(), k.productId()));
+    }
+    return result;
+  }
+
+  /**
+   * The segment of the effective-price timeline covering {@code applicationDate}. The default resolves the whole
+   * history of the brand/product and is meant for in-memory adapters only; database adapters answer it with a
+   * date-bounded query.
+   */
+  default Optional<PriceSegment> findEffectivePrice(Integer brandId, Integer productId, LocalDateTime applicationDate) {
+    return PriceTimeline.of(findPricesByBrandProduct(brandId, productId)).segmentAt(applicationDate);
+  }
+
+  /**
+   * The segment covering each lookup of a batch; lookups no segment covers are left out of the map.
+   */
+  default Map<PriceQuery, PriceSegment> findEffectivePrices(Collection<PriceQuery> queries) {
+    Map<PriceQuery, PriceSegment> result = new HashMap<>();
+    for (PriceQuery query : queries) {
+      findEffectivePrice(query.brandId(), query.productId(), query.applicationDate())
+          .ifPresent(segment -> result.put(query, segment));
+    }
+    return result;
+  }
 }
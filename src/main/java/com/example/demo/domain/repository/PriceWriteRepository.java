@@ -0,0 +1,30 @@
+package com.example.demo.domain.repository;
+
+import com.example.demo.domain.model.Price;
+import com.example.demo.domain.model.PriceKey;
+import com.example.demo.domain.model.PriceUpsert;
+import com.example.demo.domain.model.VersionedPrice;
+
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * Write side of the PRICES table. Updates and deletes are conditional on the version the caller last read and
+ * throw {@link com.example.demo.domain.exception.PriceVersionConflictException} when it has moved on, or
+ * {@link com.example.demo.domain.exception.ResourceNotFoundException} when the price list does not exist.
+ * A rate never moves to another brand/product.
+ */
+public interface PriceWriteRepository {
+  Optional<VersionedPrice> findByPriceList(Integer priceList);
+
+  VersionedPrice create(Price price);
+
+  VersionedPrice update(Price price, long expectedVersion);
+
+  Price delete(PriceKey key, Integer priceList, long expectedVersion);
+
+  /**
+   * Applies every upsert in a single transaction: either all of them are stored or none is.
+   */
+  List<VersionedPrice> upsertAll(List<PriceUpsert> upserts);
+}
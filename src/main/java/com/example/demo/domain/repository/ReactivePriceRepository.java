@@ -0,0 +1,26 @@
+package com.example.demo.domain.repository;
+
+import com.example.demo.domain.model.Price;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.time.LocalDateTime;
+import java.util.function.BinaryOperator;
+
+/**
+ * Non-blocking counterpart of {@link PriceRepository}: the same lookups, emitted as Reactor publishers so
+ * adapters never hold the calling thread while the database works.
+ */
+public interface ReactivePriceRepository {
+
+  Flux<Price> findPricesByBrandProductDate(Integer brandId, Integer productId, LocalDateTime applicationDate);
+
+  /**
+   * The rate covering {@code applicationDate} that wins by {@link Price#BY_PRECEDENCE}, or an empty {@link Mono}.
+   * Adapters that can resolve the priority in the store should override this instead of streaming every candidate.
+   */
+  default Mono<Price> findPriorityPrice(Integer brandId, Integer productId, LocalDateTime applicationDate) {
+    return findPricesByBrandProductDate(brandId, productId, applicationDate)
+        .reduce(BinaryOperator.maxBy(Price.BY_PRECEDENCE));
+  }
+}
@@ -0,0 +1,66 @@
+package com.example.demo.domain.service;
+
+import com.example.demo.application.usecase.PriceExportUseCase;
+import com.example.demo.domain.model.Price;
+import com.example.demo.domain.repository.PriceExportRepository;
+import lombok.AccessLevel;
+import lombok.RequiredArgsConstructor;
+import lombok.experimental.FieldDefaults;
+
+import java.time.LocalDateTime;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
+/**
+ * Resolves the winning rate of each product while the candidate rows stream past, holding only the rows of the
+ * current product, so an export of any size runs in constant memory.
+ */
+@RequiredArgsConstructor
+@FieldDefaults(level = AccessLevel.PRIVATE, makeFinal = true)
+public class PriceExportService implements PriceExportUseCase {
+
+  PriceExportRepository repository;
+
+  @Override
+  public Stream<Price> exportEffectivePrices(Integer brandId, LocalDateTime applicationDate) {
+    return winners(repository.streamPricesByBrandDate(brandId, applicationDate));
+  }
+
+  static Stream<Price> winners(Stream<Price> candidatesByProduct) {
+    Iterator<Price> candidates = candidatesByProduct.iterator();
+    Iterator<Price> winners = new Iterator<>() {
+      Price pending = candidates.hasNext() ? candidates.next() : null;
+
+      @Override
+      public boolean hasNext() {
+        return pending != null;
+      }
+
+      @Override
+      public Price next() {
+        if (pending == null) {
+          throw new NoSuchElementException();
+        }
+        Price best = pending;
+        pending = null;
+        while (candidates.hasNext()) {
+          Price candidate = candidates.next();
+          if (!candidate.productId().equals(best.productId())) {
+            pending = candidate;
+            break;
+          }
+          if (Price.BY_PRECEDENCE.compare(candidate, best) > 0) {
+            best = candidate;
+          }
+        }
+        return best;
+      }
+    };
+    return StreamSupport.stream(Spliterators.spliteratorUnknownSize(winners, Spliterator.ORDERED | Spliterator.NONNULL), false)
+        .onClose(candidatesByProduct::close);
+  }
+}
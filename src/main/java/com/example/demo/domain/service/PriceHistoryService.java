@@ -0,0 +1,26 @@
+package com.example.demo.domain.service;
+
+import com.example.demo.adapter.inbound.rest.dto.PriceRequestDTO;
+import com.example.demo.application.usecase.PriceHistoryUseCase;
+import com.example.demo.domain.model.Price;
+import com.example.demo.domain.repository.PriceHistoryRepository;
+import lombok.AccessLevel;
+import lombok.RequiredArgsConstructor;
+import lombok.experimental.FieldDefaults;
+
+import java.time.LocalDateTime;
+import java.util.Optional;
+
+@RequiredArgsConstructor
+@FieldDefaults(level = AccessLevel.PRIVATE, makeFinal = true)
+public class PriceHistoryService implements PriceHistoryUseCase {
+
+  PriceHistoryRepository repository;
+
+  @Override
+  public Optional<Price> findPriorityPriceAsOf(PriceRequestDTO request, LocalDateTime asOf) {
+    return repository.findPricesByBrandProductDate(request.brandId(), request.productId(), request.applicationDate(), asOf)
+        .stream()
+        .max(Price.BY_PRECEDENCE);
+  }
+}
@@ -0,0 +1,213 @@
+package com.example.demo.domain.service;
+
+import com.example.demo.application.usecase.PriceImportUseCase;
+import com.example.demo.domain.model.Price;
+import com.example.demo.domain.model.PriceImportReport;
+import com.example.demo.domain.repository.PriceChangeListener;
+import com.example.demo.domain.repository.PriceImportRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.AccessLevel;
+import lombok.experimental.FieldDefaults;
+import lombok.extern.slf4j.Slf4j;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.time.Duration;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.function.Function;
+
+/**
+ * Imports prices in a pipeline: the caller's thread reads {@code chunkSize} lines at a time, a pool of
+ * {@code parallelism} threads parses and validates chunks through the {@link com.example.demo.domain.model.Rate}
+ * and {@link com.example.demo.domain.model.Money} invariants, and the caller's thread commits parsed chunks in file
+ * order, one transaction each. At most two chunks per parsing thread are held at any time, so memory depends on the
+ * chunk size and parallelism, never on the file size.
+ *
+ * <p>Each committed chunk is handed to the {@link PriceChangeListener}s at once, so in-memory indexes rebuild a
+ * brand/product once per chunk rather than once per row. Rows are counted as
+ * {@code prices.import.rows} by outcome, commits timed as {@code prices.import.commit}, and progress is logged.
+ */
+@Slf4j
+@FieldDefaults(level = AccessLevel.PRIVATE, makeFinal = true)
+public class PriceImportService implements PriceImportUseCase, AutoCloseable {
+
+  private static final int MAX_ERRORS = 100;
+  private static final long PROGRESS_INTERVAL_NANOS = Duration.ofSeconds(5).toNanos();
+
+  PriceImportRepository repository;
+  List<PriceChangeListener> listeners;
+  int chunkSize;
+  int maxChunksInFlight;
+  ExecutorService parsers;
+  Counter importedRows;
+  Counter rejectedRows;
+  Timer commits;
+
+  public PriceImportService(PriceImportRepository repository, List<PriceChangeListener> listeners, int chunkSize,
+                            int parallelism, MeterRegistry meterRegistry) {
+    if (chunkSize < 1 || parallelism < 1) {
+      throw new IllegalArgumentException("chunkSize and parallelism must be >= 1");
+    }
+    this.repository = repository;
+    this.listeners = List.copyOf(listeners);
+    this.chunkSize = chunkSize;
+    this.maxChunksInFlight = parallelism * 2;
+    this.parsers = Executors.newFixedThreadPool(parallelism, Thread.ofPlatform().name("price-import-", 0).daemon().factory());
+    this.importedRows = meterRegistry.counter("prices.import.rows", "outcome", "imported");
+    this.rejectedRows = meterRegistry.counter("prices.import.rows", "outcome", "rejected");
+    this.commits = Timer.builder("prices.import.commit")
+        .description("Insert and commit of one import chunk")
+        .publishPercentileHistogram()
+        .register(meterRegistry);
+  }
+
+  @Override
+  public PriceImportReport importPrices(BufferedReader source, Function<String, Price> parser) {
+    Progress progress = new Progress(System.nanoTime());
+    Deque<CompletableFuture<ParsedChunk>> inFlight = new ArrayDeque<>();
+    String failure = null;
+    // Lines taken from the source, committed or not, so a read failure points at the line after them
+    long linesRead = 0;
+    try {
+      long nextLine = 1;
+      List<String> lines = new ArrayList<>(chunkSize);
+      String line;
+      while ((line = source.readLine()) != null) {
+        linesRead++;
+        lines.add(line);
+        if (lines.size() == chunkSize) {
+          inFlight.addLast(parse(nextLine, lines, parser));
+          nextLine += lines.size();
+          lines = new ArrayList<>(chunkSize);
+          // Reading waits for the oldest chunk once the window is full, which bounds memory
+          while (inFlight.size() >= maxChunksInFlight) {
+            commit(join(inFlight.removeFirst()), progress);
+          }
+        }
+      }
+      if (!lines.isEmpty()) {
+        inFlight.addLast(parse(nextLine, lines, parser));
+      }
+      while (!inFlight.isEmpty()) {
+        commit(join(inFlight.removeFirst()), progress);
+      }
+    } catch (IOException ex) {
+      failure = "Could not read line " + (linesRead + 1) + ": " + ex.getMessage();
+    } catch (ChunkFailedException ex) {
+      failure = ex.getMessage();
+    } finally {
+      inFlight.forEach(chunk -> chunk.cancel(false));
+    }
+
+    PriceImportReport report = new PriceImportReport(progress.read, progress.imported, progress.rejected,
+        progress.chunks, Duration.ofNanos(System.nanoTime() - progress.started), progress.errors, failure);
+    log.info("Price import {}: {} rows read, {} imported, {} rejected in {} chunks, {} s ({} rows/s){}",
+        report.completed() ? "completed" : "stopped", report.read(), report.imported(), report.rejected(), report.chunks(),
+        String.format("%.1f", report.elapsed().toNanos() / 1e9), report.rowsPerSecond(),
+        report.completed() ? "" : ": " + failure);
+    return report;
+  }
+
+  @Override
+  public void close() {
+    parsers.shutdownNow();
+  }
+
+  private CompletableFuture<ParsedChunk> parse(long firstLine, List<String> lines, Function<String, Price> parser) {
+    return CompletableFuture.supplyAsync(() -> {
+      List<Price> prices = new ArrayList<>(lines.size());
+      List<String> errors = new ArrayList<>();
+      long read = 0;
+      long rejected = 0;
+      for (int i = 0; i < lines.size(); i++) {
+        try {
+          Price price = lines.get(i).isBlank() ? null : parser.apply(lines.get(i));
+          if (price != null) {
+            read++;
+            prices.add(price);
+          }
+        } catch (RuntimeException ex) {
+          read++;
+          rejected++;
+          if (errors.size() < MAX_ERRORS) {
+            errors.add("line " + (firstLine + i) + ": " + ex.getMessage());
+          }
+        }
+      }
+      return new ParsedChunk(firstLine, firstLine + lines.size() - 1, prices, read, rejected, errors);
+    }, parsers);
+  }
+
+  private void commit(ParsedChunk chunk, Progress progress) {
+    try {
+      if (!chunk.prices().isEmpty()) {
+        commits.record(() -> repository.insertAll(chunk.prices()));
+      }
+    } catch (RuntimeException ex) {
+      throw new ChunkFailedException("Lines " + chunk.firstLine() + "-" + chunk.lastLine()
+          + " and everything after them were not imported: " + ex.getMessage(), ex);
+    }
+    if (!chunk.prices().isEmpty()) {
+      listeners.forEach(listener -> listener.pricesSaved(chunk.prices()));
+    }
+    importedRows.increment(chunk.prices().size());
+    rejectedRows.increment(chunk.rejected());
+    progress.add(chunk);
+  }
+
+  private static ParsedChunk join(CompletableFuture<ParsedChunk> chunk) {
+    try {
+      return chunk.join();
+    } catch (CompletionException ex) {
+      throw new ChunkFailedException("Could not parse the input: " + ex.getCause().getMessage(), ex.getCause());
+    }
+  }
+
+  private record ParsedChunk(long firstLine, long lastLine, List<Price> prices, long read, long rejected,
+                             List<String> errors) {
+  }
+
+  private static final class Progress {
+    final long started;
+    final List<String> errors = new ArrayList<>();
+    long read;
+    long imported;
+    long rejected;
+    long chunks;
+    long lastLogged;
+
+    Progress(long started) {
+      this.started = started;
+      this.lastLogged = started;
+    }
+
+    void add(ParsedChunk chunk) {
+      read += chunk.read();
+      imported += chunk.prices().size();
+      rejected += chunk.rejected();
+      chunks++;
+      chunk.errors().stream().limit(MAX_ERRORS - errors.size()).forEach(errors::add);
+      long now = System.nanoTime();
+      if (now - lastLogged >= PROGRESS_INTERVAL_NANOS) {
+        lastLogged = now;
+        log.info("Price import in progress: {} rows read, {} imported, {} rejected ({} rows/s)",
+            read, imported, rejected, Math.round(imported / ((now - started) / 1e9)));
+      }
+    }
+  }
+
+  private static final class ChunkFailedException extends RuntimeException {
+    ChunkFailedException(String message, Throwable cause) {
+      super(message, cause);
+    }
+  }
+}
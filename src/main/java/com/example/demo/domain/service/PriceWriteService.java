@@ -0,0 +1,108 @@
+package com.example.demo.domain.service;
+
+import com.example.demo.application.usecase.PriceWriteUseCase;
+import com.example.demo.domain.exception.ResourceNotFoundException;
+import com.example.demo.domain.model.Price;
+import com.example.demo.domain.model.PriceKey;
+import com.example.demo.domain.model.PriceUpsert;
+import com.example.demo.domain.model.VersionedPrice;
+import com.example.demo.domain.repository.PriceChangeListener;
+import com.example.demo.domain.repository.PriceWriteRepository;
+import lombok.AccessLevel;
+import lombok.experimental.FieldDefaults;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Supplier;
+import java.util.stream.Collectors;
+
+/**
+ * Stores rate changes and hands every committed change to the {@link PriceChangeListener}s, so in-memory indexes
+ * and caches rebuild only the affected brand/product. Writes to the same brand/product are serialized on a lock
+ * stripe from the database write until the listeners are done, which keeps listeners seeing changes in commit
+ * order. Reads never take these locks.
+ */
+@FieldDefaults(level = AccessLevel.PRIVATE, makeFinal = true)
+public class PriceWriteService implements PriceWriteUseCase {
+
+  private static final int LOCK_STRIPES = 64;
+
+  PriceWriteRepository repository;
+  List<PriceChangeListener> listeners;
+  ReentrantLock[] stripes = new ReentrantLock[LOCK_STRIPES];
+
+  public PriceWriteService(PriceWriteRepository repository, List<PriceChangeListener> listeners) {
+    this.repository = repository;
+    this.listeners = List.copyOf(listeners);
+    for (int i = 0; i < stripes.length; i++) {
+      stripes[i] = new ReentrantLock();
+    }
+  }
+
+  @Override
+  public VersionedPrice getPrice(Integer priceList) {
+    return repository.findByPriceList(priceList)
+        .orElseThrow(() -> new ResourceNotFoundException("Price", priceList));
+  }
+
+  @Override
+  public VersionedPrice createPrice(Price price) {
+    return locked(Set.of(PriceKey.of(price)), () -> saved(repository.create(price)));
+  }
+
+  @Override
+  public VersionedPrice updatePrice(Price price, long expectedVersion) {
+    return locked(Set.of(PriceKey.of(price)), () -> saved(repository.update(price, expectedVersion)));
+  }
+
+  @Override
+  public void deletePrice(Integer priceList, long expectedVersion) {
+    PriceKey key = PriceKey.of(getPrice(priceList).price());
+    locked(Set.of(key), () -> {
+      Price deleted = repository.delete(key, priceList, expectedVersion);
+      listeners.forEach(listener -> listener.priceDeleted(deleted.brandId(), deleted.productId(), priceList));
+      return deleted;
+    });
+  }
+
+  @Override
+  public List<VersionedPrice> upsertPrices(List<PriceUpsert> upserts) {
+    Set<PriceKey> keys = upserts.stream()
+        .map(upsert -> PriceKey.of(upsert.price()))
+        .collect(Collectors.toSet());
+    return locked(keys, () -> {
+      List<VersionedPrice> saved = repository.upsertAll(upserts);
+      List<Price> prices = saved.stream().map(VersionedPrice::price).toList();
+      listeners.forEach(listener -> listener.pricesSaved(prices));
+      return saved;
+    });
+  }
+
+  private VersionedPrice saved(VersionedPrice saved) {
+    listeners.forEach(listener -> listener.priceSaved(saved.price()));
+    return saved;
+  }
+
+  private <T> T locked(Collection<PriceKey> keys, Supplier<T> write) {
+    // Stripes are always taken in ascending order, so two bulk upserts over the same keys cannot deadlock
+    int[] indexes = keys.stream()
+        .mapToInt(key -> Math.floorMod(key.hashCode(), LOCK_STRIPES))
+        .distinct()
+        .sorted()
+        .toArray();
+    int locked = 0;
+    try {
+      for (int index : indexes) {
+        stripes[index].lock();
+        locked++;
+      }
+      return write.get();
+    } finally {
+      for (int i = locked - 1; i >= 0; i--) {
+        stripes[indexes[i]].unlock();
+      }
+    }
+  }
+}
@@ -4,13 +4,16 @@ import com.example.demo.adapter.inbound.rest.dto.PriceRequestDTO;
 import com.example.demo.application.usecase.PriorityPriceUseCase;
 import com.example.demo.domain.exception.ResourceNotFoundException;
 import com.example.demo.domain.model.Price;
+import com.example.demo.domain.model.PriceQuery;
+import com.example.demo.domain.model.PriceSegment;
 import com.example.demo.domain.repository.PriceRepository;
 import lombok.AccessLevel;
 import lombok.RequiredArgsConstructor;
 import lombok.experimental.FieldDefaults;
 
-import java.util.Comparator;
 import java.util.List;
+import java.util.Map;
+import java.util.Optional;
 
 @RequiredArgsConstructor
 @FieldDefaults(level = AccessLevel.PRIVATE, makeFinal = true)
@@ -20,20 +23,48 @@ public class PriorityPriceService implements PriorityPriceUseCase {
 
   @Override
   public Price getPriorityPrice(PriceRequestDTO request) {
-    List<Price> prices = repository.findPricesByBrandProductDate(
+    return repository.findPriorityPrice(
+            request.brandId(),
+            request.productId(),
+            request.applicationDate())
+        .orElseThrow(() -> notFound(request));
+  }
+
+  @Override
+  public PriceSegment getPriorityPriceSegment(PriceRequestDTO request) {
+    return repository.findEffectivePrice(
+            request.brandId(),
+            request.productId(),
+            request.applicationDate())
+        .orElseThrow(() -> notFound(request));
+  }
+
+  @Override
+  public Optional<PriceSegment> findPriorityPriceSegment(PriceRequestDTO request) {
+    return repository.findEffectivePrice(
         request.brandId(),
         request.productId(),
-        request.applicationDate()
-    );
+        request.applicationDate());
+  }
+
+  @Override
+  public List<Optional<Price>> getPriorityPrices(List<PriceRequestDTO> requests) {
+    List<PriceQuery> queries = requests.stream()
+        .map(request -> new PriceQuery(request.brandId(), request.productId(), request.applicationDate()))
+        .toList();
+    Map<PriceQuery, List<Price>> prices = repository.findPricesByBrandProductDates(queries);
+
+    return queries.stream()
+        .map(query -> prices.getOrDefault(query, List.of()).stream().max(Price.BY_PRECEDENCE))
+        .toList();
+  }
 
-    return selectHighestPriorityPrice(prices, request);
+  private static ResourceNotFoundException notFound(PriceRequestDTO request) {
+    return new ResourceNotFoundException(notFoundMessage(request));
   }
 
-  private Price selectHighestPriorityPrice(List<Price> prices, PriceRequestDTO request) {
-    return prices.stream()
-        .max(Comparator.comparingInt(price -> price.rate().priority()))
-        .orElseThrow(() -> new ResourceNotFoundException(
-            String.format("Price not found for brandId=%d, productId=%d, applicationDate=%s",
-                request.brandId(), request.productId(), request.applicationDate())));
+  public static String notFoundMessage(PriceRequestDTO request) {
+    return "Price not found for brandId=" + request.brandId() + ", productId=" + request.productId()
+        + ", applicationDate=" + request.applicationDate();
   }
 }
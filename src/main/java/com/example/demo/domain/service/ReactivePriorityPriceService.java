@@ -0,0 +1,31 @@
+package com.example.demo.domain.service;
+
+import com.example.demo.adapter.inbound.rest.dto.PriceRequestDTO;
+import com.example.demo.application.usecase.ReactivePriorityPriceUseCase;
+import com.example.demo.domain.exception.ResourceNotFoundException;
+import com.example.demo.domain.model.Price;
+import com.example.demo.domain.repository.ReactivePriceRepository;
+import lombok.AccessLevel;
+import lombok.RequiredArgsConstructor;
+import lombok.experimental.FieldDefaults;
+import reactor.core.publisher.Mono;
+
+/**
+ * Reactive counterpart of {@link PriorityPriceService}: the winning rate is resolved by the repository with
+ * {@link Price#BY_PRECEDENCE}, and a miss fails with the same message as the servlet stack.
+ */
+@RequiredArgsConstructor
+@FieldDefaults(level = AccessLevel.PRIVATE, makeFinal = true)
+public class ReactivePriorityPriceService implements ReactivePriorityPriceUseCase {
+
+  ReactivePriceRepository repository;
+
+  @Override
+  public Mono<Price> getPriorityPrice(PriceRequestDTO request) {
+    return repository.findPriorityPrice(
+            request.brandId(),
+            request.productId(),
+            request.applicationDate())
+        .switchIfEmpty(Mono.error(() -> new ResourceNotFoundException(PriorityPriceService.notFoundMessage(request))));
+  }
+}
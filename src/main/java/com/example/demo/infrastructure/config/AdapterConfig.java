@@ -1,24 +1,288 @@
 package com.example.demo.infrastructure.config;
 
+import com.example.demo.adapter.outbound.filter.FilteredPriceRepository;
+import com.example.demo.adapter.outbound.filter.KnownPriceKeys;
+import com.example.demo.adapter.outbound.memory.InMemoryPriceAdapter;
+import com.example.demo.adapter.outbound.memory.OverlayPriceRepository;
+import com.example.demo.adapter.outbound.memory.PriceTimelineAdapter;
+import com.example.demo.adapter.outbound.memory.PrimitivePriceAdapter;
+import com.example.demo.adapter.outbound.metrics.InstrumentedPriceRepository;
+import com.example.demo.adapter.outbound.persistence.BatchingPriceRepository;
+import com.example.demo.adapter.outbound.persistence.BoundedPriceRepository;
+import com.example.demo.adapter.outbound.persistence.EffectivePriceMaintainer;
+import com.example.demo.adapter.outbound.persistence.JdbcPriceAdapter;
+import com.example.demo.adapter.outbound.persistence.JdbcPriceExportAdapter;
+import com.example.demo.adapter.outbound.persistence.JdbcPriceHistoryAdapter;
+import com.example.demo.adapter.outbound.persistence.JdbcPriceImportAdapter;
+import com.example.demo.adapter.outbound.persistence.JdbcPriceWriteAdapter;
 import com.example.demo.adapter.outbound.persistence.JpaPriceRepository;
+import com.example.demo.adapter.outbound.persistence.PriceHistoryRecorder;
+import com.example.demo.adapter.outbound.persistence.PriceListIdentity;
+import com.example.demo.adapter.outbound.persistence.PriceMapper;
 import com.example.demo.adapter.outbound.persistence.PricePersistenceAdapter;
+import com.example.demo.adapter.outbound.snapshot.PriceSnapshotAdapter;
+import com.example.demo.adapter.outbound.snapshot.PriceSnapshotMark;
+import com.example.demo.adapter.outbound.snapshot.PriceSnapshotWriter;
+import com.example.demo.domain.model.Price;
+import com.example.demo.domain.repository.PriceChangeListener;
+import com.example.demo.domain.repository.PriceImportRepository;
 import com.example.demo.domain.repository.PriceRepository;
+import com.example.demo.domain.repository.PriceWriteRepository;
+import com.example.demo.domain.service.PriceExportService;
+import com.example.demo.domain.service.PriceHistoryService;
+import com.example.demo.domain.service.PriceImportService;
+import com.example.demo.domain.service.PriceWriteService;
 import com.example.demo.domain.service.PriorityPriceService;
+import com.example.demo.application.usecase.CachingPriorityPriceUseCase;
+import com.example.demo.application.usecase.CoalescingPriorityPriceUseCase;
+import com.example.demo.application.usecase.ConcurrencyLimitedPriorityPriceUseCase;
+import com.example.demo.application.usecase.InstrumentedPriorityPriceUseCase;
+import com.example.demo.application.usecase.PriceExportUseCase;
+import com.example.demo.application.usecase.PriceHistoryUseCase;
+import com.example.demo.application.usecase.PriceImportUseCase;
+import com.example.demo.application.usecase.PriceWriteUseCase;
 import com.example.demo.application.usecase.PriorityPriceUseCase;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.sql.init.dependency.DependsOnDatabaseInitialization;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.simple.JdbcClient;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import javax.sql.DataSource;
+import java.io.IOException;
+import java.nio.file.Path;
+import java.time.Clock;
+import java.time.Duration;
+import java.util.List;
+import java.util.stream.Stream;
 
 @Configuration
 public class AdapterConfig {
 
     @Bean
-    public PriceRepository priceRepository(JpaPriceRepository jpaPriceRepository) {
-        return new PricePersistenceAdapter(jpaPriceRepository);
+    @ConditionalOnProperty(name = "prices.repository.type", havingValue = "jpa", matchIfMissing = true)
+    public PriceRepository priceRepository(
+            JpaPriceRepository jpaPriceRepository,
+            MeterRegistry meterRegistry,
+            @Value("${spring.threads.virtual.enabled:false}") boolean virtualThreads,
+            @Value("${spring.datasource.hikari.maximum-pool-size:10}") int maximumPoolSize,
+            @Value("${prices.repository.batching.enabled:false}") boolean batching,
+            @Value("${prices.repository.batching.window:1ms}") Duration batchWindow,
+            @Value("${prices.repository.batching.max-size:64}") int batchMaxSize) {
+        PriceRepository repository = boundedIfVirtual(new PricePersistenceAdapter(jpaPriceRepository), virtualThreads, maximumPoolSize);
+        return batching ? new BatchingPriceRepository(repository, batchWindow, batchMaxSize, meterRegistry) : repository;
     }
 
     @Bean
-    public PriorityPriceUseCase priorityPriceUseCase(PriceRepository priceRepository) {
-        return new PriorityPriceService(priceRepository);
+    @ConditionalOnProperty(name = "prices.repository.type", havingValue = "jdbc")
+    public PriceRepository jdbcPriceRepository(
+            JdbcClient jdbcClient,
+            MeterRegistry meterRegistry,
+            @Value("${spring.threads.virtual.enabled:false}") boolean virtualThreads,
+            @Value("${spring.datasource.hikari.maximum-pool-size:10}") int maximumPoolSize,
+            @Value("${prices.repository.batching.enabled:false}") boolean batching,
+            @Value("${prices.repository.batching.window:1ms}") Duration batchWindow,
+            @Value("${prices.repository.batching.max-size:64}") int batchMaxSize) {
+        PriceRepository repository = boundedIfVirtual(new JdbcPriceAdapter(jdbcClient), virtualThreads, maximumPoolSize);
+        // Batching sits outside the permits: callers collect keys for free, only the flushing leader takes a connection
+        return batching ? new BatchingPriceRepository(repository, batchWindow, batchMaxSize, meterRegistry) : repository;
+    }
+
+    @Bean
+    @ConditionalOnProperty(name = "prices.repository.type", havingValue = "memory")
+    @DependsOnDatabaseInitialization
+    public PriceRepository inMemoryPriceRepository(JpaPriceRepository jpaPriceRepository) {
+        return new InMemoryPriceAdapter(loadAllPrices(jpaPriceRepository));
+    }
+
+    @Bean
+    @ConditionalOnProperty(name = "prices.repository.type", havingValue = "primitive")
+    @DependsOnDatabaseInitialization
+    public PriceRepository primitivePriceRepository(
+            JpaPriceRepository jpaPriceRepository,
+            JdbcClient jdbcClient,
+            @Value("${prices.overlay.max-keys:100000}") int overlayMaxKeys) {
+        // The arrays are immutable, writes are layered on top per brand/product
+        return new OverlayPriceRepository(PrimitivePriceAdapter.of(loadAllPrices(jpaPriceRepository)),
+                new JdbcPriceAdapter(jdbcClient), overlayMaxKeys);
+    }
+
+    @Bean
+    @ConditionalOnProperty(name = "prices.repository.type", havingValue = "timeline")
+    @DependsOnDatabaseInitialization
+    public PriceRepository priceTimelineRepository(JpaPriceRepository jpaPriceRepository) {
+        return new PriceTimelineAdapter(loadAllPrices(jpaPriceRepository));
+    }
+
+    @Bean
+    @ConditionalOnProperty(name = "prices.repository.type", havingValue = "snapshot")
+    @DependsOnDatabaseInitialization
+    public PriceRepository priceSnapshotRepository(
+            JdbcClient jdbcClient,
+            @Value("${prices.snapshot.path:prices.snapshot}") Path path,
+            @Value("${prices.snapshot.rebuild:false}") boolean rebuild,
+            @Value("${prices.overlay.max-keys:100000}") int overlayMaxKeys) throws IOException {
+        JdbcPriceAdapter database = new JdbcPriceAdapter(jdbcClient);
+        // Taken before reading the prices, so writes committed meanwhile make the next startup rebuild again
+        PriceSnapshotMark mark = database.snapshotMark();
+        if (rebuild || !PriceSnapshotAdapter.markOf(path).map(mark::equals).orElse(false)) {
+            try (Stream<Price> prices = database.streamAllByKey()) {
+                PriceSnapshotWriter.write(prices.iterator(), mark, path);
+            }
+        }
+        // Writes are layered on top of the mapped file until the next rebuild
+        return new OverlayPriceRepository(PriceSnapshotAdapter.open(path), database, overlayMaxKeys);
+    }
+
+    @Bean
+    @ConditionalOnProperty(name = "prices.filter.enabled", havingValue = "true")
+    @DependsOnDatabaseInitialization
+    public KnownPriceKeys knownPriceKeys(
+            JdbcClient jdbcClient,
+            @Value("${prices.filter.false-positive-rate:0.01}") double falsePositiveRate) {
+        return new KnownPriceKeys(new JdbcPriceAdapter(jdbcClient)::distinctKeys, falsePositiveRate);
+    }
+
+    @Bean
+    @DependsOnDatabaseInitialization
+    public EffectivePriceMaintainer effectivePriceMaintainer(JdbcTemplate jdbcTemplate) {
+        EffectivePriceMaintainer maintainer = new EffectivePriceMaintainer(jdbcTemplate);
+        // data.sql and the synthetic dataset insert into PRICES directly, their segments are derived once loaded
+        maintainer.rebuild();
+        return maintainer;
+    }
+
+    @Bean
+    public Clock clock() {
+        return Clock.systemUTC();
     }
-}
 
+    @Bean
+    @DependsOnDatabaseInitialization
+    public PriceHistoryRecorder priceHistoryRecorder(JdbcTemplate jdbcTemplate, Clock clock) {
+        PriceHistoryRecorder recorder = new PriceHistoryRecorder(jdbcTemplate, clock);
+        // Rows loaded into PRICES directly have no history yet, they are recorded as of now
+        recorder.baseline();
+        return recorder;
+    }
+
+    @Bean
+    public PriceHistoryUseCase priceHistoryUseCase(JdbcClient jdbcClient) {
+        return new PriceHistoryService(new JdbcPriceHistoryAdapter(jdbcClient));
+    }
+
+    @Bean
+    public PriorityPriceUseCase priorityPriceUseCase(
+            PriceRepository priceRepository,
+            ObjectProvider<KnownPriceKeys> knownPriceKeys,
+            MeterRegistry meterRegistry,
+            @Value("${prices.cache.enabled:false}") boolean cacheEnabled,
+            @Value("${prices.cache.maximum-products:10000}") long cacheMaximumProducts,
+            @Value("${prices.cache.segments-per-product:8}") int cacheSegmentsPerProduct,
+            @Value("${prices.cache.expire-after-write:10m}") Duration cacheExpireAfterWrite,
+            @Value("${prices.coalescing.enabled:false}") boolean coalescingEnabled,
+            @Value("${prices.limiter.enabled:false}") boolean limiterEnabled,
+            @Value("${prices.limiter.initial-limit:20}") int limiterInitialLimit,
+            @Value("${prices.limiter.min-limit:4}") int limiterMinLimit,
+            @Value("${prices.limiter.max-limit:200}") int limiterMaxLimit,
+            @Value("${prices.limiter.latency-target:50ms}") Duration limiterLatencyTarget,
+            @Value("${prices.limiter.backoff-ratio:0.9}") double limiterBackoffRatio,
+            @Value("${prices.limiter.retry-after:1s}") Duration limiterRetryAfter) {
+        PriceRepository repository = new InstrumentedPriceRepository(priceRepository, meterRegistry);
+        KnownPriceKeys knownKeys = knownPriceKeys.getIfAvailable();
+        if (knownKeys != null) {
+            // Unknown brand/product pairs are answered before they reach the adapter or its metrics
+            repository = new FilteredPriceRepository(repository, knownKeys, meterRegistry);
+        }
+        PriorityPriceUseCase useCase = new InstrumentedPriorityPriceUseCase(new PriorityPriceService(repository), meterRegistry);
+        if (coalescingEnabled) {
+            // Below the cache, so only misses coalesce; a hot product expiring at a boundary costs one load
+            useCase = new CoalescingPriorityPriceUseCase(useCase, meterRegistry);
+        }
+        if (limiterEnabled) {
+            // Below the cache, so hits are never shed; above coalescing, so callers waiting on a shared load hold a slot too
+            useCase = new ConcurrencyLimitedPriorityPriceUseCase(useCase, limiterInitialLimit, limiterMinLimit, limiterMaxLimit,
+                    limiterLatencyTarget, limiterBackoffRatio, limiterRetryAfter, meterRegistry);
+        }
+        if (cacheEnabled) {
+            useCase = new CachingPriorityPriceUseCase(useCase, cacheMaximumProducts, cacheSegmentsPerProduct,
+                    cacheExpireAfterWrite, meterRegistry);
+        }
+        return useCase;
+    }
+
+    @Bean
+    public PriceWriteUseCase priceWriteUseCase(
+            JdbcClient jdbcClient,
+            JdbcTemplate jdbcTemplate,
+            TransactionTemplate transactionTemplate,
+            EffectivePriceMaintainer effectivePriceMaintainer,
+            PriceHistoryRecorder priceHistoryRecorder,
+            PriceRepository priceRepository,
+            ObjectProvider<KnownPriceKeys> knownPriceKeys,
+            PriorityPriceUseCase priorityPriceUseCase) {
+        PriceWriteRepository repository = new JdbcPriceWriteAdapter(jdbcClient, transactionTemplate,
+                effectivePriceMaintainer, priceHistoryRecorder, new PriceListIdentity(jdbcTemplate));
+        return new PriceWriteService(repository,
+                changeListeners(knownPriceKeys, priceRepository, priorityPriceUseCase));
+    }
+
+    @Bean
+    public PriceImportUseCase priceImportUseCase(
+            JdbcTemplate jdbcTemplate,
+            TransactionTemplate transactionTemplate,
+            EffectivePriceMaintainer effectivePriceMaintainer,
+            PriceHistoryRecorder priceHistoryRecorder,
+            PriceRepository priceRepository,
+            ObjectProvider<KnownPriceKeys> knownPriceKeys,
+            PriorityPriceUseCase priorityPriceUseCase,
+            MeterRegistry meterRegistry,
+            @Value("${prices.import.chunk-size:10000}") int chunkSize,
+            @Value("${prices.import.parallelism:0}") int parallelism,
+            @Value("${prices.import.batch-size:1000}") int batchSize) {
+        // The service is AutoCloseable, the context stops its parser threads on shutdown
+        PriceImportRepository repository = new JdbcPriceImportAdapter(jdbcTemplate, transactionTemplate, batchSize,
+                effectivePriceMaintainer, priceHistoryRecorder);
+        return new PriceImportService(repository,
+                changeListeners(knownPriceKeys, priceRepository, priorityPriceUseCase), chunkSize,
+                parallelism > 0 ? parallelism : Runtime.getRuntime().availableProcessors(), meterRegistry);
+    }
+
+    @Bean
+    public PriceExportUseCase priceExportUseCase(
+            DataSource dataSource,
+            @Value("${prices.export.fetch-size:1000}") int fetchSize) {
+        return new PriceExportService(new JdbcPriceExportAdapter(dataSource, fetchSize));
+    }
+
+    private static List<PriceChangeListener> changeListeners(
+            ObjectProvider<KnownPriceKeys> knownPriceKeys,
+            PriceRepository priceRepository,
+            PriorityPriceUseCase priorityPriceUseCase) {
+        // In-memory adapters and the result cache follow each committed write for the affected brand/product only.
+        // The filter goes first so a new brand/product is never rejected after it became visible elsewhere
+        return Stream.of(knownPriceKeys.getIfAvailable(), priceRepository, priorityPriceUseCase)
+                .filter(PriceChangeListener.class::isInstance)
+                .map(PriceChangeListener.class::cast)
+                .toList();
+    }
+
+    private static PriceRepository boundedIfVirtual(PriceRepository repository, boolean virtualThreads, int maximumPoolSize) {
+        if (virtualThreads) {
+            // Thousands of virtual threads may reach the repository at once, only pool-size of them can use JDBC
+            return new BoundedPriceRepository(repository, maximumPoolSize);
+        }
+        return repository;
+    }
+
+    private static List<Price> loadAllPrices(JpaPriceRepository jpaPriceRepository) {
+        return jpaPriceRepository.findAll().stream()
+                .map(PriceMapper::toDomain)
+                .toList();
+    }
+}
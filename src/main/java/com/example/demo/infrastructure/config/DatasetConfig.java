@@ -0,0 +1,42 @@
+package com.example.demo.infrastructure.config;
+
+import com.example.demo.adapter.outbound.persistence.PriceBulkLoader;
+import com.example.demo.adapter.outbound.persistence.PriceListIdentity;
+import com.example.demo.infrastructure.dataset.SyntheticDatasetInitializer;
+import com.example.demo.infrastructure.dataset.SyntheticPriceSpec;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import javax.sql.DataSource;
+import java.time.LocalDateTime;
+import java.util.List;
+
+@Configuration
+@ConditionalOnProperty(name = "prices.dataset.synthetic.enabled", havingValue = "true")
+public class DatasetConfig {
+
+    @Bean
+    public SyntheticDatasetInitializer syntheticDatasetInitializer(
+            DataSource dataSource,
+            @Value("${prices.dataset.synthetic.brands:1}") int brands,
+            @Value("${prices.dataset.synthetic.products:10000}") int products,
+            @Value("${prices.dataset.synthetic.rates-per-product:4}") int ratesPerProduct,
+            @Value("${prices.dataset.synthetic.priority-weights:0.7,0.2,0.1}") List<Double> priorityWeights,
+            @Value("${prices.dataset.synthetic.from:2020-01-01T00:00:00}") String from,
+            @Value("${prices.dataset.synthetic.to:2021-01-01T00:00:00}") String to,
+            @Value("${prices.dataset.synthetic.first-brand-id:1000}") int firstBrandId,
+            @Value("${prices.dataset.synthetic.first-product-id:1000000}") int firstProductId,
+            @Value("${prices.dataset.synthetic.seed:42}") long seed,
+            @Value("${prices.dataset.synthetic.batch-size:5000}") int batchSize,
+            @Value("${prices.dataset.synthetic.mode:JDBC}") SyntheticDatasetInitializer.Mode mode) {
+        // A dedicated JdbcTemplate: the shared one depends on database initialization, which includes this bean
+        JdbcTemplate jdbcTemplate = new JdbcTemplate(dataSource);
+        PriceBulkLoader loader = new PriceBulkLoader(jdbcTemplate, batchSize);
+        SyntheticPriceSpec spec = new SyntheticPriceSpec(brands, products, ratesPerProduct, priorityWeights,
+                LocalDateTime.parse(from), LocalDateTime.parse(to), firstBrandId, firstProductId, loader.nextPriceList(), seed);
+        return new SyntheticDatasetInitializer(loader, new PriceListIdentity(jdbcTemplate), spec, mode);
+    }
+}
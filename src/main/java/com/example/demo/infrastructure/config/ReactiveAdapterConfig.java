@@ -0,0 +1,40 @@
+package com.example.demo.infrastructure.config;
+
+import com.example.demo.adapter.outbound.r2dbc.R2dbcPriceAdapter;
+import com.example.demo.application.usecase.ReactivePriorityPriceUseCase;
+import com.example.demo.domain.repository.ReactivePriceRepository;
+import com.example.demo.domain.service.ReactivePriorityPriceService;
+import io.r2dbc.spi.ConnectionFactories;
+import io.r2dbc.spi.ConnectionFactoryOptions;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.r2dbc.core.DatabaseClient;
+
+/**
+ * Reactive stack, active with {@code spring.main.web-application-type=reactive}. The R2DBC connection factory
+ * is deliberately not exposed as a bean: schema and data keep being initialised once through the JDBC
+ * data source, and the reactive adapter reads the same in-memory database.
+ */
+@Configuration
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.REACTIVE)
+public class ReactiveAdapterConfig {
+
+    @Bean
+    public ReactivePriceRepository reactivePriceRepository(
+            @Value("${prices.reactive.r2dbc-url:r2dbc:h2:mem:///demodb}") String url,
+            @Value("${spring.datasource.username:sa}") String username,
+            @Value("${spring.datasource.password:}") String password) {
+        ConnectionFactoryOptions options = ConnectionFactoryOptions.parse(url).mutate()
+                .option(ConnectionFactoryOptions.USER, username)
+                .option(ConnectionFactoryOptions.PASSWORD, password)
+                .build();
+        return new R2dbcPriceAdapter(DatabaseClient.create(ConnectionFactories.get(options)));
+    }
+
+    @Bean
+    public ReactivePriorityPriceUseCase reactivePriorityPriceUseCase(ReactivePriceRepository reactivePriceRepository) {
+        return new ReactivePriorityPriceService(reactivePriceRepository);
+    }
+}
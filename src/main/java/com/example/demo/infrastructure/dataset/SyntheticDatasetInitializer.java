@@ -0,0 +1,60 @@
+package com.example.demo.infrastructure.dataset;
+
+import com.example.demo.adapter.outbound.persistence.PriceBulkLoader;
+import com.example.demo.adapter.outbound.persistence.PriceListIdentity;
+import lombok.RequiredArgsConstructor;
+import lombok.experimental.FieldDefaults;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.InitializingBean;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import static lombok.AccessLevel.PRIVATE;
+
+/**
+ * Loads a synthetic catalog after the SQL scripts have run and before any bean that depends on database
+ * initialization (in-memory indexes, snapshots) reads PRICES.
+ */
+@Slf4j
+@RequiredArgsConstructor
+@FieldDefaults(level = PRIVATE, makeFinal = true)
+public class SyntheticDatasetInitializer implements InitializingBean {
+
+  public enum Mode { JDBC, CSV }
+
+  PriceBulkLoader loader;
+  PriceListIdentity identity;
+  SyntheticPriceSpec spec;
+  Mode mode;
+
+  @Override
+  public void afterPropertiesSet() throws IOException {
+    SyntheticPriceGenerator generator = new SyntheticPriceGenerator(spec);
+    long started = System.nanoTime();
+
+    loader.insertMissingBrands(generator.brandIds());
+    loader.insertMissingProducts(generator.productIds());
+    long rows = switch (mode) {
+      case JDBC -> loader.insertPrices(generator.prices());
+      case CSV -> loadThroughCsv(generator);
+    };
+    identity.advance();
+
+    double seconds = (System.nanoTime() - started) / 1e9;
+    log.info("Loaded {} synthetic prices ({} brands x {} products x {} rates) via {} in {} s ({} rows/s)",
+        rows, spec.brands(), spec.products(), spec.ratesPerProduct(), mode,
+        String.format("%.1f", seconds), Math.round(rows / Math.max(seconds, 1e-9)));
+  }
+
+  private long loadThroughCsv(SyntheticPriceGenerator generator) throws IOException {
+    Path csv = Files.createTempFile("synthetic-prices", ".csv");
+    try {
+      generator.writeCsv(csv);
+      return loader.insertPricesFromCsv(csv);
+    } finally {
+      Files.deleteIfExists(csv);
+    }
+  }
+}
@@ -0,0 +1,23 @@
+package com.example.demo.infrastructure.dataset;
+
+import org.springframework.boot.sql.init.dependency.AbstractBeansOfTypeDatabaseInitializerDetector;
+import org.springframework.core.Ordered;
+
+import java.util.Set;
+
+/**
+ * Registers {@link SyntheticDatasetInitializer} as a database initializer ordered after the SQL scripts,
+ * so beans annotated with {@code @DependsOnDatabaseInitialization} see the synthetic rows.
+ */
+class SyntheticDatasetInitializerDetector extends AbstractBeansOfTypeDatabaseInitializerDetector {
+
+  @Override
+  protected Set<Class<?>> getDatabaseInitializerBeanTypes() {
+    return Set.of(SyntheticDatasetInitializer.class);
+  }
+
+  @Override
+  public int getOrder() {
+    return Ordered.LOWEST_PRECEDENCE;
+  }
+}
@@ -0,0 +1,115 @@
+package com.example.demo.infrastructure.dataset;
+
+import com.example.demo.domain.model.Currency;
+import com.example.demo.domain.model.Money;
+import com.example.demo.domain.model.Price;
+import com.example.demo.domain.model.Rate;
+import lombok.RequiredArgsConstructor;
+import lombok.experimental.FieldDefaults;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.SplittableRandom;
+import java.util.stream.IntStream;
+import java.util.stream.LongStream;
+import java.util.stream.Stream;
+
+import static lombok.AccessLevel.PRIVATE;
+
+/**
+ * Generates a deterministic synthetic PRICES catalog lazily, so arbitrarily large datasets can be
+ * streamed into a loader or a CSV file without being held in memory.
+ */
+@RequiredArgsConstructor
+@FieldDefaults(level = PRIVATE, makeFinal = true)
+public class SyntheticPriceGenerator {
+
+  public static final String CSV_HEADER = "PRICE_LIST,BRAND_ID,PRODUCT_ID,START_DATE,END_DATE,PRIORITY,PRICE,CURRENCY";
+
+  private static final DateTimeFormatter CSV_DATE_FORMAT = DateTimeFormatter.ofPattern("yyyy-MM-dd HH:mm:ss");
+
+  SyntheticPriceSpec spec;
+
+  public IntStream brandIds() {
+    return IntStream.range(spec.firstBrandId(), spec.firstBrandId() + spec.brands());
+  }
+
+  public IntStream productIds() {
+    return IntStream.range(spec.firstProductId(), spec.firstProductId() + spec.products());
+  }
+
+  public Stream<Price> prices() {
+    return LongStream.range(0, (long) spec.brands() * spec.products())
+        .mapToObj(this::pricesOfKey)
+        .flatMap(List::stream);
+  }
+
+  public long writeCsv(Path path) throws IOException {
+    long rows = 0;
+    try (BufferedWriter writer = Files.newBufferedWriter(path)) {
+      writer.write(CSV_HEADER);
+      writer.newLine();
+      Iterator<Price> iterator = prices().iterator();
+      while (iterator.hasNext()) {
+        Price price = iterator.next();
+        Rate rate = price.rate();
+        writer.write(rate.priceList() + "," + price.brandId() + "," + price.productId() + ","
+            + CSV_DATE_FORMAT.format(rate.startDate()) + "," + CSV_DATE_FORMAT.format(rate.endDate()) + ","
+            + rate.priority() + "," + rate.price().amount().toPlainString() + "," + rate.price().currency().name());
+        writer.newLine();
+        rows++;
+      }
+    }
+    return rows;
+  }
+
+  private List<Price> pricesOfKey(long keyIndex) {
+    int brandId = spec.firstBrandId() + (int) (keyIndex / spec.products());
+    int productId = spec.firstProductId() + (int) (keyIndex % spec.products());
+    int priceList = spec.firstPriceList() + (int) (keyIndex * spec.ratesPerProduct());
+    // Seeded per key so every key is reproducible regardless of how the stream is consumed
+    SplittableRandom random = new SplittableRandom(spec.seed() * 31 + keyIndex);
+    long windowSeconds = Duration.between(spec.from(), spec.to()).toSeconds();
+
+    List<Price> prices = new ArrayList<>(spec.ratesPerProduct());
+    prices.add(price(brandId, productId, priceList, spec.from(), spec.to(), 0, random));
+    for (int i = 1; i < spec.ratesPerProduct(); i++) {
+      LocalDateTime start = spec.from().plusSeconds(random.nextLong(windowSeconds));
+      LocalDateTime end = start.plusSeconds(1 + random.nextLong(Math.max(1, windowSeconds / 10)));
+      if (end.isAfter(spec.to())) {
+        end = spec.to();
+      }
+      prices.add(price(brandId, productId, priceList + i, start, end, nextPriority(random), random));
+    }
+    return prices;
+  }
+
+  private int nextPriority(SplittableRandom random) {
+    List<Double> weights = spec.priorityWeights();
+    double total = weights.stream().mapToDouble(Double::doubleValue).sum();
+    double target = random.nextDouble(total);
+    double cumulative = 0;
+    for (int i = 0; i < weights.size(); i++) {
+      cumulative += weights.get(i);
+      if (target < cumulative) {
+        return i + 1;
+      }
+    }
+    return weights.size();
+  }
+
+  private static Price price(int brandId, int productId, int priceList, LocalDateTime start, LocalDateTime end,
+                             int priority, SplittableRandom random) {
+    Money money = new Money(BigDecimal.valueOf(100 + random.nextInt(99_900), 2), Currency.EUR);
+    return new Price(brandId, productId, new Rate(priceList, start, end, priority, money));
+  }
+}
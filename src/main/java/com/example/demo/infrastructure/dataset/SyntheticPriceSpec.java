@@ -0,0 +1,46 @@
+package com.example.demo.infrastructure.dataset;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * Shape of a synthetic PRICES catalog: {@code brands x products} keys, each with {@code ratesPerProduct} rates.
+ * The first rate of every key is a priority 0 base rate covering the whole window; the others are shorter
+ * overlapping promotions whose priority {@code i + 1} is drawn with weight {@code priorityWeights[i]}.
+ */
+public record SyntheticPriceSpec(
+    int brands,
+    int products,
+    int ratesPerProduct,
+    List<Double> priorityWeights,
+    LocalDateTime from,
+    LocalDateTime to,
+    int firstBrandId,
+    int firstProductId,
+    int firstPriceList,
+    long seed
+) {
+  public SyntheticPriceSpec {
+    Objects.requireNonNull(priorityWeights);
+    Objects.requireNonNull(from);
+    Objects.requireNonNull(to);
+    if (brands < 1 || products < 1 || ratesPerProduct < 1) {
+      throw new IllegalArgumentException("brands, products and ratesPerProduct must be >= 1");
+    }
+    if (!from.isBefore(to)) {
+      throw new IllegalArgumentException("from must be before to");
+    }
+    if (priorityWeights.isEmpty() || priorityWeights.stream().anyMatch(weight -> weight < 0)
+        || priorityWeights.stream().mapToDouble(Double::doubleValue).sum() <= 0) {
+      throw new IllegalArgumentException("priorityWeights must be non-negative with a positive sum");
+    }
+    if ((long) brands * products * ratesPerProduct + firstPriceList > Integer.MAX_VALUE) {
+      throw new IllegalArgumentException("Catalog does not fit in INT price_list ids");
+    }
+  }
+
+  public long totalRates() {
+    return (long) brands * products * ratesPerProduct;
+  }
+}
@@ -11,3 +11,6 @@ INSERT INTO PRICES (price_list, brand_id, product_id, start_date, end_date, prio
 (3, 1, 35455, '2020-06-15 00:00:00', '2020-06-15 11:00:00', 1, 30.50, 'EUR'),
 (4, 1, 35455, '2020-06-15 16:00:00', '2020-12-31 23:59:59', 1, 38.95, 'EUR');
 
+
+-- Explicit price lists do not advance the identity, new rates continue after them
+ALTER TABLE PRICES ALTER COLUMN price_list RESTART WITH 5;
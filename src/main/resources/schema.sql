@@ -1,4 +1,6 @@
 -- Drop tables in correct order (child first, then parents)
+DROP TABLE IF EXISTS EFFECTIVE_PRICES;
+DROP TABLE IF EXISTS PRICES_HISTORY;
 DROP TABLE IF EXISTS PRICES;
 DROP TABLE IF EXISTS PRODUCTS;
 DROP TABLE IF EXISTS BRANDS;
@@ -25,11 +27,51 @@ CREATE TABLE IF NOT EXISTS PRICES (
     priority INT NOT NULL,
     price DECIMAL(19,2) NOT NULL,
     currency VARCHAR(3) NOT NULL,
+    -- Optimistic concurrency: bumped by every update, checked against the version the writer last read
+    version BIGINT DEFAULT 0 NOT NULL,
     CONSTRAINT fk_prices_brand FOREIGN KEY (brand_id) REFERENCES BRANDS(id),
     CONSTRAINT fk_prices_product FOREIGN KEY (product_id) REFERENCES PRODUCTS(id)
 );
 
-CREATE INDEX IF NOT EXISTS idx_prices_brand ON PRICES(brand_id);
+-- Top-1 priority lookups seek on (brand_id, product_id, start_date) and read the rest of the row from the index
+CREATE INDEX IF NOT EXISTS idx_prices_lookup ON PRICES(brand_id, product_id, start_date, end_date, priority, price, currency);
 CREATE INDEX IF NOT EXISTS idx_prices_product ON PRICES(product_id);
 CREATE INDEX IF NOT EXISTS idx_prices_dates ON PRICES(start_date, end_date);
 
+-- Derived from PRICES: the winning rate of each brand/product as non-overlapping [valid_from, valid_until) segments.
+-- Recomputed for the affected brand/product in the transaction of every write or import, rebuilt at startup.
+-- valid_until is end_date plus one nanosecond, hence the nanosecond precision
+CREATE TABLE IF NOT EXISTS EFFECTIVE_PRICES (
+    brand_id INT NOT NULL,
+    product_id INT NOT NULL,
+    valid_from TIMESTAMP(9) NOT NULL,
+    valid_until TIMESTAMP(9) NOT NULL,
+    price_list INT NOT NULL,
+    PRIMARY KEY (brand_id, product_id, valid_from)
+);
+
+-- A lookup reads the single segment starting last at or before the date, then checks it has not ended yet
+CREATE INDEX IF NOT EXISTS idx_effective_prices_lookup ON EFFECTIVE_PRICES(brand_id, product_id, valid_from DESC, valid_until, price_list);
+
+-- Transaction-time history of PRICES: every version of a rate with the [recorded_from, recorded_until) period in which
+-- it was the stored one. The current version is open until 9999-12-31. Written in the transaction of every write or
+-- import; rows loaded at startup are recorded from startup time
+CREATE TABLE IF NOT EXISTS PRICES_HISTORY (
+    price_list INT NOT NULL,
+    brand_id INT NOT NULL,
+    product_id INT NOT NULL,
+    start_date TIMESTAMP NOT NULL,
+    end_date TIMESTAMP NOT NULL,
+    priority INT NOT NULL,
+    price DECIMAL(19,2) NOT NULL,
+    currency VARCHAR(3) NOT NULL,
+    recorded_from TIMESTAMP(9) NOT NULL,
+    recorded_until TIMESTAMP(9) NOT NULL
+);
+
+-- As-of lookups seek on (brand_id, product_id, start_date) like current ones and filter versions in the index, so
+-- their cost grows with the log of the history size plus the versions of one product
+CREATE INDEX IF NOT EXISTS idx_prices_history_as_of ON PRICES_HISTORY(brand_id, product_id, start_date, end_date,
+    recorded_from, recorded_until, priority, price, currency, price_list);
+-- Closing the open version of a rate on update or delete
+CREATE INDEX IF NOT EXISTS idx_prices_history_price_list ON PRICES_HISTORY(price_list, recorded_until);
@@ -0,0 +1,96 @@
+package com.example.demo.adapter.inbound.rest;
+
+import com.example.demo.adapter.inbound.rest.EncodedPriceResponses.EncodedPriceResponse;
+import com.example.demo.adapter.outbound.persistence.PriceMapper;
+import com.example.demo.domain.model.Currency;
+import com.example.demo.domain.model.Money;
+import com.example.demo.domain.model.Price;
+import com.example.demo.domain.model.Rate;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.dataformat.cbor.databind.CBORMapper;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class EncodedPriceResponsesTest {
+
+    private ObjectMapper objectMapper;
+    private SimpleMeterRegistry meterRegistry;
+    private EncodedPriceResponses responses;
+
+    @BeforeEach
+    void setUp() {
+        objectMapper = new ObjectMapper()
+                .registerModule(new JavaTimeModule())
+                .disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS);
+        meterRegistry = new SimpleMeterRegistry();
+        responses = new EncodedPriceResponses(objectMapper, 100, meterRegistry);
+    }
+
+    @Test
+    @DisplayName("get - Should encode the response DTO once and share the bytes for equal rates")
+    void get_ShouldEncodeOnce() throws Exception {
+        // When
+        EncodedPriceResponse first = responses.get(price("25.45"));
+        EncodedPriceResponse second = responses.get(price("25.45"));
+
+        // Then
+        assertThat(first.body()).isEqualTo(objectMapper.writeValueAsBytes(PriceMapper.toResponseDTO(price("25.45"))));
+        assertThat(second.body()).isSameAs(first.body());
+        assertThat(meterRegistry.get("cache.gets").tag("cache", "prices.responses").tag("result", "hit").functionCounter().count())
+                .isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("get - Should encode a changed rate under a new tag")
+    void get_ShouldEncodeChangedRateSeparately() {
+        // When
+        EncodedPriceResponse original = responses.get(price("25.45"));
+        EncodedPriceResponse repriced = responses.get(price("19.99"));
+
+        // Then
+        assertThat(new String(repriced.body())).contains("\"finalPrice\":\"19.99 EUR\"");
+        assertThat(repriced.eTag()).startsWith("2-").isNotEqualTo(original.eTag());
+        assertThat(EncodedPriceResponses.entityTag(price("25.45"))).isEqualTo(original.eTag());
+    }
+
+    @Test
+    @DisplayName("get - Should encode CBOR bodies as positional arrays under their own tag")
+    void get_ShouldEncodeCompactCbor() throws Exception {
+        // Given
+        CBORMapper cborMapper = new CBORMapper();
+        EncodedPriceResponses cbor = new EncodedPriceResponses(WireFormat.CBOR, cborMapper, 100, meterRegistry);
+
+        // When
+        EncodedPriceResponse response = cbor.get(price("25.45"));
+
+        // Then
+        JsonNode body = cborMapper.readTree(response.body());
+        assertThat(body.isArray()).isTrue();
+        assertThat(body.get(2).asInt()).isEqualTo(2);
+        assertThat(body.get(3).asLong()).isEqualTo(1592146800000L);
+        assertThat(body.get(5).asLong()).isEqualTo(2545);
+        assertThat(body.get(6).asText()).isEqualTo("EUR");
+        assertThat(response.body().length).isLessThan(responses.get(price("25.45")).body().length / 2);
+        assertThat(response.eTag()).isEqualTo(EncodedPriceResponses.entityTag(price("25.45")) + ".cbor");
+        assertThat(meterRegistry.get("cache.gets").tag("cache", "prices.responses.cbor").tag("result", "miss").functionCounter().count())
+                .isEqualTo(1);
+    }
+
+    private static Price price(String amount) {
+        return new Price(1, 35455, new Rate(2,
+                LocalDateTime.of(2020, 6, 14, 15, 0, 0),
+                LocalDateTime.of(2020, 6, 14, 18, 30, 0),
+                1,
+                new Money(new BigDecimal(amount), Currency.EUR)));
+    }
+}
@@ -1,17 +1,22 @@
 package com.example.demo.adapter.inbound.rest;
 
 import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
 import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.Arguments;
 import org.junit.jupiter.params.provider.MethodSource;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
 import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
 import org.springframework.test.web.servlet.MockMvc;
 
 import java.util.stream.Stream;
 
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
 
@@ -93,5 +98,52 @@ class PriceControllerIntegrationTest {
                 .andExpect(jsonPath("$.startDate").exists())
                 .andExpect(jsonPath("$.endDate").exists());
     }
-}
 
+    @Test
+    @DisplayName("Get priority prices in batch - Should resolve found and not found lookups in one call")
+    void getPriorityPrices_ShouldResolveBatch() throws Exception {
+        String body = """
+                {"items": [
+                  {"brandId": 1, "productId": 35455, "applicationDate": "2020-06-14T16:00:00"},
+                  {"brandId": 1, "productId": 35455, "applicationDate": "2020-06-16T21:00:00"},
+                  {"brandId": 1, "productId": 99999, "applicationDate": "2020-06-14T10:00:00"}
+                ]}
+                """;
+
+        mockMvc.perform(post("/prices/batch")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(body))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.items.length()").value(3))
+                .andExpect(jsonPath("$.items[0].found").value(true))
+                .andExpect(jsonPath("$.items[0].price.priceList").value(2))
+                .andExpect(jsonPath("$.items[0].price.finalPrice").value("25.45 EUR"))
+                .andExpect(jsonPath("$.items[1].found").value(true))
+                .andExpect(jsonPath("$.items[1].price.priceList").value(4))
+                .andExpect(jsonPath("$.items[2].found").value(false))
+                .andExpect(jsonPath("$.items[2].productId").value(99999));
+    }
+
+    @Test
+    @DisplayName("Get priority price - Should revalidate with If-None-Match, a segment that ended gets the capped max-age")
+    void getPriorityPrice_ShouldSupportConditionalRequests() throws Exception {
+        String eTag = mockMvc.perform(get(BASE_URL, BRAND_ID, PRODUCT_ID)
+                        .param("applicationDate", "2020-06-14T18:00:00"))
+                .andExpect(status().isOk())
+                .andExpect(header().string(HttpHeaders.CACHE_CONTROL, "max-age=3600, public"))
+                .andReturn()
+                .getResponse()
+                .getHeader(HttpHeaders.ETAG);
+
+        mockMvc.perform(get(BASE_URL, BRAND_ID, PRODUCT_ID)
+                        .param("applicationDate", "2020-06-14T16:00:00")
+                        .header(HttpHeaders.IF_NONE_MATCH, eTag))
+                .andExpect(status().isNotModified());
+
+        mockMvc.perform(get(BASE_URL, BRAND_ID, PRODUCT_ID)
+                        .param("applicationDate", "2020-06-14T21:00:00")
+                        .header(HttpHeaders.IF_NONE_MATCH, eTag))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.priceList").value(1));
+    }
+}
@@ -2,30 +2,60 @@ package com.example.demo.adapter.inbound.rest;
 
 import com.example.demo.adapter.inbound.rest.dto.PriceRequestDTO;
 import com.example.demo.application.usecase.PriorityPriceUseCase;
-import com.example.demo.domain.exception.ResourceNotFoundException;
+import com.example.demo.domain.exception.PriceLookupRejectedException;
 import com.example.demo.domain.model.Currency;
 import com.example.demo.domain.model.Money;
 import com.example.demo.domain.model.Price;
+import com.example.demo.domain.model.PriceSegment;
 import com.example.demo.domain.model.Rate;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.dataformat.cbor.databind.CBORMapper;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Import;
 import org.springframework.test.context.bean.override.mockito.MockitoBean;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
 import org.springframework.test.web.servlet.MockMvc;
 
 import java.math.BigDecimal;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
 import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.List;
+import java.util.Optional;
 
+import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
 import static org.mockito.Mockito.when;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
 
 @WebMvcTest(PriceController.class)
+@Import(SimpleMeterRegistry.class)
 class PriceControllerTest {
 
+    // The server clock reads 2020-06-14T18:20:00 UTC, ten minutes before rate 2 ends
+    @TestConfiguration
+    static class FixedClock {
+        @Bean
+        Clock clock() {
+            return Clock.fixed(Instant.parse("2020-06-14T18:20:00Z"), ZoneOffset.UTC);
+        }
+    }
+
     @Autowired
     private MockMvc mockMvc;
 
@@ -50,7 +80,7 @@ class PriceControllerTest {
                 money);
         Price price = new Price(brandId, productId, rate);
 
-        when(priorityPriceUseCase.getPriorityPrice(any(PriceRequestDTO.class))).thenReturn(price);
+        when(priorityPriceUseCase.findPriorityPriceSegment(any(PriceRequestDTO.class))).thenReturn(Optional.of(segment(price)));
 
         // When & Then
         mockMvc.perform(get(BASE_URL, brandId, productId)
@@ -78,7 +108,7 @@ class PriceControllerTest {
                 money);
         Price price = new Price(brandId, productId, rate);
 
-        when(priorityPriceUseCase.getPriorityPrice(any(PriceRequestDTO.class))).thenReturn(price);
+        when(priorityPriceUseCase.findPriorityPriceSegment(any(PriceRequestDTO.class))).thenReturn(Optional.of(segment(price)));
 
         // When & Then
         mockMvc.perform(get(BASE_URL, brandId, productId)
@@ -90,6 +120,128 @@ class PriceControllerTest {
                 .andExpect(jsonPath("$.finalPrice").value("25.45 EUR"));
     }
 
+    @Test
+    @DisplayName("GET /brand/{brandId}/product/{productId}/prices - 200 OK - Cacheable until the segment ends on the server clock")
+    void getPriorityPrice_SetsETagAndMaxAgeUntilSegmentEnd() throws Exception {
+        // Given
+        Price price = new Price(1, 35455, new Rate(2,
+                LocalDateTime.of(2020, 6, 14, 15, 0, 0),
+                LocalDateTime.of(2020, 6, 14, 18, 30, 0),
+                1,
+                new Money(new BigDecimal("25.45"), Currency.EUR)));
+        when(priorityPriceUseCase.findPriorityPriceSegment(any(PriceRequestDTO.class))).thenReturn(Optional.of(segment(price)));
+
+        // When & Then
+        mockMvc.perform(get(BASE_URL, 1, 35455)
+                        .param("applicationDate", "2020-06-14T16:00:00"))
+                .andExpect(status().isOk())
+                .andExpect(header().string(HttpHeaders.ETAG, "\"" + EncodedPriceResponses.entityTag(price) + "\""))
+                .andExpect(header().string(HttpHeaders.CACHE_CONTROL, "max-age=600, public"));
+    }
+
+    @Test
+    @DisplayName("GET /brand/{brandId}/product/{productId}/prices - 200 OK - Dates still to come get the capped max-age")
+    void getPriorityPrice_CapsMaxAge_WhenDateIsInTheFuture() throws Exception {
+        // Given
+        Price price = new Price(1, 35455, new Rate(3,
+                LocalDateTime.of(2020, 6, 15, 0, 0, 0),
+                LocalDateTime.of(2020, 6, 15, 11, 0, 0),
+                1,
+                new Money(new BigDecimal("30.50"), Currency.EUR)));
+        when(priorityPriceUseCase.findPriorityPriceSegment(any(PriceRequestDTO.class))).thenReturn(Optional.of(segment(price)));
+
+        // When & Then
+        mockMvc.perform(get(BASE_URL, 1, 35455)
+                        .param("applicationDate", "2020-06-15T10:59:00"))
+                .andExpect(status().isOk())
+                .andExpect(header().string(HttpHeaders.CACHE_CONTROL, "max-age=3600, public"));
+    }
+
+    @Test
+    @DisplayName("GET /brand/{brandId}/product/{productId}/prices - 200 OK - Segments already over get the capped max-age")
+    void getPriorityPrice_CapsMaxAge_WhenSegmentHasEnded() throws Exception {
+        // Given
+        Price price = new Price(1, 35455, new Rate(1,
+                LocalDateTime.of(2020, 6, 14, 0, 0, 0),
+                LocalDateTime.of(2020, 6, 14, 14, 59, 59),
+                0,
+                new Money(new BigDecimal("35.50"), Currency.EUR)));
+        when(priorityPriceUseCase.findPriorityPriceSegment(any(PriceRequestDTO.class))).thenReturn(Optional.of(segment(price)));
+
+        // When & Then
+        mockMvc.perform(get(BASE_URL, 1, 35455)
+                        .param("applicationDate", "2020-06-14T10:00:00"))
+                .andExpect(status().isOk())
+                .andExpect(header().string(HttpHeaders.CACHE_CONTROL, "max-age=3600, public"));
+    }
+
+    @Test
+    @DisplayName("GET /brand/{brandId}/product/{productId}/prices - 200 OK - max-age is capped for long segments")
+    void getPriorityPrice_CapsMaxAge() throws Exception {
+        // Given
+        Price price = new Price(1, 35455, new Rate(1,
+                LocalDateTime.of(2020, 6, 14, 0, 0, 0),
+                LocalDateTime.of(2020, 12, 31, 23, 59, 59),
+                0,
+                new Money(new BigDecimal("35.50"), Currency.EUR)));
+        when(priorityPriceUseCase.findPriorityPriceSegment(any(PriceRequestDTO.class))).thenReturn(Optional.of(segment(price)));
+
+        // When & Then
+        mockMvc.perform(get(BASE_URL, 1, 35455)
+                        .param("applicationDate", "2020-06-14T10:00:00"))
+                .andExpect(status().isOk())
+                .andExpect(header().string(HttpHeaders.CACHE_CONTROL, "max-age=3600, public"));
+    }
+
+    @Test
+    @DisplayName("GET /brand/{brandId}/product/{productId}/prices - 304 Not Modified - ETag still matches")
+    void getPriorityPrice_ReturnsNotModified_WhenETagMatches() throws Exception {
+        // Given
+        Price price = new Price(1, 35455, new Rate(2,
+                LocalDateTime.of(2020, 6, 14, 15, 0, 0),
+                LocalDateTime.of(2020, 6, 14, 18, 30, 0),
+                1,
+                new Money(new BigDecimal("25.45"), Currency.EUR)));
+        when(priorityPriceUseCase.findPriorityPriceSegment(any(PriceRequestDTO.class))).thenReturn(Optional.of(segment(price)));
+        String eTag = "\"" + EncodedPriceResponses.entityTag(price) + "\"";
+
+        // When & Then
+        mockMvc.perform(get(BASE_URL, 1, 35455)
+                        .param("applicationDate", "2020-06-14T16:00:00")
+                        .header(HttpHeaders.IF_NONE_MATCH, eTag))
+                .andExpect(status().isNotModified())
+                .andExpect(header().string(HttpHeaders.ETAG, eTag))
+                .andExpect(header().exists(HttpHeaders.CACHE_CONTROL))
+                .andExpect(content().string(""));
+    }
+
+    @Test
+    @DisplayName("GET /brand/{brandId}/product/{productId}/prices - 200 OK - Compact CBOR body when accepted")
+    void getPriorityPrice_ReturnsCbor_WhenAccepted() throws Exception {
+        // Given
+        Price price = new Price(1, 35455, new Rate(2,
+                LocalDateTime.of(2020, 6, 14, 15, 0, 0),
+                LocalDateTime.of(2020, 6, 14, 18, 30, 0),
+                1,
+                new Money(new BigDecimal("25.45"), Currency.EUR)));
+        when(priorityPriceUseCase.findPriorityPriceSegment(any(PriceRequestDTO.class))).thenReturn(Optional.of(segment(price)));
+
+        // When
+        byte[] body = mockMvc.perform(get(BASE_URL, 1, 35455)
+                        .param("applicationDate", "2020-06-14T16:00:00")
+                        .accept(MediaType.APPLICATION_CBOR))
+                .andExpect(status().isOk())
+                .andExpect(content().contentType(MediaType.APPLICATION_CBOR))
+                .andExpect(header().string(HttpHeaders.VARY, HttpHeaders.ACCEPT))
+                .andExpect(header().string(HttpHeaders.ETAG, "\"" + EncodedPriceResponses.entityTag(price) + ".cbor\""))
+                .andReturn().getResponse().getContentAsByteArray();
+
+        // Then
+        JsonNode decoded = new CBORMapper().readTree(body);
+        assertThat(decoded.get(2).asInt()).isEqualTo(2);
+        assertThat(decoded.get(5).asLong()).isEqualTo(2545);
+    }
+
     @Test
     @DisplayName("GET /brand/{brandId}/product/{productId}/prices - 400 Bad Request - Missing applicationDate parameter")
     void getPriorityPrice_ReturnsBadRequest_WhenApplicationDateIsMissing() throws Exception {
@@ -141,10 +293,7 @@ class PriceControllerTest {
         Integer productId = 99999;
         LocalDateTime applicationDate = LocalDateTime.of(2020, 6, 14, 10, 0, 0);
 
-        when(priorityPriceUseCase.getPriorityPrice(any(PriceRequestDTO.class)))
-                .thenThrow(new ResourceNotFoundException(
-                        String.format("Price not found for brandId=%d, productId=%d, applicationDate=%s",
-                                brandId, productId, applicationDate)));
+        when(priorityPriceUseCase.findPriorityPriceSegment(any(PriceRequestDTO.class))).thenReturn(Optional.empty());
 
         // When & Then
         mockMvc.perform(get(BASE_URL, brandId, productId)
@@ -162,10 +311,7 @@ class PriceControllerTest {
         Integer productId = 35455;
         LocalDateTime applicationDate = LocalDateTime.of(2020, 6, 14, 10, 0, 0);
 
-        when(priorityPriceUseCase.getPriorityPrice(any(PriceRequestDTO.class)))
-                .thenThrow(new ResourceNotFoundException(
-                        String.format("Price not found for brandId=%d, productId=%d, applicationDate=%s",
-                                brandId, productId, applicationDate)));
+        when(priorityPriceUseCase.findPriorityPriceSegment(any(PriceRequestDTO.class))).thenReturn(Optional.empty());
 
         // When & Then
         mockMvc.perform(get(BASE_URL, brandId, productId)
@@ -185,10 +331,7 @@ class PriceControllerTest {
         Integer productId = 35455;
         LocalDateTime applicationDate = LocalDateTime.of(2019, 1, 1, 10, 0, 0);
 
-        when(priorityPriceUseCase.getPriorityPrice(any(PriceRequestDTO.class)))
-                .thenThrow(new ResourceNotFoundException(
-                        String.format("Price not found for brandId=%d, productId=%d, applicationDate=%s",
-                                brandId, productId, applicationDate)));
+        when(priorityPriceUseCase.findPriorityPriceSegment(any(PriceRequestDTO.class))).thenReturn(Optional.empty());
 
         // When & Then
         mockMvc.perform(get(BASE_URL, brandId, productId)
@@ -205,7 +348,7 @@ class PriceControllerTest {
         Integer productId = 35455;
         LocalDateTime applicationDate = LocalDateTime.of(2020, 6, 14, 10, 0, 0);
 
-        when(priorityPriceUseCase.getPriorityPrice(any(PriceRequestDTO.class)))
+        when(priorityPriceUseCase.findPriorityPriceSegment(any(PriceRequestDTO.class)))
                 .thenThrow(new RuntimeException("Database connection failed"));
 
         // When & Then
@@ -224,7 +367,7 @@ class PriceControllerTest {
         Integer productId = 35455;
         LocalDateTime applicationDate = LocalDateTime.of(2020, 6, 14, 10, 0, 0);
 
-        when(priorityPriceUseCase.getPriorityPrice(any(PriceRequestDTO.class)))
+        when(priorityPriceUseCase.findPriorityPriceSegment(any(PriceRequestDTO.class)))
                 .thenThrow(new NullPointerException("Unexpected null value"));
 
         // When & Then
@@ -235,5 +378,124 @@ class PriceControllerTest {
                 .andExpect(jsonPath("$.message").value("An unexpected error occurred"))
                 .andExpect(jsonPath("$.timestamp").exists());
     }
-}
 
+    @Test
+    @DisplayName("GET /brand/{brandId}/product/{productId}/prices - 503 Service Unavailable - Lookup shed under overload")
+    void getPriorityPrice_ReturnsServiceUnavailable_WhenLookupIsRejected() throws Exception {
+        // Given
+        when(priorityPriceUseCase.findPriorityPriceSegment(any(PriceRequestDTO.class)))
+                .thenThrow(new PriceLookupRejectedException(20, Duration.ofMillis(1500)));
+
+        // When & Then
+        mockMvc.perform(get(BASE_URL, 1, 35455)
+                        .param("applicationDate", "2020-06-14T10:00:00"))
+                .andExpect(status().isServiceUnavailable())
+                .andExpect(header().string(HttpHeaders.RETRY_AFTER, "2"))
+                .andExpect(jsonPath("$.status").value(503))
+                .andExpect(jsonPath("$.message").value("Too many price lookups in progress (limit 20), retry later"));
+    }
+
+    @Test
+    @DisplayName("POST /prices/batch - 200 OK - Returns found and not found items")
+    void getPriorityPrices_ReturnsOk_WithPartialResults() throws Exception {
+        // Given
+        Money money = new Money(new BigDecimal("35.50"), Currency.EUR);
+        Rate rate = new Rate(1,
+                LocalDateTime.of(2020, 6, 14, 0, 0, 0),
+                LocalDateTime.of(2020, 12, 31, 23, 59, 59),
+                0,
+                money);
+        Price price = new Price(1, 35455, rate);
+
+        when(priorityPriceUseCase.getPriorityPrices(anyList()))
+                .thenReturn(List.of(Optional.of(price), Optional.empty()));
+
+        String body = """
+                {"items": [
+                  {"brandId": 1, "productId": 35455, "applicationDate": "2020-06-14T10:00:00"},
+                  {"brandId": 1, "productId": 99999, "applicationDate": "2020-06-14T10:00:00"}
+                ]}
+                """;
+
+        // When & Then
+        mockMvc.perform(post("/prices/batch")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(body))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.items[0].found").value(true))
+                .andExpect(jsonPath("$.items[0].price.priceList").value(1))
+                .andExpect(jsonPath("$.items[0].price.finalPrice").value("35.50 EUR"))
+                .andExpect(jsonPath("$.items[1].found").value(false))
+                .andExpect(jsonPath("$.items[1].productId").value(99999))
+                .andExpect(jsonPath("$.items[1].price").doesNotExist());
+    }
+
+    @Test
+    @DisplayName("POST /prices/batch - 200 OK - Compact CBOR items in request order when accepted")
+    void getPriorityPrices_ReturnsCbor_WhenAccepted() throws Exception {
+        // Given
+        Price price = new Price(1, 35455, new Rate(1,
+                LocalDateTime.of(2020, 6, 14, 0, 0, 0),
+                LocalDateTime.of(2020, 12, 31, 23, 59, 59),
+                0,
+                new Money(new BigDecimal("35.50"), Currency.EUR)));
+        when(priorityPriceUseCase.getPriorityPrices(anyList()))
+                .thenReturn(List.of(Optional.empty(), Optional.of(price)));
+
+        // When
+        byte[] body = mockMvc.perform(post("/prices/batch")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .accept(MediaType.APPLICATION_CBOR)
+                        .content("""
+                                {"items": [
+                                  {"brandId": 1, "productId": 99999, "applicationDate": "2020-06-14T10:00:00"},
+                                  {"brandId": 1, "productId": 35455, "applicationDate": "2020-06-14T10:00:00"}
+                                ]}
+                                """))
+                .andExpect(status().isOk())
+                .andExpect(content().contentType(MediaType.APPLICATION_CBOR))
+                .andReturn().getResponse().getContentAsByteArray();
+
+        // Then
+        JsonNode items = new CBORMapper().readTree(body).get("items");
+        assertThat(items.get(0).isNull()).isTrue();
+        assertThat(items.get(1).get(2).asInt()).isEqualTo(1);
+        assertThat(items.get(1).get(5).asLong()).isEqualTo(3550);
+    }
+
+    @Test
+    @DisplayName("POST /prices/batch - 400 Bad Request - Empty items")
+    void getPriorityPrices_ReturnsBadRequest_WhenItemsAreEmpty() throws Exception {
+        // When & Then
+        mockMvc.perform(post("/prices/batch")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"items\": []}"))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.message").value("items must not be empty"));
+    }
+
+    @Test
+    @DisplayName("POST /prices/batch - 400 Bad Request - Item without applicationDate")
+    void getPriorityPrices_ReturnsBadRequest_WhenItemIsIncomplete() throws Exception {
+        // When & Then
+        mockMvc.perform(post("/prices/batch")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"items\": [{\"brandId\": 1, \"productId\": 35455}]}"))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.message").value("applicationDate is required"));
+    }
+
+    @Test
+    @DisplayName("POST /prices/batch - 400 Bad Request - Malformed body")
+    void getPriorityPrices_ReturnsBadRequest_WhenBodyIsMalformed() throws Exception {
+        // When & Then
+        mockMvc.perform(post("/prices/batch")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("not json"))
+                .andExpect(status().isBadRequest());
+    }
+
+    private static PriceSegment segment(Price price) {
+        return new PriceSegment(price, price.rate().startDate(), price.rate().endDate().plusNanos(1));
+    }
+}
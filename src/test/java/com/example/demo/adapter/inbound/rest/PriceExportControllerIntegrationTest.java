@@ -0,0 +1,85 @@
+package com.example.demo.adapter.inbound.rest;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.asyncDispatch;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.request;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@SpringBootTest
+@AutoConfigureMockMvc
+class PriceExportControllerIntegrationTest {
+
+    private static final String EXPORT_URL = "/brand/{brandId}/prices/export";
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Test
+    @DisplayName("GET /brand/{brandId}/prices/export - 200 OK - Streams one NDJSON line per product with its winning rate")
+    void exportPrices_ShouldStreamNdjson() throws Exception {
+        MvcResult result = mockMvc.perform(get(EXPORT_URL, 1)
+                        .param("applicationDate", "2020-06-14T16:00:00"))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+
+        mockMvc.perform(asyncDispatch(result))
+                .andExpect(status().isOk())
+                .andExpect(header().string("Content-Type", "application/x-ndjson"))
+                .andExpect(header().string("Content-Disposition", "attachment; filename=\"prices-brand-1.ndjson\""))
+                .andExpect(content().string("""
+                        {"productId":35455,"brandId":1,"priceList":2,"startDate":"2020-06-14T15:00:00","endDate":"2020-06-14T18:30:00","finalPrice":"25.45 EUR"}
+                        """));
+    }
+
+    @Test
+    @DisplayName("GET /brand/{brandId}/prices/export - 200 OK - Streams CSV with a header row")
+    void exportPrices_ShouldStreamCsv() throws Exception {
+        MvcResult result = mockMvc.perform(get(EXPORT_URL, 1)
+                        .param("applicationDate", "2020-06-15T10:00:00")
+                        .param("format", "csv"))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+
+        mockMvc.perform(asyncDispatch(result))
+                .andExpect(status().isOk())
+                .andExpect(header().string("Content-Type", "text/csv"))
+                .andExpect(content().string("""
+                        productId,brandId,priceList,startDate,endDate,finalPrice
+                        35455,1,3,2020-06-15T00:00:00,2020-06-15T11:00:00,30.50 EUR
+                        """));
+    }
+
+    @Test
+    @DisplayName("GET /brand/{brandId}/prices/export - 200 OK - Empty export when no rate applies")
+    void exportPrices_ShouldBeEmpty_WhenNoRateApplies() throws Exception {
+        MvcResult result = mockMvc.perform(get(EXPORT_URL, 1)
+                        .param("applicationDate", "2019-01-01T00:00:00"))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+
+        mockMvc.perform(asyncDispatch(result))
+                .andExpect(status().isOk())
+                .andExpect(content().string(""));
+    }
+
+    @Test
+    @DisplayName("GET /brand/{brandId}/prices/export - 400 Bad Request - Unsupported format")
+    void exportPrices_ShouldRejectUnsupportedFormat() throws Exception {
+        mockMvc.perform(get(EXPORT_URL, 1)
+                        .param("applicationDate", "2020-06-14T16:00:00")
+                        .param("format", "xml"))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.message").value("Unsupported format 'xml', expected ndjson or csv"));
+    }
+}
@@ -0,0 +1,65 @@
+package com.example.demo.adapter.inbound.rest;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.transaction.annotation.Transactional;
+
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.put;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * data.sql rows are recorded in the history at startup; every test rolls its writes back.
+ */
+@SpringBootTest
+@AutoConfigureMockMvc
+@Transactional
+class PriceHistoryControllerIntegrationTest {
+
+    private static final String PRICES_URL = "/brand/{brandId}/product/{productId}/prices";
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Test
+    @DisplayName("GET /brand/{brandId}/product/{productId}/prices?asOf - 200 OK - Reads the rates as last stored")
+    void getPriorityPriceAsOf_ShouldFollowUpdates() throws Exception {
+        mockMvc.perform(get(PRICES_URL, 1, 35455)
+                        .param("applicationDate", "2020-06-14T16:00:00")
+                        .param("asOf", "9000-01-01T00:00:00"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.priceList").value(2))
+                .andExpect(jsonPath("$.finalPrice").value("25.45 EUR"));
+
+        mockMvc.perform(put("/prices/{priceList}", 2)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("""
+                                {"brandId": 1, "productId": 35455, "startDate": "2020-06-14T15:00:00", "endDate": "2020-06-14T18:30:00",
+                                 "priority": 1, "price": 19.99, "currency": "EUR", "version": 0}
+                                """))
+                .andExpect(status().isOk());
+
+        mockMvc.perform(get(PRICES_URL, 1, 35455)
+                        .param("applicationDate", "2020-06-14T16:00:00")
+                        .param("asOf", "9000-01-01T00:00:00"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.finalPrice").value("19.99 EUR"));
+    }
+
+    @Test
+    @DisplayName("GET /brand/{brandId}/product/{productId}/prices?asOf - 404 Not Found - Before the rates were recorded")
+    void getPriorityPriceAsOf_ShouldReturnNotFound_BeforeHistory() throws Exception {
+        mockMvc.perform(get(PRICES_URL, 1, 35455)
+                        .param("applicationDate", "2020-06-14T16:00:00")
+                        .param("asOf", "2000-01-01T00:00:00"))
+                .andExpect(status().isNotFound())
+                .andExpect(jsonPath("$.message").value(
+                        "Price not found for brandId=1, productId=35455, applicationDate=2020-06-14T16:00, asOf=2000-01-01T00:00"));
+    }
+}
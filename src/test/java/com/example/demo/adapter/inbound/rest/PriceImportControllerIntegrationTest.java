@@ -0,0 +1,100 @@
+package com.example.demo.adapter.inbound.rest;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.transaction.annotation.Transactional;
+
+import static org.hamcrest.Matchers.startsWith;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * Chunks are committed on the request thread, which MockMvc runs on the test thread: they join the test transaction
+ * and are rolled back with it, so the shared context keeps the four rows of data.sql.
+ */
+@SpringBootTest
+@AutoConfigureMockMvc
+@Transactional
+class PriceImportControllerIntegrationTest {
+
+    private static final String IMPORT_URL = "/prices/import";
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Test
+    @DisplayName("POST /prices/import - 200 OK - Imports valid CSV lines, reports invalid ones and serves the new rates")
+    void importPrices_ShouldImportCsv() throws Exception {
+        mockMvc.perform(post(IMPORT_URL)
+                        .contentType("text/csv")
+                        .content("""
+                                PRICE_LIST,BRAND_ID,PRODUCT_ID,START_DATE,END_DATE,PRIORITY,PRICE,CURRENCY
+                                10,1,35455,2020-06-14 15:00:00,2020-06-14 18:30:00,5,19.99,EUR
+                                11,1,35455,2020-06-14 15:00:00,2020-06-14 18:30:00,5,19.99,USD
+                                12,1,35455,2020-06-14 18:30:00,2020-06-14 15:00:00,5,19.99,EUR
+                                13,1,35455,2020-06-14 15:00:00
+                                """))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.completed").value(true))
+                .andExpect(jsonPath("$.read").value(4))
+                .andExpect(jsonPath("$.imported").value(1))
+                .andExpect(jsonPath("$.rejected").value(3))
+                .andExpect(jsonPath("$.errors[0]").value("line 3: Unsupported currency 'USD'"))
+                .andExpect(jsonPath("$.errors[1]").value("line 4: Start date must not be after end date"))
+                .andExpect(jsonPath("$.errors[2]").value("line 5: expected 8 fields but found 4"));
+
+        mockMvc.perform(get("/brand/{brandId}/product/{productId}/prices", 1, 35455)
+                        .param("applicationDate", "2020-06-14T16:00:00"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.priceList").value(10))
+                .andExpect(jsonPath("$.finalPrice").value("19.99 EUR"));
+    }
+
+    @Test
+    @DisplayName("POST /prices/import - 200 OK - Validates NDJSON lines like the write API")
+    void importPrices_ShouldValidateNdjson() throws Exception {
+        mockMvc.perform(post(IMPORT_URL)
+                        .contentType("application/x-ndjson")
+                        .content("""
+                                {"priceList": 10, "brandId": 1, "productId": 35455, "startDate": "2020-06-14T15:00:00", "endDate": "2020-06-14T18:30:00", "priority": 5, "price": 19.99, "currency": "EUR"}
+                                {"priceList": 11, "brandId": 1, "productId": 35455, "startDate": "2020-06-14T15:00:00", "endDate": "2020-06-14T18:30:00", "priority": 5, "price": 19.999, "currency": "EUR"}
+                                {"brandId": 1, "productId": 35455, "startDate": "2020-06-14T15:00:00", "endDate": "2020-06-14T18:30:00", "priority": 5, "price": 19.99, "currency": "EUR"}
+                                {"priceList": 13,
+                                """))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.completed").value(true))
+                .andExpect(jsonPath("$.imported").value(1))
+                .andExpect(jsonPath("$.rejected").value(3))
+                .andExpect(jsonPath("$.errors[0]").value("line 2: price must have at most 17 integer and 2 fraction digits"))
+                .andExpect(jsonPath("$.errors[1]").value("line 3: priceList is required"))
+                .andExpect(jsonPath("$.errors[2]").value(startsWith("line 4: malformed JSON")));
+    }
+
+    @Test
+    @DisplayName("POST /prices/import - 200 OK - Stops at a chunk referencing an unknown brand")
+    void importPrices_ShouldStop_WhenChunkCannotBeStored() throws Exception {
+        mockMvc.perform(post(IMPORT_URL)
+                        .contentType("text/csv")
+                        .content("10,999,35455,2020-06-14 15:00:00,2020-06-14 18:30:00,5,19.99,EUR\n"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.completed").value(false))
+                .andExpect(jsonPath("$.imported").value(0))
+                .andExpect(jsonPath("$.failure").value(startsWith("Lines 1-1 and everything after them were not imported")));
+    }
+
+    @Test
+    @DisplayName("POST /prices/import - 400 Bad Request - Unsupported content type")
+    void importPrices_ShouldRejectUnsupportedContentType() throws Exception {
+        mockMvc.perform(post(IMPORT_URL)
+                        .contentType("application/xml")
+                        .content("<prices/>"))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.message").value("Unsupported content type 'application/xml', expected text/csv or application/x-ndjson"));
+    }
+}
@@ -0,0 +1,141 @@
+package com.example.demo.adapter.inbound.rest;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.transaction.annotation.Transactional;
+
+import static org.hamcrest.Matchers.greaterThan;
+import static org.hamcrest.Matchers.startsWith;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.delete;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.put;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * Every test runs in a transaction that is rolled back, so the shared context keeps the four rows of data.sql.
+ */
+@SpringBootTest
+@AutoConfigureMockMvc
+@Transactional
+class PriceWriteControllerIntegrationTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    private static final String RATE = """
+            {"brandId": 1, "productId": 35455, "startDate": "2020-06-14T15:00:00", "endDate": "2020-06-14T18:30:00",
+             "priority": %d, "price": %s, "currency": "EUR"%s}
+            """;
+
+    @Test
+    @DisplayName("POST /prices - 201 Created - New rate is served by the price lookup")
+    void createPrice_ShouldBeVisibleToLookups() throws Exception {
+        String location = mockMvc.perform(post("/prices")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(RATE.formatted(5, "19.99", "")))
+                .andExpect(status().isCreated())
+                .andExpect(header().string("Location", startsWith("/prices/")))
+                .andExpect(jsonPath("$.priceList").value(greaterThan(4)))
+                .andExpect(jsonPath("$.version").value(0))
+                .andReturn()
+                .getResponse()
+                .getHeader("Location");
+        int priceList = Integer.parseInt(location.substring("/prices/".length()));
+
+        mockMvc.perform(get("/brand/{brandId}/product/{productId}/prices", 1, 35455)
+                        .param("applicationDate", "2020-06-14T16:00:00"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.priceList").value(priceList))
+                .andExpect(jsonPath("$.finalPrice").value("19.99 EUR"));
+    }
+
+    @Test
+    @DisplayName("PUT /prices/{priceList} - 200 OK then 409 Conflict when the same version is reused")
+    void updatePrice_ShouldRejectStaleVersion() throws Exception {
+        mockMvc.perform(put("/prices/{priceList}", 2)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(RATE.formatted(1, "20.00", ", \"version\": 0")))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.version").value(1))
+                .andExpect(jsonPath("$.price").value(20.00));
+
+        mockMvc.perform(put("/prices/{priceList}", 2)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(RATE.formatted(1, "21.00", ", \"version\": 0")))
+                .andExpect(status().isConflict())
+                .andExpect(jsonPath("$.status").value(409))
+                .andExpect(jsonPath("$.message").value("Price list 2 is at version 1, not 0"));
+    }
+
+    @Test
+    @DisplayName("PUT /prices/{priceList} - 400 Bad Request - Version is required")
+    void updatePrice_ShouldRequireVersion() throws Exception {
+        mockMvc.perform(put("/prices/{priceList}", 2)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(RATE.formatted(1, "20.00", "")))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.message").value("version is required"));
+    }
+
+    @Test
+    @DisplayName("DELETE /prices/{priceList} - 204 No Content then 404 Not Found")
+    void deletePrice_ShouldRemoveRate() throws Exception {
+        mockMvc.perform(delete("/prices/{priceList}", 2).param("version", "0"))
+                .andExpect(status().isNoContent());
+
+        mockMvc.perform(get("/prices/{priceList}", 2))
+                .andExpect(status().isNotFound());
+        mockMvc.perform(get("/brand/{brandId}/product/{productId}/prices", 1, 35455)
+                        .param("applicationDate", "2020-06-14T16:00:00"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.priceList").value(1));
+    }
+
+    @Test
+    @DisplayName("PUT /prices - 409 Conflict - A stale item fails the whole upsert")
+    void upsertPrices_ShouldRejectStaleItem() throws Exception {
+        String body = """
+                {"items": [
+                  {"brandId": 1, "productId": 35455, "startDate": "2020-06-14T15:00:00", "endDate": "2020-06-14T18:30:00",
+                   "priority": 5, "price": 9.99, "currency": "EUR"},
+                  {"priceList": 1, "brandId": 1, "productId": 35455, "startDate": "2020-06-14T00:00:00", "endDate": "2020-12-31T23:59:59",
+                   "priority": 0, "price": 30.00, "currency": "EUR", "version": 3}
+                ]}
+                """;
+
+        mockMvc.perform(put("/prices")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(body))
+                .andExpect(status().isConflict())
+                .andExpect(jsonPath("$.message").value("Price list 1 is at version 0, not 3"));
+    }
+
+    @Test
+    @DisplayName("PUT /prices - 200 OK - Creates and updates rates in one call")
+    void upsertPrices_ShouldCreateAndUpdate() throws Exception {
+        String body = """
+                {"items": [
+                  {"brandId": 1, "productId": 35455, "startDate": "2020-06-14T15:00:00", "endDate": "2020-06-14T18:30:00",
+                   "priority": 5, "price": 9.99, "currency": "EUR"},
+                  {"priceList": 1, "brandId": 1, "productId": 35455, "startDate": "2020-06-14T00:00:00", "endDate": "2020-12-31T23:59:59",
+                   "priority": 0, "price": 30.00, "currency": "EUR", "version": 0}
+                ]}
+                """;
+
+        mockMvc.perform(put("/prices")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(body))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.items.length()").value(2))
+                .andExpect(jsonPath("$.items[0].priceList").value(greaterThan(4)))
+                .andExpect(jsonPath("$.items[1].version").value(1));
+    }
+}
@@ -0,0 +1,87 @@
+package com.example.demo.adapter.inbound.rest;
+
+import com.example.demo.adapter.inbound.rest.dto.PriceRequestDTO;
+import com.example.demo.adapter.inbound.rest.exception.GlobalExceptionHandler;
+import com.example.demo.application.usecase.ReactivePriorityPriceUseCase;
+import com.example.demo.domain.exception.ResourceNotFoundException;
+import com.example.demo.domain.model.Currency;
+import com.example.demo.domain.model.Money;
+import com.example.demo.domain.model.Price;
+import com.example.demo.domain.model.Rate;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.web.reactive.server.WebTestClient;
+import reactor.core.publisher.Mono;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class ReactivePriceControllerTest {
+
+    private static final String BASE_URL = "/brand/{brandId}/product/{productId}/prices?applicationDate={applicationDate}";
+
+    private ReactivePriorityPriceUseCase priorityPriceUseCase;
+    private WebTestClient webTestClient;
+
+    @BeforeEach
+    void setUp() {
+        priorityPriceUseCase = mock(ReactivePriorityPriceUseCase.class);
+        webTestClient = WebTestClient.bindToController(new ReactivePriceController(priorityPriceUseCase))
+                .controllerAdvice(new GlobalExceptionHandler())
+                .build();
+    }
+
+    @Test
+    @DisplayName("GET /brand/{brandId}/product/{productId}/prices - 200 OK - Returns price successfully")
+    void getPriorityPrice_ReturnsOk_WhenPriceExists() {
+        // Given
+        Rate rate = new Rate(1,
+                LocalDateTime.of(2020, 6, 14, 0, 0, 0),
+                LocalDateTime.of(2020, 12, 31, 23, 59, 59),
+                0,
+                new Money(new BigDecimal("35.50"), Currency.EUR));
+        when(priorityPriceUseCase.getPriorityPrice(any(PriceRequestDTO.class)))
+                .thenReturn(Mono.just(new Price(1, 35455, rate)));
+
+        // When & Then
+        webTestClient.get().uri(BASE_URL, 1, 35455, "2020-06-14T10:00:00")
+                .exchange()
+                .expectStatus().isOk()
+                .expectBody()
+                .jsonPath("$.productId").isEqualTo(35455)
+                .jsonPath("$.brandId").isEqualTo(1)
+                .jsonPath("$.priceList").isEqualTo(1)
+                .jsonPath("$.finalPrice").isEqualTo("35.50 EUR");
+    }
+
+    @Test
+    @DisplayName("GET /brand/{brandId}/product/{productId}/prices - 404 Not Found - Price does not exist")
+    void getPriorityPrice_ReturnsNotFound_WhenPriceDoesNotExist() {
+        // Given
+        when(priorityPriceUseCase.getPriorityPrice(any(PriceRequestDTO.class)))
+                .thenReturn(Mono.error(new ResourceNotFoundException("Price not found")));
+
+        // When & Then
+        webTestClient.get().uri(BASE_URL, 1, 35455, "2019-01-01T10:00:00")
+                .exchange()
+                .expectStatus().isNotFound()
+                .expectBody()
+                .jsonPath("$.status").isEqualTo(404)
+                .jsonPath("$.message").isEqualTo("Price not found");
+    }
+
+    @Test
+    @DisplayName("GET /brand/{brandId}/product/{productId}/prices - 400 Bad Request - Missing applicationDate")
+    void getPriorityPrice_ReturnsBadRequest_WhenApplicationDateIsMissing() {
+        webTestClient.get().uri("/brand/{brandId}/product/{productId}/prices", 1, 35455)
+                .exchange()
+                .expectStatus().isBadRequest()
+                .expectBody()
+                .jsonPath("$.message").isEqualTo("Required parameter 'applicationDate' is missing");
+    }
+}
@@ -0,0 +1,41 @@
+package com.example.demo.adapter.inbound.rest;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.CsvSource;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class WireFormatTest {
+
+    @ParameterizedTest(name = "{0} -> {1}")
+    @CsvSource(delimiter = '|', value = {
+            "''|JSON",
+            "*/*|JSON",
+            "application/json|JSON",
+            "application/cbor|CBOR",
+            "application/cbor, application/json|CBOR",
+            "application/json, application/cbor;q=0.5|JSON",
+            "application/json;q=0.5, application/cbor|CBOR",
+            "text/plain|JSON"
+    })
+    @DisplayName("negotiate - Should prefer CBOR only when asked for at least as strongly as JSON")
+    void negotiate_ShouldHonourQualityValues(String accept, WireFormat expected) {
+        assertThat(WireFormat.negotiate(accept)).isEqualTo(expected);
+    }
+
+    @Test
+    @DisplayName("negotiate - Should default to JSON without Accept header")
+    void negotiate_ShouldDefaultToJson() {
+        assertThat(WireFormat.negotiate(null)).isEqualTo(WireFormat.JSON);
+    }
+
+    @Test
+    @DisplayName("negotiate - Should reject a malformed Accept header")
+    void negotiate_ShouldRejectMalformedHeader() {
+        assertThatThrownBy(() -> WireFormat.negotiate("not a media type"))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+}
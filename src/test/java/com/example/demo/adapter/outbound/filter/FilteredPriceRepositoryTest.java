@@ -0,0 +1,97 @@
+package com.example.demo.adapter.outbound.filter;
+
+import com.example.demo.domain.model.Currency;
+import com.example.demo.domain.model.Money;
+import com.example.demo.domain.model.Price;
+import com.example.demo.domain.model.PriceKey;
+import com.example.demo.domain.model.PriceQuery;
+import com.example.demo.domain.model.PriceSegment;
+import com.example.demo.domain.model.Rate;
+import com.example.demo.domain.repository.PriceRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+class FilteredPriceRepositoryTest {
+
+    private static final LocalDateTime APPLICATION_DATE = LocalDateTime.of(2020, 6, 14, 10, 0, 0);
+
+    private PriceRepository delegate;
+    private SimpleMeterRegistry meterRegistry;
+    private FilteredPriceRepository repository;
+
+    @BeforeEach
+    void setUp() {
+        delegate = mock(PriceRepository.class);
+        meterRegistry = new SimpleMeterRegistry();
+        KnownPriceKeys knownKeys = new KnownPriceKeys(() -> new long[]{PriceKey.pack(1, 35455)}, 0.001);
+        repository = new FilteredPriceRepository(delegate, knownKeys, meterRegistry);
+    }
+
+    @Test
+    @DisplayName("findEffectivePrice - Should answer unknown brand/products as empty without querying the delegate")
+    void findEffectivePrice_ShouldRejectUnknownKey() {
+        // When
+        Optional<PriceSegment> result = repository.findEffectivePrice(1, 99999, APPLICATION_DATE);
+
+        // Then
+        assertThat(result).isEmpty();
+        verifyNoInteractions(delegate);
+        assertThat(meterRegistry.get("prices.filter.rejections").counter().count()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("findEffectivePrice - Should delegate known brand/products")
+    void findEffectivePrice_ShouldDelegateKnownKey() {
+        // Given
+        PriceSegment segment = new PriceSegment(price(),
+                LocalDateTime.of(2020, 6, 14, 0, 0, 0),
+                LocalDateTime.of(2021, 1, 1, 0, 0, 0));
+        when(delegate.findEffectivePrice(1, 35455, APPLICATION_DATE)).thenReturn(Optional.of(segment));
+
+        // When
+        Optional<PriceSegment> result = repository.findEffectivePrice(1, 35455, APPLICATION_DATE);
+
+        // Then
+        assertThat(result).containsSame(segment);
+        assertThat(meterRegistry.get("prices.filter.rejections").counter().count()).isZero();
+    }
+
+    @Test
+    @DisplayName("findPricesByBrandProductDates - Should only send known lookups to the delegate")
+    void findPricesByBrandProductDates_ShouldSplitKnownAndUnknown() {
+        // Given
+        PriceQuery known = new PriceQuery(1, 35455, APPLICATION_DATE);
+        PriceQuery unknown = new PriceQuery(2, 35455, APPLICATION_DATE);
+        when(delegate.findPricesByBrandProductDates(List.of(known))).thenReturn(Map.of(known, List.of(price())));
+
+        // When
+        Map<PriceQuery, List<Price>> result = repository.findPricesByBrandProductDates(List.of(known, unknown));
+
+        // Then
+        assertThat(result.get(known)).containsExactly(price());
+        assertThat(result.get(unknown)).isEmpty();
+        verify(delegate).findPricesByBrandProductDates(List.of(known));
+    }
+
+    private static Price price() {
+        return new Price(1, 35455, new Rate(1,
+                LocalDateTime.of(2020, 6, 14, 0, 0, 0),
+                LocalDateTime.of(2020, 12, 31, 23, 59, 59),
+                0,
+                new Money(new BigDecimal("35.50"), Currency.EUR)));
+    }
+}
@@ -0,0 +1,59 @@
+package com.example.demo.adapter.outbound.filter;
+
+import com.example.demo.domain.model.Currency;
+import com.example.demo.domain.model.Money;
+import com.example.demo.domain.model.Price;
+import com.example.demo.domain.model.PriceKey;
+import com.example.demo.domain.model.Rate;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class KnownPriceKeysTest {
+
+    @Test
+    @DisplayName("mightContain - Should know the keys loaded from the source and the ones saved afterwards")
+    void mightContain_ShouldIncludeLoadedAndSavedKeys() {
+        // Given
+        KnownPriceKeys knownKeys = new KnownPriceKeys(() -> new long[]{PriceKey.pack(1, 35455)}, 0.01);
+
+        // When
+        knownKeys.priceSaved(price(2, 40000));
+
+        // Then
+        assertThat(knownKeys.mightContain(1, 35455)).isTrue();
+        assertThat(knownKeys.mightContain(2, 40000)).isTrue();
+    }
+
+    @Test
+    @DisplayName("rebuild - Should reload the keys from the source, dropping deleted ones")
+    void rebuild_ShouldReloadFromSource() {
+        // Given
+        AtomicReference<long[]> source = new AtomicReference<>(new long[]{PriceKey.pack(1, 35455), PriceKey.pack(1, 35456)});
+        KnownPriceKeys knownKeys = new KnownPriceKeys(source::get, 0.01);
+        source.set(new long[]{PriceKey.pack(1, 35455)});
+
+        // When
+        knownKeys.priceDeleted(1, 35456, 5);
+        boolean beforeRebuild = knownKeys.mightContain(1, 35456);
+        knownKeys.rebuild();
+
+        // Then
+        assertThat(beforeRebuild).isTrue();
+        assertThat(knownKeys.mightContain(1, 35455)).isTrue();
+        assertThat(knownKeys.mightContain(1, 35456)).isFalse();
+    }
+
+    private static Price price(Integer brandId, Integer productId) {
+        return new Price(brandId, productId, new Rate(1,
+                LocalDateTime.of(2020, 6, 14, 0, 0, 0),
+                LocalDateTime.of(2020, 12, 31, 23, 59, 59),
+                0,
+                new Money(new BigDecimal("35.50"), Currency.EUR)));
+    }
+}
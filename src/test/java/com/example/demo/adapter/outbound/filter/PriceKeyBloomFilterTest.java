@@ -0,0 +1,58 @@
+package com.example.demo.adapter.outbound.filter;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class PriceKeyBloomFilterTest {
+
+    @Test
+    @DisplayName("mightContain - Should never miss a brand/product that was added")
+    void mightContain_ShouldFindEveryAddedKey() {
+        // Given
+        PriceKeyBloomFilter filter = PriceKeyBloomFilter.create(20_000, 0.01);
+        for (int productId = 0; productId < 10_000; productId++) {
+            filter.add(1, productId);
+            filter.add(2, productId);
+        }
+
+        // When & Then
+        for (int productId = 0; productId < 10_000; productId++) {
+            assertThat(filter.mightContain(1, productId)).isTrue();
+            assertThat(filter.mightContain(2, productId)).isTrue();
+        }
+    }
+
+    @Test
+    @DisplayName("mightContain - Should report absent keys as present at roughly the configured rate")
+    void mightContain_ShouldKeepFalsePositivesNearTarget() {
+        // Given
+        PriceKeyBloomFilter filter = PriceKeyBloomFilter.create(10_000, 0.01);
+        for (int productId = 0; productId < 10_000; productId++) {
+            filter.add(1, productId);
+        }
+
+        // When
+        int falsePositives = 0;
+        for (int productId = 10_000; productId < 110_000; productId++) {
+            if (filter.mightContain(1, productId)) {
+                falsePositives++;
+            }
+        }
+
+        // Then
+        assertThat(falsePositives / 100_000.0).isLessThan(0.02);
+    }
+
+    @Test
+    @DisplayName("create - Should reject false positive rates outside (0, 1)")
+    void create_ShouldRejectInvalidRate() {
+        // When & Then
+        assertThatThrownBy(() -> PriceKeyBloomFilter.create(100, 0))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> PriceKeyBloomFilter.create(100, 1))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+}
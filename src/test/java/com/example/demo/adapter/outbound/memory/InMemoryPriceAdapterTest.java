@@ -0,0 +1,184 @@
+package com.example.demo.adapter.outbound.memory;
+
+import com.example.demo.domain.model.Currency;
+import com.example.demo.domain.model.Money;
+import com.example.demo.domain.model.Price;
+import com.example.demo.domain.model.PriceSegment;
+import com.example.demo.domain.model.Rate;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.Arguments;
+import org.junit.jupiter.params.provider.MethodSource;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.Random;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class InMemoryPriceAdapterTest {
+
+    private static final Integer BRAND_ID = 1;
+    private static final Integer PRODUCT_ID = 35455;
+
+    private InMemoryPriceAdapter adapter;
+
+    @BeforeEach
+    void setUp() {
+        adapter = new InMemoryPriceAdapter(List.of(
+                price(1, LocalDateTime.of(2020, 6, 14, 0, 0, 0), LocalDateTime.of(2020, 12, 31, 23, 59, 59), 0, "35.50"),
+                price(2, LocalDateTime.of(2020, 6, 14, 15, 0, 0), LocalDateTime.of(2020, 6, 14, 18, 30, 0), 1, "25.45"),
+                price(3, LocalDateTime.of(2020, 6, 15, 0, 0, 0), LocalDateTime.of(2020, 6, 15, 11, 0, 0), 1, "30.50"),
+                price(4, LocalDateTime.of(2020, 6, 15, 16, 0, 0), LocalDateTime.of(2020, 12, 31, 23, 59, 59), 1, "38.95")
+        ));
+    }
+
+    static Stream<Arguments> priceQueryTestCases() {
+        return Stream.of(
+                Arguments.of(LocalDateTime.of(2020, 6, 14, 10, 0, 0), List.of(1)),
+                Arguments.of(LocalDateTime.of(2020, 6, 14, 16, 0, 0), List.of(1, 2)),
+                Arguments.of(LocalDateTime.of(2020, 6, 14, 21, 0, 0), List.of(1)),
+                Arguments.of(LocalDateTime.of(2020, 6, 15, 10, 0, 0), List.of(1, 3)),
+                Arguments.of(LocalDateTime.of(2020, 6, 16, 21, 0, 0), List.of(1, 4)),
+                Arguments.of(LocalDateTime.of(2020, 6, 14, 18, 30, 0), List.of(1, 2)),
+                Arguments.of(LocalDateTime.of(2019, 1, 1, 10, 0, 0), List.of())
+        );
+    }
+
+    @ParameterizedTest(name = "Query at {0} should return priceLists {1}")
+    @MethodSource("priceQueryTestCases")
+    @DisplayName("findPricesByBrandProductDate - Should return every rate covering the date")
+    void findPricesByBrandProductDate_ShouldReturnOverlappingRates(LocalDateTime applicationDate, List<Integer> expectedPriceLists) {
+        // When
+        List<Price> result = adapter.findPricesByBrandProductDate(BRAND_ID, PRODUCT_ID, applicationDate);
+
+        // Then
+        assertThat(result).extracting(price -> price.rate().priceList())
+                .containsExactlyInAnyOrderElementsOf(expectedPriceLists);
+    }
+
+    @Test
+    @DisplayName("findPricesByBrandProductDate - Should return empty list for unknown brand/product")
+    void findPricesByBrandProductDate_ShouldReturnEmptyList_WhenKeyIsUnknown() {
+        assertThat(adapter.findPricesByBrandProductDate(999, PRODUCT_ID, LocalDateTime.of(2020, 6, 14, 10, 0, 0))).isEmpty();
+        assertThat(adapter.findPricesByBrandProductDate(BRAND_ID, 99999, LocalDateTime.of(2020, 6, 14, 10, 0, 0))).isEmpty();
+    }
+
+    @Test
+    @DisplayName("priceSaved - Should add new rates and replace changed ones in the index of their brand/product")
+    void priceSaved_ShouldUpdateIndexOfSingleKey() {
+        // Given
+        Price added = price(9, LocalDateTime.of(2021, 1, 1, 0, 0, 0), LocalDateTime.of(2021, 12, 31, 23, 59, 59), 0, "10.00");
+        Price moved = price(2, LocalDateTime.of(2020, 6, 14, 9, 0, 0), LocalDateTime.of(2020, 6, 14, 11, 0, 0), 1, "25.45");
+
+        // When
+        adapter.priceSaved(added);
+        adapter.priceSaved(moved);
+
+        // Then
+        assertThat(adapter.findPricesByBrandProductDate(BRAND_ID, PRODUCT_ID, LocalDateTime.of(2020, 6, 14, 10, 0, 0)))
+                .extracting(price -> price.rate().priceList())
+                .containsExactlyInAnyOrder(1, 2);
+        assertThat(adapter.findPricesByBrandProductDate(BRAND_ID, PRODUCT_ID, LocalDateTime.of(2020, 6, 14, 16, 0, 0)))
+                .extracting(price -> price.rate().priceList())
+                .containsExactly(1);
+        assertThat(adapter.findPricesByBrandProductDate(BRAND_ID, PRODUCT_ID, LocalDateTime.of(2021, 6, 1, 0, 0, 0)))
+                .extracting(price -> price.rate().priceList())
+                .containsExactly(9);
+        assertThat(adapter.size()).isEqualTo(5);
+    }
+
+    @Test
+    @DisplayName("priceDeleted - Should drop the brand/product once its last rate is deleted")
+    void priceDeleted_ShouldDropIndexOfSingleKey() {
+        // When
+        adapter.priceDeleted(BRAND_ID, PRODUCT_ID, 2);
+
+        // Then
+        assertThat(adapter.findPricesByBrandProductDate(BRAND_ID, PRODUCT_ID, LocalDateTime.of(2020, 6, 14, 16, 0, 0)))
+                .extracting(price -> price.rate().priceList())
+                .containsExactly(1);
+        assertThat(adapter.size()).isEqualTo(3);
+
+        List.of(1, 3, 4).forEach(priceList -> adapter.priceDeleted(BRAND_ID, PRODUCT_ID, priceList));
+        assertThat(adapter.size()).isZero();
+        assertThat(adapter.findPricesByBrandProduct(BRAND_ID, PRODUCT_ID)).isEmpty();
+    }
+
+    @Test
+    @DisplayName("findPricesByBrandProductDate - Should match a linear scan on random overlapping rates")
+    void findPricesByBrandProductDate_ShouldMatchLinearScan() {
+        // Given
+        Random random = new Random(42);
+        LocalDateTime origin = LocalDateTime.of(2020, 1, 1, 0, 0, 0);
+        List<Price> prices = new ArrayList<>();
+        for (int i = 0; i < 500; i++) {
+            LocalDateTime start = origin.plusHours(random.nextInt(10_000));
+            prices.add(price(i, start, start.plusHours(random.nextInt(500)), random.nextInt(5), "1.00"));
+        }
+        InMemoryPriceAdapter randomAdapter = new InMemoryPriceAdapter(prices);
+
+        for (int i = 0; i < 1_000; i++) {
+            LocalDateTime date = origin.plusHours(random.nextInt(11_000));
+
+            // When
+            List<Price> result = randomAdapter.findPricesByBrandProductDate(BRAND_ID, PRODUCT_ID, date);
+
+            // Then
+            List<Price> expected = prices.stream()
+                    .filter(price -> !price.rate().startDate().isAfter(date) && !price.rate().endDate().isBefore(date))
+                    .toList();
+            assertThat(result).containsExactlyInAnyOrderElementsOf(expected);
+        }
+    }
+
+    static Stream<Arguments> segmentTestCases() {
+        return Stream.of(
+                Arguments.of(LocalDateTime.of(2020, 6, 14, 10, 0, 0), 1,
+                        LocalDateTime.of(2020, 6, 14, 0, 0, 0), LocalDateTime.of(2020, 6, 14, 15, 0, 0)),
+                Arguments.of(LocalDateTime.of(2020, 6, 14, 16, 0, 0), 2,
+                        LocalDateTime.of(2020, 6, 14, 15, 0, 0), LocalDateTime.of(2020, 6, 14, 18, 30, 0, 1)),
+                Arguments.of(LocalDateTime.of(2020, 6, 14, 21, 0, 0), 1,
+                        LocalDateTime.of(2020, 6, 14, 18, 30, 0, 1), LocalDateTime.of(2020, 6, 15, 0, 0, 0)),
+                Arguments.of(LocalDateTime.of(2020, 6, 15, 10, 0, 0), 3,
+                        LocalDateTime.of(2020, 6, 15, 0, 0, 0), LocalDateTime.of(2020, 6, 15, 11, 0, 0, 1)),
+                Arguments.of(LocalDateTime.of(2020, 6, 16, 21, 0, 0), 4,
+                        LocalDateTime.of(2020, 6, 15, 16, 0, 0), LocalDateTime.of(2021, 1, 1, 0, 0, 0))
+        );
+    }
+
+    @ParameterizedTest(name = "Segment at {0} should be priceList {1} from {2} until {3}")
+    @MethodSource("segmentTestCases")
+    @DisplayName("findEffectivePrice - Should bound the winning rate by the rates beating it from the interval index")
+    void findEffectivePrice_ShouldBoundWinningRate(LocalDateTime applicationDate, int expectedPriceList,
+                                                   LocalDateTime expectedFrom, LocalDateTime expectedUntil) {
+        // When
+        Optional<PriceSegment> result = adapter.findEffectivePrice(BRAND_ID, PRODUCT_ID, applicationDate);
+
+        // Then
+        assertThat(result).hasValueSatisfying(segment -> {
+            assertThat(segment.price().rate().priceList()).isEqualTo(expectedPriceList);
+            assertThat(segment.validFrom()).isEqualTo(expectedFrom);
+            assertThat(segment.validUntil()).isEqualTo(expectedUntil);
+        });
+    }
+
+    @Test
+    @DisplayName("findEffectivePrice - Should return empty outside every rate and for unknown brand/products")
+    void findEffectivePrice_ShouldReturnEmpty_WhenNoRateCovers() {
+        assertThat(adapter.findEffectivePrice(BRAND_ID, PRODUCT_ID, LocalDateTime.of(2019, 1, 1, 10, 0, 0))).isEmpty();
+        assertThat(adapter.findEffectivePrice(BRAND_ID, PRODUCT_ID, LocalDateTime.of(2021, 1, 1, 0, 0, 0))).isEmpty();
+        assertThat(adapter.findEffectivePrice(BRAND_ID, 99999, LocalDateTime.of(2020, 6, 14, 10, 0, 0))).isEmpty();
+    }
+
+    private static Price price(Integer priceList, LocalDateTime start, LocalDateTime end, Integer priority, String amount) {
+        Rate rate = new Rate(priceList, start, end, priority, new Money(new BigDecimal(amount), Currency.EUR));
+        return new Price(BRAND_ID, PRODUCT_ID, rate);
+    }
+}
@@ -0,0 +1,130 @@
+package com.example.demo.adapter.outbound.memory;
+
+import com.example.demo.domain.model.Currency;
+import com.example.demo.domain.model.Money;
+import com.example.demo.domain.model.Price;
+import com.example.demo.domain.model.PriceQuery;
+import com.example.demo.domain.model.Rate;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class OverlayPriceRepositoryTest {
+
+    private static final Integer BRAND_ID = 1;
+    private static final Integer PRODUCT_ID = 35455;
+    private static final Integer OTHER_PRODUCT_ID = 35456;
+    private static final LocalDateTime AT_16_ON_DAY_14 = LocalDateTime.of(2020, 6, 14, 16, 0, 0);
+
+    private PrimitivePriceAdapter base;
+    private OverlayPriceRepository overlay;
+
+    @BeforeEach
+    void setUp() {
+        base = PrimitivePriceAdapter.of(List.of(
+                price(PRODUCT_ID, 1, LocalDateTime.of(2020, 6, 14, 0, 0, 0), LocalDateTime.of(2020, 12, 31, 23, 59, 59), 0, "35.50"),
+                price(PRODUCT_ID, 2, LocalDateTime.of(2020, 6, 14, 15, 0, 0), LocalDateTime.of(2020, 6, 14, 18, 30, 0), 1, "25.45"),
+                price(OTHER_PRODUCT_ID, 5, LocalDateTime.of(2020, 6, 14, 0, 0, 0), LocalDateTime.of(2020, 12, 31, 23, 59, 59), 0, "10.00")
+        ));
+        overlay = new OverlayPriceRepository(base, base, 10);
+    }
+
+    @Test
+    @DisplayName("lookups - Should answer from the base store while nothing changed")
+    void lookups_ShouldDelegateWhenUnchanged() {
+        assertThat(overlay.findPriorityPrice(BRAND_ID, PRODUCT_ID, AT_16_ON_DAY_14))
+                .hasValueSatisfying(price -> assertThat(price.rate().priceList()).isEqualTo(2));
+        assertThat(overlay.findPricesByBrandProduct(BRAND_ID, PRODUCT_ID)).hasSize(2);
+        assertThat(overlay.overriddenKeys()).isZero();
+    }
+
+    @Test
+    @DisplayName("priceSaved - Should serve the changed rate for its brand/product only")
+    void priceSaved_ShouldOverrideOnlyAffectedKey() {
+        // Given
+        Price updated = price(PRODUCT_ID, 2, LocalDateTime.of(2020, 6, 14, 15, 0, 0), LocalDateTime.of(2020, 6, 14, 18, 30, 0), 1, "19.99");
+        Price created = price(PRODUCT_ID, 7, LocalDateTime.of(2020, 6, 14, 15, 30, 0), LocalDateTime.of(2020, 6, 14, 16, 30, 0), 2, "9.99");
+
+        // When
+        overlay.priceSaved(updated);
+        overlay.priceSaved(created);
+
+        // Then
+        assertThat(overlay.findPricesByBrandProductDate(BRAND_ID, PRODUCT_ID, AT_16_ON_DAY_14))
+                .extracting(price -> price.rate().priceList())
+                .containsExactlyInAnyOrder(1, 2, 7);
+        assertThat(overlay.findPriorityPrice(BRAND_ID, PRODUCT_ID, AT_16_ON_DAY_14)).contains(created);
+        assertThat(overlay.findEffectivePrice(BRAND_ID, PRODUCT_ID, LocalDateTime.of(2020, 6, 14, 17, 0, 0)))
+                .hasValueSatisfying(segment -> assertThat(segment.price()).isEqualTo(updated));
+        assertThat(overlay.findPricesByBrandProduct(BRAND_ID, OTHER_PRODUCT_ID)).isEqualTo(base.findPricesByBrandProduct(BRAND_ID, OTHER_PRODUCT_ID));
+        assertThat(overlay.overriddenKeys()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("pricesSaved - Should read brand/products outside the overlay from the database once it is full")
+    void pricesSaved_ShouldFallBackToSourceBeyondLimit() {
+        // Given
+        Price updated = price(PRODUCT_ID, 2, LocalDateTime.of(2020, 6, 14, 15, 0, 0), LocalDateTime.of(2020, 6, 14, 18, 30, 0), 1, "19.99");
+        Price created = price(PRODUCT_ID, 7, LocalDateTime.of(2020, 6, 14, 15, 30, 0), LocalDateTime.of(2020, 6, 14, 16, 30, 0), 2, "9.99");
+        Price other = price(OTHER_PRODUCT_ID, 5, LocalDateTime.of(2020, 6, 14, 0, 0, 0), LocalDateTime.of(2020, 12, 31, 23, 59, 59), 0, "11.00");
+        PrimitivePriceAdapter database = PrimitivePriceAdapter.of(List.of(
+                price(PRODUCT_ID, 1, LocalDateTime.of(2020, 6, 14, 0, 0, 0), LocalDateTime.of(2020, 12, 31, 23, 59, 59), 0, "35.50"),
+                updated, created, other));
+        overlay = new OverlayPriceRepository(base, database, 1);
+
+        // When
+        overlay.pricesSaved(List.of(updated, created));
+        overlay.pricesSaved(List.of(other));
+
+        // Then
+        assertThat(overlay.overflowed()).isTrue();
+        assertThat(overlay.overriddenKeys()).isEqualTo(1);
+        assertThat(overlay.findPriorityPrice(BRAND_ID, PRODUCT_ID, AT_16_ON_DAY_14)).contains(created);
+        assertThat(overlay.findPriorityPrice(BRAND_ID, OTHER_PRODUCT_ID, AT_16_ON_DAY_14)).contains(other);
+        assertThat(overlay.findEffectivePrice(BRAND_ID, OTHER_PRODUCT_ID, AT_16_ON_DAY_14))
+                .hasValueSatisfying(segment -> assertThat(segment.price()).isEqualTo(other));
+        assertThat(overlay.findPricesByBrandProductDates(List.of(new PriceQuery(BRAND_ID, OTHER_PRODUCT_ID, AT_16_ON_DAY_14))))
+                .containsEntry(new PriceQuery(BRAND_ID, OTHER_PRODUCT_ID, AT_16_ON_DAY_14), List.of(other));
+    }
+
+    @Test
+    @DisplayName("priceDeleted - Should hide deleted rates still present in the base store")
+    void priceDeleted_ShouldHideBaseRates() {
+        // When
+        overlay.priceDeleted(BRAND_ID, PRODUCT_ID, 2);
+        overlay.priceDeleted(BRAND_ID, PRODUCT_ID, 1);
+
+        // Then
+        assertThat(overlay.findPricesByBrandProduct(BRAND_ID, PRODUCT_ID)).isEmpty();
+        assertThat(overlay.findPriorityPrice(BRAND_ID, PRODUCT_ID, AT_16_ON_DAY_14)).isEmpty();
+        assertThat(base.findPriorityPrice(BRAND_ID, PRODUCT_ID, AT_16_ON_DAY_14)).isPresent();
+    }
+
+    @Test
+    @DisplayName("findPricesByBrandProductDates - Should merge overridden and unchanged keys in one batch")
+    void findPricesByBrandProductDates_ShouldMergeOverlayAndBase() {
+        // Given
+        overlay.priceDeleted(BRAND_ID, PRODUCT_ID, 2);
+        PriceQuery changed = new PriceQuery(BRAND_ID, PRODUCT_ID, AT_16_ON_DAY_14);
+        PriceQuery unchanged = new PriceQuery(BRAND_ID, OTHER_PRODUCT_ID, AT_16_ON_DAY_14);
+
+        // When
+        Map<PriceQuery, List<Price>> result = overlay.findPricesByBrandProductDates(List.of(changed, unchanged));
+
+        // Then
+        assertThat(result.get(changed)).extracting(price -> price.rate().priceList()).containsExactly(1);
+        assertThat(result.get(unchanged)).extracting(price -> price.rate().priceList()).containsExactly(5);
+    }
+
+    private static Price price(Integer productId, int priceList, LocalDateTime start, LocalDateTime end, int priority, String amount) {
+        return new Price(BRAND_ID, productId,
+                new Rate(priceList, start, end, priority, new Money(new BigDecimal(amount), Currency.EUR)));
+    }
+}
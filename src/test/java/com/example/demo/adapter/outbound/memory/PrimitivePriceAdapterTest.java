@@ -0,0 +1,186 @@
+package com.example.demo.adapter.outbound.memory;
+
+import com.example.demo.domain.model.Currency;
+import com.example.demo.domain.model.Money;
+import com.example.demo.domain.model.Price;
+import com.example.demo.domain.model.PriceSegment;
+import com.example.demo.domain.model.Rate;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.Arguments;
+import org.junit.jupiter.params.provider.MethodSource;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.Random;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class PrimitivePriceAdapterTest {
+
+    private static final Integer BRAND_ID = 1;
+    private static final Integer PRODUCT_ID = 35455;
+
+    private List<Price> prices;
+    private PrimitivePriceAdapter adapter;
+
+    @BeforeEach
+    void setUp() {
+        prices = List.of(
+                price(BRAND_ID, PRODUCT_ID, 1, LocalDateTime.of(2020, 6, 14, 0, 0, 0), LocalDateTime.of(2020, 12, 31, 23, 59, 59), 0, "35.50"),
+                price(BRAND_ID, PRODUCT_ID, 2, LocalDateTime.of(2020, 6, 14, 15, 0, 0), LocalDateTime.of(2020, 6, 14, 18, 30, 0), 1, "25.45"),
+                price(BRAND_ID, PRODUCT_ID, 3, LocalDateTime.of(2020, 6, 15, 0, 0, 0), LocalDateTime.of(2020, 6, 15, 11, 0, 0), 1, "30.50"),
+                price(BRAND_ID, PRODUCT_ID, 4, LocalDateTime.of(2020, 6, 15, 16, 0, 0), LocalDateTime.of(2020, 12, 31, 23, 59, 59), 1, "38.95")
+        );
+        adapter = PrimitivePriceAdapter.of(prices);
+    }
+
+    static Stream<Arguments> priceQueryTestCases() {
+        return Stream.of(
+                Arguments.of(LocalDateTime.of(2020, 6, 14, 10, 0, 0), List.of(1), 1),
+                Arguments.of(LocalDateTime.of(2020, 6, 14, 16, 0, 0), List.of(1, 2), 2),
+                Arguments.of(LocalDateTime.of(2020, 6, 14, 21, 0, 0), List.of(1), 1),
+                Arguments.of(LocalDateTime.of(2020, 6, 15, 10, 0, 0), List.of(1, 3), 3),
+                Arguments.of(LocalDateTime.of(2020, 6, 16, 21, 0, 0), List.of(1, 4), 4),
+                Arguments.of(LocalDateTime.of(2020, 6, 14, 18, 30, 0), List.of(1, 2), 2),
+                Arguments.of(LocalDateTime.of(2020, 6, 14, 18, 30, 0, 1), List.of(1), 1)
+        );
+    }
+
+    @ParameterizedTest(name = "Query at {0} should return priceLists {1}")
+    @MethodSource("priceQueryTestCases")
+    @DisplayName("findPricesByBrandProductDate / findPriorityPrice - Should compare primitive bounds like the domain model")
+    void lookups_ShouldReturnOverlappingRates(LocalDateTime applicationDate, List<Integer> expectedPriceLists, int expectedPriority) {
+        // When
+        List<Price> result = adapter.findPricesByBrandProductDate(BRAND_ID, PRODUCT_ID, applicationDate);
+
+        // Then
+        assertThat(result).extracting(price -> price.rate().priceList())
+                .containsExactlyInAnyOrderElementsOf(expectedPriceLists);
+        assertThat(adapter.findPriorityPrice(BRAND_ID, PRODUCT_ID, applicationDate))
+                .hasValueSatisfying(price -> assertThat(price.rate().priceList()).isEqualTo(expectedPriority));
+    }
+
+    @Test
+    @DisplayName("findPricesByBrandProduct - Should rebuild records equal to the loaded ones")
+    void findPricesByBrandProduct_ShouldRoundTripRates() {
+        assertThat(adapter.findPricesByBrandProduct(BRAND_ID, PRODUCT_ID)).containsExactlyInAnyOrderElementsOf(prices);
+        assertThat(adapter.findPricesByBrandProduct(BRAND_ID, 99999)).isEmpty();
+        assertThat(adapter.size()).isEqualTo(4);
+    }
+
+    @Test
+    @DisplayName("findPriorityPrice - Should agree with the interval index on random catalogs")
+    void findPriorityPrice_ShouldMatchIntervalIndex() {
+        // Given
+        Random random = new Random(42);
+        List<Price> catalog = new ArrayList<>();
+        int priceList = 1;
+        for (int productId = 1; productId <= 50; productId++) {
+            int rates = 1 + random.nextInt(8);
+            for (int i = 0; i < rates; i++) {
+                LocalDateTime start = LocalDateTime.of(2020, 1, 1, 0, 0, 0).plusHours(random.nextInt(2000));
+                catalog.add(price(BRAND_ID, productId, priceList++, start, start.plusHours(random.nextInt(500)),
+                        random.nextInt(4), "10.00"));
+            }
+        }
+        PrimitivePriceAdapter primitive = PrimitivePriceAdapter.of(catalog);
+        InMemoryPriceAdapter reference = new InMemoryPriceAdapter(catalog);
+
+        // When & Then
+        for (int i = 0; i < 2000; i++) {
+            int productId = 1 + random.nextInt(50);
+            LocalDateTime date = LocalDateTime.of(2020, 1, 1, 0, 0, 0).plusMinutes(random.nextInt(150_000));
+            Optional<Price> expected = reference.findPriorityPrice(BRAND_ID, productId, date);
+            assertThat(primitive.findPriorityPrice(BRAND_ID, productId, date).map(price -> price.rate().priority()))
+                    .isEqualTo(expected.map(price -> price.rate().priority()));
+            assertThat(primitive.findPricesByBrandProductDate(BRAND_ID, productId, date))
+                    .containsExactlyInAnyOrderElementsOf(reference.findPricesByBrandProductDate(BRAND_ID, productId, date));
+        }
+    }
+
+    @Test
+    @DisplayName("of - Should reject amounts finer than hundredths")
+    void of_ShouldRejectSubCentAmounts() {
+        List<Price> subCent = List.of(price(BRAND_ID, PRODUCT_ID, 1, LocalDateTime.of(2020, 6, 14, 0, 0, 0),
+                LocalDateTime.of(2020, 12, 31, 23, 59, 59), 0, "35.505"));
+
+        assertThatThrownBy(() -> PrimitivePriceAdapter.of(subCent)).isInstanceOf(ArithmeticException.class);
+    }
+
+    @Test
+    @DisplayName("of - Should keep fractions of a second down to the microsecond")
+    void of_ShouldKeepMicrosecondDates() {
+        // Given
+        LocalDateTime end = LocalDateTime.of(2020, 6, 14, 18, 30, 0, 500_000_000);
+        Price fractional = price(BRAND_ID, PRODUCT_ID, 1, LocalDateTime.of(2020, 6, 14, 0, 0, 0, 250_000), end, 0, "35.50");
+        PrimitivePriceAdapter fractionalAdapter = PrimitivePriceAdapter.of(List.of(fractional));
+
+        // When & Then
+        assertThat(fractionalAdapter.findPricesByBrandProduct(BRAND_ID, PRODUCT_ID)).containsExactly(fractional);
+        assertThat(fractionalAdapter.findPriorityPrice(BRAND_ID, PRODUCT_ID, end)).contains(fractional);
+        assertThat(fractionalAdapter.findPriorityPrice(BRAND_ID, PRODUCT_ID, end.minusNanos(500))).contains(fractional);
+        assertThat(fractionalAdapter.findPriorityPrice(BRAND_ID, PRODUCT_ID, end.plusNanos(500))).isEmpty();
+    }
+
+    @Test
+    @DisplayName("of - Should reject dates finer than microseconds")
+    void of_ShouldRejectSubMicrosecondDates() {
+        List<Price> subMicro = List.of(price(BRAND_ID, PRODUCT_ID, 1, LocalDateTime.of(2020, 6, 14, 0, 0, 0, 1),
+                LocalDateTime.of(2020, 12, 31, 23, 59, 59), 0, "35.50"));
+
+        assertThatThrownBy(() -> PrimitivePriceAdapter.of(subMicro)).isInstanceOf(IllegalArgumentException.class);
+    }
+
+    static Stream<Arguments> segmentTestCases() {
+        return Stream.of(
+                Arguments.of(LocalDateTime.of(2020, 6, 14, 10, 0, 0), 1,
+                        LocalDateTime.of(2020, 6, 14, 0, 0, 0), LocalDateTime.of(2020, 6, 14, 15, 0, 0)),
+                Arguments.of(LocalDateTime.of(2020, 6, 14, 16, 0, 0), 2,
+                        LocalDateTime.of(2020, 6, 14, 15, 0, 0), LocalDateTime.of(2020, 6, 14, 18, 30, 0, 1)),
+                Arguments.of(LocalDateTime.of(2020, 6, 14, 21, 0, 0), 1,
+                        LocalDateTime.of(2020, 6, 14, 18, 30, 0, 1), LocalDateTime.of(2020, 6, 15, 0, 0, 0)),
+                Arguments.of(LocalDateTime.of(2020, 6, 15, 10, 0, 0), 3,
+                        LocalDateTime.of(2020, 6, 15, 0, 0, 0), LocalDateTime.of(2020, 6, 15, 11, 0, 0, 1)),
+                Arguments.of(LocalDateTime.of(2020, 6, 16, 21, 0, 0), 4,
+                        LocalDateTime.of(2020, 6, 15, 16, 0, 0), LocalDateTime.of(2021, 1, 1, 0, 0, 0))
+        );
+    }
+
+    @ParameterizedTest(name = "Segment at {0} should be priceList {1} from {2} until {3}")
+    @MethodSource("segmentTestCases")
+    @DisplayName("findEffectivePrice - Should bound the winning rate by the rates beating it from the primitive arrays")
+    void findEffectivePrice_ShouldBoundWinningRate(LocalDateTime applicationDate, int expectedPriceList,
+                                                   LocalDateTime expectedFrom, LocalDateTime expectedUntil) {
+        // When
+        Optional<PriceSegment> result = adapter.findEffectivePrice(BRAND_ID, PRODUCT_ID, applicationDate);
+
+        // Then
+        assertThat(result).hasValueSatisfying(segment -> {
+            assertThat(segment.price().rate().priceList()).isEqualTo(expectedPriceList);
+            assertThat(segment.validFrom()).isEqualTo(expectedFrom);
+            assertThat(segment.validUntil()).isEqualTo(expectedUntil);
+        });
+    }
+
+    @Test
+    @DisplayName("findEffectivePrice - Should return empty outside every rate and for unknown brand/products")
+    void findEffectivePrice_ShouldReturnEmpty_WhenNoRateCovers() {
+        assertThat(adapter.findEffectivePrice(BRAND_ID, PRODUCT_ID, LocalDateTime.of(2019, 1, 1, 10, 0, 0))).isEmpty();
+        assertThat(adapter.findEffectivePrice(BRAND_ID, PRODUCT_ID, LocalDateTime.of(2021, 1, 1, 0, 0, 0))).isEmpty();
+        assertThat(adapter.findEffectivePrice(BRAND_ID, 99999, LocalDateTime.of(2020, 6, 14, 10, 0, 0))).isEmpty();
+    }
+
+    private static Price price(Integer brandId, Integer productId, int priceList, LocalDateTime start, LocalDateTime end,
+                               int priority, String amount) {
+        return new Price(brandId, productId, new Rate(priceList, start, end, priority,
+                new Money(new BigDecimal(amount), Currency.EUR)));
+    }
+}
@@ -0,0 +1,113 @@
+package com.example.demo.adapter.outbound.metrics;
+
+import com.example.demo.domain.model.Currency;
+import com.example.demo.domain.model.Money;
+import com.example.demo.domain.model.Price;
+import com.example.demo.domain.model.PriceSegment;
+import com.example.demo.domain.model.Rate;
+import com.example.demo.domain.repository.PriceRepository;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class InstrumentedPriceRepositoryTest {
+
+    private static final Integer BRAND_ID = 1;
+    private static final Integer PRODUCT_ID = 35455;
+    private static final LocalDateTime APPLICATION_DATE = LocalDateTime.of(2020, 6, 14, 16, 0, 0);
+
+    private PriceRepository delegate;
+    private SimpleMeterRegistry meterRegistry;
+    private InstrumentedPriceRepository repository;
+
+    @BeforeEach
+    void setUp() {
+        delegate = mock(PriceRepository.class);
+        meterRegistry = new SimpleMeterRegistry();
+        repository = new InstrumentedPriceRepository(delegate, meterRegistry);
+    }
+
+    @Test
+    @DisplayName("findPricesByBrandProductDate - Should time the query and record the candidate count")
+    void findPricesByBrandProductDate_ShouldRecordCandidates() {
+        // Given
+        when(delegate.findPricesByBrandProductDate(BRAND_ID, PRODUCT_ID, APPLICATION_DATE))
+                .thenReturn(List.of(price(1, 0), price(2, 1)));
+
+        // When
+        List<Price> result = repository.findPricesByBrandProductDate(BRAND_ID, PRODUCT_ID, APPLICATION_DATE);
+
+        // Then
+        assertThat(result).hasSize(2);
+        assertThat(meterRegistry.get("prices.repository.query")
+                .tags("operation", "findPricesByBrandProductDate")
+                .timer().count()).isEqualTo(1);
+        DistributionSummary candidates = meterRegistry.get("prices.repository.candidates")
+                .tag("operation", "findPricesByBrandProductDate").summary();
+        assertThat(candidates.count()).isEqualTo(1);
+        assertThat(candidates.totalAmount()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("findPriorityPrice - Should delegate to the adapter's top-1 lookup and time it")
+    void findPriorityPrice_ShouldDelegateAndTime() {
+        // Given
+        Price price = price(2, 1);
+        when(delegate.findPriorityPrice(BRAND_ID, PRODUCT_ID, APPLICATION_DATE)).thenReturn(Optional.of(price));
+
+        // When
+        Optional<Price> result = repository.findPriorityPrice(BRAND_ID, PRODUCT_ID, APPLICATION_DATE);
+
+        // Then
+        assertThat(result).contains(price);
+        verify(delegate).findPriorityPrice(BRAND_ID, PRODUCT_ID, APPLICATION_DATE);
+        assertThat(meterRegistry.get("prices.repository.query")
+                .tags("operation", "findPriorityPrice")
+                .timer().count()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("findEffectivePrice - Should time the query and record whether a segment was found")
+    void findEffectivePrice_ShouldRecordSegmentCount() {
+        // Given
+        PriceSegment segment = new PriceSegment(price(2, 1), LocalDateTime.of(2020, 6, 14, 15, 0, 0),
+                LocalDateTime.of(2020, 6, 14, 18, 30, 1));
+        when(delegate.findEffectivePrice(BRAND_ID, PRODUCT_ID, APPLICATION_DATE)).thenReturn(Optional.of(segment));
+        when(delegate.findEffectivePrice(BRAND_ID, 99999, APPLICATION_DATE)).thenReturn(Optional.empty());
+
+        // When
+        Optional<PriceSegment> found = repository.findEffectivePrice(BRAND_ID, PRODUCT_ID, APPLICATION_DATE);
+        Optional<PriceSegment> missing = repository.findEffectivePrice(BRAND_ID, 99999, APPLICATION_DATE);
+
+        // Then
+        assertThat(found).contains(segment);
+        assertThat(missing).isEmpty();
+        assertThat(meterRegistry.get("prices.repository.query")
+                .tags("operation", "findEffectivePrice")
+                .timer().count()).isEqualTo(2);
+        DistributionSummary segments = meterRegistry.get("prices.repository.candidates")
+                .tag("operation", "findEffectivePrice").summary();
+        assertThat(segments.count()).isEqualTo(2);
+        assertThat(segments.totalAmount()).isEqualTo(1);
+    }
+
+    private static Price price(int priceList, int priority) {
+        return new Price(BRAND_ID, PRODUCT_ID, new Rate(priceList,
+                LocalDateTime.of(2020, 6, 14, 0, 0, 0),
+                LocalDateTime.of(2020, 12, 31, 23, 59, 59),
+                priority,
+                new Money(new BigDecimal("35.50"), Currency.EUR)));
+    }
+}
@@ -0,0 +1,177 @@
+package com.example.demo.adapter.outbound.persistence;
+
+import com.example.demo.domain.model.Currency;
+import com.example.demo.domain.model.Money;
+import com.example.demo.domain.model.Price;
+import com.example.demo.domain.model.PriceKey;
+import com.example.demo.domain.model.PriceQuery;
+import com.example.demo.domain.model.PriceSegment;
+import com.example.demo.domain.model.Rate;
+import com.example.demo.domain.repository.PriceRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class BatchingPriceRepositoryTest {
+
+    private static final Integer BRAND_ID = 1;
+    private static final LocalDateTime APPLICATION_DATE = LocalDateTime.of(2020, 6, 14, 10, 0, 0);
+
+    private PriceRepository delegate;
+    private SimpleMeterRegistry meterRegistry;
+
+    @BeforeEach
+    void setUp() {
+        delegate = mock(PriceRepository.class);
+        meterRegistry = new SimpleMeterRegistry();
+    }
+
+    @Test
+    @DisplayName("findPricesByBrandProduct - Should load concurrent lookups with one statement and give each caller its own rates")
+    void findPricesByBrandProduct_ShouldBatchConcurrentLookups() throws Exception {
+        // Given
+        when(delegate.findPricesByBrandProducts(anyCollection())).thenAnswer(invocation -> {
+            Collection<PriceKey> keys = invocation.getArgument(0);
+            return keys.stream()
+                    .filter(key -> key.productId() != 3)
+                    .collect(Collectors.toMap(Function.identity(), key -> List.of(price(key.productId()))));
+        });
+        BatchingPriceRepository repository = new BatchingPriceRepository(delegate, Duration.ofSeconds(5), 8, meterRegistry);
+        CountDownLatch start = new CountDownLatch(1);
+
+        try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            // When
+            List<Future<List<Price>>> results = new ArrayList<>();
+            for (int productId = 0; productId < 8; productId++) {
+                int product = productId;
+                results.add(executor.submit(() -> {
+                    start.await();
+                    return repository.findPricesByBrandProduct(BRAND_ID, product);
+                }));
+            }
+            start.countDown();
+
+            // Then
+            for (int productId = 0; productId < 8; productId++) {
+                List<Price> prices = results.get(productId).get(5, TimeUnit.SECONDS);
+                if (productId == 3) {
+                    assertThat(prices).isEmpty();
+                } else {
+                    assertThat(prices).containsExactly(price(productId));
+                }
+            }
+        }
+        verify(delegate, times(1)).findPricesByBrandProducts(anyCollection());
+        assertThat(meterRegistry.get("prices.repository.batch.size").tag("operation", "findPricesByBrandProduct")
+                .summary().max()).isEqualTo(8);
+    }
+
+    @Test
+    @DisplayName("findPricesByBrandProductDate - Should flush a lone lookup once the window has passed")
+    void findPricesByBrandProductDate_ShouldFlushAfterWindow() {
+        // Given
+        PriceQuery query = new PriceQuery(BRAND_ID, 35455, APPLICATION_DATE);
+        when(delegate.findPricesByBrandProductDates(anyCollection())).thenReturn(Map.of(query, List.of(price(35455))));
+        BatchingPriceRepository repository = new BatchingPriceRepository(delegate, Duration.ofMillis(1), 64, meterRegistry);
+
+        // When
+        List<Price> result = repository.findPricesByBrandProductDate(BRAND_ID, 35455, APPLICATION_DATE);
+
+        // Then
+        assertThat(result).containsExactly(price(35455));
+        verify(delegate).findPricesByBrandProductDates(List.of(query));
+    }
+
+    @Test
+    @DisplayName("findEffectivePrice - Should load concurrent segment lookups with one statement, empty where none covers")
+    void findEffectivePrice_ShouldBatchConcurrentLookups() throws Exception {
+        // Given
+        when(delegate.findEffectivePrices(anyCollection())).thenAnswer(invocation -> {
+            Collection<PriceQuery> queries = invocation.getArgument(0);
+            return queries.stream()
+                    .filter(query -> query.productId() != 3)
+                    .collect(Collectors.toMap(Function.identity(), query -> segment(query.productId())));
+        });
+        BatchingPriceRepository repository = new BatchingPriceRepository(delegate, Duration.ofSeconds(5), 8, meterRegistry);
+        CountDownLatch start = new CountDownLatch(1);
+
+        try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            // When
+            List<Future<Optional<PriceSegment>>> results = new ArrayList<>();
+            for (int productId = 0; productId < 8; productId++) {
+                int product = productId;
+                results.add(executor.submit(() -> {
+                    start.await();
+                    return repository.findEffectivePrice(BRAND_ID, product, APPLICATION_DATE);
+                }));
+            }
+            start.countDown();
+
+            // Then
+            for (int productId = 0; productId < 8; productId++) {
+                Optional<PriceSegment> segment = results.get(productId).get(5, TimeUnit.SECONDS);
+                if (productId == 3) {
+                    assertThat(segment).isEmpty();
+                } else {
+                    assertThat(segment).contains(segment(productId));
+                }
+            }
+        }
+        verify(delegate, times(1)).findEffectivePrices(anyCollection());
+        verify(delegate, never()).findEffectivePrice(any(), any(), any());
+        assertThat(meterRegistry.get("prices.repository.batch.size").tag("operation", "findEffectivePrice")
+                .summary().max()).isEqualTo(8);
+    }
+
+    @Test
+    @DisplayName("findPricesByBrandProduct - Should hand a failed statement to the caller")
+    void findPricesByBrandProduct_ShouldPropagateFailure() {
+        // Given
+        when(delegate.findPricesByBrandProducts(anyCollection())).thenThrow(new IllegalStateException("Database connection failed"));
+        BatchingPriceRepository repository = new BatchingPriceRepository(delegate, Duration.ofMillis(1), 64, meterRegistry);
+
+        // When & Then
+        assertThatThrownBy(() -> repository.findPricesByBrandProduct(BRAND_ID, 35455))
+                .isInstanceOf(IllegalStateException.class)
+                .hasMessage("Database connection failed");
+    }
+
+    private static Price price(Integer productId) {
+        return new Price(BRAND_ID, productId, new Rate(1,
+                LocalDateTime.of(2020, 6, 14, 0, 0, 0),
+                LocalDateTime.of(2020, 12, 31, 23, 59, 59),
+                0,
+                new Money(new BigDecimal("35.50"), Currency.EUR)));
+    }
+
+    private static PriceSegment segment(Integer productId) {
+        return new PriceSegment(price(productId), LocalDateTime.of(2020, 6, 14, 0, 0, 0), LocalDateTime.of(2021, 1, 1, 0, 0, 0));
+    }
+}
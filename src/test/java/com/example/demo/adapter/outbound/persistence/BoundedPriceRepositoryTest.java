@@ -0,0 +1,104 @@
+package com.example.demo.adapter.outbound.persistence;
+
+import com.example.demo.domain.model.Price;
+import com.example.demo.domain.repository.PriceRepository;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class BoundedPriceRepositoryTest {
+
+    private static final LocalDateTime APPLICATION_DATE = LocalDateTime.of(2020, 6, 14, 10, 0, 0);
+
+    @Test
+    @DisplayName("findPriorityPrice - Should delegate to the wrapped repository and release the permit")
+    void findPriorityPrice_ShouldDelegate() {
+        // Given
+        PriceRepository delegate = mock(PriceRepository.class);
+        Price price = mock(Price.class);
+        when(delegate.findPriorityPrice(1, 35455, APPLICATION_DATE)).thenReturn(Optional.of(price));
+        BoundedPriceRepository repository = new BoundedPriceRepository(delegate, 2);
+
+        // When
+        Optional<Price> result = repository.findPriorityPrice(1, 35455, APPLICATION_DATE);
+
+        // Then
+        assertThat(result).contains(price);
+        verify(delegate).findPriorityPrice(1, 35455, APPLICATION_DATE);
+        assertThat(repository.availablePermits()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("findPricesByBrandProductDate - Should release the permit when the delegate fails")
+    void findPricesByBrandProductDate_ShouldReleasePermitOnFailure() {
+        // Given
+        PriceRepository delegate = mock(PriceRepository.class);
+        when(delegate.findPricesByBrandProductDate(1, 35455, APPLICATION_DATE)).thenThrow(new IllegalStateException("boom"));
+        BoundedPriceRepository repository = new BoundedPriceRepository(delegate, 1);
+
+        // When / Then
+        assertThatThrownBy(() -> repository.findPricesByBrandProductDate(1, 35455, APPLICATION_DATE))
+                .isInstanceOf(IllegalStateException.class);
+        assertThat(repository.availablePermits()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("Should never let more callers than permits reach the delegate")
+    void shouldBoundConcurrentCallers() throws InterruptedException {
+        // Given
+        AtomicInteger inFlight = new AtomicInteger();
+        AtomicInteger maxInFlight = new AtomicInteger();
+        PriceRepository delegate = new PriceRepository() {
+            @Override
+            public List<Price> findPricesByBrandProductDate(Integer brandId, Integer productId, LocalDateTime applicationDate) {
+                maxInFlight.accumulateAndGet(inFlight.incrementAndGet(), Math::max);
+                try {
+                    Thread.sleep(1);
+                } catch (InterruptedException ex) {
+                    Thread.currentThread().interrupt();
+                }
+                inFlight.decrementAndGet();
+                return List.of();
+            }
+
+            @Override
+            public List<Price> findPricesByBrandProduct(Integer brandId, Integer productId) {
+                return List.of();
+            }
+        };
+        BoundedPriceRepository repository = new BoundedPriceRepository(delegate, 3);
+
+        // When
+        try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            for (int i = 0; i < 500; i++) {
+                executor.submit(() -> repository.findPricesByBrandProductDate(1, 35455, APPLICATION_DATE));
+            }
+            executor.shutdown();
+            assertThat(executor.awaitTermination(30, TimeUnit.SECONDS)).isTrue();
+        }
+
+        // Then
+        assertThat(maxInFlight.get()).isBetween(1, 3);
+        assertThat(repository.availablePermits()).isEqualTo(3);
+    }
+
+    @Test
+    @DisplayName("Constructor - Should reject a non-positive concurrency limit")
+    void constructor_ShouldRejectNonPositiveLimit() {
+        assertThatThrownBy(() -> new BoundedPriceRepository(mock(PriceRepository.class), 0))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+}
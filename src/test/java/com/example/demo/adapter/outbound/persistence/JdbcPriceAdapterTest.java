@@ -0,0 +1,205 @@
+package com.example.demo.adapter.outbound.persistence;
+
+import com.example.demo.adapter.outbound.snapshot.PriceSnapshotMark;
+import com.example.demo.domain.model.Currency;
+import com.example.demo.domain.model.Price;
+import com.example.demo.domain.model.PriceKey;
+import com.example.demo.domain.model.PriceQuery;
+import com.example.demo.domain.model.PriceSegment;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.Arguments;
+import org.junit.jupiter.params.provider.MethodSource;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.simple.JdbcClient;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DataJpaTest
+class JdbcPriceAdapterTest {
+
+    private static final Integer BRAND_ID = 1;
+    private static final Integer PRODUCT_ID = 35455;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private JpaPriceRepository jpaPriceRepository;
+
+    private JdbcPriceAdapter adapter;
+
+    @BeforeEach
+    void setUp() {
+        adapter = new JdbcPriceAdapter(JdbcClient.create(jdbcTemplate));
+    }
+
+    static Stream<Arguments> priorityPriceTestCases() {
+        return Stream.of(
+                Arguments.of(LocalDateTime.of(2020, 6, 14, 10, 0, 0), 1),
+                Arguments.of(LocalDateTime.of(2020, 6, 14, 16, 0, 0), 2),
+                Arguments.of(LocalDateTime.of(2020, 6, 14, 21, 0, 0), 1),
+                Arguments.of(LocalDateTime.of(2020, 6, 15, 10, 0, 0), 3),
+                Arguments.of(LocalDateTime.of(2020, 6, 16, 21, 0, 0), 4)
+        );
+    }
+
+    @ParameterizedTest(name = "Query at {0} should return priceList {1}")
+    @MethodSource("priorityPriceTestCases")
+    @DisplayName("findPriorityPrice - Should return the highest priority rate covering the date")
+    void findPriorityPrice_ShouldReturnHighestPriorityRate(LocalDateTime applicationDate, int expectedPriceList) {
+        // When
+        Optional<Price> result = adapter.findPriorityPrice(BRAND_ID, PRODUCT_ID, applicationDate);
+
+        // Then
+        assertThat(result).isPresent();
+        assertThat(result.get().rate().priceList()).isEqualTo(expectedPriceList);
+    }
+
+    @ParameterizedTest(name = "Effective price at {0} should be priceList {1}")
+    @MethodSource("priorityPriceTestCases")
+    @DisplayName("findEffectivePrice - Should read the segment covering the date from EFFECTIVE_PRICES")
+    void findEffectivePrice_ShouldReadSegmentCoveringDate(LocalDateTime applicationDate, int expectedPriceList) {
+        // Given
+        new EffectivePriceMaintainer(jdbcTemplate).rebuild();
+
+        // When
+        Optional<PriceSegment> result = adapter.findEffectivePrice(BRAND_ID, PRODUCT_ID, applicationDate);
+
+        // Then
+        assertThat(result).hasValueSatisfying(segment -> {
+            assertThat(segment.price().rate().priceList()).isEqualTo(expectedPriceList);
+            assertThat(segment.validFrom()).isBeforeOrEqualTo(applicationDate);
+            assertThat(segment.validUntil()).isAfter(applicationDate);
+        });
+    }
+
+    @Test
+    @DisplayName("findEffectivePrice - Should return empty outside every segment")
+    void findEffectivePrice_ShouldReturnEmptyOutsideSegments() {
+        // Given
+        new EffectivePriceMaintainer(jdbcTemplate).rebuild();
+
+        // When & Then
+        assertThat(adapter.findEffectivePrice(BRAND_ID, PRODUCT_ID, LocalDateTime.of(2019, 1, 1, 10, 0, 0))).isEmpty();
+        assertThat(adapter.findEffectivePrice(BRAND_ID, PRODUCT_ID, LocalDateTime.of(2021, 1, 1, 0, 0, 0))).isEmpty();
+    }
+
+    @Test
+    @DisplayName("findEffectivePrices - Should answer every lookup of a batch with the segment covering its date")
+    void findEffectivePrices_ShouldResolveEveryLookup() {
+        // Given
+        new EffectivePriceMaintainer(jdbcTemplate).rebuild();
+        PriceQuery morning = new PriceQuery(BRAND_ID, PRODUCT_ID, LocalDateTime.of(2020, 6, 14, 10, 0, 0));
+        PriceQuery afternoon = new PriceQuery(BRAND_ID, PRODUCT_ID, LocalDateTime.of(2020, 6, 14, 16, 0, 0));
+        PriceQuery lastNanosecond = new PriceQuery(BRAND_ID, PRODUCT_ID, LocalDateTime.of(2020, 6, 14, 18, 30, 0, 1));
+        PriceQuery beforeRates = new PriceQuery(BRAND_ID, PRODUCT_ID, LocalDateTime.of(2019, 1, 1, 10, 0, 0));
+        PriceQuery unknown = new PriceQuery(BRAND_ID, 99999, LocalDateTime.of(2020, 6, 14, 10, 0, 0));
+
+        // When
+        Map<PriceQuery, PriceSegment> result = adapter.findEffectivePrices(List.of(morning, afternoon, lastNanosecond, beforeRates, unknown));
+
+        // Then
+        assertThat(result).containsOnlyKeys(morning, afternoon, lastNanosecond);
+        assertThat(result.get(morning).price().rate().priceList()).isEqualTo(1);
+        assertThat(result.get(afternoon).price().rate().priceList()).isEqualTo(2);
+        assertThat(result.get(lastNanosecond).price().rate().priceList()).isEqualTo(1);
+        assertThat(result.get(afternoon).validUntil()).isEqualTo(LocalDateTime.of(2020, 6, 14, 18, 30, 0, 1));
+    }
+
+    @Test
+    @DisplayName("findPricesByBrandProductDate - Should map every column of the row into the domain records")
+    void findPricesByBrandProductDate_ShouldMapRowsToDomain() {
+        // When
+        List<Price> result = adapter.findPricesByBrandProductDate(BRAND_ID, PRODUCT_ID, LocalDateTime.of(2020, 6, 14, 16, 0, 0));
+
+        // Then
+        assertThat(result).extracting(price -> price.rate().priceList()).containsExactlyInAnyOrder(1, 2);
+        Price rate2 = result.stream().filter(price -> price.rate().priceList() == 2).findFirst().orElseThrow();
+        assertThat(rate2.brandId()).isEqualTo(BRAND_ID);
+        assertThat(rate2.productId()).isEqualTo(PRODUCT_ID);
+        assertThat(rate2.rate().startDate()).isEqualTo(LocalDateTime.of(2020, 6, 14, 15, 0, 0));
+        assertThat(rate2.rate().endDate()).isEqualTo(LocalDateTime.of(2020, 6, 14, 18, 30, 0));
+        assertThat(rate2.rate().priority()).isEqualTo(1);
+        assertThat(rate2.rate().price().amount()).isEqualByComparingTo(new BigDecimal("25.45"));
+        assertThat(rate2.rate().price().currency()).isEqualTo(Currency.EUR);
+    }
+
+    @Test
+    @DisplayName("findPricesByBrandProduct - Should return the same prices as the JPA adapter")
+    void findPricesByBrandProduct_ShouldMatchJpaAdapter() {
+        // Given
+        PricePersistenceAdapter jpaAdapter = new PricePersistenceAdapter(jpaPriceRepository);
+
+        // When
+        List<Price> result = adapter.findPricesByBrandProduct(BRAND_ID, PRODUCT_ID);
+
+        // Then
+        assertThat(result).containsExactlyInAnyOrderElementsOf(jpaAdapter.findPricesByBrandProduct(BRAND_ID, PRODUCT_ID));
+    }
+
+    @Test
+    @DisplayName("findPricesByBrandProductDates - Should resolve every query of the batch")
+    void findPricesByBrandProductDates_ShouldResolveEveryQuery() {
+        // Given
+        PriceQuery afternoon = new PriceQuery(BRAND_ID, PRODUCT_ID, LocalDateTime.of(2020, 6, 14, 16, 0, 0));
+        PriceQuery beforeRates = new PriceQuery(BRAND_ID, PRODUCT_ID, LocalDateTime.of(2019, 1, 1, 10, 0, 0));
+
+        // When
+        Map<PriceQuery, List<Price>> result = adapter.findPricesByBrandProductDates(List.of(afternoon, beforeRates));
+
+        // Then
+        assertThat(result.get(afternoon)).extracting(price -> price.rate().priceList()).containsExactlyInAnyOrder(1, 2);
+        assertThat(result.get(beforeRates)).isEmpty();
+    }
+
+    @Test
+    @DisplayName("findPricesByBrandProducts - Should return every rate per requested key, empty for unknown ones")
+    void findPricesByBrandProducts_ShouldResolveEveryKey() {
+        // Given
+        PriceKey known = new PriceKey(BRAND_ID, PRODUCT_ID);
+        PriceKey unknown = new PriceKey(BRAND_ID, 99999);
+
+        // When
+        Map<PriceKey, List<Price>> result = adapter.findPricesByBrandProducts(List.of(known, unknown));
+
+        // Then
+        assertThat(result.get(known)).extracting(price -> price.rate().priceList()).containsExactlyInAnyOrder(1, 2, 3, 4);
+        assertThat(result.get(unknown)).isEmpty();
+    }
+
+    @Test
+    @DisplayName("findPriorityPrice - Should return empty for an unknown product")
+    void findPriorityPrice_ShouldReturnEmpty_ForUnknownProduct() {
+        assertThat(adapter.findPriorityPrice(BRAND_ID, 99999, LocalDateTime.of(2020, 6, 14, 10, 0, 0))).isEmpty();
+    }
+
+    @Test
+    @DisplayName("snapshotMark - Should move with every update and delete of PRICES")
+    void snapshotMark_ShouldMoveWithWrites() {
+        // Given
+        PriceSnapshotMark loaded = adapter.snapshotMark();
+
+        // When
+        jdbcTemplate.update("UPDATE PRICES SET price = 30.00, version = version + 1 WHERE price_list = 2");
+        PriceSnapshotMark updated = adapter.snapshotMark();
+        jdbcTemplate.update("DELETE FROM PRICES WHERE price_list = 3");
+        PriceSnapshotMark deleted = adapter.snapshotMark();
+
+        // Then
+        assertThat(loaded).isEqualTo(new PriceSnapshotMark(4, 4, 0));
+        assertThat(updated).isEqualTo(new PriceSnapshotMark(4, 4, 1));
+        assertThat(deleted).isEqualTo(new PriceSnapshotMark(3, 4, 1));
+    }
+}
@@ -0,0 +1,81 @@
+package com.example.demo.adapter.outbound.persistence;
+
+import com.example.demo.domain.model.Currency;
+import com.example.demo.domain.model.Money;
+import com.example.demo.domain.model.Price;
+import com.example.demo.domain.model.Rate;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.simple.JdbcClient;
+
+import java.math.BigDecimal;
+import java.time.Clock;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DataJpaTest
+class JdbcPriceHistoryAdapterTest {
+
+    private static final Integer BRAND_ID = 1;
+    private static final Integer PRODUCT_ID = 35455;
+    private static final LocalDateTime APPLICATION_DATE = LocalDateTime.of(2020, 6, 14, 16, 0, 0);
+    private static final LocalDateTime LOADED = LocalDateTime.of(2024, 1, 1, 0, 0, 0);
+    private static final LocalDateTime UPDATED = LocalDateTime.of(2024, 2, 1, 0, 0, 0);
+    private static final LocalDateTime DELETED = LocalDateTime.of(2024, 3, 1, 0, 0, 0);
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    private JdbcPriceHistoryAdapter adapter;
+
+    @BeforeEach
+    void setUp() {
+        adapter = new JdbcPriceHistoryAdapter(JdbcClient.create(jdbcTemplate));
+        recorderAt(LOADED).baseline();
+        recorderAt(UPDATED).updated(List.of(new Price(BRAND_ID, PRODUCT_ID, new Rate(2,
+                LocalDateTime.of(2020, 6, 14, 15, 0, 0),
+                LocalDateTime.of(2020, 6, 14, 18, 30, 0),
+                1,
+                new Money(new BigDecimal("19.99"), Currency.EUR)))));
+        recorderAt(DELETED).deleted(2);
+    }
+
+    @Test
+    @DisplayName("findPricesByBrandProductDate - Should return nothing before the rates were recorded")
+    void findPricesByBrandProductDate_ShouldBeEmpty_BeforeFirstVersion() {
+        assertThat(adapter.findPricesByBrandProductDate(BRAND_ID, PRODUCT_ID, APPLICATION_DATE, LOADED.minusNanos(1))).isEmpty();
+    }
+
+    @Test
+    @DisplayName("findPricesByBrandProductDate - Should return the versions stored at the as-of time")
+    void findPricesByBrandProductDate_ShouldReturnVersionsAsOf() {
+        assertThat(prices(LOADED)).containsExactlyInAnyOrder("1=35.50", "2=25.45");
+        assertThat(prices(UPDATED.minusNanos(1))).containsExactlyInAnyOrder("1=35.50", "2=25.45");
+        assertThat(prices(UPDATED)).containsExactlyInAnyOrder("1=35.50", "2=19.99");
+        assertThat(prices(DELETED)).containsExactly("1=35.50");
+    }
+
+    @Test
+    @DisplayName("baseline - Should only record rates without an open version")
+    void baseline_ShouldBeIdempotent() {
+        assertThat(recorderAt(DELETED.plusDays(1)).baseline()).isEqualTo(1);
+        assertThat(recorderAt(DELETED.plusDays(2)).baseline()).isZero();
+    }
+
+    private List<String> prices(LocalDateTime asOf) {
+        return adapter.findPricesByBrandProductDate(BRAND_ID, PRODUCT_ID, APPLICATION_DATE, asOf).stream()
+                .map(price -> price.rate().priceList() + "=" + price.rate().price().amount().toPlainString())
+                .toList();
+    }
+
+    private PriceHistoryRecorder recorderAt(LocalDateTime time) {
+        return new PriceHistoryRecorder(jdbcTemplate, Clock.fixed(time.toInstant(ZoneOffset.UTC), ZoneOffset.UTC));
+    }
+}
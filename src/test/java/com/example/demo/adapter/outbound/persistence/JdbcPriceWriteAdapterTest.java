@@ -0,0 +1,190 @@
+package com.example.demo.adapter.outbound.persistence;
+
+import com.example.demo.domain.exception.PriceVersionConflictException;
+import com.example.demo.domain.exception.ResourceNotFoundException;
+import com.example.demo.domain.model.Currency;
+import com.example.demo.domain.model.Money;
+import com.example.demo.domain.model.Price;
+import com.example.demo.domain.model.PriceKey;
+import com.example.demo.domain.model.PriceUpsert;
+import com.example.demo.domain.model.Rate;
+import com.example.demo.domain.model.VersionedPrice;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.simple.JdbcClient;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.math.BigDecimal;
+import java.time.Clock;
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@DataJpaTest
+class JdbcPriceWriteAdapterTest {
+
+    private static final Integer BRAND_ID = 1;
+    private static final Integer PRODUCT_ID = 35455;
+    private static final PriceKey KEY = new PriceKey(BRAND_ID, PRODUCT_ID);
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    private JdbcPriceWriteAdapter adapter;
+
+    @BeforeEach
+    void setUp() {
+        adapter = new JdbcPriceWriteAdapter(JdbcClient.create(jdbcTemplate), new TransactionTemplate(transactionManager),
+                new EffectivePriceMaintainer(jdbcTemplate), new PriceHistoryRecorder(jdbcTemplate, Clock.systemUTC()),
+                new PriceListIdentity(jdbcTemplate));
+    }
+
+    @Test
+    @DisplayName("findByPriceList - Should return the rate with its initial version")
+    void findByPriceList_ShouldReturnVersionedRate() {
+        assertThat(adapter.findByPriceList(2)).hasValueSatisfying(versioned -> {
+            assertThat(versioned.version()).isZero();
+            assertThat(versioned.price().rate().price().amount()).isEqualByComparingTo("25.45");
+        });
+        assertThat(adapter.findByPriceList(99)).isEmpty();
+    }
+
+    @Test
+    @DisplayName("create - Should assign a generated price list after the existing ones when none is given")
+    void create_ShouldAssignGeneratedPriceList() {
+        // When
+        VersionedPrice created = adapter.create(price(null, 2, "19.99"));
+
+        // Then
+        assertThat(created.price().rate().priceList()).isGreaterThan(4);
+        assertThat(created.version()).isZero();
+        assertThat(adapter.findByPriceList(created.price().rate().priceList())).contains(created);
+    }
+
+    @Test
+    @DisplayName("create - Should reject an explicit price list that already exists")
+    void create_ShouldRejectExistingPriceList() {
+        assertThatThrownBy(() -> adapter.create(price(1, 2, "19.99")))
+                .isInstanceOf(PriceVersionConflictException.class)
+                .hasMessage("Price list 1 already exists");
+    }
+
+    @Test
+    @DisplayName("create - Should reject an unknown product")
+    void create_ShouldRejectUnknownProduct() {
+        Price price = new Price(BRAND_ID, 99999, price(null, 0, "1.00").rate());
+
+        assertThatThrownBy(() -> adapter.create(price))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessage("brandId=1 or productId=99999 does not exist");
+    }
+
+    @Test
+    @DisplayName("update - Should bump the version when the expected version matches")
+    void update_ShouldBumpVersion() {
+        // When
+        VersionedPrice updated = adapter.update(price(2, 3, "19.99"), 0);
+
+        // Then
+        assertThat(updated.version()).isEqualTo(1);
+        assertThat(adapter.findByPriceList(2)).hasValueSatisfying(stored -> {
+            assertThat(stored.version()).isEqualTo(1);
+            assertThat(stored.price().rate().priority()).isEqualTo(3);
+            assertThat(stored.price().rate().price().amount()).isEqualByComparingTo("19.99");
+        });
+    }
+
+    @Test
+    @DisplayName("update - Should report a conflict on a stale version and leave the row untouched")
+    void update_ShouldRejectStaleVersion() {
+        // Given
+        adapter.update(price(2, 3, "19.99"), 0);
+
+        // When / Then
+        assertThatThrownBy(() -> adapter.update(price(2, 4, "9.99"), 0))
+                .isInstanceOf(PriceVersionConflictException.class)
+                .hasMessage("Price list 2 is at version 1, not 0");
+        assertThat(adapter.findByPriceList(2)).hasValueSatisfying(stored ->
+                assertThat(stored.price().rate().priority()).isEqualTo(3));
+    }
+
+    @Test
+    @DisplayName("update - Should report missing rates and rates of another product")
+    void update_ShouldRejectMissingOrMovedRate() {
+        assertThatThrownBy(() -> adapter.update(price(99, 0, "1.00"), 0))
+                .isInstanceOf(ResourceNotFoundException.class);
+        assertThatThrownBy(() -> adapter.update(new Price(BRAND_ID, 1, price(2, 0, "1.00").rate()), 0))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessage("Price list 2 belongs to brandId=1, productId=35455");
+    }
+
+    @Test
+    @DisplayName("delete - Should delete at the expected version only")
+    void delete_ShouldCheckVersion() {
+        assertThatThrownBy(() -> adapter.delete(KEY, 3, 7))
+                .isInstanceOf(PriceVersionConflictException.class);
+
+        Price deleted = adapter.delete(KEY, 3, 0);
+
+        assertThat(deleted.rate().priceList()).isEqualTo(3);
+        assertThat(adapter.findByPriceList(3)).isEmpty();
+    }
+
+    @Test
+    @DisplayName("upsertAll - Should create and update in one call")
+    void upsertAll_ShouldCreateAndUpdate() {
+        // When
+        List<VersionedPrice> result = adapter.upsertAll(List.of(
+                new PriceUpsert(price(1, 0, "34.50"), 0L),
+                new PriceUpsert(price(null, 2, "9.99"), null),
+                new PriceUpsert(price(40, 2, "8.99"), null)));
+
+        // Then
+        Integer generated = result.get(1).price().rate().priceList();
+        assertThat(generated).isGreaterThan(4);
+        assertThat(result).extracting(versioned -> versioned.price().rate().priceList()).containsExactly(1, generated, 40);
+        assertThat(result).extracting(VersionedPrice::version).containsExactly(1L, 0L, 0L);
+        assertThat(jdbcTemplate.queryForObject("SELECT COUNT(*) FROM PRICES", Long.class)).isEqualTo(6);
+    }
+
+    @Test
+    @DisplayName("create, delete - Should recompute the effective price segments of the brand/product")
+    void write_ShouldRefreshEffectivePrices() {
+        // When
+        Integer created = adapter.create(price(null, 2, "19.99")).price().rate().priceList();
+
+        // Then
+        assertThat(effectivePriceLists()).containsExactly(1, created, 1, 3, 1, 4);
+
+        // When
+        adapter.delete(KEY, created, 0);
+        adapter.delete(KEY, 3, 0);
+
+        // Then
+        assertThat(effectivePriceLists()).containsExactly(1, 2, 1, 4);
+    }
+
+    private List<Integer> effectivePriceLists() {
+        return jdbcTemplate.queryForList(
+                "SELECT price_list FROM EFFECTIVE_PRICES WHERE brand_id = ? AND product_id = ? ORDER BY valid_from",
+                Integer.class, BRAND_ID, PRODUCT_ID);
+    }
+
+    private static Price price(Integer priceList, int priority, String amount) {
+        return new Price(BRAND_ID, PRODUCT_ID, new Rate(priceList,
+                LocalDateTime.of(2020, 6, 14, 15, 0, 0),
+                LocalDateTime.of(2020, 6, 14, 18, 30, 0),
+                priority,
+                new Money(new BigDecimal(amount), Currency.EUR)));
+    }
+}
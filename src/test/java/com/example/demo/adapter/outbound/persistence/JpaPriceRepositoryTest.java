@@ -7,11 +7,13 @@ import org.junit.jupiter.params.provider.Arguments;
 import org.junit.jupiter.params.provider.MethodSource;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.jdbc.core.JdbcTemplate;
 
 import java.math.BigDecimal;
 import java.time.LocalDateTime;
 import java.util.Comparator;
 import java.util.List;
+import java.util.Optional;
 import java.util.stream.Stream;
 
 import static org.assertj.core.api.Assertions.assertThat;
@@ -22,6 +24,9 @@ class JpaPriceRepositoryTest {
     @Autowired
     private JpaPriceRepository jpaPriceRepository;
 
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
     private static final Integer BRAND_ID = 1;
     private static final Integer PRODUCT_ID = 35455;
 
@@ -151,5 +156,81 @@ class JpaPriceRepositoryTest {
             assertThat(result.getProductsEntity().getId()).isEqualTo(PRODUCT_ID);
         });
     }
-}
 
+    @ParameterizedTest(name = "Top priority query at {0} should return priceList {2} with price {3}")
+    @MethodSource("priceQueryTestCases")
+    @DisplayName("Should return only the highest priority price for date")
+    void shouldReturnOnlyHighestPriorityPriceForDate(
+            LocalDateTime applicationDate,
+            int ignoredCount,
+            Integer expectedPriceList,
+            BigDecimal expectedPrice) {
+        // When
+        Optional<PricesEntity> result = jpaPriceRepository.findTopPriorityPrice(BRAND_ID, PRODUCT_ID, applicationDate);
+
+        // Then
+        assertThat(result).isPresent();
+        assertThat(result.get().getPriceList()).isEqualTo(expectedPriceList);
+        assertThat(result.get().getPrice()).isEqualByComparingTo(expectedPrice);
+    }
+
+    @Test
+    @DisplayName("Should return empty top priority price when no price found for date")
+    void shouldReturnEmptyTopPriorityPriceWhenNoPriceFoundForDate() {
+        // When
+        Optional<PricesEntity> result = jpaPriceRepository.findTopPriorityPrice(
+                BRAND_ID, PRODUCT_ID, LocalDateTime.of(2019, 1, 1, 10, 0, 0));
+
+        // Then
+        assertThat(result).isEmpty();
+    }
+
+    @ParameterizedTest(name = "Effective price at {0} should be priceList {2} with price {3}")
+    @MethodSource("priceQueryTestCases")
+    @DisplayName("Should read the winning rate from the effective price segments")
+    void shouldReadWinningRateFromEffectivePrices(
+            LocalDateTime applicationDate,
+            int ignoredCount,
+            Integer expectedPriceList,
+            BigDecimal expectedPrice) {
+        // Given
+        new EffectivePriceMaintainer(jdbcTemplate).rebuild();
+
+        // When
+        Optional<EffectivePricesEntity> result = jpaPriceRepository.findEffectivePrice(BRAND_ID, PRODUCT_ID, applicationDate);
+
+        // Then
+        assertThat(result).isPresent();
+        assertThat(result.get().getPrice().getPriceList()).isEqualTo(expectedPriceList);
+        assertThat(result.get().getPrice().getPrice()).isEqualByComparingTo(expectedPrice);
+    }
+
+    @Test
+    @DisplayName("Should include the last second of a rate and nothing after it in its effective segment")
+    void shouldBoundEffectivePriceByEndDate() {
+        // Given
+        new EffectivePriceMaintainer(jdbcTemplate).rebuild();
+
+        // When / Then
+        assertThat(jpaPriceRepository.findEffectivePrice(BRAND_ID, PRODUCT_ID, LocalDateTime.of(2020, 6, 14, 18, 30, 0)))
+                .hasValueSatisfying(segment -> assertThat(segment.getPrice().getPriceList()).isEqualTo(2));
+        assertThat(jpaPriceRepository.findEffectivePrice(BRAND_ID, PRODUCT_ID, LocalDateTime.of(2020, 6, 14, 18, 30, 1)))
+                .hasValueSatisfying(segment -> assertThat(segment.getPrice().getPriceList()).isEqualTo(1));
+        assertThat(jpaPriceRepository.findEffectivePrice(BRAND_ID, PRODUCT_ID, LocalDateTime.of(2021, 1, 1, 0, 0, 0))).isEmpty();
+        assertThat(jpaPriceRepository.findEffectivePrice(BRAND_ID, PRODUCT_ID, LocalDateTime.of(2019, 1, 1, 10, 0, 0))).isEmpty();
+    }
+
+    @Test
+    @DisplayName("Should read the segments of a batch overlapping its dates with their rates")
+    void shouldReadEffectivePricesBetweenDates() {
+        // Given
+        new EffectivePriceMaintainer(jdbcTemplate).rebuild();
+
+        // When
+        List<EffectivePricesEntity> result = jpaPriceRepository.findEffectivePricesBetween(List.of(BRAND_ID), List.of(PRODUCT_ID),
+                LocalDateTime.of(2020, 6, 14, 16, 0, 0), LocalDateTime.of(2020, 6, 15, 10, 0, 0));
+
+        // Then
+        assertThat(result).extracting(segment -> segment.getPrice().getPriceList()).containsExactlyInAnyOrder(2, 1, 3);
+    }
+}
@@ -0,0 +1,89 @@
+package com.example.demo.adapter.outbound.persistence;
+
+import com.example.demo.infrastructure.dataset.SyntheticPriceGenerator;
+import com.example.demo.infrastructure.dataset.SyntheticPriceSpec;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DataJpaTest
+class PriceBulkLoaderTest {
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private JpaPriceRepository jpaPriceRepository;
+
+    private PriceBulkLoader loader;
+
+    @BeforeEach
+    void setUp() {
+        loader = new PriceBulkLoader(jdbcTemplate, 100);
+    }
+
+    @Test
+    @DisplayName("insertPrices - Should batch insert a synthetic catalog next to the existing data")
+    void insertPrices_ShouldLoadSyntheticCatalog() {
+        // Given
+        SyntheticPriceGenerator generator = new SyntheticPriceGenerator(spec(loader.nextPriceList()));
+
+        // When
+        loader.insertMissingBrands(generator.brandIds());
+        loader.insertMissingProducts(generator.productIds());
+        long rows = loader.insertPrices(generator.prices());
+
+        // Then
+        assertThat(rows).isEqualTo(2 * 30 * 3);
+        assertThat(jdbcTemplate.queryForObject("SELECT COUNT(*) FROM PRICES", Long.class)).isEqualTo(4 + rows);
+        assertThat(jpaPriceRepository.findTopPriorityPrice(1000, 2000, LocalDateTime.of(2020, 6, 1, 0, 0, 0))).isPresent();
+    }
+
+    @Test
+    @DisplayName("insertPricesFromCsv - Should load a CSV file with H2 CSVREAD")
+    void insertPricesFromCsv_ShouldLoadCsv(@TempDir Path tempDir) throws IOException {
+        // Given
+        SyntheticPriceGenerator generator = new SyntheticPriceGenerator(spec(loader.nextPriceList()));
+        Path csv = tempDir.resolve("prices.csv");
+        long written = generator.writeCsv(csv);
+        loader.insertMissingBrands(generator.brandIds());
+        loader.insertMissingProducts(generator.productIds());
+
+        // When
+        long rows = loader.insertPricesFromCsv(csv);
+
+        // Then
+        assertThat(rows).isEqualTo(written);
+        assertThat(jpaPriceRepository.findPricesByBrandAndProduct(1001, 2029)).hasSize(3);
+    }
+
+    @Test
+    @DisplayName("insertMissingBrands - Should keep existing brands and be idempotent")
+    void insertMissingBrands_ShouldKeepExistingBrands() {
+        // When
+        loader.insertMissingBrands(IntStream.of(1, 1000));
+        loader.insertMissingBrands(IntStream.of(1, 1000));
+
+        // Then
+        assertThat(jdbcTemplate.queryForObject("SELECT COUNT(*) FROM BRANDS", Long.class)).isEqualTo(2);
+        assertThat(jdbcTemplate.queryForObject("SELECT chain_name FROM BRANDS WHERE id = 1", String.class)).isEqualTo("ZARA");
+    }
+
+    private static SyntheticPriceSpec spec(int firstPriceList) {
+        return new SyntheticPriceSpec(2, 30, 3, List.of(0.8, 0.2),
+                LocalDateTime.of(2020, 1, 1, 0, 0, 0), LocalDateTime.of(2021, 1, 1, 0, 0, 0),
+                1000, 2000, firstPriceList, 7);
+    }
+}
@@ -1,5 +1,7 @@
 package com.example.demo.adapter.outbound.persistence;
 
+import com.example.demo.adapter.inbound.rest.dto.PriceCompactBatchResponseDTO;
+import com.example.demo.adapter.inbound.rest.dto.PriceCompactDTO;
 import com.example.demo.adapter.inbound.rest.dto.PriceResponseDTO;
 import com.example.demo.domain.model.Currency;
 import com.example.demo.domain.model.Money;
@@ -10,6 +12,8 @@ import org.junit.jupiter.api.Test;
 
 import java.math.BigDecimal;
 import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
 
 import static org.assertj.core.api.Assertions.assertThat;
 
@@ -116,6 +120,42 @@ class PriceMapperTest {
         assertThat(dto.finalPrice()).isEqualTo("25.45 EUR");
     }
 
+    @Test
+    @DisplayName("toCompactDTO - Should map dates to epoch milliseconds and the amount to minor units")
+    void toCompactDTO_ShouldUseEpochMillisAndMinorUnits() {
+        // Given
+        Price price = new Price(1, 35455, new Rate(2,
+                LocalDateTime.of(2020, 6, 14, 15, 0, 0),
+                LocalDateTime.of(2020, 6, 14, 18, 30, 0),
+                1,
+                new Money(new BigDecimal("25.45"), Currency.EUR)));
+
+        // When
+        PriceCompactDTO dto = PriceMapper.toCompactDTO(price);
+
+        // Then
+        assertThat(dto).isEqualTo(new PriceCompactDTO(35455, 1, 2, 1592146800000L, 1592159400000L, 2545, "EUR"));
+    }
+
+    @Test
+    @DisplayName("toCompactBatchResponseDTO - Should keep request order with null for lookups without price")
+    void toCompactBatchResponseDTO_ShouldKeepOrder() {
+        // Given
+        Price price = new Price(1, 35455, new Rate(1,
+                LocalDateTime.of(2020, 6, 14, 0, 0, 0),
+                LocalDateTime.of(2020, 12, 31, 23, 59, 59),
+                0,
+                new Money(new BigDecimal("35.5"), Currency.EUR)));
+
+        // When
+        PriceCompactBatchResponseDTO dto = PriceMapper.toCompactBatchResponseDTO(List.of(Optional.empty(), Optional.of(price)));
+
+        // Then
+        assertThat(dto.items()).hasSize(2);
+        assertThat(dto.items().getFirst()).isNull();
+        assertThat(dto.items().get(1).amount()).isEqualTo(3550);
+    }
+
     private PricesEntity createPricesEntity(BrandsEntity brand, ProductsEntity product) {
         return PricesEntity.builder()
                 .priceList(1)
@@ -1,6 +1,8 @@
 package com.example.demo.adapter.outbound.persistence;
 
 import com.example.demo.domain.model.Price;
+import com.example.demo.domain.model.PriceQuery;
+import com.example.demo.domain.model.PriceSegment;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
@@ -12,6 +14,9 @@ import java.math.BigDecimal;
 import java.time.LocalDateTime;
 import java.util.Collections;
 import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.Mockito.verify;
@@ -109,6 +114,75 @@ class PricePersistenceAdapterTest {
         assertThat(price.rate().price().currency().name()).isEqualTo("EUR");
     }
 
+    @Test
+    @DisplayName("findPricesByBrandProduct - Should return every rate of the brand/product")
+    void findPricesByBrandProduct_ShouldReturnAllRates() {
+        // Given
+        PricesEntity entity1 = createPricesEntity(1, 0, new BigDecimal("35.50"));
+        PricesEntity entity2 = createPricesEntity(2, 1, new BigDecimal("25.45"));
+        when(jpaPriceRepository.findPricesByBrandAndProduct(BRAND_ID, PRODUCT_ID))
+                .thenReturn(List.of(entity1, entity2));
+
+        // When
+        List<Price> result = pricePersistenceAdapter.findPricesByBrandProduct(BRAND_ID, PRODUCT_ID);
+
+        // Then
+        assertThat(result).extracting(price -> price.rate().priceList()).containsExactlyInAnyOrder(1, 2);
+        verify(jpaPriceRepository).findPricesByBrandAndProduct(BRAND_ID, PRODUCT_ID);
+    }
+
+    @Test
+    @DisplayName("findEffectivePrice - Should map the effective price segment read from the database")
+    void findEffectivePrice_ShouldMapEffectivePriceSegment() {
+        // Given
+        PricesEntity entity = createPricesEntity(2, 1, new BigDecimal("25.45"));
+        EffectivePricesEntity segment = EffectivePricesEntity.builder()
+                .id(new EffectivePricesEntity.Key(BRAND_ID, PRODUCT_ID, LocalDateTime.of(2020, 6, 14, 0, 0, 0)))
+                .validUntil(LocalDateTime.of(2020, 6, 15, 0, 0, 0))
+                .price(entity)
+                .build();
+        when(jpaPriceRepository.findEffectivePrice(BRAND_ID, PRODUCT_ID, APPLICATION_DATE))
+                .thenReturn(Optional.of(segment));
+
+        // When
+        Optional<PriceSegment> result = pricePersistenceAdapter.findEffectivePrice(BRAND_ID, PRODUCT_ID, APPLICATION_DATE);
+
+        // Then
+        assertThat(result).isPresent();
+        assertThat(result.get().price().rate().priceList()).isEqualTo(2);
+        assertThat(result.get().validFrom()).isEqualTo(LocalDateTime.of(2020, 6, 14, 0, 0, 0));
+        assertThat(result.get().validUntil()).isEqualTo(LocalDateTime.of(2020, 6, 15, 0, 0, 0));
+    }
+
+    @Test
+    @DisplayName("findEffectivePrices - Should keep for each lookup the segment of its brand/product covering its date")
+    void findEffectivePrices_ShouldPickCoveringSegmentPerLookup() {
+        // Given
+        PriceQuery morning = new PriceQuery(BRAND_ID, PRODUCT_ID, APPLICATION_DATE);
+        PriceQuery nextDay = new PriceQuery(BRAND_ID, PRODUCT_ID, LocalDateTime.of(2020, 6, 15, 10, 0, 0));
+        PriceQuery later = new PriceQuery(BRAND_ID, PRODUCT_ID, LocalDateTime.of(2020, 6, 20, 10, 0, 0));
+        EffectivePricesEntity first = EffectivePricesEntity.builder()
+                .id(new EffectivePricesEntity.Key(BRAND_ID, PRODUCT_ID, LocalDateTime.of(2020, 6, 14, 0, 0, 0)))
+                .validUntil(LocalDateTime.of(2020, 6, 15, 0, 0, 0))
+                .price(createPricesEntity(1, 0, new BigDecimal("35.50")))
+                .build();
+        EffectivePricesEntity second = EffectivePricesEntity.builder()
+                .id(new EffectivePricesEntity.Key(BRAND_ID, PRODUCT_ID, LocalDateTime.of(2020, 6, 15, 0, 0, 0)))
+                .validUntil(LocalDateTime.of(2020, 6, 16, 0, 0, 0))
+                .price(createPricesEntity(3, 1, new BigDecimal("30.50")))
+                .build();
+        when(jpaPriceRepository.findEffectivePricesBetween(Set.of(BRAND_ID), Set.of(PRODUCT_ID), APPLICATION_DATE, later.applicationDate()))
+                .thenReturn(List.of(first, second));
+
+        // When
+        Map<PriceQuery, PriceSegment> result = pricePersistenceAdapter.findEffectivePrices(List.of(morning, nextDay, later));
+
+        // Then
+        assertThat(result).containsOnlyKeys(morning, nextDay);
+        assertThat(result.get(morning).price().rate().priceList()).isEqualTo(1);
+        assertThat(result.get(nextDay).price().rate().priceList()).isEqualTo(3);
+    }
+
     private PricesEntity createPricesEntity(Integer priceList, Integer priority, BigDecimal price) {
         BrandsEntity brand = BrandsEntity.builder()
                 .id(BRAND_ID)
@@ -131,5 +205,42 @@ class PricePersistenceAdapterTest {
                 .currency("EUR")
                 .build();
     }
-}
 
+    @Test
+    @DisplayName("findPricesByBrandProductDates - Should answer every lookup from a single query")
+    void findPricesByBrandProductDates_ShouldAnswerEveryLookupFromSingleQuery() {
+        // Given
+        PriceQuery inRange = new PriceQuery(BRAND_ID, PRODUCT_ID, APPLICATION_DATE);
+        PriceQuery beforeRange = new PriceQuery(BRAND_ID, PRODUCT_ID, LocalDateTime.of(2019, 1, 1, 0, 0, 0));
+        PricesEntity entity = createPricesEntity(1, 0, new BigDecimal("35.50"));
+        when(jpaPriceRepository.findPricesAtDates(new Integer[] {BRAND_ID, BRAND_ID}, new Integer[] {PRODUCT_ID, PRODUCT_ID},
+                new LocalDateTime[] {APPLICATION_DATE, beforeRange.applicationDate()}))
+                .thenReturn(List.of(entity));
+
+        // When
+        Map<PriceQuery, List<Price>> result = pricePersistenceAdapter.findPricesByBrandProductDates(List.of(inRange, beforeRange));
+
+        // Then
+        assertThat(result.get(inRange)).extracting(price -> price.rate().priceList()).containsExactly(1);
+        assertThat(result.get(beforeRange)).isEmpty();
+        verify(jpaPriceRepository).findPricesAtDates(new Integer[] {BRAND_ID, BRAND_ID}, new Integer[] {PRODUCT_ID, PRODUCT_ID},
+                new LocalDateTime[] {APPLICATION_DATE, beforeRange.applicationDate()});
+    }
+
+    @Test
+    @DisplayName("findPriorityPrice - Should map the top priority row returned by the database")
+    void findPriorityPrice_ShouldMapTopPriorityRow() {
+        // Given
+        PricesEntity entity = createPricesEntity(2, 1, new BigDecimal("25.45"));
+        when(jpaPriceRepository.findTopPriorityPrice(BRAND_ID, PRODUCT_ID, APPLICATION_DATE))
+                .thenReturn(Optional.of(entity));
+
+        // When
+        Optional<Price> result = pricePersistenceAdapter.findPriorityPrice(BRAND_ID, PRODUCT_ID, APPLICATION_DATE);
+
+        // Then
+        assertThat(result).isPresent();
+        assertThat(result.get().rate().priceList()).isEqualTo(2);
+        verify(jpaPriceRepository).findTopPriorityPrice(BRAND_ID, PRODUCT_ID, APPLICATION_DATE);
+    }
+}
@@ -0,0 +1,116 @@
+package com.example.demo.adapter.outbound.persistence;
+
+import com.example.demo.adapter.inbound.rest.dto.PriceRequestDTO;
+import com.example.demo.adapter.outbound.memory.InMemoryPriceAdapter;
+import com.example.demo.adapter.outbound.memory.PriceTimelineAdapter;
+import com.example.demo.adapter.outbound.memory.PrimitivePriceAdapter;
+import com.example.demo.adapter.outbound.snapshot.PriceSnapshotAdapter;
+import com.example.demo.adapter.outbound.snapshot.PriceSnapshotMark;
+import com.example.demo.adapter.outbound.snapshot.PriceSnapshotWriter;
+import com.example.demo.domain.model.Price;
+import com.example.demo.domain.model.PriceSegment;
+import com.example.demo.domain.repository.PriceRepository;
+import com.example.demo.domain.service.PriorityPriceService;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.simple.JdbcClient;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Two overlapping rates of equal priority: every lookup path must pick the one starting first, as
+ * {@link Price#BY_PRECEDENCE} does, whatever order the rows were inserted in.
+ */
+@DataJpaTest
+class PricePrecedenceTest {
+
+    private static final Integer BRAND_ID = 1;
+    private static final Integer PRODUCT_ID = 35455;
+    private static final LocalDateTime APPLICATION_DATE = LocalDateTime.of(2020, 7, 3, 12, 0, 0);
+    private static final int EARLIER_START = 6;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private JpaPriceRepository jpaPriceRepository;
+
+    @TempDir
+    private Path directory;
+
+    private JdbcPriceAdapter jdbcAdapter;
+
+    @BeforeEach
+    void setUp() {
+        // The later-starting rate gets the lower price list, so ordering by price list would pick the wrong one
+        jdbcTemplate.update("INSERT INTO PRICES (price_list, brand_id, product_id, start_date, end_date, priority, price, currency) "
+                + "VALUES (5, 1, 35455, '2020-07-02 00:00:00', '2020-07-10 00:00:00', 5, 20.00, 'EUR'), "
+                + "(6, 1, 35455, '2020-07-01 00:00:00', '2020-07-10 00:00:00', 5, 21.00, 'EUR')");
+        new EffectivePriceMaintainer(jdbcTemplate).rebuild();
+        jdbcAdapter = new JdbcPriceAdapter(JdbcClient.create(jdbcTemplate));
+    }
+
+    @Test
+    @DisplayName("findPriorityPrice - Should agree on the earlier start across every adapter and path")
+    void findPriorityPrice_ShouldAgreeOnEarlierStart() throws IOException {
+        // Given
+        List<Price> catalog;
+        try (Stream<Price> prices = jdbcAdapter.streamAllByKey()) {
+            catalog = prices.toList();
+        }
+        Path snapshot = directory.resolve("prices.snapshot");
+        PriceSnapshotWriter.write(catalog.iterator(), new PriceSnapshotMark(catalog.size(), EARLIER_START, 0), snapshot);
+        PriceRepository defaults = new PriceRepository() {
+            @Override
+            public List<Price> findPricesByBrandProductDate(Integer brandId, Integer productId, LocalDateTime applicationDate) {
+                return jdbcAdapter.findPricesByBrandProductDate(brandId, productId, applicationDate);
+            }
+
+            @Override
+            public List<Price> findPricesByBrandProduct(Integer brandId, Integer productId) {
+                return jdbcAdapter.findPricesByBrandProduct(brandId, productId);
+            }
+        };
+        List<PriceRepository> repositories = List.of(
+                jdbcAdapter,
+                new PricePersistenceAdapter(jpaPriceRepository),
+                new BatchingPriceRepository(jdbcAdapter, Duration.ofMillis(1), 64, new SimpleMeterRegistry()),
+                new InMemoryPriceAdapter(catalog),
+                PrimitivePriceAdapter.of(catalog),
+                new PriceTimelineAdapter(catalog),
+                PriceSnapshotAdapter.open(snapshot),
+                defaults);
+        PriceRequestDTO request = new PriceRequestDTO(APPLICATION_DATE, PRODUCT_ID, BRAND_ID);
+
+        // When & Then
+        for (PriceRepository repository : repositories) {
+            assertThat(repository.findPriorityPrice(BRAND_ID, PRODUCT_ID, APPLICATION_DATE))
+                    .as(repository.getClass().getSimpleName())
+                    .map(price -> price.rate().priceList())
+                    .contains(EARLIER_START);
+            assertThat(repository.findEffectivePrice(BRAND_ID, PRODUCT_ID, APPLICATION_DATE))
+                    .as(repository.getClass().getSimpleName())
+                    .map(segment -> segment.price().rate().priceList())
+                    .contains(EARLIER_START);
+            assertThat(new PriorityPriceService(repository).getPriorityPrices(List.of(request)))
+                    .as(repository.getClass().getSimpleName())
+                    .containsExactly(repository.findPriorityPrice(BRAND_ID, PRODUCT_ID, APPLICATION_DATE));
+        }
+        Optional<PriceSegment> stored = jdbcAdapter.findEffectivePrice(BRAND_ID, PRODUCT_ID, APPLICATION_DATE);
+        assertThat(stored).hasValueSatisfying(segment -> assertThat(segment.validFrom()).isEqualTo(LocalDateTime.of(2020, 7, 1, 0, 0, 0)));
+    }
+}
@@ -0,0 +1,103 @@
+package com.example.demo.adapter.outbound.r2dbc;
+
+import io.r2dbc.spi.ConnectionFactories;
+import io.r2dbc.spi.ConnectionFactory;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.Arguments;
+import org.junit.jupiter.params.provider.MethodSource;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.r2dbc.connection.init.ResourceDatabasePopulator;
+import org.springframework.r2dbc.core.DatabaseClient;
+import reactor.test.StepVerifier;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class R2dbcPriceAdapterTest {
+
+    private static final Integer BRAND_ID = 1;
+    private static final Integer PRODUCT_ID = 35455;
+
+    private static DatabaseClient databaseClient;
+    private static R2dbcPriceAdapter adapter;
+
+    @BeforeAll
+    static void setUp() {
+        ConnectionFactory connectionFactory = ConnectionFactories.get("r2dbc:h2:mem:///r2dbc-price-adapter-test");
+        new ResourceDatabasePopulator(new ClassPathResource("schema.sql"), new ClassPathResource("data.sql"))
+                .populate(connectionFactory)
+                .block();
+        databaseClient = DatabaseClient.create(connectionFactory);
+        adapter = new R2dbcPriceAdapter(databaseClient);
+    }
+
+    static Stream<Arguments> priorityPriceTestCases() {
+        return Stream.of(
+                Arguments.of(LocalDateTime.of(2020, 6, 14, 10, 0, 0), 1, "35.50"),
+                Arguments.of(LocalDateTime.of(2020, 6, 14, 16, 0, 0), 2, "25.45"),
+                Arguments.of(LocalDateTime.of(2020, 6, 14, 21, 0, 0), 1, "35.50"),
+                Arguments.of(LocalDateTime.of(2020, 6, 15, 10, 0, 0), 3, "30.50"),
+                Arguments.of(LocalDateTime.of(2020, 6, 16, 21, 0, 0), 4, "38.95")
+        );
+    }
+
+    @ParameterizedTest(name = "Query at {0} should return priceList {1}")
+    @MethodSource("priorityPriceTestCases")
+    @DisplayName("findPriorityPrice - Should emit the highest priority rate covering the date")
+    void findPriorityPrice_ShouldEmitHighestPriorityRate(LocalDateTime applicationDate, int expectedPriceList, String expectedAmount) {
+        StepVerifier.create(adapter.findPriorityPrice(BRAND_ID, PRODUCT_ID, applicationDate))
+                .assertNext(price -> {
+                    assertThat(price.brandId()).isEqualTo(BRAND_ID);
+                    assertThat(price.productId()).isEqualTo(PRODUCT_ID);
+                    assertThat(price.rate().priceList()).isEqualTo(expectedPriceList);
+                    assertThat(price.rate().price().amount()).isEqualByComparingTo(new BigDecimal(expectedAmount));
+                })
+                .verifyComplete();
+    }
+
+    @Test
+    @DisplayName("findPricesByBrandProductDate - Should emit every rate covering the date")
+    void findPricesByBrandProductDate_ShouldEmitOverlappingRates() {
+        StepVerifier.create(adapter.findPricesByBrandProductDate(BRAND_ID, PRODUCT_ID, LocalDateTime.of(2020, 6, 14, 16, 0, 0))
+                        .map(price -> price.rate().priceList())
+                        .sort())
+                .expectNext(1, 2)
+                .verifyComplete();
+    }
+
+    @Test
+    @DisplayName("findPriorityPrice - Should complete empty when no rate covers the date")
+    void findPriorityPrice_ShouldCompleteEmpty_WhenNoRateCoversDate() {
+        StepVerifier.create(adapter.findPriorityPrice(BRAND_ID, PRODUCT_ID, LocalDateTime.of(2019, 1, 1, 10, 0, 0)))
+                .verifyComplete();
+    }
+
+    @Test
+    @DisplayName("findPriorityPrice - Should complete empty for an unknown product")
+    void findPriorityPrice_ShouldCompleteEmpty_ForUnknownProduct() {
+        StepVerifier.create(adapter.findPriorityPrice(BRAND_ID, 99999, LocalDateTime.of(2020, 6, 14, 10, 0, 0)))
+                .verifyComplete();
+    }
+
+    @Test
+    @DisplayName("findPriorityPrice - Should emit the earlier-starting of two rates with the same priority")
+    void findPriorityPrice_ShouldPreferEarlierStart_WhenPrioritiesTie() {
+        // Given
+        databaseClient.sql("INSERT INTO PRICES (price_list, brand_id, product_id, start_date, end_date, priority, price, currency) "
+                        + "VALUES (5, 1, 35455, '2020-07-02 00:00:00', '2020-07-10 00:00:00', 5, 20.00, 'EUR'), "
+                        + "(6, 1, 35455, '2020-07-01 00:00:00', '2020-07-10 00:00:00', 5, 21.00, 'EUR')")
+                .then()
+                .block();
+
+        // When & Then
+        StepVerifier.create(adapter.findPriorityPrice(BRAND_ID, PRODUCT_ID, LocalDateTime.of(2020, 7, 3, 12, 0, 0)))
+                .assertNext(price -> assertThat(price.rate().priceList()).isEqualTo(6))
+                .verifyComplete();
+    }
+}
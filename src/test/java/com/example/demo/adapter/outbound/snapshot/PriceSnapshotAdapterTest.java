@@ -0,0 +1,178 @@
+package com.example.demo.adapter.outbound.snapshot;
+
+import com.example.demo.domain.model.Currency;
+import com.example.demo.domain.model.Money;
+import com.example.demo.domain.model.Price;
+import com.example.demo.domain.model.PriceSegment;
+import com.example.demo.domain.model.Rate;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.Arguments;
+import org.junit.jupiter.params.provider.MethodSource;
+
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class PriceSnapshotAdapterTest {
+
+    private static final Integer BRAND_ID = 1;
+    private static final Integer PRODUCT_ID = 35455;
+    private static final PriceSnapshotMark MARK = new PriceSnapshotMark(5, 5, 3);
+
+    @TempDir
+    private Path directory;
+
+    private List<Price> prices;
+    private PriceSnapshotAdapter adapter;
+
+    @BeforeEach
+    void setUp() throws IOException {
+        prices = List.of(
+                price(BRAND_ID, PRODUCT_ID, 4, LocalDateTime.of(2020, 6, 15, 16, 0, 0), LocalDateTime.of(2020, 12, 31, 23, 59, 59), 1, "38.95"),
+                price(BRAND_ID, PRODUCT_ID, 1, LocalDateTime.of(2020, 6, 14, 0, 0, 0), LocalDateTime.of(2020, 12, 31, 23, 59, 59), 0, "35.50"),
+                price(BRAND_ID, PRODUCT_ID, 3, LocalDateTime.of(2020, 6, 15, 0, 0, 0), LocalDateTime.of(2020, 6, 15, 11, 0, 0), 1, "30.50"),
+                price(BRAND_ID, PRODUCT_ID, 2, LocalDateTime.of(2020, 6, 14, 15, 0, 0), LocalDateTime.of(2020, 6, 14, 18, 30, 0), 1, "25.45"),
+                price(2, 1, 5, LocalDateTime.of(2020, 1, 1, 0, 0, 0), LocalDateTime.of(2020, 12, 31, 23, 59, 59), 0, "9.99")
+        );
+        Path snapshot = directory.resolve("prices.snapshot");
+        PriceSnapshotWriter.write(prices.iterator(), MARK, snapshot);
+        adapter = PriceSnapshotAdapter.open(snapshot);
+    }
+
+    static Stream<Arguments> priceQueryTestCases() {
+        return Stream.of(
+                Arguments.of(LocalDateTime.of(2020, 6, 14, 10, 0, 0), List.of(1), 1),
+                Arguments.of(LocalDateTime.of(2020, 6, 14, 16, 0, 0), List.of(1, 2), 2),
+                Arguments.of(LocalDateTime.of(2020, 6, 14, 21, 0, 0), List.of(1), 1),
+                Arguments.of(LocalDateTime.of(2020, 6, 15, 10, 0, 0), List.of(1, 3), 3),
+                Arguments.of(LocalDateTime.of(2020, 6, 16, 21, 0, 0), List.of(1, 4), 4),
+                Arguments.of(LocalDateTime.of(2020, 6, 14, 18, 30, 0), List.of(1, 2), 2),
+                Arguments.of(LocalDateTime.of(2020, 6, 14, 18, 30, 0, 500), List.of(1), 1)
+        );
+    }
+
+    @ParameterizedTest(name = "Query at {0} should return priceLists {1}")
+    @MethodSource("priceQueryTestCases")
+    @DisplayName("findPricesByBrandProductDate / findPriorityPrice - Should answer from the mapped snapshot")
+    void lookups_ShouldMatchWrittenRates(LocalDateTime applicationDate, List<Integer> expectedPriceLists, int expectedPriority) {
+        // When
+        List<Price> result = adapter.findPricesByBrandProductDate(BRAND_ID, PRODUCT_ID, applicationDate);
+
+        // Then
+        assertThat(result).extracting(price -> price.rate().priceList())
+                .containsExactlyInAnyOrderElementsOf(expectedPriceLists);
+        assertThat(adapter.findPriorityPrice(BRAND_ID, PRODUCT_ID, applicationDate))
+                .hasValueSatisfying(price -> assertThat(price.rate().priceList()).isEqualTo(expectedPriority));
+    }
+
+    @Test
+    @DisplayName("findPricesByBrandProduct - Should round-trip every field of the written rates")
+    void findPricesByBrandProduct_ShouldRoundTripRates() {
+        assertThat(adapter.findPricesByBrandProduct(BRAND_ID, PRODUCT_ID))
+                .containsExactlyInAnyOrderElementsOf(prices.subList(0, 4));
+        assertThat(adapter.findPricesByBrandProduct(2, 1)).containsExactly(prices.get(4));
+        assertThat(adapter.size()).isEqualTo(5);
+        assertThat(adapter.keyCount()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("Lookups - Should return nothing for unknown keys and dates outside every rate")
+    void lookups_ShouldReturnEmpty_WhenNothingMatches() {
+        assertThat(adapter.findPricesByBrandProductDate(BRAND_ID, 99999, LocalDateTime.of(2020, 6, 14, 10, 0, 0))).isEmpty();
+        assertThat(adapter.findPriorityPrice(3, PRODUCT_ID, LocalDateTime.of(2020, 6, 14, 10, 0, 0))).isEmpty();
+        assertThat(adapter.findPricesByBrandProductDate(BRAND_ID, PRODUCT_ID, LocalDateTime.of(2019, 1, 1, 10, 0, 0))).isEmpty();
+        assertThat(adapter.findPricesByBrandProduct(BRAND_ID, 99999)).isEmpty();
+    }
+
+    @Test
+    @DisplayName("write - Should reject prices that are not grouped by ascending brand and product")
+    void write_ShouldRejectUnorderedPrices() {
+        List<Price> unordered = List.of(prices.get(4), prices.get(0));
+
+        assertThatThrownBy(() -> PriceSnapshotWriter.write(unordered.iterator(), MARK, directory.resolve("unordered.snapshot")))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThat(directory.resolve("unordered.snapshot")).doesNotExist();
+    }
+
+    @Test
+    @DisplayName("open - Should reject a file that is not a price snapshot")
+    void open_ShouldRejectForeignFile() throws IOException {
+        Path foreign = Files.write(directory.resolve("foreign.snapshot"), new byte[64]);
+
+        assertThatThrownBy(() -> PriceSnapshotAdapter.open(foreign)).isInstanceOf(IllegalStateException.class);
+    }
+
+    @Test
+    @DisplayName("markOf - Should read the mark the snapshot was written at")
+    void markOf_ShouldReadWrittenMark() throws IOException {
+        assertThat(PriceSnapshotAdapter.markOf(directory.resolve("prices.snapshot"))).contains(MARK);
+    }
+
+    @Test
+    @DisplayName("markOf - Should be empty for a missing or foreign file, so the snapshot is rebuilt")
+    void markOf_ShouldBeEmpty_WhenNotASnapshot() throws IOException {
+        Path foreign = Files.write(directory.resolve("foreign.snapshot"), new byte[64]);
+        Path truncated = Files.write(directory.resolve("truncated.snapshot"), new byte[8]);
+
+        assertThat(PriceSnapshotAdapter.markOf(directory.resolve("missing.snapshot"))).isEmpty();
+        assertThat(PriceSnapshotAdapter.markOf(foreign)).isEmpty();
+        assertThat(PriceSnapshotAdapter.markOf(truncated)).isEmpty();
+    }
+
+    static Stream<Arguments> segmentTestCases() {
+        return Stream.of(
+                Arguments.of(LocalDateTime.of(2020, 6, 14, 10, 0, 0), 1,
+                        LocalDateTime.of(2020, 6, 14, 0, 0, 0), LocalDateTime.of(2020, 6, 14, 15, 0, 0)),
+                Arguments.of(LocalDateTime.of(2020, 6, 14, 16, 0, 0), 2,
+                        LocalDateTime.of(2020, 6, 14, 15, 0, 0), LocalDateTime.of(2020, 6, 14, 18, 30, 0, 1)),
+                Arguments.of(LocalDateTime.of(2020, 6, 14, 21, 0, 0), 1,
+                        LocalDateTime.of(2020, 6, 14, 18, 30, 0, 1), LocalDateTime.of(2020, 6, 15, 0, 0, 0)),
+                Arguments.of(LocalDateTime.of(2020, 6, 15, 10, 0, 0), 3,
+                        LocalDateTime.of(2020, 6, 15, 0, 0, 0), LocalDateTime.of(2020, 6, 15, 11, 0, 0, 1)),
+                Arguments.of(LocalDateTime.of(2020, 6, 16, 21, 0, 0), 4,
+                        LocalDateTime.of(2020, 6, 15, 16, 0, 0), LocalDateTime.of(2021, 1, 1, 0, 0, 0))
+        );
+    }
+
+    @ParameterizedTest(name = "Segment at {0} should be priceList {1} from {2} until {3}")
+    @MethodSource("segmentTestCases")
+    @DisplayName("findEffectivePrice - Should bound the winning rate by the rates beating it from the mapped snapshot")
+    void findEffectivePrice_ShouldBoundWinningRate(LocalDateTime applicationDate, int expectedPriceList,
+                                                   LocalDateTime expectedFrom, LocalDateTime expectedUntil) {
+        // When
+        Optional<PriceSegment> result = adapter.findEffectivePrice(BRAND_ID, PRODUCT_ID, applicationDate);
+
+        // Then
+        assertThat(result).hasValueSatisfying(segment -> {
+            assertThat(segment.price().rate().priceList()).isEqualTo(expectedPriceList);
+            assertThat(segment.validFrom()).isEqualTo(expectedFrom);
+            assertThat(segment.validUntil()).isEqualTo(expectedUntil);
+        });
+    }
+
+    @Test
+    @DisplayName("findEffectivePrice - Should return empty outside every rate and for unknown brand/products")
+    void findEffectivePrice_ShouldReturnEmpty_WhenNoRateCovers() {
+        assertThat(adapter.findEffectivePrice(BRAND_ID, PRODUCT_ID, LocalDateTime.of(2019, 1, 1, 10, 0, 0))).isEmpty();
+        assertThat(adapter.findEffectivePrice(BRAND_ID, PRODUCT_ID, LocalDateTime.of(2021, 1, 1, 0, 0, 0))).isEmpty();
+        assertThat(adapter.findEffectivePrice(BRAND_ID, 99999, LocalDateTime.of(2020, 6, 14, 10, 0, 0))).isEmpty();
+    }
+
+    private static Price price(Integer brandId, Integer productId, int priceList, LocalDateTime start, LocalDateTime end,
+                               int priority, String amount) {
+        return new Price(brandId, productId, new Rate(priceList, start, end, priority,
+                new Money(new BigDecimal(amount), Currency.EUR)));
+    }
+}
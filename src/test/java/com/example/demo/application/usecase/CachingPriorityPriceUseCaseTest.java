@@ -0,0 +1,192 @@
+package com.example.demo.application.usecase;
+
+import com.example.demo.adapter.inbound.rest.dto.PriceRequestDTO;
+import com.example.demo.domain.exception.ResourceNotFoundException;
+import com.example.demo.domain.model.Currency;
+import com.example.demo.domain.model.Money;
+import com.example.demo.domain.model.Price;
+import com.example.demo.domain.model.PriceSegment;
+import com.example.demo.domain.model.Rate;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.math.BigDecimal;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class CachingPriorityPriceUseCaseTest {
+
+    private static final Integer BRAND_ID = 1;
+    private static final Integer PRODUCT_ID = 35455;
+
+    @Mock
+    private PriorityPriceUseCase delegate;
+
+    private SimpleMeterRegistry meterRegistry;
+    private CachingPriorityPriceUseCase cachingUseCase;
+    private PriceSegment promotionSegment;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        cachingUseCase = new CachingPriorityPriceUseCase(delegate, 100, 2, Duration.ofMinutes(10), meterRegistry);
+        promotionSegment = segment(2, LocalDateTime.of(2020, 6, 14, 15, 0, 0), LocalDateTime.of(2020, 6, 14, 18, 30, 1));
+    }
+
+    @Test
+    @DisplayName("getPriorityPriceSegment - Should serve any date inside a cached segment without calling the delegate")
+    void getPriorityPriceSegment_ShouldHit_WhenDateFallsInCachedSegment() {
+        // Given
+        when(delegate.getPriorityPriceSegment(any(PriceRequestDTO.class))).thenReturn(promotionSegment);
+
+        // When
+        PriceSegment first = cachingUseCase.getPriorityPriceSegment(request(LocalDateTime.of(2020, 6, 14, 16, 0, 0)));
+        PriceSegment second = cachingUseCase.getPriorityPriceSegment(request(LocalDateTime.of(2020, 6, 14, 17, 12, 33)));
+        Price price = cachingUseCase.getPriorityPrice(request(LocalDateTime.of(2020, 6, 14, 18, 30, 0)));
+
+        // Then
+        assertThat(first).isSameAs(promotionSegment);
+        assertThat(second).isSameAs(promotionSegment);
+        assertThat(price.rate().priceList()).isEqualTo(2);
+        verify(delegate, times(1)).getPriorityPriceSegment(any(PriceRequestDTO.class));
+        assertThat(meterRegistry.counter("prices.cache.requests", "result", "hit").count()).isEqualTo(2);
+        assertThat(meterRegistry.counter("prices.cache.requests", "result", "miss").count()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("getPriorityPriceSegment - Should miss when the date falls outside cached segments")
+    void getPriorityPriceSegment_ShouldMiss_WhenDateOutsideCachedSegments() {
+        // Given
+        PriceSegment baseSegment = segment(1, LocalDateTime.of(2020, 6, 14, 0, 0, 0), LocalDateTime.of(2020, 6, 14, 15, 0, 0));
+        when(delegate.getPriorityPriceSegment(any(PriceRequestDTO.class))).thenReturn(promotionSegment, baseSegment);
+
+        // When
+        cachingUseCase.getPriorityPriceSegment(request(LocalDateTime.of(2020, 6, 14, 16, 0, 0)));
+        PriceSegment result = cachingUseCase.getPriorityPriceSegment(request(LocalDateTime.of(2020, 6, 14, 10, 0, 0)));
+
+        // Then
+        assertThat(result).isSameAs(baseSegment);
+        verify(delegate, times(2)).getPriorityPriceSegment(any(PriceRequestDTO.class));
+    }
+
+    @Test
+    @DisplayName("getPriorityPriceSegment - Should evict the segment farthest from the newest one when over the per-product limit")
+    void getPriorityPriceSegment_ShouldEvictFarthestSegment_WhenOverLimit() {
+        // Given
+        PriceSegment day14 = segment(1, LocalDateTime.of(2020, 6, 14, 0, 0, 0), LocalDateTime.of(2020, 6, 14, 15, 0, 0));
+        PriceSegment day15 = segment(3, LocalDateTime.of(2020, 6, 15, 0, 0, 0), LocalDateTime.of(2020, 6, 15, 11, 0, 1));
+        when(delegate.getPriorityPriceSegment(any(PriceRequestDTO.class))).thenReturn(day14, promotionSegment, day15, day14);
+
+        // When
+        cachingUseCase.getPriorityPriceSegment(request(LocalDateTime.of(2020, 6, 14, 10, 0, 0)));
+        cachingUseCase.getPriorityPriceSegment(request(LocalDateTime.of(2020, 6, 14, 16, 0, 0)));
+        cachingUseCase.getPriorityPriceSegment(request(LocalDateTime.of(2020, 6, 15, 10, 0, 0)));
+        cachingUseCase.getPriorityPriceSegment(request(LocalDateTime.of(2020, 6, 14, 10, 0, 0)));
+
+        // Then
+        verify(delegate, times(4)).getPriorityPriceSegment(any(PriceRequestDTO.class));
+        assertThat(meterRegistry.counter("prices.cache.evictions").count()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("invalidate - Should drop every cached segment of the brand/product")
+    void invalidate_ShouldDropCachedSegments() {
+        // Given
+        when(delegate.getPriorityPriceSegment(any(PriceRequestDTO.class))).thenReturn(promotionSegment);
+        cachingUseCase.getPriorityPriceSegment(request(LocalDateTime.of(2020, 6, 14, 16, 0, 0)));
+
+        // When
+        cachingUseCase.invalidate(BRAND_ID, PRODUCT_ID);
+        cachingUseCase.getPriorityPriceSegment(request(LocalDateTime.of(2020, 6, 14, 16, 0, 0)));
+
+        // Then
+        verify(delegate, times(2)).getPriorityPriceSegment(any(PriceRequestDTO.class));
+    }
+
+    @Test
+    @DisplayName("findPriorityPriceSegment - Should not cache a segment read before a write invalidated the product")
+    void findPriorityPriceSegment_ShouldNotStoreSegmentLoadedBeforeInvalidation() {
+        // Given: the write commits and invalidates while the miss holds the rates it read before it
+        PriceSegment repriced = segment(3, LocalDateTime.of(2020, 6, 14, 15, 0, 0), LocalDateTime.of(2020, 6, 14, 18, 30, 1));
+        when(delegate.findPriorityPriceSegment(any(PriceRequestDTO.class)))
+                .thenAnswer(invocation -> {
+                    cachingUseCase.priceSaved(repriced.price());
+                    return Optional.of(promotionSegment);
+                })
+                .thenReturn(Optional.of(repriced));
+
+        // When
+        Optional<PriceSegment> stale = cachingUseCase.findPriorityPriceSegment(request(LocalDateTime.of(2020, 6, 14, 16, 0, 0)));
+        Optional<PriceSegment> next = cachingUseCase.findPriorityPriceSegment(request(LocalDateTime.of(2020, 6, 14, 16, 0, 0)));
+        Optional<PriceSegment> cached = cachingUseCase.findPriorityPriceSegment(request(LocalDateTime.of(2020, 6, 14, 17, 0, 0)));
+
+        // Then
+        assertThat(stale).containsSame(promotionSegment);
+        assertThat(next).containsSame(repriced);
+        assertThat(cached).containsSame(repriced);
+        verify(delegate, times(2)).findPriorityPriceSegment(any(PriceRequestDTO.class));
+    }
+
+    @Test
+    @DisplayName("getPriorityPriceSegment - Should propagate not found without caching it")
+    void getPriorityPriceSegment_ShouldPropagateNotFound() {
+        // Given
+        when(delegate.getPriorityPriceSegment(any(PriceRequestDTO.class)))
+                .thenThrow(new ResourceNotFoundException("Price not found"));
+
+        // When & Then
+        assertThatThrownBy(() -> cachingUseCase.getPriorityPriceSegment(request(LocalDateTime.of(2019, 1, 1, 0, 0, 0))))
+                .isInstanceOf(ResourceNotFoundException.class);
+        assertThatThrownBy(() -> cachingUseCase.getPriorityPriceSegment(request(LocalDateTime.of(2019, 1, 1, 0, 0, 0))))
+                .isInstanceOf(ResourceNotFoundException.class);
+        verify(delegate, times(2)).getPriorityPriceSegment(any(PriceRequestDTO.class));
+    }
+
+    @Test
+    @DisplayName("findPriorityPriceSegment - Should cache found segments and pass empty results through uncached")
+    void findPriorityPriceSegment_ShouldCacheOnlyFoundSegments() {
+        // Given
+        when(delegate.findPriorityPriceSegment(any(PriceRequestDTO.class)))
+                .thenReturn(Optional.empty(), Optional.empty(), Optional.of(promotionSegment));
+
+        // When
+        Optional<PriceSegment> missing = cachingUseCase.findPriorityPriceSegment(request(LocalDateTime.of(2019, 1, 1, 0, 0, 0)));
+        cachingUseCase.findPriorityPriceSegment(request(LocalDateTime.of(2019, 1, 1, 0, 0, 0)));
+        Optional<PriceSegment> loaded = cachingUseCase.findPriorityPriceSegment(request(LocalDateTime.of(2020, 6, 14, 16, 0, 0)));
+        Optional<PriceSegment> cached = cachingUseCase.findPriorityPriceSegment(request(LocalDateTime.of(2020, 6, 14, 17, 0, 0)));
+
+        // Then
+        assertThat(missing).isEmpty();
+        assertThat(loaded).containsSame(promotionSegment);
+        assertThat(cached).containsSame(promotionSegment);
+        verify(delegate, times(3)).findPriorityPriceSegment(any(PriceRequestDTO.class));
+        assertThat(meterRegistry.counter("prices.cache.requests", "result", "hit").count()).isEqualTo(1);
+    }
+
+    private static PriceRequestDTO request(LocalDateTime applicationDate) {
+        return PriceRequestDTO.builder()
+                .brandId(BRAND_ID)
+                .productId(PRODUCT_ID)
+                .applicationDate(applicationDate)
+                .build();
+    }
+
+    private static PriceSegment segment(Integer priceList, LocalDateTime from, LocalDateTime until) {
+        Rate rate = new Rate(priceList, from, until.minusSeconds(1), 1, new Money(new BigDecimal("25.45"), Currency.EUR));
+        return new PriceSegment(new Price(BRAND_ID, PRODUCT_ID, rate), from, until);
+    }
+}
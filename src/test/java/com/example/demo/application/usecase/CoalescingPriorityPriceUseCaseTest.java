@@ -0,0 +1,203 @@
+package com.example.demo.application.usecase;
+
+import com.example.demo.adapter.inbound.rest.dto.PriceRequestDTO;
+import com.example.demo.domain.exception.ResourceNotFoundException;
+import com.example.demo.domain.model.Currency;
+import com.example.demo.domain.model.Money;
+import com.example.demo.domain.model.Price;
+import com.example.demo.domain.model.PriceSegment;
+import com.example.demo.domain.model.Rate;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class CoalescingPriorityPriceUseCaseTest {
+
+    private static final Integer BRAND_ID = 1;
+    private static final Integer PRODUCT_ID = 35455;
+
+    private PriorityPriceUseCase delegate;
+    private SimpleMeterRegistry meterRegistry;
+    private CoalescingPriorityPriceUseCase useCase;
+    private PriceSegment promotionSegment;
+    private CountDownLatch loading;
+    private CountDownLatch release;
+
+    @BeforeEach
+    void setUp() {
+        delegate = mock(PriorityPriceUseCase.class);
+        meterRegistry = new SimpleMeterRegistry();
+        useCase = new CoalescingPriorityPriceUseCase(delegate, meterRegistry);
+        promotionSegment = segment(2, LocalDateTime.of(2020, 6, 14, 15, 0, 0), LocalDateTime.of(2020, 6, 14, 18, 30, 1));
+        loading = new CountDownLatch(1);
+        release = new CountDownLatch(1);
+    }
+
+    @Test
+    @DisplayName("findPriorityPriceSegment - Should share one load between concurrent callers on virtual threads")
+    void findPriorityPriceSegment_ShouldCoalesceConcurrentMisses() throws Exception {
+        // Given
+        when(delegate.findPriorityPriceSegment(any(PriceRequestDTO.class))).thenAnswer(invocation -> {
+            loading.countDown();
+            release.await();
+            return Optional.of(promotionSegment);
+        });
+
+        try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            // When
+            List<Future<Optional<PriceSegment>>> results = new ArrayList<>();
+            results.add(executor.submit(() -> useCase.findPriorityPriceSegment(request(LocalDateTime.of(2020, 6, 14, 16, 0, 0)))));
+            assertThat(loading.await(5, TimeUnit.SECONDS)).isTrue();
+            for (int i = 0; i < 100; i++) {
+                LocalDateTime applicationDate = LocalDateTime.of(2020, 6, 14, 16, 0, 0).plusSeconds(i);
+                results.add(executor.submit(() -> useCase.findPriorityPriceSegment(request(applicationDate))));
+            }
+            awaitJoined(100);
+            release.countDown();
+
+            // Then
+            for (Future<Optional<PriceSegment>> result : results) {
+                assertThat(result.get(5, TimeUnit.SECONDS)).containsSame(promotionSegment);
+            }
+        }
+        verify(delegate, times(1)).findPriorityPriceSegment(any(PriceRequestDTO.class));
+        assertThat(meterRegistry.counter("prices.coalescing.requests", "result", "leader").count()).isEqualTo(1);
+        assertThat(meterRegistry.counter("prices.coalescing.requests", "result", "joined").count()).isEqualTo(100);
+        assertThat(meterRegistry.get("prices.coalescing.in_flight").gauge().value()).isZero();
+    }
+
+    @Test
+    @DisplayName("findPriorityPriceSegment - Should load again when the shared segment does not cover the caller's date")
+    void findPriorityPriceSegment_ShouldReload_WhenSharedSegmentDoesNotCoverDate() throws Exception {
+        // Given
+        PriceSegment baseSegment = segment(1, LocalDateTime.of(2020, 6, 14, 0, 0, 0), LocalDateTime.of(2020, 6, 14, 15, 0, 0));
+        when(delegate.findPriorityPriceSegment(any(PriceRequestDTO.class)))
+                .thenAnswer(invocation -> {
+                    loading.countDown();
+                    release.await();
+                    return Optional.of(promotionSegment);
+                })
+                .thenReturn(Optional.of(baseSegment));
+
+        try (ExecutorService executor = Executors.newFixedThreadPool(2)) {
+            // When
+            Future<Optional<PriceSegment>> leader = executor.submit(() -> useCase.findPriorityPriceSegment(request(LocalDateTime.of(2020, 6, 14, 16, 0, 0))));
+            assertThat(loading.await(5, TimeUnit.SECONDS)).isTrue();
+            Future<Optional<PriceSegment>> follower = executor.submit(() -> useCase.findPriorityPriceSegment(request(LocalDateTime.of(2020, 6, 14, 10, 0, 0))));
+            awaitJoined(1);
+            release.countDown();
+
+            // Then
+            assertThat(leader.get(5, TimeUnit.SECONDS)).containsSame(promotionSegment);
+            assertThat(follower.get(5, TimeUnit.SECONDS)).containsSame(baseSegment);
+        }
+        verify(delegate, times(2)).findPriorityPriceSegment(any(PriceRequestDTO.class));
+        assertThat(meterRegistry.counter("prices.coalescing.requests", "result", "reloaded").count()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("findPriorityPriceSegment - Should hand the leader's failure to every waiter")
+    void findPriorityPriceSegment_ShouldPropagateFailureToWaiters() throws Exception {
+        // Given
+        when(delegate.findPriorityPriceSegment(any(PriceRequestDTO.class))).thenAnswer(invocation -> {
+            loading.countDown();
+            release.await();
+            throw new IllegalStateException("Database connection failed");
+        });
+
+        try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            // When
+            Future<Optional<PriceSegment>> leader = executor.submit(() -> useCase.findPriorityPriceSegment(request(LocalDateTime.of(2020, 6, 14, 16, 0, 0))));
+            assertThat(loading.await(5, TimeUnit.SECONDS)).isTrue();
+            Future<Optional<PriceSegment>> follower = executor.submit(() -> useCase.findPriorityPriceSegment(request(LocalDateTime.of(2020, 6, 14, 16, 0, 0))));
+            awaitJoined(1);
+            release.countDown();
+
+            // Then
+            assertThatThrownBy(() -> leader.get(5, TimeUnit.SECONDS)).hasCauseInstanceOf(IllegalStateException.class);
+            assertThatThrownBy(() -> follower.get(5, TimeUnit.SECONDS)).hasCauseInstanceOf(IllegalStateException.class);
+        }
+        verify(delegate, times(1)).findPriorityPriceSegment(any(PriceRequestDTO.class));
+    }
+
+    @Test
+    @DisplayName("getPriorityPriceSegment - Should throw ResourceNotFoundException when the load finds nothing")
+    void getPriorityPriceSegment_ShouldThrow_WhenNotFound() {
+        // Given
+        when(delegate.findPriorityPriceSegment(any(PriceRequestDTO.class))).thenReturn(Optional.empty());
+
+        // When & Then
+        assertThatThrownBy(() -> useCase.getPriorityPriceSegment(request(LocalDateTime.of(2019, 1, 1, 0, 0, 0))))
+                .isInstanceOf(ResourceNotFoundException.class)
+                .hasMessageContaining("Price not found");
+    }
+
+    @Test
+    @DisplayName("priceSaved - Should let callers arriving after a write start a new load")
+    void priceSaved_ShouldDetachInFlightLoad() throws Exception {
+        // Given
+        when(delegate.findPriorityPriceSegment(any(PriceRequestDTO.class)))
+                .thenAnswer(invocation -> {
+                    loading.countDown();
+                    release.await();
+                    return Optional.of(promotionSegment);
+                })
+                .thenReturn(Optional.of(promotionSegment));
+
+        try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            // When
+            Future<Optional<PriceSegment>> stale = executor.submit(() -> useCase.findPriorityPriceSegment(request(LocalDateTime.of(2020, 6, 14, 16, 0, 0))));
+            assertThat(loading.await(5, TimeUnit.SECONDS)).isTrue();
+            useCase.priceSaved(promotionSegment.price());
+            Optional<PriceSegment> fresh = useCase.findPriorityPriceSegment(request(LocalDateTime.of(2020, 6, 14, 16, 0, 0)));
+            release.countDown();
+
+            // Then
+            assertThat(fresh).containsSame(promotionSegment);
+            assertThat(stale.get(5, TimeUnit.SECONDS)).containsSame(promotionSegment);
+        }
+        verify(delegate, times(2)).findPriorityPriceSegment(any(PriceRequestDTO.class));
+        assertThat(meterRegistry.counter("prices.coalescing.requests", "result", "joined").count()).isZero();
+    }
+
+    private void awaitJoined(int expected) throws InterruptedException {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (meterRegistry.counter("prices.coalescing.requests", "result", "joined").count() < expected) {
+            assertThat(System.nanoTime()).isLessThan(deadline);
+            Thread.sleep(1);
+        }
+    }
+
+    private static PriceRequestDTO request(LocalDateTime applicationDate) {
+        return PriceRequestDTO.builder()
+                .brandId(BRAND_ID)
+                .productId(PRODUCT_ID)
+                .applicationDate(applicationDate)
+                .build();
+    }
+
+    private static PriceSegment segment(Integer priceList, LocalDateTime from, LocalDateTime until) {
+        Rate rate = new Rate(priceList, from, until.minusSeconds(1), 1, new Money(new BigDecimal("25.45"), Currency.EUR));
+        return new PriceSegment(new Price(BRAND_ID, PRODUCT_ID, rate), from, until);
+    }
+}
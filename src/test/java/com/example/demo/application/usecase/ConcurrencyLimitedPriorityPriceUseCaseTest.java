@@ -0,0 +1,178 @@
+package com.example.demo.application.usecase;
+
+import com.example.demo.adapter.inbound.rest.dto.PriceRequestDTO;
+import com.example.demo.domain.exception.PriceLookupRejectedException;
+import com.example.demo.domain.model.Currency;
+import com.example.demo.domain.model.Money;
+import com.example.demo.domain.model.Price;
+import com.example.demo.domain.model.PriceSegment;
+import com.example.demo.domain.model.Rate;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class ConcurrencyLimitedPriorityPriceUseCaseTest {
+
+    private static final Duration LATENCY_TARGET = Duration.ofMillis(50);
+    private static final Duration SLOW = Duration.ofMillis(200);
+    private static final Duration FAST = Duration.ofMillis(5);
+
+    private PriorityPriceUseCase delegate;
+    private SimpleMeterRegistry meterRegistry;
+    private AtomicLong nanoTime;
+    private PriceSegment segment;
+
+    @BeforeEach
+    void setUp() {
+        delegate = mock(PriorityPriceUseCase.class);
+        meterRegistry = new SimpleMeterRegistry();
+        nanoTime = new AtomicLong();
+        Price price = new Price(1, 35455, new Rate(1,
+                LocalDateTime.of(2020, 6, 14, 0, 0, 0),
+                LocalDateTime.of(2020, 12, 31, 23, 59, 59),
+                0,
+                new Money(new BigDecimal("35.50"), Currency.EUR)));
+        segment = new PriceSegment(price, price.rate().startDate(), price.rate().endDate().plusNanos(1));
+    }
+
+    @Test
+    @DisplayName("findPriorityPriceSegment - Should reject lookups beyond the limit without calling the delegate")
+    void findPriorityPriceSegment_ShouldRejectOverflow() {
+        // Given
+        ConcurrencyLimitedPriorityPriceUseCase useCase = useCase(1, 1, 4);
+        when(delegate.findPriorityPriceSegment(any(PriceRequestDTO.class))).thenAnswer(invocation -> {
+            // A second lookup arrives while this one holds the only slot
+            assertThatThrownBy(() -> useCase.findPriorityPriceSegment(request()))
+                    .isInstanceOf(PriceLookupRejectedException.class)
+                    .hasMessage("Too many price lookups in progress (limit 1), retry later")
+                    .satisfies(ex -> assertThat(((PriceLookupRejectedException) ex).getRetryAfter()).isEqualTo(Duration.ofSeconds(2)));
+            return Optional.of(segment);
+        });
+
+        // When
+        Optional<PriceSegment> result = useCase.findPriorityPriceSegment(request());
+
+        // Then
+        assertThat(result).containsSame(segment);
+        assertThat(meterRegistry.get("prices.limiter.requests").tag("result", "accepted").counter().count()).isEqualTo(1);
+        assertThat(meterRegistry.get("prices.limiter.requests").tag("result", "rejected").counter().count()).isEqualTo(1);
+        assertThat(meterRegistry.get("prices.limiter.in_flight").gauge().value()).isZero();
+    }
+
+    @Test
+    @DisplayName("findPriorityPriceSegment - Should back off once for lookups slowed down by the same congestion")
+    void findPriorityPriceSegment_ShouldDecreaseOncePerRound() {
+        // Given
+        ConcurrencyLimitedPriorityPriceUseCase useCase = useCase(10, 4, 20);
+        when(delegate.findPriorityPriceSegment(any(PriceRequestDTO.class)))
+                .thenAnswer(invocation -> {
+                    // Both lookups start before either finishes, then both take longer than the target
+                    Optional<PriceSegment> nested = useCase.findPriorityPriceSegment(request());
+                    nanoTime.addAndGet(SLOW.toNanos());
+                    return nested;
+                })
+                .thenAnswer(invocation -> {
+                    nanoTime.addAndGet(SLOW.toNanos());
+                    return Optional.of(segment);
+                });
+
+        // When
+        useCase.findPriorityPriceSegment(request());
+
+        // Then
+        assertThat(useCase.limit()).isEqualTo(9.0);
+    }
+
+    @Test
+    @DisplayName("findPriorityPriceSegment - Should not go below the minimum limit")
+    void findPriorityPriceSegment_ShouldKeepMinimumLimit() {
+        // Given
+        ConcurrencyLimitedPriorityPriceUseCase useCase = useCase(4, 4, 20);
+        when(delegate.findPriorityPriceSegment(any(PriceRequestDTO.class))).thenAnswer(invocation -> {
+            nanoTime.addAndGet(SLOW.toNanos());
+            return Optional.of(segment);
+        });
+
+        // When
+        for (int i = 0; i < 10; i++) {
+            useCase.findPriorityPriceSegment(request());
+        }
+
+        // Then
+        assertThat(useCase.limit()).isEqualTo(4.0);
+        assertThat(meterRegistry.get("prices.limiter.limit").gauge().value()).isEqualTo(4.0);
+    }
+
+    @Test
+    @DisplayName("findPriorityPriceSegment - Should only grow a limit that is being used")
+    void findPriorityPriceSegment_ShouldGrowWhenUtilized() {
+        // Given
+        ConcurrencyLimitedPriorityPriceUseCase useCase = useCase(2, 1, 4);
+        when(delegate.findPriorityPriceSegment(any(PriceRequestDTO.class))).thenAnswer(invocation -> {
+            nanoTime.addAndGet(FAST.toNanos());
+            return Optional.of(segment);
+        });
+
+        // When
+        useCase.findPriorityPriceSegment(request());
+        double afterUsedLimit = useCase.limit();
+        useCase.findPriorityPriceSegment(request());
+
+        // Then: one lookup in flight uses half of 2 but not half of 2.5
+        assertThat(afterUsedLimit).isEqualTo(2.5);
+        assertThat(useCase.limit()).isEqualTo(2.5);
+    }
+
+    @Test
+    @DisplayName("getPriorityPrices - Should hold a slot without adjusting the limit")
+    void getPriorityPrices_ShouldNotAdjustLimit() {
+        // Given
+        ConcurrencyLimitedPriorityPriceUseCase useCase = useCase(1, 1, 4);
+        when(delegate.getPriorityPrices(anyList())).thenAnswer(invocation -> {
+            assertThatThrownBy(() -> useCase.findPriorityPriceSegment(request()))
+                    .isInstanceOf(PriceLookupRejectedException.class);
+            nanoTime.addAndGet(SLOW.toNanos());
+            return List.of(Optional.of(segment.price()));
+        });
+
+        // When
+        useCase.getPriorityPrices(List.of(request()));
+
+        // Then
+        assertThat(useCase.limit()).isEqualTo(1.0);
+    }
+
+    @Test
+    @DisplayName("constructor - Should reject inconsistent limits")
+    void constructor_ShouldRejectInconsistentLimits() {
+        assertThatThrownBy(() -> useCase(2, 4, 8)).isInstanceOf(IllegalArgumentException.class);
+    }
+
+    private ConcurrencyLimitedPriorityPriceUseCase useCase(int initialLimit, int minLimit, int maxLimit) {
+        return new ConcurrencyLimitedPriorityPriceUseCase(delegate, initialLimit, minLimit, maxLimit, LATENCY_TARGET, 0.9,
+                Duration.ofSeconds(2), meterRegistry, nanoTime::get);
+    }
+
+    private static PriceRequestDTO request() {
+        return PriceRequestDTO.builder()
+                .brandId(1)
+                .productId(35455)
+                .applicationDate(LocalDateTime.of(2020, 6, 14, 10, 0, 0))
+                .build();
+    }
+}
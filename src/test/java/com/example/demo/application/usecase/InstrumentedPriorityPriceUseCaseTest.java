@@ -0,0 +1,139 @@
+package com.example.demo.application.usecase;
+
+import com.example.demo.adapter.inbound.rest.dto.PriceRequestDTO;
+import com.example.demo.domain.exception.ResourceNotFoundException;
+import com.example.demo.domain.model.Currency;
+import com.example.demo.domain.model.Money;
+import com.example.demo.domain.model.Price;
+import com.example.demo.domain.model.PriceSegment;
+import com.example.demo.domain.model.Rate;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class InstrumentedPriorityPriceUseCaseTest {
+
+    private static final LocalDateTime APPLICATION_DATE = LocalDateTime.of(2020, 6, 14, 10, 0, 0);
+
+    private PriorityPriceUseCase delegate;
+    private SimpleMeterRegistry meterRegistry;
+    private InstrumentedPriorityPriceUseCase useCase;
+
+    @BeforeEach
+    void setUp() {
+        delegate = mock(PriorityPriceUseCase.class);
+        meterRegistry = new SimpleMeterRegistry();
+        useCase = new InstrumentedPriorityPriceUseCase(delegate, meterRegistry);
+    }
+
+    @Test
+    @DisplayName("getPriorityPrice - Should time found lookups without a brand tag")
+    void getPriorityPrice_ShouldTimeFoundLookups() {
+        // Given
+        PriceRequestDTO request = request(1);
+        Price price = price();
+        when(delegate.getPriorityPrice(request)).thenReturn(price);
+
+        // When
+        Price result = useCase.getPriorityPrice(request);
+
+        // Then
+        assertThat(result).isSameAs(price);
+        assertThat(meterRegistry.get("prices.lookup")
+                .tags("operation", "price", "outcome", "found")
+                .timer().count()).isEqualTo(1);
+        assertThat(meterRegistry.find("prices.lookup").tagKeys("brand").timer()).isNull();
+        assertThat(meterRegistry.find("prices.lookup.not_found").counter()).isNull();
+    }
+
+    @Test
+    @DisplayName("getPriorityPrice - Should count not-found lookups and rethrow")
+    void getPriorityPrice_ShouldCountNotFound() {
+        // Given
+        PriceRequestDTO request = request(2);
+        when(delegate.getPriorityPrice(request)).thenThrow(new ResourceNotFoundException("Price not found"));
+
+        // When & Then
+        assertThatThrownBy(() -> useCase.getPriorityPrice(request)).isInstanceOf(ResourceNotFoundException.class);
+        assertThat(meterRegistry.get("prices.lookup")
+                .tags("operation", "price", "outcome", "not_found")
+                .timer().count()).isEqualTo(1);
+        assertThat(meterRegistry.get("prices.lookup.not_found").tag("brand", "2").counter().count()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("findPriorityPriceSegment - Should count empty results as not found without an exception")
+    void findPriorityPriceSegment_ShouldCountNotFound() {
+        // Given
+        PriceRequestDTO request = request(3);
+        when(delegate.findPriorityPriceSegment(request)).thenReturn(Optional.empty());
+
+        // When
+        Optional<PriceSegment> result = useCase.findPriorityPriceSegment(request);
+
+        // Then
+        assertThat(result).isEmpty();
+        assertThat(meterRegistry.get("prices.lookup")
+                .tags("operation", "segment", "outcome", "not_found")
+                .timer().count()).isEqualTo(1);
+        assertThat(meterRegistry.get("prices.lookup.not_found").tag("brand", "3").counter().count()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("findPriorityPriceSegment - Should time failed lookups as errors and rethrow")
+    void findPriorityPriceSegment_ShouldTimeErrors() {
+        // Given
+        PriceRequestDTO request = request(1);
+        when(delegate.findPriorityPriceSegment(request)).thenThrow(new IllegalStateException("Connection is not available"));
+
+        // When & Then
+        assertThatThrownBy(() -> useCase.findPriorityPriceSegment(request)).isInstanceOf(IllegalStateException.class);
+        assertThat(meterRegistry.get("prices.lookup")
+                .tags("operation", "segment", "outcome", "error")
+                .timer().count()).isEqualTo(1);
+        assertThat(meterRegistry.find("prices.lookup.not_found").counter()).isNull();
+    }
+
+    @Test
+    @DisplayName("getPriorityPrices - Should time the batch and count missing items per brand")
+    void getPriorityPrices_ShouldCountMissingItems() {
+        // Given
+        List<PriceRequestDTO> requests = List.of(request(1), request(2), request(2));
+        when(delegate.getPriorityPrices(requests)).thenReturn(List.of(Optional.of(price()), Optional.empty(), Optional.empty()));
+
+        // When
+        useCase.getPriorityPrices(requests);
+
+        // Then
+        assertThat(meterRegistry.get("prices.lookup.batch").timer().count()).isEqualTo(1);
+        assertThat(meterRegistry.get("prices.lookup.not_found").tag("brand", "2").counter().count()).isEqualTo(2);
+        assertThat(meterRegistry.find("prices.lookup.not_found").tag("brand", "1").counter()).isNull();
+    }
+
+    private static PriceRequestDTO request(Integer brandId) {
+        return PriceRequestDTO.builder()
+                .brandId(brandId)
+                .productId(35455)
+                .applicationDate(APPLICATION_DATE)
+                .build();
+    }
+
+    private static Price price() {
+        return new Price(1, 35455, new Rate(1,
+                LocalDateTime.of(2020, 6, 14, 0, 0, 0),
+                LocalDateTime.of(2020, 12, 31, 23, 59, 59),
+                0,
+                new Money(new BigDecimal("35.50"), Currency.EUR)));
+    }
+}
@@ -0,0 +1,140 @@
+package com.example.demo.domain.model;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.Arguments;
+import org.junit.jupiter.params.provider.MethodSource;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Optional;
+import java.util.Random;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class PriceTimelineTest {
+
+    private static final Integer BRAND_ID = 1;
+    private static final Integer PRODUCT_ID = 35455;
+
+    private PriceTimeline timeline;
+
+    @BeforeEach
+    void setUp() {
+        timeline = PriceTimeline.of(List.of(
+                price(1, LocalDateTime.of(2020, 6, 14, 0, 0, 0), LocalDateTime.of(2020, 12, 31, 23, 59, 59), 0),
+                price(2, LocalDateTime.of(2020, 6, 14, 15, 0, 0), LocalDateTime.of(2020, 6, 14, 18, 30, 0), 1),
+                price(3, LocalDateTime.of(2020, 6, 15, 0, 0, 0), LocalDateTime.of(2020, 6, 15, 11, 0, 0), 1),
+                price(4, LocalDateTime.of(2020, 6, 15, 16, 0, 0), LocalDateTime.of(2020, 12, 31, 23, 59, 59), 1)
+        ));
+    }
+
+    static Stream<Arguments> segmentTestCases() {
+        return Stream.of(
+                Arguments.of(LocalDateTime.of(2020, 6, 14, 10, 0, 0), 1),
+                Arguments.of(LocalDateTime.of(2020, 6, 14, 16, 0, 0), 2),
+                Arguments.of(LocalDateTime.of(2020, 6, 14, 18, 30, 0), 2),
+                Arguments.of(LocalDateTime.of(2020, 6, 14, 18, 30, 1), 1),
+                Arguments.of(LocalDateTime.of(2020, 6, 14, 21, 0, 0), 1),
+                Arguments.of(LocalDateTime.of(2020, 6, 15, 10, 0, 0), 3),
+                Arguments.of(LocalDateTime.of(2020, 6, 16, 21, 0, 0), 4),
+                Arguments.of(LocalDateTime.of(2020, 12, 31, 23, 59, 59), 4)
+        );
+    }
+
+    @ParameterizedTest(name = "Segment at {0} should resolve priceList {1}")
+    @MethodSource("segmentTestCases")
+    @DisplayName("segmentAt - Should resolve the highest priority rate")
+    void segmentAt_ShouldResolveHighestPriorityRate(LocalDateTime date, Integer expectedPriceList) {
+        // When
+        Optional<PriceSegment> segment = timeline.segmentAt(date);
+
+        // Then
+        assertThat(segment).isPresent();
+        assertThat(segment.get().price().rate().priceList()).isEqualTo(expectedPriceList);
+        assertThat(segment.get().contains(date)).isTrue();
+    }
+
+    @Test
+    @DisplayName("segmentAt - Should return empty outside every rate")
+    void segmentAt_ShouldReturnEmpty_OutsideEveryRate() {
+        assertThat(timeline.segmentAt(LocalDateTime.of(2019, 1, 1, 10, 0, 0))).isEmpty();
+        assertThat(timeline.segmentAt(LocalDateTime.of(2021, 1, 1, 0, 0, 0))).isEmpty();
+    }
+
+    @Test
+    @DisplayName("segments - Should be non-overlapping and bounded by priority changes")
+    void segments_ShouldBeNonOverlapping() {
+        // When
+        List<PriceSegment> segments = timeline.segments();
+
+        // Then
+        assertThat(segments).extracting(segment -> segment.price().rate().priceList())
+                .containsExactly(1, 2, 1, 3, 1, 4);
+        assertThat(segments.get(1).validFrom()).isEqualTo(LocalDateTime.of(2020, 6, 14, 15, 0, 0));
+        assertThat(segments.get(1).validUntil()).isEqualTo(LocalDateTime.of(2020, 6, 14, 18, 30, 0).plusNanos(1));
+        for (int i = 1; i < segments.size(); i++) {
+            assertThat(segments.get(i).validFrom()).isEqualTo(segments.get(i - 1).validUntil());
+        }
+    }
+
+    @Test
+    @DisplayName("withRate/withoutRate - Should rebuild only from the changed rate set")
+    void withRateAndWithoutRate_ShouldRebuildTimeline() {
+        // Given
+        LocalDateTime date = LocalDateTime.of(2020, 6, 14, 10, 0, 0);
+        Price promotion = price(5, LocalDateTime.of(2020, 6, 14, 9, 0, 0), LocalDateTime.of(2020, 6, 14, 11, 0, 0), 2);
+
+        // When
+        PriceTimeline withPromotion = timeline.withRate(promotion);
+        PriceTimeline withoutPromotion = withPromotion.withoutRate(5);
+
+        // Then
+        assertThat(withPromotion.segmentAt(date)).get()
+                .extracting(segment -> segment.price().rate().priceList()).isEqualTo(5);
+        assertThat(withoutPromotion.segmentAt(date)).get()
+                .extracting(segment -> segment.price().rate().priceList()).isEqualTo(1);
+        assertThat(timeline.segmentAt(date)).get()
+                .extracting(segment -> segment.price().rate().priceList()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("segmentAt - Should match per-request priority resolution on random overlapping rates")
+    void segmentAt_ShouldMatchPerRequestResolution() {
+        // Given
+        Random random = new Random(7);
+        LocalDateTime origin = LocalDateTime.of(2020, 1, 1, 0, 0, 0);
+        List<Price> prices = new ArrayList<>();
+        for (int i = 0; i < 200; i++) {
+            LocalDateTime start = origin.plusHours(random.nextInt(5_000));
+            prices.add(price(i, start, start.plusHours(random.nextInt(300)), random.nextInt(10)));
+        }
+        PriceTimeline randomTimeline = PriceTimeline.of(prices);
+
+        for (int i = 0; i < 2_000; i++) {
+            LocalDateTime date = origin.plusHours(random.nextInt(5_500)).plusMinutes(random.nextInt(60));
+
+            // When
+            Optional<Integer> resolvedPriority = randomTimeline.segmentAt(date)
+                    .map(segment -> segment.price().rate().priority());
+
+            // Then
+            Optional<Integer> expectedPriority = prices.stream()
+                    .filter(price -> !price.rate().startDate().isAfter(date) && !price.rate().endDate().isBefore(date))
+                    .map(price -> price.rate().priority())
+                    .max(Comparator.naturalOrder());
+            assertThat(resolvedPriority).isEqualTo(expectedPriority);
+        }
+    }
+
+    private static Price price(Integer priceList, LocalDateTime start, LocalDateTime end, Integer priority) {
+        Rate rate = new Rate(priceList, start, end, priority, new Money(new BigDecimal("10.00"), Currency.EUR));
+        return new Price(BRAND_ID, PRODUCT_ID, rate);
+    }
+}
@@ -0,0 +1,72 @@
+package com.example.demo.domain.service;
+
+import com.example.demo.domain.model.Currency;
+import com.example.demo.domain.model.Money;
+import com.example.demo.domain.model.Price;
+import com.example.demo.domain.model.Rate;
+import com.example.demo.domain.repository.PriceExportRepository;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class PriceExportServiceTest {
+
+    private static final LocalDateTime APPLICATION_DATE = LocalDateTime.of(2020, 6, 14, 16, 0, 0);
+
+    @Test
+    @DisplayName("exportEffectivePrices - Should keep the highest priority rate of each product, in product order")
+    void exportEffectivePrices_ShouldResolveWinnerPerProduct() {
+        // Given
+        PriceExportRepository repository = mock(PriceExportRepository.class);
+        when(repository.streamPricesByBrandDate(1, APPLICATION_DATE)).thenReturn(Stream.of(
+                price(100, 1, 0, LocalDateTime.of(2020, 6, 14, 0, 0, 0)),
+                price(100, 2, 1, LocalDateTime.of(2020, 6, 14, 15, 0, 0)),
+                price(200, 3, 0, LocalDateTime.of(2020, 6, 1, 0, 0, 0)),
+                price(300, 5, 1, LocalDateTime.of(2020, 6, 10, 0, 0, 0)),
+                price(300, 4, 1, LocalDateTime.of(2020, 6, 5, 0, 0, 0))));
+        PriceExportService service = new PriceExportService(repository);
+
+        // When
+        List<Price> result;
+        try (Stream<Price> prices = service.exportEffectivePrices(1, APPLICATION_DATE)) {
+            result = prices.toList();
+        }
+
+        // Then
+        assertThat(result).extracting(price -> price.rate().priceList()).containsExactly(2, 3, 4);
+    }
+
+    @Test
+    @DisplayName("exportEffectivePrices - Should close the repository stream when the export is closed")
+    void exportEffectivePrices_ShouldCloseRepositoryStream() {
+        // Given
+        AtomicBoolean closed = new AtomicBoolean();
+        PriceExportRepository repository = mock(PriceExportRepository.class);
+        when(repository.streamPricesByBrandDate(1, APPLICATION_DATE)).thenReturn(Stream.<Price>empty().onClose(() -> closed.set(true)));
+
+        // When
+        try (Stream<Price> prices = new PriceExportService(repository).exportEffectivePrices(1, APPLICATION_DATE)) {
+            assertThat(prices).isEmpty();
+        }
+
+        // Then
+        assertThat(closed).isTrue();
+    }
+
+    private static Price price(Integer productId, Integer priceList, int priority, LocalDateTime startDate) {
+        return new Price(1, productId, new Rate(priceList,
+                startDate,
+                LocalDateTime.of(2020, 12, 31, 23, 59, 59),
+                priority,
+                new Money(new BigDecimal("35.50"), Currency.EUR)));
+    }
+}
@@ -0,0 +1,67 @@
+package com.example.demo.domain.service;
+
+import com.example.demo.adapter.inbound.rest.dto.PriceRequestDTO;
+import com.example.demo.domain.model.Currency;
+import com.example.demo.domain.model.Money;
+import com.example.demo.domain.model.Price;
+import com.example.demo.domain.model.Rate;
+import com.example.demo.domain.repository.PriceHistoryRepository;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class PriceHistoryServiceTest {
+
+    private static final LocalDateTime APPLICATION_DATE = LocalDateTime.of(2020, 6, 14, 16, 0, 0);
+    private static final LocalDateTime AS_OF = LocalDateTime.of(2024, 1, 1, 0, 0, 0);
+
+    @Test
+    @DisplayName("findPriorityPriceAsOf - Should resolve the highest priority, then the earliest start, among the versions")
+    void findPriorityPriceAsOf_ShouldResolveWinner() {
+        // Given
+        PriceHistoryRepository repository = mock(PriceHistoryRepository.class);
+        when(repository.findPricesByBrandProductDate(1, 35455, APPLICATION_DATE, AS_OF)).thenReturn(List.of(
+                price(1, 0, LocalDateTime.of(2020, 6, 14, 0, 0, 0)),
+                price(3, 1, LocalDateTime.of(2020, 6, 14, 15, 0, 0)),
+                price(2, 1, LocalDateTime.of(2020, 6, 14, 12, 0, 0))));
+        PriceHistoryService service = new PriceHistoryService(repository);
+
+        // When
+        Optional<Price> result = service.findPriorityPriceAsOf(request(), AS_OF);
+
+        // Then
+        assertThat(result).hasValueSatisfying(price -> assertThat(price.rate().priceList()).isEqualTo(2));
+    }
+
+    @Test
+    @DisplayName("findPriorityPriceAsOf - Should return empty when no version applied")
+    void findPriorityPriceAsOf_ShouldBeEmpty_WhenNoVersion() {
+        // Given
+        PriceHistoryRepository repository = mock(PriceHistoryRepository.class);
+        when(repository.findPricesByBrandProductDate(1, 35455, APPLICATION_DATE, AS_OF)).thenReturn(List.of());
+
+        // When / Then
+        assertThat(new PriceHistoryService(repository).findPriorityPriceAsOf(request(), AS_OF)).isEmpty();
+    }
+
+    private static PriceRequestDTO request() {
+        return PriceRequestDTO.builder()
+                .brandId(1)
+                .productId(35455)
+                .applicationDate(APPLICATION_DATE)
+                .build();
+    }
+
+    private static Price price(Integer priceList, int priority, LocalDateTime startDate) {
+        return new Price(1, 35455, new Rate(priceList, startDate, LocalDateTime.of(2020, 12, 31, 23, 59, 59), priority,
+                new Money(new BigDecimal("25.45"), Currency.EUR)));
+    }
+}
@@ -0,0 +1,163 @@
+package com.example.demo.domain.service;
+
+import com.example.demo.domain.model.Currency;
+import com.example.demo.domain.model.Money;
+import com.example.demo.domain.model.Price;
+import com.example.demo.domain.model.PriceImportReport;
+import com.example.demo.domain.model.Rate;
+import com.example.demo.domain.repository.PriceChangeListener;
+import com.example.demo.domain.repository.PriceImportRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.StringReader;
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+class PriceImportServiceTest {
+
+    // "<priceList>" for a valid line, "bad" for an invalid one, "#" for a line to skip
+    private static final Function<String, Price> PARSER = line -> {
+        if (line.startsWith("#")) {
+            return null;
+        }
+        int priceList = Integer.parseInt(line);
+        Rate rate = new Rate(priceList, LocalDateTime.of(2020, 6, 14, 0, 0, 0), LocalDateTime.of(2020, 12, 31, 23, 59, 59), 0,
+                new Money(new BigDecimal("35.50"), Currency.EUR));
+        return new Price(1, 35455, rate);
+    };
+
+    private List<List<Integer>> committed;
+    private PriceChangeListener listener;
+    private SimpleMeterRegistry meterRegistry;
+    private PriceImportService service;
+
+    @BeforeEach
+    void setUp() {
+        committed = new CopyOnWriteArrayList<>();
+        listener = mock(PriceChangeListener.class);
+        meterRegistry = new SimpleMeterRegistry();
+    }
+
+    @AfterEach
+    void tearDown() {
+        service.close();
+    }
+
+    @Test
+    @DisplayName("importPrices - Should commit every chunk in file order while parsing in parallel")
+    void importPrices_ShouldCommitChunksInOrder() {
+        // Given
+        service = new PriceImportService(recording(), List.of(listener), 10, 4, meterRegistry);
+
+        // When
+        PriceImportReport report = service.importPrices(lines(IntStream.rangeClosed(1, 1005).mapToObj(String::valueOf)), PARSER);
+
+        // Then
+        assertThat(report.completed()).isTrue();
+        assertThat(report.read()).isEqualTo(1005);
+        assertThat(report.imported()).isEqualTo(1005);
+        assertThat(report.chunks()).isEqualTo(101);
+        assertThat(committed).hasSize(101);
+        assertThat(committed.stream().flatMap(List::stream)).containsExactlyElementsOf(IntStream.rangeClosed(1, 1005).boxed().toList());
+        verify(listener, times(101)).pricesSaved(anyCollection());
+        verify(listener, never()).priceSaved(any(Price.class));
+        assertThat(meterRegistry.counter("prices.import.rows", "outcome", "imported").count()).isEqualTo(1005);
+        assertThat(meterRegistry.get("prices.import.commit").timer().count()).isEqualTo(101);
+    }
+
+    @Test
+    @DisplayName("importPrices - Should reject invalid lines with their line number and import the rest")
+    void importPrices_ShouldRejectInvalidLines() {
+        // Given
+        service = new PriceImportService(recording(), List.of(listener), 2, 2, meterRegistry);
+
+        // When
+        PriceImportReport report = service.importPrices(lines(Stream.of("# header", "1", "bad", "", "2", "3")), PARSER);
+
+        // Then
+        assertThat(report.completed()).isTrue();
+        assertThat(report.read()).isEqualTo(4);
+        assertThat(report.imported()).isEqualTo(3);
+        assertThat(report.rejected()).isEqualTo(1);
+        assertThat(report.errors()).singleElement().asString().startsWith("line 3: ");
+        assertThat(committed.stream().flatMap(List::stream)).containsExactly(1, 2, 3);
+        assertThat(meterRegistry.counter("prices.import.rows", "outcome", "rejected").count()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("importPrices - Should stop at the first chunk that cannot be stored and keep earlier chunks")
+    void importPrices_ShouldStop_WhenChunkCannotBeStored() {
+        // Given
+        PriceImportRepository repository = prices -> {
+            if (prices.stream().anyMatch(price -> price.rate().priceList() == 25)) {
+                throw new IllegalArgumentException("Rates reference an unknown brand/product or reuse an existing price list");
+            }
+            committed.add(prices.stream().map(price -> price.rate().priceList()).toList());
+        };
+        service = new PriceImportService(repository, List.of(listener), 10, 2, meterRegistry);
+
+        // When
+        PriceImportReport report = service.importPrices(lines(IntStream.rangeClosed(1, 100).mapToObj(String::valueOf)), PARSER);
+
+        // Then
+        assertThat(report.completed()).isFalse();
+        assertThat(report.failure()).startsWith("Lines 21-30 and everything after them were not imported: ");
+        assertThat(report.imported()).isEqualTo(20);
+        assertThat(committed).hasSize(2);
+        verify(listener, times(2)).pricesSaved(anyCollection());
+    }
+
+    @Test
+    @DisplayName("importPrices - Should report the line that could not be read, counting lines not yet committed")
+    void importPrices_ShouldReportUnreadableLine() {
+        // Given
+        service = new PriceImportService(recording(), List.of(listener), 10, 2, meterRegistry);
+        BufferedReader failing = new BufferedReader(new StringReader("")) {
+            private int served;
+
+            @Override
+            public String readLine() throws IOException {
+                if (served == 15) {
+                    throw new IOException("Connection reset");
+                }
+                return String.valueOf(++served);
+            }
+        };
+
+        // When
+        PriceImportReport report = service.importPrices(failing, PARSER);
+
+        // Then
+        assertThat(report.completed()).isFalse();
+        assertThat(report.failure()).isEqualTo("Could not read line 16: Connection reset");
+    }
+
+    private PriceImportRepository recording() {
+        // The service commits from the caller's thread only, so the order of this list is the commit order
+        return prices -> committed.add(prices.stream().map(price -> price.rate().priceList()).toList());
+    }
+
+    private static BufferedReader lines(Stream<String> lines) {
+        return new BufferedReader(new StringReader(lines.collect(Collectors.joining("\n"))));
+    }
+}
@@ -0,0 +1,128 @@
+package com.example.demo.domain.service;
+
+import com.example.demo.domain.exception.PriceVersionConflictException;
+import com.example.demo.domain.exception.ResourceNotFoundException;
+import com.example.demo.domain.model.Currency;
+import com.example.demo.domain.model.Money;
+import com.example.demo.domain.model.Price;
+import com.example.demo.domain.model.PriceKey;
+import com.example.demo.domain.model.PriceUpsert;
+import com.example.demo.domain.model.Rate;
+import com.example.demo.domain.model.VersionedPrice;
+import com.example.demo.domain.repository.PriceChangeListener;
+import com.example.demo.domain.repository.PriceWriteRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class PriceWriteServiceTest {
+
+    private static final Integer BRAND_ID = 1;
+    private static final Integer PRODUCT_ID = 35455;
+
+    @Mock
+    private PriceWriteRepository repository;
+
+    @Mock
+    private PriceChangeListener listener;
+
+    private PriceWriteService service;
+
+    @BeforeEach
+    void setUp() {
+        service = new PriceWriteService(repository, List.of(listener));
+    }
+
+    @Test
+    @DisplayName("createPrice - Should notify listeners with the stored rate")
+    void createPrice_ShouldNotifyListeners() {
+        // Given
+        VersionedPrice stored = new VersionedPrice(price(5), 0);
+        when(repository.create(price(null))).thenReturn(stored);
+
+        // When
+        VersionedPrice result = service.createPrice(price(null));
+
+        // Then
+        assertThat(result).isEqualTo(stored);
+        verify(listener).priceSaved(stored.price());
+    }
+
+    @Test
+    @DisplayName("updatePrice - Should not notify listeners when the version conflicts")
+    void updatePrice_ShouldNotNotifyOnConflict() {
+        // Given
+        when(repository.update(price(2), 0)).thenThrow(new PriceVersionConflictException(2, 0, 1));
+
+        // When / Then
+        assertThatThrownBy(() -> service.updatePrice(price(2), 0))
+                .isInstanceOf(PriceVersionConflictException.class);
+        verifyNoInteractions(listener);
+    }
+
+    @Test
+    @DisplayName("deletePrice - Should delete under the rate's brand/product and notify listeners")
+    void deletePrice_ShouldNotifyListeners() {
+        // Given
+        when(repository.findByPriceList(3)).thenReturn(Optional.of(new VersionedPrice(price(3), 4)));
+        when(repository.delete(new PriceKey(BRAND_ID, PRODUCT_ID), 3, 4)).thenReturn(price(3));
+
+        // When
+        service.deletePrice(3, 4);
+
+        // Then
+        verify(listener).priceDeleted(BRAND_ID, PRODUCT_ID, 3);
+    }
+
+    @Test
+    @DisplayName("deletePrice - Should throw ResourceNotFoundException for an unknown price list")
+    void deletePrice_ShouldThrowWhenMissing() {
+        // Given
+        when(repository.findByPriceList(99)).thenReturn(Optional.empty());
+
+        // When / Then
+        assertThatThrownBy(() -> service.deletePrice(99, 0))
+                .isInstanceOf(ResourceNotFoundException.class)
+                .hasMessage("Price not found with id: 99");
+        verifyNoInteractions(listener);
+    }
+
+    @Test
+    @DisplayName("upsertPrices - Should notify listeners once with every stored rate")
+    void upsertPrices_ShouldNotifyStoredRatesTogether() {
+        // Given
+        List<PriceUpsert> upserts = List.of(new PriceUpsert(price(1), 0L), new PriceUpsert(price(null), null));
+        List<VersionedPrice> stored = List.of(new VersionedPrice(price(1), 1), new VersionedPrice(price(5), 0));
+        when(repository.upsertAll(upserts)).thenReturn(stored);
+
+        // When
+        List<VersionedPrice> result = service.upsertPrices(upserts);
+
+        // Then
+        assertThat(result).isEqualTo(stored);
+        verify(listener).pricesSaved(List.of(price(1), price(5)));
+    }
+
+    private static Price price(Integer priceList) {
+        return new Price(BRAND_ID, PRODUCT_ID, new Rate(priceList,
+                LocalDateTime.of(2020, 6, 14, 0, 0, 0),
+                LocalDateTime.of(2020, 12, 31, 23, 59, 59),
+                0,
+                new Money(new BigDecimal("35.50"), Currency.EUR)));
+    }
+}
@@ -5,6 +5,8 @@ import com.example.demo.domain.exception.ResourceNotFoundException;
 import com.example.demo.domain.model.Currency;
 import com.example.demo.domain.model.Money;
 import com.example.demo.domain.model.Price;
+import com.example.demo.domain.model.PriceQuery;
+import com.example.demo.domain.model.PriceSegment;
 import com.example.demo.domain.model.Rate;
 import com.example.demo.domain.repository.PriceRepository;
 import org.junit.jupiter.api.BeforeEach;
@@ -19,9 +21,12 @@ import java.math.BigDecimal;
 import java.time.LocalDateTime;
 import java.util.Collections;
 import java.util.List;
+import java.util.Map;
+import java.util.Optional;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.anyList;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
@@ -75,6 +80,7 @@ class PriorityPriceServiceTest {
     @DisplayName("getPriorityPrice - Should return price when single price found")
     void getPriorityPrice_ShouldReturnPrice_WhenSinglePriceExists() {
         // Given
+        when(priceRepository.findPriorityPrice(BRAND_ID, PRODUCT_ID, APPLICATION_DATE)).thenCallRealMethod();
         when(priceRepository.findPricesByBrandProductDate(BRAND_ID, PRODUCT_ID, APPLICATION_DATE))
                 .thenReturn(List.of(lowPriorityPrice));
 
@@ -96,6 +102,7 @@ class PriorityPriceServiceTest {
     @DisplayName("getPriorityPrice - Should throw ResourceNotFoundException when no prices found")
     void getPriorityPrice_ShouldThrowException_WhenNoPricesFound() {
         // Given
+        when(priceRepository.findPriorityPrice(BRAND_ID, PRODUCT_ID, APPLICATION_DATE)).thenCallRealMethod();
         when(priceRepository.findPricesByBrandProductDate(BRAND_ID, PRODUCT_ID, APPLICATION_DATE))
                 .thenReturn(Collections.emptyList());
 
@@ -113,6 +120,7 @@ class PriorityPriceServiceTest {
     @DisplayName("getPriorityPrice - Should call repository with correct parameters")
     void getPriorityPrice_ShouldCallRepositoryWithCorrectParameters() {
         // Given
+        when(priceRepository.findPriorityPrice(BRAND_ID, PRODUCT_ID, APPLICATION_DATE)).thenCallRealMethod();
         when(priceRepository.findPricesByBrandProductDate(BRAND_ID, PRODUCT_ID, APPLICATION_DATE))
                 .thenReturn(List.of(lowPriorityPrice));
 
@@ -127,6 +135,7 @@ class PriorityPriceServiceTest {
     @DisplayName("getPriorityPrice - Should select highest priority when multiple prices exist")
     void getPriorityPrice_ShouldSelectHighestPriority_WhenMultiplePricesExist() {
         // Given
+        when(priceRepository.findPriorityPrice(BRAND_ID, PRODUCT_ID, APPLICATION_DATE)).thenCallRealMethod();
         when(priceRepository.findPricesByBrandProductDate(BRAND_ID, PRODUCT_ID, APPLICATION_DATE))
                 .thenReturn(List.of(lowPriorityPrice, highPriorityPrice));
 
@@ -146,6 +155,7 @@ class PriorityPriceServiceTest {
     @DisplayName("getPriorityPrice - Should select highest priority regardless of list order")
     void getPriorityPrice_ShouldSelectHighestPriority_RegardlessOfListOrder() {
         // Given - high priority price comes first in the list
+        when(priceRepository.findPriorityPrice(BRAND_ID, PRODUCT_ID, APPLICATION_DATE)).thenCallRealMethod();
         when(priceRepository.findPricesByBrandProductDate(BRAND_ID, PRODUCT_ID, APPLICATION_DATE))
                 .thenReturn(List.of(highPriorityPrice, lowPriorityPrice));
 
@@ -161,6 +171,7 @@ class PriorityPriceServiceTest {
     @DisplayName("getPriorityPrice - Should return price with correct date range")
     void getPriorityPrice_ShouldReturnPriceWithCorrectDateRange() {
         // Given
+        when(priceRepository.findPriorityPrice(BRAND_ID, PRODUCT_ID, APPLICATION_DATE)).thenCallRealMethod();
         when(priceRepository.findPricesByBrandProductDate(BRAND_ID, PRODUCT_ID, APPLICATION_DATE))
                 .thenReturn(List.of(lowPriorityPrice));
 
@@ -171,5 +182,74 @@ class PriorityPriceServiceTest {
         assertThat(result.rate().startDate()).isEqualTo(LocalDateTime.of(2020, 6, 14, 0, 0, 0));
         assertThat(result.rate().endDate()).isEqualTo(LocalDateTime.of(2020, 12, 31, 23, 59, 59));
     }
-}
 
+    @Test
+    @DisplayName("getPriorityPriceSegment - Should return the effective segment resolved by the repository")
+    void getPriorityPriceSegment_ShouldReturnSegment_WhenFound() {
+        // Given
+        PriceSegment segment = new PriceSegment(highPriorityPrice,
+                LocalDateTime.of(2020, 6, 14, 15, 0, 0),
+                LocalDateTime.of(2020, 6, 14, 18, 30, 1));
+        when(priceRepository.findEffectivePrice(BRAND_ID, PRODUCT_ID, APPLICATION_DATE))
+                .thenReturn(Optional.of(segment));
+
+        // When
+        PriceSegment result = priorityPriceService.getPriorityPriceSegment(request);
+
+        // Then
+        assertThat(result).isSameAs(segment);
+        verify(priceRepository).findEffectivePrice(BRAND_ID, PRODUCT_ID, APPLICATION_DATE);
+    }
+
+    @Test
+    @DisplayName("getPriorityPriceSegment - Should throw ResourceNotFoundException when no segment covers the date")
+    void getPriorityPriceSegment_ShouldThrowException_WhenNoSegmentFound() {
+        // Given
+        when(priceRepository.findEffectivePrice(BRAND_ID, PRODUCT_ID, APPLICATION_DATE))
+                .thenReturn(Optional.empty());
+
+        // When & Then
+        assertThatThrownBy(() -> priorityPriceService.getPriorityPriceSegment(request))
+                .isInstanceOf(ResourceNotFoundException.class)
+                .hasMessageContaining("Price not found");
+    }
+
+    @Test
+    @DisplayName("findPriorityPriceSegment - Should report a missing segment as empty instead of throwing")
+    void findPriorityPriceSegment_ShouldReturnEmpty_WhenNoSegmentFound() {
+        // Given
+        when(priceRepository.findEffectivePrice(BRAND_ID, PRODUCT_ID, APPLICATION_DATE))
+                .thenReturn(Optional.empty());
+
+        // When
+        Optional<PriceSegment> result = priorityPriceService.findPriorityPriceSegment(request);
+
+        // Then
+        assertThat(result).isEmpty();
+        assertThat(PriorityPriceService.notFoundMessage(request))
+                .isEqualTo("Price not found for brandId=1, productId=35455, applicationDate=2020-06-14T10:00");
+    }
+
+    @Test
+    @DisplayName("getPriorityPrices - Should resolve each lookup of the batch, keeping not found ones empty")
+    void getPriorityPrices_ShouldResolveEachLookup() {
+        // Given
+        PriceRequestDTO unknownRequest = PriceRequestDTO.builder()
+                .brandId(BRAND_ID)
+                .productId(99999)
+                .applicationDate(APPLICATION_DATE)
+                .build();
+        PriceQuery query = new PriceQuery(BRAND_ID, PRODUCT_ID, APPLICATION_DATE);
+        when(priceRepository.findPricesByBrandProductDates(anyList()))
+                .thenReturn(Map.of(query, List.of(lowPriorityPrice, highPriorityPrice)));
+
+        // When
+        List<Optional<Price>> result = priorityPriceService.getPriorityPrices(List.of(request, unknownRequest));
+
+        // Then
+        assertThat(result).hasSize(2);
+        assertThat(result.get(0)).contains(highPriorityPrice);
+        assertThat(result.get(1)).isEmpty();
+        verify(priceRepository).findPricesByBrandProductDates(anyList());
+    }
+}
@@ -0,0 +1,110 @@
+package com.example.demo.domain.service;
+
+import com.example.demo.adapter.inbound.rest.dto.PriceRequestDTO;
+import com.example.demo.domain.exception.ResourceNotFoundException;
+import com.example.demo.domain.model.Currency;
+import com.example.demo.domain.model.Money;
+import com.example.demo.domain.model.Price;
+import com.example.demo.domain.model.Rate;
+import com.example.demo.domain.repository.ReactivePriceRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import reactor.core.publisher.Flux;
+import reactor.test.StepVerifier;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class ReactivePriorityPriceServiceTest {
+
+    @Mock
+    private ReactivePriceRepository priceRepository;
+
+    @InjectMocks
+    private ReactivePriorityPriceService priorityPriceService;
+
+    private static final Integer BRAND_ID = 1;
+    private static final Integer PRODUCT_ID = 35455;
+    private static final LocalDateTime APPLICATION_DATE = LocalDateTime.of(2020, 6, 14, 16, 0, 0);
+
+    private PriceRequestDTO request;
+    private Price lowPriorityPrice;
+    private Price highPriorityPrice;
+
+    @BeforeEach
+    void setUp() {
+        request = PriceRequestDTO.builder()
+                .brandId(BRAND_ID)
+                .productId(PRODUCT_ID)
+                .applicationDate(APPLICATION_DATE)
+                .build();
+        lowPriorityPrice = new Price(BRAND_ID, PRODUCT_ID, new Rate(1,
+                LocalDateTime.of(2020, 6, 14, 0, 0, 0),
+                LocalDateTime.of(2020, 12, 31, 23, 59, 59),
+                0,
+                new Money(new BigDecimal("35.50"), Currency.EUR)));
+        highPriorityPrice = new Price(BRAND_ID, PRODUCT_ID, new Rate(2,
+                LocalDateTime.of(2020, 6, 14, 15, 0, 0),
+                LocalDateTime.of(2020, 6, 14, 18, 30, 0),
+                1,
+                new Money(new BigDecimal("25.45"), Currency.EUR)));
+    }
+
+    @Test
+    @DisplayName("getPriorityPrice - Should emit the highest priority price")
+    void getPriorityPrice_ShouldEmitHighestPriority() {
+        // Given
+        when(priceRepository.findPriorityPrice(BRAND_ID, PRODUCT_ID, APPLICATION_DATE)).thenCallRealMethod();
+        when(priceRepository.findPricesByBrandProductDate(BRAND_ID, PRODUCT_ID, APPLICATION_DATE))
+                .thenReturn(Flux.just(lowPriorityPrice, highPriorityPrice));
+
+        // When & Then
+        StepVerifier.create(priorityPriceService.getPriorityPrice(request))
+                .expectNext(highPriorityPrice)
+                .verifyComplete();
+    }
+
+    @Test
+    @DisplayName("getPriorityPrice - Should signal ResourceNotFoundException when no prices found")
+    void getPriorityPrice_ShouldSignalNotFound_WhenNoPricesFound() {
+        // Given
+        when(priceRepository.findPriorityPrice(BRAND_ID, PRODUCT_ID, APPLICATION_DATE)).thenCallRealMethod();
+        when(priceRepository.findPricesByBrandProductDate(BRAND_ID, PRODUCT_ID, APPLICATION_DATE))
+                .thenReturn(Flux.empty());
+
+        // When & Then
+        StepVerifier.create(priorityPriceService.getPriorityPrice(request))
+                .expectErrorSatisfies(error -> assertThat(error)
+                        .isInstanceOf(ResourceNotFoundException.class)
+                        .hasMessage(PriorityPriceService.notFoundMessage(request)))
+                .verify();
+    }
+
+    @Test
+    @DisplayName("getPriorityPrice - Should emit the earlier-starting price when priorities tie, like the servlet stack")
+    void getPriorityPrice_ShouldPreferEarlierStart_WhenPrioritiesTie() {
+        // Given
+        Price laterStart = new Price(BRAND_ID, PRODUCT_ID, new Rate(3,
+                LocalDateTime.of(2020, 6, 14, 15, 30, 0),
+                LocalDateTime.of(2020, 6, 14, 18, 30, 0),
+                1,
+                new Money(new BigDecimal("20.00"), Currency.EUR)));
+        when(priceRepository.findPriorityPrice(BRAND_ID, PRODUCT_ID, APPLICATION_DATE)).thenCallRealMethod();
+        when(priceRepository.findPricesByBrandProductDate(BRAND_ID, PRODUCT_ID, APPLICATION_DATE))
+                .thenReturn(Flux.just(laterStart, lowPriorityPrice, highPriorityPrice));
+
+        // When & Then
+        StepVerifier.create(priorityPriceService.getPriorityPrice(request))
+                .expectNext(highPriorityPrice)
+                .verifyComplete();
+    }
+}
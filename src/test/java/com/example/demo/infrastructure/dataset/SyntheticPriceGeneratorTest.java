@@ -0,0 +1,97 @@
+package com.example.demo.infrastructure.dataset;
+
+import com.example.demo.domain.model.Price;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class SyntheticPriceGeneratorTest {
+
+    private static final LocalDateTime FROM = LocalDateTime.of(2020, 1, 1, 0, 0, 0);
+    private static final LocalDateTime TO = LocalDateTime.of(2021, 1, 1, 0, 0, 0);
+
+    private final SyntheticPriceSpec spec = new SyntheticPriceSpec(2, 50, 5, List.of(0.5, 0.5), FROM, TO, 10, 100, 1, 42);
+
+    @Test
+    @DisplayName("prices - Should generate brands x products x rates rows with unique price lists")
+    void prices_ShouldGenerateExpectedRowCount() {
+        // When
+        List<Price> prices = new SyntheticPriceGenerator(spec).prices().toList();
+
+        // Then
+        assertThat(prices).hasSize((int) spec.totalRates());
+        assertThat(prices).extracting(price -> price.rate().priceList()).doesNotHaveDuplicates();
+        assertThat(prices).extracting(Price::brandId).containsOnly(10, 11);
+        assertThat(prices).allSatisfy(price -> assertThat(price.productId()).isBetween(100, 149));
+    }
+
+    @Test
+    @DisplayName("prices - Should give every brand/product a base rate and promotions within the window")
+    void prices_ShouldGenerateBaseRateAndPromotions() {
+        // When
+        Map<Integer, List<Price>> byPriority = new SyntheticPriceGenerator(spec).prices()
+                .collect(Collectors.groupingBy(price -> price.rate().priority()));
+
+        // Then
+        assertThat(byPriority.get(0)).hasSize(100)
+                .allSatisfy(price -> {
+                    assertThat(price.rate().startDate()).isEqualTo(FROM);
+                    assertThat(price.rate().endDate()).isEqualTo(TO);
+                });
+        assertThat(byPriority.keySet()).containsExactlyInAnyOrder(0, 1, 2);
+        assertThat(byPriority.values().stream().flatMap(List::stream))
+                .allSatisfy(price -> assertThat(price.rate().endDate()).isBeforeOrEqualTo(TO));
+    }
+
+    @Test
+    @DisplayName("prices - Should be deterministic for the same seed")
+    void prices_ShouldBeDeterministic() {
+        // When
+        List<Price> first = new SyntheticPriceGenerator(spec).prices().toList();
+        List<Price> second = new SyntheticPriceGenerator(spec).prices().toList();
+
+        // Then
+        assertThat(first).isEqualTo(second);
+    }
+
+    @Test
+    @DisplayName("writeCsv - Should write a header and one line per price")
+    void writeCsv_ShouldWriteOneLinePerPrice(@TempDir Path tempDir) throws IOException {
+        // Given
+        Path csv = tempDir.resolve("prices.csv");
+
+        // When
+        long rows = new SyntheticPriceGenerator(spec).writeCsv(csv);
+
+        // Then
+        List<String> lines = Files.readAllLines(csv);
+        assertThat(rows).isEqualTo(spec.totalRates());
+        assertThat(lines).hasSize((int) rows + 1);
+        assertThat(lines.getFirst()).isEqualTo(SyntheticPriceGenerator.CSV_HEADER);
+        assertThat(lines.get(1)).startsWith("1,10,100,2020-01-01 00:00:00,2021-01-01 00:00:00,0,");
+    }
+
+    @Test
+    @DisplayName("SyntheticPriceSpec - Should reject invalid shapes")
+    void spec_ShouldRejectInvalidShapes() {
+        assertThatThrownBy(() -> new SyntheticPriceSpec(0, 1, 1, List.of(1.0), FROM, TO, 1, 1, 1, 1))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> new SyntheticPriceSpec(1, 1, 1, List.of(), FROM, TO, 1, 1, 1, 1))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> new SyntheticPriceSpec(1, 1, 1, List.of(1.0), TO, FROM, 1, 1, 1, 1))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> new SyntheticPriceSpec(100_000, 100_000, 1, List.of(1.0), FROM, TO, 1, 1, 1, 1))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+}